@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting case data with a mapper created per call, as the services used to, and with a shared mapper's
+ * {@code convertValue}, which copies the case data to a token buffer, against {@link CaseDataJsonMapper}, which binds
+ * directly between the map and the model. The case data is {@code requests/caseData.json} with its document and
+ * application collections grown to the size of a long running case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseDataConversionBenchmark {
+
+    private static final String CASE_DATA_FILE = "requests/caseData.json";
+    private static final ObjectMapper SHARED_MAPPER = perCallMapper();
+
+    @Param({"10", "300"})
+    private int documents;
+
+    @Param({"5", "50"})
+    private int applications;
+
+    private Map<String, Object> caseDataMap;
+    private CaseData caseData;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = perCallMapper();
+        try (InputStream json = getClass().getClassLoader().getResourceAsStream(CASE_DATA_FILE)) {
+            caseDataMap = mapper.readValue(json, new TypeReference<>() {});
+        }
+        caseDataMap.put("documentCollection", documentCollection(documents));
+        caseDataMap.put("genericTseApplicationCollection", applicationCollection(applications));
+        caseData = mapper.convertValue(caseDataMap, CaseData.class);
+    }
+
+    @Benchmark
+    public CaseData toCaseDataPerCallMapper() {
+        return perCallMapper().convertValue(caseDataMap, CaseData.class);
+    }
+
+    @Benchmark
+    public CaseData toCaseDataTokenBuffer() {
+        return SHARED_MAPPER.convertValue(caseDataMap, CaseData.class);
+    }
+
+    @Benchmark
+    public CaseData toCaseDataDirect() {
+        return CaseDataJsonMapper.toCaseData(caseDataMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMapPerCallMapper() {
+        return perCallMapper().convertValue(caseData, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public Map<String, Object> toMapTokenBuffer() {
+        return SHARED_MAPPER.convertValue(caseData, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public Map<String, Object> toMapDirect() {
+        return CaseDataJsonMapper.toMap(caseData);
+    }
+
+    private static ObjectMapper perCallMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
+
+    private static List<Map<String, Object>> documentCollection(int size) {
+        List<Map<String, Object>> collection = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String url = "http://dm-store:8080/documents/" + i;
+            Map<String, Object> uploadedDocument = new LinkedHashMap<>();
+            uploadedDocument.put("document_url", url);
+            uploadedDocument.put("document_binary_url", url + "/binary");
+            uploadedDocument.put("document_filename", "document-" + i + ".pdf");
+
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("typeOfDocument", "Other");
+            value.put("creationDate", "2023-05-01");
+            value.put("uploadedDocument", uploadedDocument);
+            collection.add(collectionItem(String.valueOf(i), value));
+        }
+        return collection;
+    }
+
+    private static List<Map<String, Object>> applicationCollection(int size) {
+        List<Map<String, Object>> collection = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("number", String.valueOf(i + 1));
+            value.put("type", "Amend response");
+            value.put("applicant", "Respondent");
+            value.put("date", "2023-05-01");
+            value.put("details", "Need to amend");
+            value.put("copyToOtherPartyYesOrNo", "Yes");
+            value.put("dueDate", "2023-05-08");
+            value.put("status", "Open");
+            value.put("applicationState", "notStartedYet");
+            collection.add(collectionItem("application-" + i, value));
+        }
+        return collection;
+    }
+
+    private static Map<String, Object> collectionItem(String id, Map<String, Object> value) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", id);
+        item.put("value", value);
+        return item;
+    }
+}
@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares validating ACAS numbers and getting the ids of documents from their URLs with a pattern compiled per call,
+ * as {@code AcasService} and {@code CaseDocumentService} used to, and with a precompiled pattern, against
+ * {@link IdentifierParser}, which checks the characters directly. Each invocation processes the ACAS numbers of a
+ * claim and the document URLs of a case, a tenth of them not ending with a UUID.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdentifierParserBenchmark {
+
+    private static final String ACAS_NUMBER_REGEX = "\\A[a-zA-Z]{1,2}\\d{6}/\\d{2}/\\d{2}\\z";
+    private static final String DOCUMENT_UUID_REGEX =
+        "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+    private static final Pattern ACAS_NUMBER_PATTERN = Pattern.compile(ACAS_NUMBER_REGEX);
+    private static final Pattern DOCUMENT_UUID_PATTERN = Pattern.compile(DOCUMENT_UUID_REGEX);
+    private static final int ACAS_NUMBERS = 5;
+
+    @Param({"10", "300"})
+    private int documents;
+
+    private List<String> acasNumbers;
+    private List<String> documentUrls;
+
+    @Setup
+    public void setUp() {
+        acasNumbers = new ArrayList<>(ACAS_NUMBERS);
+        for (int i = 0; i < ACAS_NUMBERS; i++) {
+            acasNumbers.add((i % 2 == 0 ? "R" : "MU") + (600_000 + i) + "/21/" + (10 + i));
+        }
+        documentUrls = new ArrayList<>(documents);
+        for (int i = 0; i < documents; i++) {
+            String url = "http://dm-store:8080/documents/" + UUID.randomUUID();
+            documentUrls.add(i % 10 == 0 ? url + "/binary" : url);
+        }
+    }
+
+    @Benchmark
+    public void acasNumbersPatternPerCall(Blackhole blackhole) {
+        for (String acasNumber : acasNumbers) {
+            blackhole.consume(Pattern.compile(ACAS_NUMBER_REGEX).matcher(acasNumber).matches());
+        }
+    }
+
+    @Benchmark
+    public void acasNumbersPrecompiledPattern(Blackhole blackhole) {
+        for (String acasNumber : acasNumbers) {
+            blackhole.consume(ACAS_NUMBER_PATTERN.matcher(acasNumber).matches());
+        }
+    }
+
+    @Benchmark
+    public void acasNumbersParser(Blackhole blackhole) {
+        for (String acasNumber : acasNumbers) {
+            blackhole.consume(IdentifierParser.isValidAcasNumber(acasNumber));
+        }
+    }
+
+    @Benchmark
+    public void documentUuidsPatternPerCall(Blackhole blackhole) {
+        for (String url : documentUrls) {
+            blackhole.consume(find(Pattern.compile(DOCUMENT_UUID_REGEX), url));
+        }
+    }
+
+    @Benchmark
+    public void documentUuidsPrecompiledPattern(Blackhole blackhole) {
+        for (String url : documentUrls) {
+            blackhole.consume(find(DOCUMENT_UUID_PATTERN, url));
+        }
+    }
+
+    @Benchmark
+    public void documentUuidsParser(Blackhole blackhole) {
+        for (String url : documentUrls) {
+            blackhole.consume(IdentifierParser.documentUuid(url));
+        }
+    }
+
+    private static UUID find(Pattern pattern, String url) {
+        Matcher matcher = pattern.matcher(url);
+        return matcher.find() ? UUID.fromString(matcher.group()) : null;
+    }
+}
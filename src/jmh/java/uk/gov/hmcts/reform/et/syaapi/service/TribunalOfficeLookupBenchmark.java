@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.dwp.regex.InvalidPostcodeException;
+import uk.gov.hmcts.ecm.common.configuration.PostcodeToOfficeMappings;
+import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.service.PostcodeToOfficeService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding the tribunal offices of the postcodes of a claim with {@link PostcodeToOfficeService}, as
+ * {@code CaseService} and {@code CaseOfficeService} used to, against {@link TribunalOfficeLookup}. The mappings hold
+ * an entry for each postcode area and for its first twenty districts, and each invocation looks up the postcodes of a
+ * claim and its respondents, some of them invalid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TribunalOfficeLookupBenchmark {
+
+    private static final String[] AREAS = {
+        "AB", "B", "BA", "BB", "BD", "BH", "BL", "BN", "BR", "BS", "CA", "CB", "CF", "CH", "CM", "CO", "CR", "CT",
+        "CV", "CW", "DA", "DD", "DE", "DG", "DH", "DL", "DN", "DT", "DY", "E", "EC", "EH", "EN", "EX", "FK", "FY", "G",
+        "GL", "GU", "HA", "HD", "HG", "HP", "HR", "HU", "HX", "IG", "IP", "IV", "KA", "KT", "KW", "KY", "L", "LA",
+        "LD", "LE", "LL", "LN", "LS", "LU", "M", "ME", "MK", "ML", "N", "NE", "NG", "NN", "NP", "NR", "NW", "OL",
+        "OX", "PA", "PE", "PH", "PL", "PO", "PR", "RG", "RH", "RM", "S", "SA", "SE", "SG", "SK", "SL", "SM", "SN",
+        "SO", "SP", "SR", "SS", "ST", "SW", "SY", "TA", "TD", "TF", "TN", "TQ", "TR", "TS", "TW", "UB", "W", "WA",
+        "WC", "WD", "WF", "WN", "WR", "WS", "WV", "YO"
+    };
+    private static final int DISTRICTS = 20;
+
+    @Param({"2", "10"})
+    private int postcodes;
+
+    @Param({"0", "20"})
+    private int invalidPercentage;
+
+    private PostcodeToOfficeService postcodeToOfficeService;
+    private TribunalOfficeLookup tribunalOfficeLookup;
+    private List<String> claimPostcodes;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> mappings = new HashMap<>();
+        TribunalOffice[] offices = TribunalOffice.values();
+        for (int i = 0; i < AREAS.length; i++) {
+            mappings.put(AREAS[i], offices[i % offices.length].getOfficeName());
+            for (int district = 1; district <= DISTRICTS; district++) {
+                mappings.put(AREAS[i] + district, offices[(i + district) % offices.length].getOfficeName());
+            }
+        }
+        PostcodeToOfficeMappings postcodeToOfficeMappings = new PostcodeToOfficeMappings() {
+            @Override
+            public Map<String, String> getPostcodes() {
+                return mappings;
+            }
+        };
+        postcodeToOfficeService = new PostcodeToOfficeService(postcodeToOfficeMappings);
+        tribunalOfficeLookup = new TribunalOfficeLookup(postcodeToOfficeMappings);
+
+        claimPostcodes = new ArrayList<>(postcodes);
+        for (int i = 0; i < postcodes; i++) {
+            boolean invalid = i * 100 < postcodes * invalidPercentage;
+            String area = AREAS[(i * 7) % AREAS.length];
+            claimPostcodes.add(invalid ? area + "X 1AA" : area + (i % 30 + 1) + " " + (i % 10) + "AB");
+        }
+    }
+
+    @Benchmark
+    public void postcodeToOfficeService(Blackhole blackhole) {
+        for (String postcode : claimPostcodes) {
+            try {
+                blackhole.consume(postcodeToOfficeService.getTribunalOfficeFromPostcode(postcode));
+            } catch (InvalidPostcodeException e) {
+                blackhole.consume(Optional.empty());
+            }
+        }
+    }
+
+    @Benchmark
+    public void tribunalOfficeLookup(Blackhole blackhole) {
+        for (String postcode : claimPostcodes) {
+            blackhole.consume(tribunalOfficeLookup.lookup(postcode));
+        }
+    }
+}
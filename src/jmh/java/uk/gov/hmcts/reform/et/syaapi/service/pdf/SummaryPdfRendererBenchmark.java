@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.et.syaapi.service.pdf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.et.syaapi.models.GenericTseApplication;
+import uk.gov.hmcts.reform.et.syaapi.service.DocumentGenerationException;
+import uk.gov.hmcts.reform.et.syaapi.service.DocumentGenerationService;
+import uk.gov.hmcts.reform.et.syaapi.service.ResilienceService;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering a contact the tribunal summary with {@link SummaryPdfRenderer} against generating it through
+ * {@link DocumentGenerationService}. Tornado is replaced by an in-process HTTP server that answers at once with a
+ * ready-made PDF, so the Tornado figures only cover building the request, the local round trip and reading the
+ * response: the time Tornado itself takes to render the {@code .docx} template comes on top of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryPdfRendererBenchmark {
+
+    private static final String TEMPLATE = "EM-TRB-EGW-ENG-00068.docx";
+    private static final String OUTPUT_NAME = "Contact the tribunal.pdf";
+
+    @Param({"200", "5000"})
+    private int answerLength;
+
+    private GenericTseApplication application;
+    private SummaryPdfRenderer summaryPdfRenderer;
+    private DocumentGenerationService documentGenerationService;
+    private HttpServer tornado;
+
+    @Setup
+    public void setUp() throws Exception {
+        application = GenericTseApplication.builder()
+            .caseNumber("6000001/2023")
+            .applicant("Claimant")
+            .applicationDate("1 January 2024")
+            .applicationType("Amend my claim")
+            .tellOrAskTribunal("word ".repeat(answerLength / 5))
+            .supportingEvidence("evidence.pdf")
+            .copyToOtherPartyYesOrNo("Yes")
+            .build();
+        summaryPdfRenderer = new SummaryPdfRenderer(TEMPLATE);
+
+        byte[] renderedPdf = summaryPdfRenderer.render(application);
+        tornado = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        tornado.createContext("/rs/render", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, renderedPdf.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(renderedPdf);
+            }
+        });
+        tornado.start();
+        ResilienceService resilienceService = new ResilienceService(
+            BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(), 200, 2.0, 2000);
+        // the render cache is disabled so that every call goes to the stub
+        documentGenerationService = new DocumentGenerationService(
+            new RestTemplate(), resilienceService, new ObjectMapper(), new SimpleMeterRegistry(),
+            "http://localhost:" + tornado.getAddress().getPort() + "/rs/render", "key", 0, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        tornado.stop(0);
+    }
+
+    @Benchmark
+    public byte[] local() throws DocumentGenerationException {
+        return summaryPdfRenderer.render(application);
+    }
+
+    @Benchmark
+    public byte[] tornado() throws DocumentGenerationException {
+        return documentGenerationService.genPdfDocument(TEMPLATE, OUTPUT_NAME, application);
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.et.syaapi.config;
 
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -23,6 +25,7 @@ import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 /**
@@ -198,4 +201,21 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .build()
         );
     }
+
+    /**
+     * Intercepts calls rejected because a downstream service is saturated or its circuit is open, and builds an
+     * appropriate response.
+     * @param exception that just occured
+     * @return {@link ErrorResponse} with the Service Unavailable (503) response
+     */
+    @ExceptionHandler({BulkheadFullException.class, CallNotPermittedException.class})
+    public ResponseEntity<ErrorResponse> handleDownstreamUnavailableException(RuntimeException exception) {
+        log.warn(exception.getMessage());
+        return ResponseEntity.status(SERVICE_UNAVAILABLE).body(
+            ErrorResponse.builder()
+                .message(exception.getMessage())
+                .code(SERVICE_UNAVAILABLE.value())
+                .build()
+        );
+    }
 }
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.et.syaapi.config;
+
+import com.launchdarkly.sdk.server.Components;
+import com.launchdarkly.sdk.server.LDClient;
+import com.launchdarkly.sdk.server.LDConfig;
+import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Initialize the LaunchDarkly client that reports flag changes to the feature toggle service.
+ */
+@Configuration
+public class LaunchDarklyConfiguration {
+
+    /**
+     * Creates a LaunchDarkly client that is only used to listen for flag changes, flags are still evaluated through
+     * {@code FeatureToggleApi}. Start up does not wait for it to connect, and it sends no analytics events.
+     * @param sdkKey      the LaunchDarkly SDK key
+     * @param offlineMode whether the client runs without connecting to LaunchDarkly
+     * @return a new {@link LDClientInterface} object
+     */
+    @Bean
+    public LDClientInterface ldClient(@Value("${launchdarkly.sdk-key}") String sdkKey,
+                                      @Value("${launchdarkly.offline-mode:false}") boolean offlineMode) {
+        return new LDClient(sdkKey, new LDConfig.Builder()
+            .offline(offlineMode)
+            .startWait(Duration.ZERO)
+            .events(Components.noEvents())
+            .build());
+    }
+}
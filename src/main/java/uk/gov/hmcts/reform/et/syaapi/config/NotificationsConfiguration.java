@@ -2,7 +2,10 @@ package uk.gov.hmcts.reform.et.syaapi.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailDispatchProperties;
 import uk.gov.hmcts.reform.et.syaapi.notification.NotificationsProperties;
+import uk.gov.hmcts.reform.et.syaapi.notification.ResilientNotificationClient;
+import uk.gov.hmcts.reform.et.syaapi.service.ResilienceService;
 import uk.gov.service.notify.NotificationClient;
 
 /**
@@ -21,13 +24,25 @@ public class NotificationsConfiguration {
     }
 
     /**
-     * Creates a new {@link NotificationClient} initialised with the api key.
+     * Creates the settings of the queue emails are sent to GOV.UK Notify through.
+     * @return the new properties object
+     */
+    @Bean
+    public EmailDispatchProperties emailDispatchProperties() {
+        return new EmailDispatchProperties();
+    }
+
+    /**
+     * Creates a new {@link NotificationClient} initialised with the api key, which sends emails through the GOV.UK
+     * Notify bulkhead and circuit breaker.
      * @param notificationsProperties current properties in {@link NotificationsProperties} format
+     * @param resilienceService the service guarding downstream calls
      * @return a new initialised {@link NotificationClient} object
      */
     @Bean
-    public NotificationClient notificationClient(NotificationsProperties notificationsProperties) {
-        return new NotificationClient(notificationsProperties.getGovNotifyApiKey());
+    public NotificationClient notificationClient(NotificationsProperties notificationsProperties,
+                                                 ResilienceService resilienceService) {
+        return new ResilientNotificationClient(notificationsProperties.getGovNotifyApiKey(), resilienceService);
     }
 
 }
@@ -0,0 +1,223 @@
+package uk.gov.hmcts.reform.et.syaapi.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.FeignException;
+import feign.Response;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+import uk.gov.hmcts.reform.et.syaapi.service.ResilienceService;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates the bulkhead and circuit breaker of each {@link Downstream} service used by {@link ResilienceService}.
+ *
+ * <p>
+ * Every downstream shares the same circuit breaker settings and has its own limit on concurrent calls. A circuit
+ * counts server errors, connection failures and slow calls against its downstream; client errors are the caller's
+ * fault rather than the downstream's and are not counted. Calls to CCD made through Feign clients are guarded here
+ * too, while the other downstreams are guarded by the services calling them. The state of every circuit and bulkhead
+ * is published as metrics tagged with the downstream name.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>resilience.bulkhead.max-concurrent-calls</b>: Comma separated {@code name=limit} entries setting the
+ *   number of concurrent calls allowed to each downstream.</li>
+ *   <li><b>resilience.bulkhead.default-max-concurrent-calls</b>: Number of concurrent calls allowed to a downstream
+ *   without its own limit.</li>
+ *   <li><b>resilience.bulkhead.max-wait</b>: Time in milliseconds a call waits for a free slot before being
+ *   rejected.</li>
+ *   <li><b>resilience.circuit-breaker.failure-rate-threshold</b>: Percentage of failed calls that opens a circuit.</li>
+ *   <li><b>resilience.circuit-breaker.slow-call-rate-threshold</b>: Percentage of slow calls that opens a circuit.</li>
+ *   <li><b>resilience.circuit-breaker.slow-call-duration</b>: Time in milliseconds after which a call is slow.</li>
+ *   <li><b>resilience.circuit-breaker.sliding-window-size</b>: Number of recent calls the rates are taken over.</li>
+ *   <li><b>resilience.circuit-breaker.minimum-number-of-calls</b>: Number of calls needed before the rates are
+ *   used.</li>
+ *   <li><b>resilience.circuit-breaker.open-duration</b>: Time in milliseconds an open circuit rejects calls before
+ *   letting trial calls through.</li>
+ *   <li><b>resilience.circuit-breaker.half-open-calls</b>: Number of trial calls that decide whether a circuit
+ *   closes again.</li>
+ * </ul>
+ */
+@Configuration
+public class ResilienceConfiguration {
+
+    private static final int MIN_SERVER_ERROR = 500;
+
+    /**
+     * Creates the registry holding the bulkhead of each downstream.
+     *
+     * @param maxConcurrentCalls        {@code name=limit} entries setting the limit of each downstream
+     * @param defaultMaxConcurrentCalls limit of a downstream without its own limit
+     * @param maxWaitMillis             time a call waits for a free slot before being rejected
+     * @return the bulkhead registry
+     */
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(
+        @Value("${resilience.bulkhead.max-concurrent-calls:}") String[] maxConcurrentCalls,
+        @Value("${resilience.bulkhead.default-max-concurrent-calls:25}") int defaultMaxConcurrentCalls,
+        @Value("${resilience.bulkhead.max-wait:100}") long maxWaitMillis) {
+        BulkheadConfig defaultConfig = bulkheadConfig(defaultMaxConcurrentCalls, maxWaitMillis);
+        BulkheadRegistry registry = BulkheadRegistry.of(defaultConfig);
+        Map<String, Integer> limits = parseLimits(maxConcurrentCalls);
+        for (Downstream downstream : Downstream.values()) {
+            Integer limit = limits.get(downstream.getName());
+            registry.bulkhead(downstream.getName(),
+                              limit == null ? defaultConfig : bulkheadConfig(limit, maxWaitMillis));
+        }
+        return registry;
+    }
+
+    /**
+     * Creates the registry holding the circuit breaker of each downstream.
+     *
+     * @param failureRateThreshold   percentage of failed calls that opens a circuit
+     * @param slowCallRateThreshold  percentage of slow calls that opens a circuit
+     * @param slowCallDurationMillis time after which a call is slow
+     * @param slidingWindowSize      number of recent calls the rates are taken over
+     * @param minimumNumberOfCalls   number of calls needed before the rates are used
+     * @param openDurationMillis     time an open circuit rejects calls before letting trial calls through
+     * @param halfOpenCalls          number of trial calls that decide whether a circuit closes again
+     * @return the circuit breaker registry
+     */
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(
+        @Value("${resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+        @Value("${resilience.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+        @Value("${resilience.circuit-breaker.slow-call-duration:15000}") long slowCallDurationMillis,
+        @Value("${resilience.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+        @Value("${resilience.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+        @Value("${resilience.circuit-breaker.open-duration:30000}") long openDurationMillis,
+        @Value("${resilience.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpenState(Duration.ofMillis(openDurationMillis))
+            .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+            .recordException(ResilienceConfiguration::isDownstreamFailure)
+            .recordResult(ResilienceConfiguration::isServerErrorResponse)
+            .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        for (Downstream downstream : Downstream.values()) {
+            registry.circuitBreaker(downstream.getName());
+        }
+        return registry;
+    }
+
+    /**
+     * Publishes the state, call counts and failure rates of every circuit and the free slots of every bulkhead.
+     *
+     * @param bulkheadRegistry       registry holding the bulkheads
+     * @param circuitBreakerRegistry registry holding the circuit breakers
+     * @return the binder registering the metrics
+     */
+    @Bean
+    public MeterBinder resilienceMetrics(BulkheadRegistry bulkheadRegistry,
+                                         CircuitBreakerRegistry circuitBreakerRegistry) {
+        return registry -> {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(registry);
+        };
+    }
+
+    /**
+     * Guards the calls Feign clients make to CCD with the CCD bulkhead and circuit breaker. Calls to other hosts are
+     * passed straight through.
+     *
+     * @param resilienceService the service guarding downstream calls
+     * @param ccdUrl            the base URL of CCD
+     * @return the capability wrapping the client of every Feign client
+     */
+    @Bean
+    public Capability ccdResilienceCapability(ResilienceService resilienceService,
+                                              @Value("${core_case_data.api.url}") String ccdUrl) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return (request, options) -> request.url().startsWith(ccdUrl)
+                    ? resilienceService.call(Downstream.CCD, () -> client.execute(request, options))
+                    : client.execute(request, options);
+            }
+        };
+    }
+
+    /**
+     * Parses {@code name=limit} entries to the downstream name and its limit.
+     *
+     * @param entries the entries, blank entries are ignored
+     * @return the limit of each downstream name in the entries
+     * @throws IllegalArgumentException if an entry has no limit or names an unknown downstream
+     */
+    static Map<String, Integer> parseLimits(String... entries) {
+        Map<String, Integer> limits = new LinkedHashMap<>();
+        for (String entry : entries) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            String name = separator < 0 ? "" : entry.substring(0, separator).trim();
+            if (Arrays.stream(Downstream.values()).noneMatch(downstream -> downstream.getName().equals(name))) {
+                throw new IllegalArgumentException("Invalid resilience.bulkhead.max-concurrent-calls entry " + entry);
+            }
+            limits.put(name, Integer.valueOf(entry.substring(separator + 1).trim()));
+        }
+        return limits;
+    }
+
+    /**
+     * Tells whether an exception shows a problem with the downstream rather than with the request sent to it.
+     *
+     * @param throwable the exception thrown by a call
+     * @return false for client errors, true otherwise
+     */
+    static boolean isDownstreamFailure(Throwable throwable) {
+        if (throwable instanceof HttpClientErrorException) {
+            return false;
+        } else if (throwable instanceof FeignException feignException) {
+            return !isClientError(feignException.status());
+        } else if (throwable instanceof NotificationClientException notificationClientException) {
+            return !isClientError(notificationClientException.getHttpResult());
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether the result of a call is a server error response, which Feign clients return rather than throw.
+     *
+     * @param result the result of a call
+     * @return true for a Feign response with a server error status
+     */
+    static boolean isServerErrorResponse(Object result) {
+        return result instanceof Response response && response.status() >= MIN_SERVER_ERROR;
+    }
+
+    private static boolean isClientError(int status) {
+        return status >= 400 && status < MIN_SERVER_ERROR;
+    }
+
+    private static BulkheadConfig bulkheadConfig(int maxConcurrentCalls, long maxWaitMillis) {
+        return BulkheadConfig.custom()
+            .maxConcurrentCalls(maxConcurrentCalls)
+            .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+            .build();
+    }
+}
@@ -1,22 +1,258 @@
 package uk.gov.hmcts.reform.et.syaapi.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * The configuration used to create a RestTemplate for injection purposes.
+ *
+ * <p>
+ * Calls to downstream services go through a pooled Apache HttpClient, so connections are kept alive and reused and
+ * every call is bounded by connect, read and response timeouts. The pool is limited overall and per downstream host,
+ * and its usage is published as metrics, per host for the hosts with their own limit. Enabling HTTP/2 switches to the
+ * JDK client instead, which multiplexes requests over one connection per host rather than pooling connections.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>http_client.max-total</b>: Maximum number of pooled connections across all hosts.</li>
+ *   <li><b>http_client.max-per-route</b>: Maximum number of pooled connections to a host without its own limit.</li>
+ *   <li><b>http_client.route-limits</b>: Comma separated {@code url=limit} entries setting the limit of the host of
+ *   each url.</li>
+ *   <li><b>http_client.connect-timeout</b>, <b>http_client.read-timeout</b> and <b>http_client.response-timeout</b>:
+ *   Timeouts in milliseconds for connecting, for each read from the connection and for each wait for data once a
+ *   request has been sent. The response timeout limits how long a call may go without receiving any data, it is not
+ *   a deadline for the whole response: a downstream that keeps sending data slowly can take longer. With HTTP/2
+ *   enabled it is the time allowed for the response to start arriving.</li>
+ *   <li><b>http_client.connection-request-timeout</b>: Time in milliseconds to wait for a connection when the pool
+ *   for a host is saturated.</li>
+ *   <li><b>http_client.keep-alive</b>: Time in milliseconds an idle connection is kept, unless the server asks for
+ *   less.</li>
+ *   <li><b>http_client.time-to-live</b>: Maximum lifetime in milliseconds of a pooled connection.</li>
+ *   <li><b>http_client.http2.enabled</b>: Whether to use the HTTP/2 capable JDK client instead of the pool.</li>
+ * </ul>
  */
 @Configuration
 public class RestTemplateConfiguration {
 
+    static final String HTTP2_ENABLED = "http_client.http2.enabled";
+    static final String POOL_METRICS_NAME = "rest-template";
+    static final String ROUTE_POOL_GAUGE = "http.client.pool.route";
+
+    private static final long VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    /**
+     * Creates the connection pool shared by all calls made through the RestTemplate.
+     *
+     * @param maxTotal             maximum number of pooled connections
+     * @param maxPerRoute          maximum number of pooled connections to a host without its own limit
+     * @param routeLimits          {@code url=limit} entries setting the limit of the host of each url
+     * @param connectTimeoutMillis connect timeout
+     * @param readTimeoutMillis    timeout of each read from a connection
+     * @param timeToLiveMillis     maximum lifetime of a pooled connection
+     * @return the connection pool
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = HTTP2_ENABLED, havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(
+        @Value("${http_client.max-total:200}") int maxTotal,
+        @Value("${http_client.max-per-route:50}") int maxPerRoute,
+        @Value("${http_client.route-limits:}") String[] routeLimits,
+        @Value("${http_client.connect-timeout:5000}") long connectTimeoutMillis,
+        @Value("${http_client.read-timeout:60000}") long readTimeoutMillis,
+        @Value("${http_client.time-to-live:300000}") long timeToLiveMillis) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                                            .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                                            .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMillis))
+                                            .setValidateAfterInactivity(
+                                                TimeValue.ofMilliseconds(VALIDATE_AFTER_INACTIVITY_MILLIS))
+                                            .build())
+            .build();
+        parseRouteLimits(routeLimits).forEach(connectionManager::setMaxPerRoute);
+        return connectionManager;
+    }
+
+    /**
+     * Creates the HTTP client using the connection pool. Cookies are not kept between calls, as calls are made on
+     * behalf of different users, and failed calls are not retried automatically.
+     *
+     * @param connectionManager               the connection pool
+     * @param responseTimeoutMillis           longest wait for data once a request has been sent
+     * @param connectionRequestTimeoutMillis  time to wait for a connection when the pool for a host is saturated
+     * @param keepAliveMillis                 time an idle connection is kept, unless the server asks for less
+     * @return the HTTP client
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = HTTP2_ENABLED, havingValue = "false", matchIfMissing = true)
+    public CloseableHttpClient pooledHttpClient(
+        PoolingHttpClientConnectionManager connectionManager,
+        @Value("${http_client.response-timeout:60000}") long responseTimeoutMillis,
+        @Value("${http_client.connection-request-timeout:10000}") long connectionRequestTimeoutMillis,
+        @Value("${http_client.keep-alive:30000}") long keepAliveMillis) {
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                                         .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                                         .setConnectionRequestTimeout(
+                                             Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                                         .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAliveMillis))
+                                         .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMillis))
+            .disableCookieManagement()
+            .disableAutomaticRetries()
+            .useSystemProperties()
+            .build();
+    }
+
+    /**
+     * Creates the request factory making calls through the pooled HTTP client.
+     *
+     * @param pooledHttpClient the pooled HTTP client
+     * @return the request factory
+     */
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_ENABLED, havingValue = "false", matchIfMissing = true)
+    public ClientHttpRequestFactory pooledClientHttpRequestFactory(CloseableHttpClient pooledHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+    }
+
+    /**
+     * Creates the request factory making calls through the JDK HTTP client, which uses HTTP/2 where the server
+     * supports it.
+     *
+     * @param connectTimeoutMillis  connect timeout
+     * @param responseTimeoutMillis time allowed for the response to start arriving
+     * @return the request factory
+     */
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_ENABLED, havingValue = "true")
+    public ClientHttpRequestFactory http2ClientHttpRequestFactory(
+        @Value("${http_client.connect-timeout:5000}") long connectTimeoutMillis,
+        @Value("${http_client.response-timeout:60000}") long responseTimeoutMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(responseTimeoutMillis));
+        return requestFactory;
+    }
+
+    /**
+     * Publishes the usage of the connection pool: the pool wide metrics of
+     * {@link PoolingHttpClientConnectionManagerMetricsBinder} and, for each host with its own limit, gauges of its
+     * leased, available and pending connections and its limit.
+     *
+     * @param connectionManager the connection pool
+     * @param routeLimits       {@code url=limit} entries setting the limit of the host of each url
+     * @return the binder registering the metrics
+     */
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_ENABLED, havingValue = "false", matchIfMissing = true)
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager,
+                                             @Value("${http_client.route-limits:}") String[] routeLimits) {
+        return registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_METRICS_NAME)
+                .bindTo(registry);
+            parseRouteLimits(routeLimits).keySet()
+                .forEach(route -> bindRouteMetrics(registry, connectionManager, route));
+        };
+    }
+
     /**
      * Gets the RestTemplate bean to be used/injected into project code where needed.
      *
+     * @param clientHttpRequestFactory the factory creating the requests of the RestTemplate
      * @return the RestTemplate to be injected into project modules using it.
      */
     @Bean
-    public RestTemplate getRestTemplate() {
-        return new RestTemplate();
+    public RestTemplate getRestTemplate(ClientHttpRequestFactory clientHttpRequestFactory) {
+        return new RestTemplate(clientHttpRequestFactory);
+    }
+
+    private static void bindRouteMetrics(MeterRegistry registry, PoolingHttpClientConnectionManager connectionManager,
+                                         HttpRoute route) {
+        Tags tags = Tags.of("httpclient", POOL_METRICS_NAME, "route", route.getTargetHost().toURI());
+        Gauge.builder(ROUTE_POOL_GAUGE + ".leased", connectionManager, cm -> cm.getStats(route).getLeased())
+            .description("Connections to the host that are in use").tags(tags).register(registry);
+        Gauge.builder(ROUTE_POOL_GAUGE + ".available", connectionManager, cm -> cm.getStats(route).getAvailable())
+            .description("Idle connections to the host").tags(tags).register(registry);
+        Gauge.builder(ROUTE_POOL_GAUGE + ".pending", connectionManager, cm -> cm.getStats(route).getPending())
+            .description("Requests waiting for a connection to the host").tags(tags).register(registry);
+        Gauge.builder(ROUTE_POOL_GAUGE + ".max", connectionManager, cm -> cm.getMaxPerRoute(route))
+            .description("Maximum number of connections to the host").tags(tags).register(registry);
+    }
+
+    /**
+     * Parses {@code url=limit} entries to the pool route of the host of each url and its limit.
+     *
+     * @param routeLimits the entries
+     * @return the limit of each route
+     * @throws IllegalArgumentException if an entry is not a url and a limit
+     */
+    static Map<HttpRoute, Integer> parseRouteLimits(String... routeLimits) {
+        Map<HttpRoute, Integer> limits = new LinkedHashMap<>();
+        for (String routeLimit : routeLimits) {
+            if (routeLimit.isBlank()) {
+                continue;
+            }
+            int separator = routeLimit.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid http_client.route-limits entry " + routeLimit);
+            }
+            limits.put(route(routeLimit.substring(0, separator).trim()),
+                       Integer.valueOf(routeLimit.substring(separator + 1).trim()));
+        }
+        return limits;
+    }
+
+    /**
+     * Gets the pool route of the host of a url, with the default port of its scheme when the url has none, as the
+     * route of a request to that url would be.
+     *
+     * @param url the url
+     * @return the route
+     */
+    static HttpRoute route(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort();
+        if (port < 0) {
+            port = secure ? 443 : 80;
+        }
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
     }
 }
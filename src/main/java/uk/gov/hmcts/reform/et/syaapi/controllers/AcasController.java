@@ -1,25 +1,32 @@
 package uk.gov.hmcts.reform.et.syaapi.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import uk.gov.hmcts.reform.et.syaapi.annotation.ApiResponseGroup;
 import uk.gov.hmcts.reform.et.syaapi.annotation.RequiresAcasRole;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocumentAcasResponse;
+import uk.gov.hmcts.reform.et.syaapi.search.LastModifiedCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.AcasCaseService;
 import uk.gov.hmcts.reform.et.syaapi.service.AdminUserService;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseDocumentService;
 import uk.gov.hmcts.reform.et.syaapi.service.FeatureToggleService;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -60,11 +67,49 @@ public class AcasController {
         return ok(acasCaseService.getLastModifiedCasesId(userToken, requestDateTime));
     }
 
+    /**
+     * Returns a page of the feed of cases modified since the datetime provided. The response carries a cursor that
+     * the next request passes back to continue from the last case returned, in place of the datetime.
+     *
+     * <p>
+     * Cases are listed once they were modified more than {@code acas.last_modified_cases.indexing_lag} ago, a minute
+     * by default, so that a case indexed by CCD after cases modified later than it is still returned. Following the
+     * cursor returns every case whose modification is indexed within that lag, at most one lag after it was made.
+     * </p>
+     *
+     * @param userToken       used for IDAM Authentication
+     * @param requestDateTime used for querying when a case was last updated, required when there is no cursor
+     * @param cursor          cursor returned by the previous page
+     * @return a page of case ids with the cursor to continue from
+     */
+    @GetMapping(value = "/getLastModifiedCaseFeed")
+    @Operation(summary = "Return a page of CCD case IDs modified from a provided date or cursor")
+    @ApiResponseGroup
+    @RequiresAcasRole
+    public ResponseEntity<Object> getLastModifiedCaseFeed(
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION) String userToken,
+        @RequestParam(name = "datetime", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime requestDateTime,
+        @RequestParam(name = "cursor", required = false) String cursor) {
+        if (StringUtils.isBlank(cursor) && requestDateTime == null) {
+            return ResponseEntity.badRequest().body("Either datetime or cursor is required");
+        }
+        try {
+            return ok(acasCaseService.getLastModifiedCasesPage(
+                userToken,
+                requestDateTime,
+                StringUtils.isBlank(cursor) ? null : LastModifiedCasesCursor.decode(cursor)));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     /**
      * This method is used to fetch the raw case data from CCD from a list of CaseIds.
      *
      * @param authorisation used for IDAM authentication
      * @param caseIds       a list of CCD ids
+     * @param fields        case data fields to return, the whole case data by default
      * @return a list of case data
      */
     @GetMapping(value = "/getCaseData")
@@ -73,8 +118,42 @@ public class AcasController {
     @RequiresAcasRole
     public ResponseEntity<Object> getCaseData(
         @RequestHeader(value = HttpHeaders.AUTHORIZATION) String authorisation,
-        @RequestParam(name = "caseIds") List<String> caseIds) {
-        return ok(acasCaseService.getCaseData(authorisation, caseIds));
+        @RequestParam(name = "caseIds") List<String> caseIds,
+        @RequestParam(name = "fields", required = false) List<String> fields) {
+        try {
+            return ok(fields == null
+                          ? acasCaseService.getCaseData(authorisation, caseIds)
+                          : acasCaseService.getCaseData(authorisation, caseIds, fields));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * This method is used to fetch the raw case data from CCD from a list of CaseIds, as {@code /getCaseData} does,
+     * but writes each case to the response as it is read from CCD rather than holding all of them in memory.
+     *
+     * @param authorisation used for IDAM authentication
+     * @param caseIds       a list of CCD ids
+     * @param fields        case data fields to return, the whole case data by default
+     * @param response      the response the case data is streamed to
+     * @throws IOException if the case data cannot be read from CCD or written to the response
+     */
+    @GetMapping(value = "/getCaseDataStream")
+    @Operation(summary = "Stream a JSON format of the case data for a list of CCD cases")
+    @ApiResponseGroup
+    @RequiresAcasRole
+    public void getCaseDataStream(
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION) String authorisation,
+        @RequestParam(name = "caseIds") List<String> caseIds,
+        @RequestParam(name = "fields", required = false) List<String> fields,
+        HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            acasCaseService.streamCaseData(authorisation, caseIds, fields, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     /**
@@ -97,21 +176,25 @@ public class AcasController {
 
     /**
      * This method downloads documents for ACAS. Due to permissions, we retrieve a new token which can view the document
-     * and use that to retrieve the document
+     * and use that to retrieve the document. The document is streamed rather than held in memory, and a {@code Range}
+     * header can be used to download part of it.
      *
      * @param documentId UUID for the document in DM Store
      * @param authToken  idam token of ACAS to initially verify access to the API
-     * @return document
+     * @param range      optional range of the document to download
+     * @param response   the response the document is streamed to
      */
     @GetMapping("/downloadAcasDocuments")
     @Operation(summary = "Get a document from CDAM in binary format")
     @ApiResponseGroup
     @RequiresAcasRole
-    public ResponseEntity<ByteArrayResource> getDocumentBinaryContent(
+    public void getDocumentBinaryContent(
         @RequestParam(name = "documentId") final UUID documentId,
-        @RequestHeader(AUTHORIZATION) String authToken) {
+        @RequestHeader(AUTHORIZATION) String authToken,
+        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+        HttpServletResponse response) {
         String accessToken = adminUserService.getAdminUserToken();
-        return caseDocumentService.downloadDocument(accessToken, documentId);
+        caseDocumentService.streamDocument(accessToken, documentId, range, new ServletServerHttpResponse(response));
     }
 
     /**
@@ -2,10 +2,12 @@ package uk.gov.hmcts.reform.et.syaapi.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -31,21 +33,26 @@ public class DocumentController {
     private final CaseDocumentService caseDocumentService;
 
     /**
-     * Returns content in binary stream of the given document id.
+     * Streams the binary content of the given document id, or the part of it asked for in the {@code Range} header.
      *
      * @param authToken  jwt token for authentication
      * @param documentId id for the chosen document
+     * @param range      optional range of the document to download
+     * @param response   the response the document is streamed to
      */
     @GetMapping("/download/{documentId}")
     @Operation(summary = "Get document binary content by id from case document api")
     @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "206", description = "Partial content for a range request")
     @ApiResponse(responseCode = "404", description = "Case document not found")
-
-    public ResponseEntity<ByteArrayResource> getDocumentBinaryContent(
+    @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+    public void getDocumentBinaryContent(
         @PathVariable("documentId") final UUID documentId,
-        @RequestHeader(AUTHORIZATION) String authToken) {
+        @RequestHeader(AUTHORIZATION) String authToken,
+        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+        HttpServletResponse response) {
 
-        return caseDocumentService.downloadDocument(authToken, documentId);
+        caseDocumentService.streamDocument(authToken, documentId, range, new ServletServerHttpResponse(response));
     }
 
     /**
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.et.syaapi.annotation.ApiResponseGroup;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
@@ -22,6 +24,8 @@ import uk.gov.hmcts.reform.et.syaapi.models.ClaimantApplicationRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.HubLinksStatusesRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.RespondToApplicationRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.TribunalResponseViewedRequest;
+import uk.gov.hmcts.reform.et.syaapi.models.UserCasesPage;
+import uk.gov.hmcts.reform.et.syaapi.search.UserCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.ApplicationService;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseService;
 import uk.gov.hmcts.reform.et.syaapi.service.HubLinkService;
@@ -46,6 +50,8 @@ import static uk.gov.hmcts.reform.et.syaapi.constants.ManageCaseRoleConstants.ST
 @RequestMapping("/cases")
 public class ManageCaseController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ManageCaseRoleService manageCaseRoleService;
     private final ApplicationService applicationService;
     private final HubLinkService hubLinkService;
@@ -76,7 +82,18 @@ public class ManageCaseController {
     /**
      * Uses the authorization token to extract the user and return all the cases that belong to that user.
      *
+     * <p>
+     * When {@code paginated} is true or a {@code cursor} is sent, a single page of cases is returned and the cursor
+     * of the next page is returned in the {@value #NEXT_CURSOR_HEADER} header, which is absent on the last page.
+     * Paginated requests may also restrict the case data returned to the given {@code fields}.
+     * </p>
+     *
      * @param authorization the JWT that contains the user information
+     * @param caseUserRole  case user role the user should have on the returned cases, creator by default
+     * @param paginated     whether to return a single page of cases
+     * @param cursor        cursor of the page to return, from the {@value #NEXT_CURSOR_HEADER} header of the
+     *                      previous page
+     * @param fields        case data fields to return in paginated requests, the whole case data by default
      * @return a list of cases for the given user wrapped in a {@link CaseDetails} object
      */
     @GetMapping("/user-cases")
@@ -84,13 +101,32 @@ public class ManageCaseController {
     @ApiResponseGroup
     public ResponseEntity<List<CaseDetails>> getUserCasesByCaseUserRole(
         @RequestHeader(AUTHORIZATION) String authorization,
-        @RequestParam(value = CASE_USER_ROLE_API_PARAMETER_NAME, required = false) String caseUserRole) {
-        var caseDetails = manageCaseRoleService.getUserCasesByCaseUserRole(
-            authorization,
-            StringUtils.isBlank(caseUserRole)
-                ? CASE_USER_ROLE_CREATOR
-                : STRING_LEFT_SQUARE_BRACKET + caseUserRole.trim() + STRING_RIGHT_SQUARE_BRACKET);
-        return ok(caseDetails);
+        @RequestParam(value = CASE_USER_ROLE_API_PARAMETER_NAME, required = false) String caseUserRole,
+        @RequestParam(value = "paginated", required = false) boolean paginated,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "fields", required = false) List<String> fields) {
+        String userCaseRole = StringUtils.isBlank(caseUserRole)
+            ? CASE_USER_ROLE_CREATOR
+            : STRING_LEFT_SQUARE_BRACKET + caseUserRole.trim() + STRING_RIGHT_SQUARE_BRACKET;
+        if (!paginated && cursor == null) {
+            return ok(manageCaseRoleService.getUserCasesByCaseUserRole(authorization, userCaseRole));
+        }
+
+        UserCasesPage userCasesPage;
+        try {
+            userCasesPage = manageCaseRoleService.getUserCasesPageByCaseUserRole(
+                authorization,
+                userCaseRole,
+                StringUtils.isBlank(cursor) ? null : UserCasesCursor.decode(cursor),
+                fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (userCasesPage.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, userCasesPage.getNextCursor());
+        }
+        return response.body(userCasesPage.getCases());
     }
 
     /**
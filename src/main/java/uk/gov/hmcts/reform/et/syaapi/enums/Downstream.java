@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.et.syaapi.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defines the downstream services this API calls, each of which has its own bulkhead and circuit breaker.
+ * The name is used in the resilience configuration and as the {@code name} tag of the resilience metrics.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Downstream {
+    CCD("ccd"),
+    CDAM("cdam"),
+    TORNADO("tornado"),
+    ACAS("acas"),
+    NOTIFY("notify");
+
+    private final String name;
+}
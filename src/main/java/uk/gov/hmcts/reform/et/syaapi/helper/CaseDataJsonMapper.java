@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.et.common.model.ccd.Et1CaseData;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Shared Jackson configuration for converting case data between the {@code Map} form used in CCD calls and the
+ * {@link CaseData} and {@link Et1CaseData} models.
+ *
+ * <p>
+ * Jackson caches the serializers and deserializers it builds for a type in the {@link ObjectMapper} that built them,
+ * so creating a mapper per conversion repeats the introspection of the large case data models every time. This class
+ * holds a single mapper, configured once and never exposed so that it cannot be modified, together with readers and
+ * writers for the case data types, which resolve their (de)serializer once when they are created.
+ * </p>
+ *
+ * <p>
+ * Conversions bind directly between the map and the model: the map is read as a token stream by
+ * {@link MapTraversingParser} and the model is written straight into a new map by {@link MapBuildingGenerator}, so
+ * the case data is not copied to an intermediate token buffer in either direction.
+ * </p>
+ */
+public final class CaseDataJsonMapper {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .build();
+
+    private static final ObjectReader CASE_DATA_READER = MAPPER.readerFor(CaseData.class);
+    private static final ObjectReader ET1_CASE_DATA_READER = MAPPER.readerFor(Et1CaseData.class);
+    private static final ObjectWriter CASE_DATA_WRITER = MAPPER.writerFor(CaseData.class);
+    private static final ObjectWriter RUNTIME_TYPE_WRITER = MAPPER.writer();
+
+    private CaseDataJsonMapper() {
+        // Access through static methods
+    }
+
+    /**
+     * Converts case data from its {@code Map} form to {@link CaseData}.
+     * @param caseData case data as returned by CCD
+     * @return the case data as {@link CaseData}, null if the case data is null
+     */
+    public static CaseData toCaseData(Map<String, Object> caseData) {
+        return read(caseData, CASE_DATA_READER);
+    }
+
+    /**
+     * Converts case data from its {@code Map} form to {@link Et1CaseData}.
+     * @param caseData case data as returned by CCD
+     * @return the case data as {@link Et1CaseData}, null if the case data is null
+     */
+    public static Et1CaseData toEt1CaseData(Map<String, Object> caseData) {
+        return read(caseData, ET1_CASE_DATA_READER);
+    }
+
+    /**
+     * Parses case data in JSON format to {@link Et1CaseData}.
+     * @param caseData case data in JSON format
+     * @return the case data as {@link Et1CaseData}
+     * @throws JsonProcessingException if the JSON cannot be parsed to {@link Et1CaseData}
+     */
+    public static Et1CaseData readEt1CaseData(String caseData) throws JsonProcessingException {
+        return ET1_CASE_DATA_READER.readValue(caseData);
+    }
+
+    /**
+     * Converts {@link CaseData} to the {@code Map} form used in CCD calls.
+     * @param caseData case data to convert
+     * @return the case data as a map of field name to value, null if the case data is null
+     */
+    public static Map<String, Object> toMap(CaseData caseData) {
+        // The typed writer only knows the properties of CaseData itself, so subclasses use their runtime type
+        ObjectWriter writer = caseData == null || caseData.getClass() == CaseData.class
+            ? CASE_DATA_WRITER
+            : RUNTIME_TYPE_WRITER;
+        return write(caseData, writer);
+    }
+
+    private static <T> T read(Map<String, Object> caseData, ObjectReader reader) {
+        if (caseData == null) {
+            return null;
+        }
+        try (JsonParser parser = new MapTraversingParser(caseData, MAPPER)) {
+            return reader.readValue(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Object> write(CaseData caseData, ObjectWriter writer) {
+        if (caseData == null) {
+            return null;
+        }
+        try (MapBuildingGenerator generator = new MapBuildingGenerator(MAPPER)) {
+            writer.writeValue(generator, caseData);
+            return generator.getRootObject();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.helper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
@@ -13,6 +10,7 @@ import java.util.Map;
 
 /**
  * Converts case data that is stored in a format used in http calls and wraps it in a class for API use.
+ * Conversions share the Jackson configuration held by {@link CaseDataJsonMapper}.
  */
 @Slf4j
 @Service
@@ -25,11 +23,9 @@ public class EmployeeObjectMapper {
      * @return @link Et1CaseData format of input json object
      */
     public Et1CaseData getEmploymentCaseData(String caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
         Et1CaseData data = null;
         try {
-            data = mapper.readValue(caseData, Et1CaseData.class);
+            data = CaseDataJsonMapper.readEt1CaseData(caseData);
         } catch (JsonProcessingException e) {
             log.error("Failed to parse the input json request body,", e);
         }
@@ -43,15 +39,7 @@ public class EmployeeObjectMapper {
      * @return case data wrapped in {@link Et1CaseData} format
      */
     public Et1CaseData getEmploymentCaseData(Map<String, Object> caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(caseData, Et1CaseData.class);
-    }
-
-    private static CaseData getCaseData(Map<String, Object> caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(caseData, CaseData.class);
+        return CaseDataJsonMapper.toEt1CaseData(caseData);
     }
 
     /**
@@ -60,12 +48,10 @@ public class EmployeeObjectMapper {
      * @return case data wrapped in {@link CaseData} format
      */
     public static CaseData convertCaseDataMapToCaseDataObject(Map<String, Object> caseData) {
-        return getCaseData(caseData);
+        return CaseDataJsonMapper.toCaseData(caseData);
     }
 
     public static Map<String, Object> mapCaseDataToLinkedHashMap(CaseData caseData) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        return mapper.convertValue(caseData, new TypeReference<>() {});
+        return CaseDataJsonMapper.toMap(caseData);
     }
 }
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import java.util.UUID;
+
+/**
+ * Validates and parses the identifiers read from case data: ACAS certificate numbers, document URLs and UUIDs.
+ *
+ * <p>
+ * These run for every document of a case each time ACAS polls for documents and for every certificate number of a
+ * claim, so rather than matching a regular expression they check the characters of the value directly, without
+ * compiling a pattern or allocating a matcher. Each method accepts exactly the values its former pattern matched:
+ * </p>
+ * <ul>
+ *   <li>an ACAS number matches {@code \A[a-zA-Z]{1,2}\d{6}/\d{2}/\d{2}\z}</li>
+ *   <li>a document URL ends with a UUID, optionally followed by a single line terminator, as found by
+ *   {@code [0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$}</li>
+ * </ul>
+ */
+public final class IdentifierParser {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int MIN_ACAS_NUMBER_LENGTH = 13;
+    private static final int MAX_ACAS_NUMBER_LENGTH = 14;
+    // the number of letters an ACAS number starts with is its length less that of the digits and separators
+    private static final int ACAS_NUMBER_DIGITS_LENGTH = 12;
+
+    private IdentifierParser() {
+        // Access through static methods
+    }
+
+    /**
+     * Checks whether a value is a valid ACAS certificate number: one or two letters, six digits, a slash, two digits,
+     * a slash and two digits, e.g. {@code R123456/12/34}.
+     *
+     * @param acasNumber the value to check, may be null
+     * @return true if the value is a valid ACAS number
+     */
+    public static boolean isValidAcasNumber(String acasNumber) {
+        if (acasNumber == null) {
+            return false;
+        }
+        int length = acasNumber.length();
+        if (length < MIN_ACAS_NUMBER_LENGTH || length > MAX_ACAS_NUMBER_LENGTH) {
+            return false;
+        }
+        int letters = length - ACAS_NUMBER_DIGITS_LENGTH;
+        for (int i = 0; i < letters; i++) {
+            if (!isAsciiLetter(acasNumber.charAt(i))) {
+                return false;
+            }
+        }
+        return areDigits(acasNumber, letters, letters + 6)
+            && acasNumber.charAt(letters + 6) == '/'
+            && areDigits(acasNumber, letters + 7, letters + 9)
+            && acasNumber.charAt(letters + 9) == '/'
+            && areDigits(acasNumber, letters + 10, length);
+    }
+
+    /**
+     * Gets the id of a document from its URL, which ends with the UUID of the document, e.g.
+     * {@code http://dm-store/documents/6a5c1d0e-2b3f-4c5d-8e9f-0a1b2c3d4e5f}.
+     *
+     * @param url the URL of the document, may be null
+     * @return the UUID the URL ends with, null if it does not end with a UUID
+     */
+    public static UUID documentUuid(String url) {
+        if (url == null) {
+            return null;
+        }
+        int end = url.length() - lineTerminatorLength(url);
+        return end < UUID_LENGTH ? null : parseUuid(url, end - UUID_LENGTH);
+    }
+
+    /**
+     * Parses a UUID in its canonical form of 32 hexadecimal digits separated by hyphens into groups of 8, 4, 4, 4 and
+     * 12 digits.
+     *
+     * @param value the value to parse, may be null
+     * @return the UUID, null if the value is not a UUID in canonical form
+     */
+    public static UUID parseUuid(String value) {
+        return value == null || value.length() != UUID_LENGTH ? null : parseUuid(value, 0);
+    }
+
+    private static UUID parseUuid(String value, int start) {
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int digit = hexDigit(c);
+            if (digit < 0) {
+                return null;
+            }
+            if (i < 18) {
+                mostSignificantBits = mostSignificantBits << 4 | digit;
+            } else {
+                leastSignificantBits = leastSignificantBits << 4 | digit;
+            }
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static int lineTerminatorLength(String value) {
+        if (value.endsWith("\r\n")) {
+            return 2;
+        }
+        if (value.isEmpty()) {
+            return 0;
+        }
+        char last = value.charAt(value.length() - 1);
+        return last == '\n' || last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029' ? 1 : 0;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean areDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+}
@@ -0,0 +1,266 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+import com.fasterxml.jackson.databind.cfg.PackageVersion;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the {@code Map}, {@code List} and scalar values used for case data in CCD calls directly from the tokens a
+ * serializer writes, so that a typed model can be converted to a map without first being copied to a token buffer.
+ * Objects are built as {@link LinkedHashMap} and arrays as {@link ArrayList}, as Jackson does when it reads untyped
+ * values.
+ */
+@SuppressWarnings({"checkstyle:MethodName", "PMD.MethodNamingConventions", "PMD.TooManyMethods"})
+final class MapBuildingGenerator extends GeneratorBase {
+
+    private final Deque<Container> containers = new ArrayDeque<>();
+    private Map<String, Object> rootObject;
+
+    /**
+     * Creates a generator.
+     * @param codec the codec used to write values passed to {@link #writeObject(Object)}
+     */
+    MapBuildingGenerator(ObjectCodec codec) {
+        super(0, codec, (IOContext) null);
+    }
+
+    /**
+     * Returns the object written as the root value.
+     * @return the root object, null if the root value was not an object
+     */
+    Map<String, Object> getRootObject() {
+        return rootObject;
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        _verifyValueWrite("start an array");
+        _writeContext = _writeContext.createChildArrayContext();
+        List<Object> array = new ArrayList<>();
+        addValue(array);
+        containers.push(new Container(null, array));
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        if (!_writeContext.inArray()) {
+            _reportError("Current context not Array but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.getParent();
+        containers.pop();
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        _verifyValueWrite("start an object");
+        _writeContext = _writeContext.createChildObjectContext();
+        Map<String, Object> object = new LinkedHashMap<>();
+        if (containers.isEmpty()) {
+            rootObject = object;
+        } else {
+            addValue(object);
+        }
+        containers.push(new Container(object, null));
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        if (!_writeContext.inObject()) {
+            _reportError("Current context not Object but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.getParent();
+        containers.pop();
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        if (_writeContext.writeFieldName(name) == JsonWriteContext.STATUS_EXPECT_VALUE) {
+            _reportError("Can not write a field name, expecting a value");
+        }
+        containers.getFirst().fieldName = name;
+    }
+
+    @Override
+    public void writeFieldName(SerializableString name) throws IOException {
+        writeFieldName(name.getValue());
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+        if (text == null) {
+            writeNull();
+        } else {
+            writeScalar(text);
+        }
+    }
+
+    @Override
+    public void writeString(char[] buffer, int offset, int len) throws IOException {
+        writeScalar(new String(buffer, offset, len));
+    }
+
+    @Override
+    public void writeUTF8String(byte[] buffer, int offset, int len) throws IOException {
+        writeScalar(new String(buffer, offset, len, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] buffer, int offset, int len) {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeRaw(String text) {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeRaw(String text, int offset, int len) {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeRaw(char[] text, int offset, int len) {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeRaw(char c) {
+        _reportUnsupportedOperation();
+    }
+
+    @Override
+    public void writeBinary(Base64Variant b64variant, byte[] data, int offset, int len) throws IOException {
+        writeScalar(Arrays.copyOfRange(data, offset, offset + len));
+    }
+
+    @Override
+    public void writeNumber(short v) throws IOException {
+        writeScalar(v);
+    }
+
+    @Override
+    public void writeNumber(int v) throws IOException {
+        writeScalar(v);
+    }
+
+    @Override
+    public void writeNumber(long v) throws IOException {
+        writeScalar(v);
+    }
+
+    @Override
+    public void writeNumber(BigInteger v) throws IOException {
+        writeNullable(v);
+    }
+
+    @Override
+    public void writeNumber(double v) throws IOException {
+        writeScalar(v);
+    }
+
+    @Override
+    public void writeNumber(float v) throws IOException {
+        writeScalar(v);
+    }
+
+    @Override
+    public void writeNumber(BigDecimal v) throws IOException {
+        writeNullable(v);
+    }
+
+    @Override
+    public void writeNumber(String encodedValue) throws IOException {
+        writeNullable(encodedValue == null ? null : new BigDecimal(encodedValue));
+    }
+
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+        writeScalar(state);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        _verifyValueWrite("write null value");
+        addValue(null);
+    }
+
+    @Override
+    public Version version() {
+        return PackageVersion.VERSION;
+    }
+
+    @Override
+    public void flush() {
+        // Values are built in memory, there is nothing to flush
+    }
+
+    @Override
+    protected void _releaseBuffers() {
+        // No buffers are used
+    }
+
+    @Override
+    protected void _verifyValueWrite(String typeMsg) throws IOException {
+        if (_writeContext.writeValue() == JsonWriteContext.STATUS_EXPECT_NAME) {
+            _reportError("Can not " + typeMsg + ", expecting field name");
+        }
+    }
+
+    private void writeNullable(Object value) throws IOException {
+        if (value == null) {
+            writeNull();
+        } else {
+            writeScalar(value);
+        }
+    }
+
+    private void writeScalar(Object value) throws IOException {
+        _verifyValueWrite("write a value");
+        addValue(value);
+    }
+
+    private void addValue(Object value) {
+        Container container = containers.peek();
+        if (container == null) {
+            return;
+        }
+        if (container.object == null) {
+            container.array.add(value);
+        } else {
+            container.object.put(container.fieldName, value);
+        }
+    }
+
+    /**
+     * An object or array being built, with the name of the field being written for an object.
+     */
+    private static final class Container {
+
+        private final Map<String, Object> object;
+        private final List<Object> array;
+        private String fieldName;
+
+        Container(Map<String, Object> object, List<Object> array) {
+            this.object = object;
+            this.array = array;
+        }
+    }
+}
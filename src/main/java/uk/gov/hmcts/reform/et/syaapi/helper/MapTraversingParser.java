@@ -0,0 +1,394 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.PackageVersion;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the {@code Map}, {@code List} and scalar values CCD case data is decoded to as a stream of JSON tokens, so
+ * that it can be bound straight to a typed model without first being copied to a token buffer.
+ *
+ * <p>
+ * Values that are not JSON values themselves, such as model objects put into the map by the caller, are converted to
+ * JSON values with the mapper before they are read.
+ * </p>
+ */
+@SuppressWarnings({"checkstyle:MethodName", "PMD.MethodNamingConventions", "PMD.TooManyMethods", "PMD.GodClass",
+    "PMD.CyclomaticComplexity"})
+final class MapTraversingParser extends ParserMinimalBase {
+
+    private final ObjectMapper mapper;
+    private ObjectCodec codec;
+    private Cursor cursor;
+    private Object currentValue;
+    private boolean closed;
+
+    /**
+     * Creates a parser for a value.
+     * @param value  the value to read, usually the case data map
+     * @param mapper the mapper used to convert values that are not JSON values
+     */
+    MapTraversingParser(Object value, ObjectMapper mapper) {
+        super();
+        this.mapper = mapper;
+        this.codec = mapper;
+        this.cursor = new Cursor(null, JsonStreamContext.TYPE_ROOT, List.of(value).iterator());
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        if (closed || cursor == null) {
+            _currToken = null;
+            return null;
+        }
+        if (cursor.pendingValue) {
+            cursor.pendingValue = false;
+            _currToken = startValue(cursor.nextValue);
+            return _currToken;
+        }
+        if (!cursor.values.hasNext()) {
+            _currToken = endContainer();
+            return _currToken;
+        }
+        Object next = cursor.values.next();
+        cursor.advance();
+        if (next instanceof Map.Entry<?, ?> entry && cursor.inObject()) {
+            cursor.currentName = String.valueOf(entry.getKey());
+            cursor.nextValue = entry.getValue();
+            cursor.pendingValue = true;
+            currentValue = null;
+            _currToken = JsonToken.FIELD_NAME;
+        } else {
+            _currToken = startValue(next);
+        }
+        return _currToken;
+    }
+
+    private JsonToken startValue(Object value) {
+        currentValue = value;
+        if (value == null) {
+            return JsonToken.VALUE_NULL;
+        } else if (value instanceof Map<?, ?> map) {
+            cursor = new Cursor(cursor, JsonStreamContext.TYPE_OBJECT, map.entrySet().iterator());
+            return JsonToken.START_OBJECT;
+        } else if (value instanceof Collection<?> collection) {
+            cursor = new Cursor(cursor, JsonStreamContext.TYPE_ARRAY, collection.iterator());
+            return JsonToken.START_ARRAY;
+        } else if (value instanceof String) {
+            return JsonToken.VALUE_STRING;
+        } else if (value instanceof Boolean bool) {
+            return bool ? JsonToken.VALUE_TRUE : JsonToken.VALUE_FALSE;
+        } else if (value instanceof Integer || value instanceof Long || value instanceof BigInteger
+            || value instanceof Short || value instanceof Byte) {
+            return JsonToken.VALUE_NUMBER_INT;
+        } else if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            return JsonToken.VALUE_NUMBER_FLOAT;
+        } else if (value instanceof byte[]) {
+            return JsonToken.VALUE_EMBEDDED_OBJECT;
+        }
+        Object jsonValue = mapper.convertValue(value, Object.class);
+        if (jsonValue == value) {
+            // Written by its serializer as an embedded value, which is how a token buffer would pass it on too
+            return JsonToken.VALUE_EMBEDDED_OBJECT;
+        }
+        return startValue(jsonValue);
+    }
+
+    private JsonToken endContainer() {
+        JsonToken token = null;
+        if (cursor.inObject()) {
+            token = JsonToken.END_OBJECT;
+        } else if (cursor.inArray()) {
+            token = JsonToken.END_ARRAY;
+        }
+        cursor = cursor.parent;
+        currentValue = null;
+        return token;
+    }
+
+    @Override
+    public String getCurrentName() {
+        Cursor nameCursor = _currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY
+            ? cursor.parent
+            : cursor;
+        return nameCursor == null ? null : nameCursor.currentName;
+    }
+
+    @Override
+    public String currentName() {
+        return getCurrentName();
+    }
+
+    @Override
+    public void overrideCurrentName(String name) {
+        Cursor nameCursor = _currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY
+            ? cursor.parent
+            : cursor;
+        if (nameCursor != null) {
+            nameCursor.currentName = name;
+        }
+    }
+
+    @Override
+    public JsonStreamContext getParsingContext() {
+        return cursor;
+    }
+
+    @Override
+    public JsonLocation getTokenLocation() {
+        return JsonLocation.NA;
+    }
+
+    @Override
+    public JsonLocation getCurrentLocation() {
+        return JsonLocation.NA;
+    }
+
+    @Override
+    public JsonLocation currentTokenLocation() {
+        return JsonLocation.NA;
+    }
+
+    @Override
+    public JsonLocation currentLocation() {
+        return JsonLocation.NA;
+    }
+
+    @Override
+    public String getText() {
+        if (_currToken == null) {
+            return null;
+        }
+        return switch (_currToken) {
+            case FIELD_NAME -> getCurrentName();
+            case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> String.valueOf(currentValue);
+            default -> _currToken.asString();
+        };
+    }
+
+    @Override
+    public char[] getTextCharacters() {
+        String text = getText();
+        return text == null ? null : text.toCharArray();
+    }
+
+    @Override
+    public int getTextLength() {
+        String text = getText();
+        return text == null ? 0 : text.length();
+    }
+
+    @Override
+    public int getTextOffset() {
+        return 0;
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return false;
+    }
+
+    @Override
+    public Number getNumberValue() throws IOException {
+        return currentNumber();
+    }
+
+    @Override
+    public NumberType getNumberType() throws IOException {
+        Number number = currentNumber();
+        if (number instanceof Long) {
+            return NumberType.LONG;
+        } else if (number instanceof BigInteger) {
+            return NumberType.BIG_INTEGER;
+        } else if (number instanceof Double) {
+            return NumberType.DOUBLE;
+        } else if (number instanceof Float) {
+            return NumberType.FLOAT;
+        } else if (number instanceof BigDecimal) {
+            return NumberType.BIG_DECIMAL;
+        }
+        return NumberType.INT;
+    }
+
+    @Override
+    public int getIntValue() throws IOException {
+        Number number = currentNumber();
+        long value = number.longValue();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE
+            || number instanceof BigInteger bigInteger && bigInteger.bitLength() > 31) {
+            _reportError("Numeric value (" + getText() + ") out of range of int");
+        }
+        return (int) value;
+    }
+
+    @Override
+    public long getLongValue() throws IOException {
+        Number number = currentNumber();
+        if (number instanceof BigInteger bigInteger && bigInteger.bitLength() > 63) {
+            _reportError("Numeric value (" + getText() + ") out of range of long");
+        }
+        return number.longValue();
+    }
+
+    @Override
+    public BigInteger getBigIntegerValue() throws IOException {
+        Number number = currentNumber();
+        if (number instanceof BigInteger bigInteger) {
+            return bigInteger;
+        } else if (number instanceof BigDecimal bigDecimal) {
+            return bigDecimal.toBigInteger();
+        } else if (number instanceof Double || number instanceof Float) {
+            return BigDecimal.valueOf(number.doubleValue()).toBigInteger();
+        }
+        return BigInteger.valueOf(number.longValue());
+    }
+
+    @Override
+    public float getFloatValue() throws IOException {
+        return currentNumber().floatValue();
+    }
+
+    @Override
+    public double getDoubleValue() throws IOException {
+        return currentNumber().doubleValue();
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() throws IOException {
+        Number number = currentNumber();
+        if (number instanceof BigDecimal bigDecimal) {
+            return bigDecimal;
+        } else if (number instanceof BigInteger bigInteger) {
+            return new BigDecimal(bigInteger);
+        } else if (number instanceof Double || number instanceof Float) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    @Override
+    public boolean isNaN() {
+        if (currentValue instanceof Double || currentValue instanceof Float) {
+            double value = ((Number) currentValue).doubleValue();
+            return Double.isNaN(value) || Double.isInfinite(value);
+        }
+        return false;
+    }
+
+    @Override
+    public Object getEmbeddedObject() {
+        return _currToken == JsonToken.VALUE_EMBEDDED_OBJECT ? currentValue : null;
+    }
+
+    @Override
+    public byte[] getBinaryValue(Base64Variant b64variant) throws IOException {
+        if (_currToken == JsonToken.VALUE_EMBEDDED_OBJECT && currentValue instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (_currToken != JsonToken.VALUE_STRING) {
+            throw _constructError("Current token (" + _currToken + ") not VALUE_STRING, can not access as binary");
+        }
+        try {
+            return b64variant.decode((String) currentValue);
+        } catch (IllegalArgumentException e) {
+            throw _constructError(e.getMessage());
+        }
+    }
+
+    @Override
+    public ObjectCodec getCodec() {
+        return codec;
+    }
+
+    @Override
+    public void setCodec(ObjectCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public Version version() {
+        return PackageVersion.VERSION;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        cursor = null;
+        currentValue = null;
+        _currToken = null;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    protected void _handleEOF() {
+        // Values are read from memory, so the end of input is always at a token boundary
+    }
+
+    private Number currentNumber() throws IOException {
+        if (!(currentValue instanceof Number number) || _currToken == JsonToken.FIELD_NAME) {
+            throw _constructError("Current token (" + _currToken + ") not numeric, can not use numeric accessors");
+        }
+        return number;
+    }
+
+    /**
+     * Position within an object, an array or the root value.
+     */
+    private static final class Cursor extends JsonStreamContext {
+
+        private final Cursor parent;
+        private final Iterator<?> values;
+        private String currentName;
+        private Object nextValue;
+        private boolean pendingValue;
+        private Object currentObject;
+
+        Cursor(Cursor parent, int type, Iterator<?> values) {
+            super(type, -1);
+            this.parent = parent;
+            this.values = values;
+        }
+
+        void advance() {
+            _index++;
+        }
+
+        @Override
+        public Cursor getParent() {
+            return parent;
+        }
+
+        @Override
+        public String getCurrentName() {
+            return currentName;
+        }
+
+        @Override
+        public Object getCurrentValue() {
+            return currentObject;
+        }
+
+        @Override
+        public void setCurrentValue(Object value) {
+            currentObject = value;
+        }
+    }
+}
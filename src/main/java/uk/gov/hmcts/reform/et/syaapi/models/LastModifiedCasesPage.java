@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.et.syaapi.models;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * A page of the feed of cases modified since a point in time.
+ */
+@Data
+@Builder
+@Jacksonized
+public class LastModifiedCasesPage {
+
+    /**
+     * Ids of the cases in this page, in the order they were last modified.
+     */
+    private List<Long> caseIds;
+
+    /**
+     * Cursor to continue the feed from, null when no case has been returned yet. It is returned with every page,
+     * including the last one, so that the next poll only reads the cases modified since.
+     */
+    private String cursor;
+
+    /**
+     * Whether more cases were modified after this page at the time it was read.
+     */
+    private boolean hasMore;
+}
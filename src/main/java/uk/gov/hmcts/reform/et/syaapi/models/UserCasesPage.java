@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.et.syaapi.models;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.util.List;
+
+/**
+ * A page of the cases of a user.
+ */
+@Data
+@Builder
+@Jacksonized
+public class UserCasesPage {
+
+    /**
+     * Cases in this page.
+     */
+    private List<CaseDetails> cases;
+
+    /**
+     * Cursor of the next page, null when this is the last page.
+     */
+    private String nextCursor;
+}
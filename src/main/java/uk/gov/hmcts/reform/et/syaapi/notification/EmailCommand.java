@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+import java.util.Map;
+
+/**
+ * An email waiting to be sent to GOV.UK Notify.
+ *
+ * @param id              unique id of the command, used to match it with its entries in the {@link EmailJournal}
+ * @param templateId      the GOV.UK Notify template id
+ * @param emailAddress    the recipient
+ * @param personalisation the template parameters, holding only strings, maps and lists so that they can be journalled
+ * @param reference       the reference of the email, usually the case id
+ * @param enqueuedAt      time in milliseconds since the epoch at which the email was queued
+ */
+public record EmailCommand(
+    String id,
+    String templateId,
+    String emailAddress,
+    Map<String, Object> personalisation,
+    String reference,
+    long enqueuedAt) {
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Holds the settings of the queue emails are sent to GOV.UK Notify through.
+ */
+@Data
+public class EmailDispatchProperties {
+
+    @Value("${notifications.dispatch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.dispatch.journal-directory:}")
+    private String journalDirectory;
+
+    @Value("${notifications.dispatch.journal-max-bytes:67108864}")
+    private long journalMaxBytes;
+
+    @Value("${notifications.dispatch.instance-id:}")
+    private String instanceId;
+
+    @Value("${notifications.dispatch.dead-letter.max-bytes:1048576}")
+    private long deadLetterMaxBytes;
+
+    @Value("${notifications.dispatch.workers:4}")
+    private int workers;
+
+    @Value("${notifications.dispatch.fan-out-limit:8}")
+    private int fanOutLimit;
+
+    @Value("${notifications.dispatch.capacity:10000}")
+    private int capacity;
+
+    @Value("${notifications.dispatch.template-rate-limit:25}")
+    private int templateRateLimit;
+
+    @Value("${notifications.dispatch.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${notifications.dispatch.retry.initial-interval:1000}")
+    private long retryInitialInterval;
+
+    @Value("${notifications.dispatch.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${notifications.dispatch.retry.max-interval:60000}")
+    private long retryMaxInterval;
+}
@@ -0,0 +1,288 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Append-only file journal of the emails waiting to be sent, so that queued emails survive a restart.
+ *
+ * <p>
+ * Every queued email is written to {@code journal.log} and forced to disk before it is accepted; a completion entry
+ * is appended once it has been sent or dead-lettered. On start up the journal is replayed and the emails without a
+ * completion entry are returned to be sent again, which means an email that was sent just before a crash may be sent
+ * twice. The journal is truncated whenever nothing is pending, and rewritten with only the pending emails once
+ * completed entries make up most of it. The journal holds the recipients and personalisation of the pending emails,
+ * as they are needed to send them again, so its files are only readable by their owner where the file system allows.
+ * </p>
+ *
+ * <p>
+ * Personalisation may carry whole documents, so the pending emails are limited by the size of their entries rather
+ * than by their number: an email that would take them over the limit is not accepted. Because completed entries are
+ * compacted away once they make up most of a journal over the limit, the file stays under twice the limit. The
+ * journal is read a line at a time on recovery, so only the pending emails are held in memory.
+ * </p>
+ *
+ * <p>
+ * Emails that could not be sent are recorded in {@code dead-letter.log} by id, template, reference and reason only,
+ * without their recipient or personalisation. Once the file reaches its size limit it is moved to
+ * {@code dead-letter.log.1}, replacing the previous one, so at most twice the limit is kept.
+ * </p>
+ */
+@Slf4j
+public class EmailJournal implements Closeable {
+
+    static final String JOURNAL_FILE = "journal.log";
+    static final String DEAD_LETTER_FILE = "dead-letter.log";
+    static final String ROTATED_DEAD_LETTER_FILE = DEAD_LETTER_FILE + ".1";
+    private static final int COMPACTION_THRESHOLD = 10_000;
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+
+    private final Path journalFile;
+    private final Path deadLetterFile;
+    private final long maxBytes;
+    private final long deadLetterMaxBytes;
+    private final Map<String, EmailCommand> pending = new LinkedHashMap<>();
+    private final Map<String, Integer> pendingEntryBytes = new HashMap<>();
+    private FileChannel channel;
+    private int entries;
+    private long pendingBytes;
+    private long journalBytes;
+
+    /**
+     * Journal entry, either a queued email or the completion of one.
+     *
+     * @param queued    the queued email
+     * @param completed the id of the completed email
+     */
+    record Entry(EmailCommand queued, String completed) {
+    }
+
+    /**
+     * Dead-lettered email and the reason it could not be sent.
+     *
+     * @param id         the id of the email
+     * @param templateId the GOV.UK Notify template id
+     * @param reference  the reference of the email, usually the case id
+     * @param reason     the error returned by the last attempt
+     * @param failedAt   time in milliseconds since the epoch at which the email was dead-lettered
+     */
+    record DeadLetter(String id, String templateId, String reference, String reason, long failedAt) {
+    }
+
+    /**
+     * Creates a journal in the given directory, creating the directory if needed. {@link #recover()} must be called
+     * before emails are appended.
+     *
+     * @param directory          the directory holding the journal and dead-letter files
+     * @param maxBytes           size in bytes that the entries of the pending emails may take up
+     * @param deadLetterMaxBytes size in bytes at which the dead-letter file is rotated
+     * @throws IOException if the directory cannot be created
+     */
+    public EmailJournal(Path directory, long maxBytes, long deadLetterMaxBytes) throws IOException {
+        createOwnerOnlyDirectory(directory);
+        this.journalFile = directory.resolve(JOURNAL_FILE);
+        this.deadLetterFile = directory.resolve(DEAD_LETTER_FILE);
+        this.maxBytes = maxBytes;
+        this.deadLetterMaxBytes = deadLetterMaxBytes;
+    }
+
+    /**
+     * Replays the journal, compacts it and opens it for appending.
+     *
+     * @return the emails that were queued but not completed, in the order they were queued
+     * @throws IOException if the journal cannot be read or rewritten
+     */
+    public synchronized List<EmailCommand> recover() throws IOException {
+        pending.clear();
+        if (Files.exists(journalFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+                reader.lines().forEach(this::replay);
+            }
+        }
+        rewrite();
+        return new ArrayList<>(pending.values());
+    }
+
+    /**
+     * Durably records a queued email, unless its entry would take the pending emails over the size limit.
+     *
+     * @param command the email
+     * @return {@code true} if the email was recorded, {@code false} if the journal is full
+     * @throws IOException if the entry cannot be written to disk
+     */
+    public synchronized boolean append(EmailCommand command) throws IOException {
+        byte[] line = line(new Entry(command, null));
+        if (pendingBytes + line.length > maxBytes) {
+            return false;
+        }
+        write(line);
+        channel.force(false);
+        pending.put(command.id(), command);
+        pendingEntryBytes.put(command.id(), line.length);
+        pendingBytes += line.length;
+        return true;
+    }
+
+    /**
+     * Records that an email no longer needs to be sent.
+     *
+     * @param id the id of the email
+     * @throws IOException if the entry cannot be written
+     */
+    public synchronized void complete(String id) throws IOException {
+        if (pending.remove(id) == null) {
+            return;
+        }
+        pendingBytes -= pendingEntryBytes.remove(id);
+        if (pending.isEmpty()) {
+            channel.truncate(0);
+            entries = 0;
+            journalBytes = 0;
+        } else if (isMostlyCompleted()) {
+            rewrite();
+        } else {
+            write(line(new Entry(null, id)));
+        }
+    }
+
+    /**
+     * Records an email that could not be sent in the dead-letter file and removes it from the journal.
+     *
+     * @param command the email
+     * @param reason  the error returned by the last attempt
+     * @throws IOException if the email cannot be written to the dead-letter file
+     */
+    public synchronized void deadLetter(EmailCommand command, String reason) throws IOException {
+        if (Files.exists(deadLetterFile) && Files.size(deadLetterFile) >= deadLetterMaxBytes) {
+            Files.move(deadLetterFile, deadLetterFile.resolveSibling(ROTATED_DEAD_LETTER_FILE),
+                       StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        createOwnerOnlyFile(deadLetterFile);
+        Files.write(deadLetterFile, line(new DeadLetter(command.id(), command.templateId(), command.reference(),
+                                                        reason, System.currentTimeMillis())),
+                    StandardOpenOption.APPEND);
+        complete(command.id());
+    }
+
+    /**
+     * Returns the number of emails queued but not completed.
+     *
+     * @return the number of pending emails
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private boolean isMostlyCompleted() {
+        return (entries >= COMPACTION_THRESHOLD && entries > 2 * pending.size())
+            || (journalBytes >= maxBytes && journalBytes > 2 * pendingBytes);
+    }
+
+    private void replay(String line) {
+        if (line.isBlank()) {
+            return;
+        }
+        try {
+            Entry entry = MAPPER.readValue(line, Entry.class);
+            if (entry.queued() != null) {
+                pending.put(entry.queued().id(), entry.queued());
+            } else if (entry.completed() != null) {
+                pending.remove(entry.completed());
+            }
+        } catch (JsonProcessingException e) {
+            // only the last entry can be cut short, by a crash while it was written
+            log.warn("Skipping unreadable email journal entry: {}", e.getOriginalMessage());
+        }
+    }
+
+    private void rewrite() throws IOException {
+        close();
+        Path compacted = journalFile.resolveSibling(JOURNAL_FILE + ".tmp");
+        createOwnerOnlyFile(compacted);
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            pendingEntryBytes.clear();
+            pendingBytes = 0;
+            for (EmailCommand command : pending.values()) {
+                byte[] line = line(new Entry(command, null));
+                writeFully(out, line);
+                pendingEntryBytes.put(command.id(), line.length);
+                pendingBytes += line.length;
+            }
+            out.force(false);
+        }
+        Files.move(compacted, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(journalFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        entries = pending.size();
+        journalBytes = pendingBytes;
+    }
+
+    private void write(byte[] line) throws IOException {
+        writeFully(channel, line);
+        entries++;
+        journalBytes += line.length;
+    }
+
+    private static void writeFully(FileChannel out, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static void createOwnerOnlyDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory, ownerOnly(directory, OWNER_ONLY_DIRECTORY));
+    }
+
+    private static void createOwnerOnlyFile(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            Files.createFile(file, ownerOnly(file, OWNER_ONLY_FILE));
+        }
+    }
+
+    private static FileAttribute<?>[] ownerOnly(Path path, Set<PosixFilePermission> permissions) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix")
+            ? new FileAttribute<?>[] {PosixFilePermissions.asFileAttribute(permissions)}
+            : new FileAttribute<?>[0];
+    }
+
+    private static byte[] line(Object value) throws JsonProcessingException {
+        return (MAPPER.writeValueAsString(value) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
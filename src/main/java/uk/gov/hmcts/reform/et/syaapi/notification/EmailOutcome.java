@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+/**
+ * What happened to the email sent to one recipient of a fan-out.
+ *
+ * @param emailAddress the recipient
+ * @param status       whether the email was queued, sent or could not be sent
+ * @param error        the reason the email could not be sent, null otherwise
+ */
+public record EmailOutcome(String emailAddress, Status status, String error) {
+
+    /**
+     * Status of the email of one recipient.
+     */
+    public enum Status {
+        QUEUED,
+        SENT,
+        FAILED
+    }
+
+    /**
+     * Tells whether the email was queued or sent.
+     *
+     * @return false if the email could not be sent
+     */
+    public boolean isSuccessful() {
+        return status != Status.FAILED;
+    }
+}
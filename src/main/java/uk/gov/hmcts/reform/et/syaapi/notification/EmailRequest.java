@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+import java.util.Map;
+
+/**
+ * An email to be sent to GOV.UK Notify as part of a fan-out to several recipients.
+ *
+ * @param templateId      the GOV.UK Notify template id
+ * @param emailAddress    the recipient
+ * @param personalisation the template parameters of this recipient
+ * @param reference       the reference of the email, usually the case id
+ */
+public record EmailRequest(
+    String templateId,
+    String emailAddress,
+    Map<String, Object> personalisation,
+    String reference) {
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+import uk.gov.hmcts.reform.et.syaapi.service.ResilienceService;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+import uk.gov.service.notify.SendEmailResponse;
+
+import java.util.Map;
+
+/**
+ * A {@link NotificationClient} that sends emails through the GOV.UK Notify bulkhead and circuit breaker, so that a
+ * slow Notify holds at most a bounded number of request threads.
+ */
+public class ResilientNotificationClient extends NotificationClient {
+
+    private final ResilienceService resilienceService;
+
+    /**
+     * Creates the client.
+     *
+     * @param apiKey            the GOV.UK Notify api key
+     * @param resilienceService the service guarding downstream calls
+     */
+    public ResilientNotificationClient(String apiKey, ResilienceService resilienceService) {
+        super(apiKey);
+        this.resilienceService = resilienceService;
+    }
+
+    @Override
+    public SendEmailResponse sendEmail(String templateId, String emailAddress, Map<String, ?> personalisation,
+                                       String reference) throws NotificationClientException {
+        return sendEmail(templateId, emailAddress, personalisation, reference, "");
+    }
+
+    @Override
+    public SendEmailResponse sendEmail(String templateId, String emailAddress, Map<String, ?> personalisation,
+                                       String reference, String emailReplyToId) throws NotificationClientException {
+        return resilienceService.call(Downstream.NOTIFY, () -> super.sendEmail(
+            templateId, emailAddress, personalisation, reference, emailReplyToId));
+    }
+}
@@ -3,6 +3,12 @@ package uk.gov.hmcts.reform.et.syaapi.search;
 import org.apache.commons.lang3.StringUtils;
 import uk.gov.hmcts.reform.et.syaapi.models.FindCaseForRoleModificationRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
 @SuppressWarnings({"PMD.AvoidDuplicateLiterals"})
 public final class ElasticSearchQueryBuilder {
 
@@ -18,6 +24,11 @@ public final class ElasticSearchQueryBuilder {
     private static final String FIELD_NAME_CLAIMANT_LAST_NAME = "data.claimantIndType.claimant_last_name.keyword";
     private static final String FIELD_NAME_CLAIMANT_FULL_NAME = "data.claimant.keyword";
 
+    private static final String FIELD_NAME_ID = "id";
+    private static final String FIELD_NAME_LAST_MODIFIED = "last_modified";
+    private static final String CASE_DATA_FIELD_PREFIX = "data.";
+    private static final Pattern SOURCE_FIELD_PATTERN = Pattern.compile("[A-Za-z0-9_.]+");
+
     private ElasticSearchQueryBuilder() {
         // Access through static methods
     }
@@ -244,4 +255,101 @@ public final class ElasticSearchQueryBuilder {
         }
         """.formatted(ethosCaseReference);
     }
+
+    /**
+     * Generates a page of the query that lists all cases of a user. Cases are sorted by case id so that the next
+     * page can continue from the last case of the previous page with {@code search_after}, which unlike from/size
+     * does not get more expensive for later pages.
+     * When source fields are given, only those case data fields are returned in place of the whole case data.
+     * @param pageSize maximum number of cases in the page
+     * @param searchAfterCaseId id of the last case of the previous page, null for the first page
+     * @param sourceFields case data fields to return, e.g. claimantIndType or data.claimantIndType; null or empty
+     *                     to return the whole case data
+     * @return the string value of the elastic search query
+     * @throws IllegalArgumentException if a source field is not a valid field name
+     */
+    public static String buildUserCasesPage(int pageSize, Long searchAfterCaseId, List<String> sourceFields) {
+        StringBuilder query = new StringBuilder(128)
+            .append("{\"size\":").append(pageSize)
+            .append(",\"query\":{\"match_all\":{}}")
+            .append(",\"sort\":[{\"").append(FIELD_NAME_ID).append("\":\"asc\"}]");
+        if (searchAfterCaseId != null) {
+            query.append(",\"search_after\":[").append(searchAfterCaseId).append(']');
+        }
+        appendSourceFields(query, sourceFields);
+        return query.append('}').toString();
+    }
+
+    /**
+     * Generates the query that gets the cases with the given references. The size of the query is the number of
+     * references, as no more than one case has each reference.
+     * When source fields are given, only those case data fields are returned in place of the whole case data.
+     * @param caseIds references of the cases
+     * @param sourceFields case data fields to return, e.g. claimantIndType or data.claimantIndType; null or empty
+     *                     to return the whole case data
+     * @return the string value of the elastic search query
+     * @throws IllegalArgumentException if a reference is not a number or a source field is not a valid field name
+     */
+    public static String buildByCaseReferences(List<String> caseIds, List<String> sourceFields) {
+        StringJoiner references = new StringJoiner("\",\"", "[\"", "\"]");
+        for (String caseId : caseIds) {
+            if (!StringUtils.isNumeric(caseId)) {
+                throw new IllegalArgumentException("Invalid case id: " + caseId);
+            }
+            references.add(caseId);
+        }
+        StringBuilder query = new StringBuilder(128)
+            .append("{\"size\":").append(caseIds.size())
+            .append(",\"query\":{\"bool\":{\"filter\":[{\"terms\":{\"").append(FIELD_NAME_SUBMISSION_REFERENCE)
+            .append("\":").append(references).append("}}]}}");
+        appendSourceFields(query, sourceFields);
+        return query.append('}').toString();
+    }
+
+    private static void appendSourceFields(StringBuilder query, List<String> sourceFields) {
+        if (sourceFields == null || sourceFields.isEmpty()) {
+            return;
+        }
+        StringJoiner source = new StringJoiner("\",\"", ",\"_source\":[\"", "\"]");
+        for (String sourceField : sourceFields) {
+            if (sourceField == null || !SOURCE_FIELD_PATTERN.matcher(sourceField).matches()) {
+                throw new IllegalArgumentException("Invalid case data field: " + sourceField);
+            }
+            source.add(sourceField.startsWith(CASE_DATA_FIELD_PREFIX)
+                           ? sourceField
+                           : CASE_DATA_FIELD_PREFIX + sourceField);
+        }
+        query.append(source);
+    }
+
+    /**
+     * Generates a page of the query that lists the cases modified since a point in time, excluding cases migrated
+     * from ECM. Cases are sorted by last modified time and then by reference, which together give every case a
+     * stable position, so the next page can continue from the last case of the previous page with
+     * {@code search_after} however many cases were modified at the same time. Only cases modified before the given
+     * time are listed, so that a page never moves past cases that may not have been indexed yet.
+     * @param pageSize       maximum number of cases in the page
+     * @param since          earliest last modified time of the cases (UTC), used for the first page only
+     * @param cursor         position of the last case of the previous page, null for the first page
+     * @param modifiedBefore time in milliseconds since the epoch (UTC) before which the cases were last modified
+     * @return the string value of the elastic search query
+     */
+    public static String buildLastModifiedCasesPage(int pageSize, LocalDateTime since,
+                                                    LastModifiedCasesCursor cursor, long modifiedBefore) {
+        // search_after skips the cases before the cursor, the range lets each shard skip them cheaply
+        long from = cursor == null ? since.toInstant(ZoneOffset.UTC).toEpochMilli() : cursor.lastModified();
+        StringBuilder query = new StringBuilder(384)
+            .append("{\"size\":").append(pageSize)
+            .append(",\"query\":{\"bool\":{\"filter\":[{\"range\":{\"").append(FIELD_NAME_LAST_MODIFIED)
+            .append("\":{\"gte\":").append(from).append(",\"lt\":").append(modifiedBefore)
+            .append(",\"format\":\"epoch_millis\"}}}],\"must_not\":[{\"term\":{\"data.migratedFromEcm\":\"Yes\"}}]}}")
+            .append(",\"sort\":[{\"").append(FIELD_NAME_LAST_MODIFIED).append("\":\"asc\"},{\"")
+            .append(FIELD_NAME_SUBMISSION_REFERENCE).append("\":\"asc\"}]");
+        if (cursor != null) {
+            query.append(",\"search_after\":[").append(cursor.lastModified())
+                .append(",\"").append(cursor.reference()).append("\"]");
+        }
+        return query.append(",\"_source\":[\"reference\",\"").append(FIELD_NAME_LAST_MODIFIED).append("\"]}")
+            .toString();
+    }
 }
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.et.syaapi.search;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the feed of cases modified since a point in time. The feed lists the cases of every case type ordered
+ * by when they were last modified and then by case reference, so the position is the last modified time and the
+ * reference of the last case returned.
+ * Clients only see the cursor as an opaque token produced by {@link #encode()}.
+ *
+ * @param lastModified last modified time of the last case returned, in milliseconds since the epoch (UTC)
+ * @param reference    reference of the last case returned
+ */
+public record LastModifiedCasesCursor(long lastModified, long reference) {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Encodes the cursor as an opaque, URL safe token.
+     * @return the token to return to the client
+     */
+    public String encode() {
+        String value = lastModified + SEPARATOR + reference;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * @param token the token sent by the client
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static LastModifiedCasesCursor decode(String token) {
+        String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String lastModified = StringUtils.substringBefore(value, SEPARATOR);
+        String reference = StringUtils.substringAfter(value, SEPARATOR);
+        if (!StringUtils.isNumeric(lastModified) || !StringUtils.isNumeric(reference)) {
+            throw new IllegalArgumentException("Invalid last modified cases cursor");
+        }
+        return new LastModifiedCasesCursor(Long.parseLong(lastModified), Long.parseLong(reference));
+    }
+}
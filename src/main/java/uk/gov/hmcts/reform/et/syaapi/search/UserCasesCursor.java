@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.et.syaapi.search;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a page in the paginated list of user cases. The list covers each case type in turn, so the position is
+ * the case type being listed and the id of the last case returned from it.
+ * Clients only see the cursor as an opaque token produced by {@link #encode()}.
+ *
+ * @param caseTypeId        case type of the next page
+ * @param searchAfterCaseId id of the last case returned from that case type, null to start from its first case
+ */
+public record UserCasesCursor(String caseTypeId, Long searchAfterCaseId) {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Encodes the cursor as an opaque, URL safe token.
+     * @return the token to return to the client
+     */
+    public String encode() {
+        String value = caseTypeId + SEPARATOR + (searchAfterCaseId == null ? "" : searchAfterCaseId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * @param token the token sent by the client
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static UserCasesCursor decode(String token) {
+        String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String caseTypeId = StringUtils.substringBefore(value, SEPARATOR);
+        String searchAfterCaseId = StringUtils.substringAfter(value, SEPARATOR);
+        if (StringUtils.isBlank(caseTypeId) || !value.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("Invalid user cases cursor");
+        }
+        return new UserCasesCursor(caseTypeId,
+                                   searchAfterCaseId.isEmpty() ? null : Long.valueOf(searchAfterCaseId));
+    }
+}
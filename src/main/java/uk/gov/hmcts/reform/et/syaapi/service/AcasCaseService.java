@@ -1,11 +1,10 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.DocumentTypeItem;
@@ -20,16 +19,23 @@ import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.et.syaapi.helper.CaseDetailsConverter;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocument;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocumentAcasResponse;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.et.syaapi.models.LastModifiedCasesPage;
+import uk.gov.hmcts.reform.et.syaapi.search.ElasticSearchQueryBuilder;
+import uk.gov.hmcts.reform.et.syaapi.search.LastModifiedCasesCursor;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Stream;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
@@ -57,9 +63,21 @@ public class AcasCaseService {
     private final AuthTokenGenerator authTokenGenerator;
     private final CoreCaseDataApi ccdApiClient;
     private final AdminUserService adminUserService;
-    private final IdamClient idamClient;
+    private final UserInfoService userInfoService;
     private final CaseDocumentService caseDocumentService;
-    private final TaskExecutor taskExecutor;
+    private final CaseDocumentMetadataService caseDocumentMetadataService;
+    private final CaseTypeSearchService caseTypeSearchService;
+    private final CaseDetailsConverter caseDetailsConverter;
+    private final CaseSearchStreamer caseSearchStreamer;
+
+    @Value("${acas.last_modified_cases.page_size:500}")
+    private int lastModifiedCasesPageSize;
+
+    @Value("${acas.last_modified_cases.indexing_lag:60000}")
+    private long lastModifiedCasesIndexingLag;
+
+    @Value("${acas.case_data.max_batch_size:100}")
+    private int caseDataMaxBatchSize;
 
     /**
      * Given a datetime, this method will return a list of caseIds which have been modified since the datetime
@@ -105,7 +123,66 @@ public class AcasCaseService {
     }
 
     /**
-     * Given a caseId, return a list of document IDs which are visible to ACAS.
+     * Returns a page of the feed of cases modified since the datetime provided, across both case types. Unlike
+     * {@link #getLastModifiedCasesId(String, LocalDateTime)}, each poll continues from the cursor returned by the
+     * previous one rather than reading the whole window again, and no case is missed however many were modified.
+     * The number of cases in a page is set by {@code acas.last_modified_cases.page_size}.
+     *
+     * <p>
+     * CCD indexes cases into Elasticsearch asynchronously, so a case can become searchable after cases modified later
+     * than it. The feed therefore only lists cases modified more than {@code acas.last_modified_cases.indexing_lag}
+     * milliseconds ago, and the cursor never moves past that point: a case is only missed if it takes longer than
+     * the lag to be indexed. In exchange, a case appears in the feed at least that long after it was modified.
+     * </p>
+     *
+     * @param authorisation   used for IDAM authentication for the query
+     * @param requestDateTime earliest modification time of the cases, used when there is no cursor
+     * @param cursor          position to continue the feed from, null to start from the datetime provided
+     * @return the page of case ids, with the cursor to continue from
+     */
+    public LastModifiedCasesPage getLastModifiedCasesPage(String authorisation, LocalDateTime requestDateTime,
+                                                          LastModifiedCasesCursor cursor) {
+        long modifiedBefore = System.currentTimeMillis() - lastModifiedCasesIndexingLag;
+        String query = ElasticSearchQueryBuilder.buildLastModifiedCasesPage(
+            lastModifiedCasesPageSize, requestDateTime, cursor, modifiedBefore);
+        Map<String, List<CaseDetails>> caseTypeCases = caseTypeSearchService.searchEach(
+            List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE),
+            caseTypeId -> searchCaseType(authorisation, caseTypeId, query));
+
+        // each case type is sorted in the same order, so merging them and keeping the first page keeps the order
+        boolean hasMore = false;
+        List<CaseDetails> cases = new ArrayList<>();
+        for (List<CaseDetails> caseDetailsList : caseTypeCases.values()) {
+            hasMore |= caseDetailsList.size() >= lastModifiedCasesPageSize;
+            cases.addAll(caseDetailsList);
+        }
+        cases.sort(Comparator.comparing(AcasCaseService::lastModifiedMillis).thenComparing(CaseDetails::getId));
+        if (cases.size() > lastModifiedCasesPageSize) {
+            hasMore = true;
+            cases = cases.subList(0, lastModifiedCasesPageSize);
+        }
+
+        LastModifiedCasesCursor nextCursor = cases.isEmpty()
+            ? cursor
+            : new LastModifiedCasesCursor(lastModifiedMillis(cases.getLast()), cases.getLast().getId());
+        return LastModifiedCasesPage.builder()
+            .caseIds(cases.stream().map(CaseDetails::getId).toList())
+            .cursor(nextCursor == null ? null : nextCursor.encode())
+            .hasMore(hasMore)
+            .build();
+    }
+
+    private static long lastModifiedMillis(CaseDetails caseDetails) {
+        // CCD records last modified times in UTC, to the millisecond in Elasticsearch
+        return caseDetails.getLastModified() == null
+            ? 0
+            : caseDetails.getLastModified().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Given a caseId, return a list of document IDs which are visible to ACAS. The modified date of each document is
+     * read through {@link CaseDocumentMetadataService}, so it may be out of date by up to its cache TTL, a few seconds
+     * by default.
      *
      * @param caseId 16 digit CCD id
      * @return a MultiValuedMap containing a list of document ids and timestamps
@@ -137,41 +214,40 @@ public class AcasCaseService {
         String authorisation = adminUserService.getAdminUserToken();
         List<CaseData> caseDataList = searchAndReturnCaseDataList(authorisation, query);
 
-        List<CaseDocumentAcasResponse> documents = new ArrayList<>();
-
-        caseDataList.stream()
-            .map(caseData -> getAllCaseDocuments(authorisation, documents, caseData))
-            .forEach(documentTypeItemList -> addDocumentsToMap(authorisation, documents, documentTypeItemList));
+        // every document is listed first so that the details of each distinct document are fetched once, together
+        List<AcasDocument> acasDocuments = new ArrayList<>();
+        Set<UUID> documentIds = new HashSet<>();
+        for (CaseData caseData : caseDataList) {
+            addRespondentDocuments(acasDocuments, documentIds, caseData);
+            addCaseDocuments(acasDocuments, documentIds, caseData);
+        }
+        Map<UUID, CaseDocument> documentDetails =
+            caseDocumentMetadataService.getDocumentDetails(authorisation, documentIds);
 
+        List<CaseDocumentAcasResponse> documents = new ArrayList<>(acasDocuments.size());
+        for (AcasDocument acasDocument : acasDocuments) {
+            documents.add(caseDocumentAcasResponseBuilder(acasDocument, documentDetails));
+        }
         return documents;
     }
 
-    private void addDocumentsToMap(String authorisation, List<CaseDocumentAcasResponse> documents,
-                                   List<DocumentTypeItem> documentTypeItemList) {
-        documentTypeItemList.stream()
-            .filter(documentTypeItem -> !isDuplicatedDoc(documents, documentTypeItem))
-            .forEach(documentTypeItem -> documents.add(caseDocumentAcasResponseBuilder(
-                documentTypeItem,
-                authorisation,
-                null
-            )));
-    }
+    private void addRespondentDocuments(List<AcasDocument> acasDocuments, Set<UUID> documentIds, CaseData caseData) {
+        if (CollectionUtils.isEmpty(caseData.getRespondentCollection())) {
+            return;
+        }
 
-    private boolean isDuplicatedDoc(List<CaseDocumentAcasResponse> documents, DocumentTypeItem documentTypeItem) {
-        String documentUrl = documentTypeItem.getValue().getUploadedDocument().getDocumentUrl();
-        UUID uuid = caseDocumentService.getDocumentUuid(documentUrl);
-        if (uuid == null) {
-            return false;
+        for (RespondentSumTypeItem respondent : caseData.getRespondentCollection()) {
+            for (DocumentTypeItem documentTypeItem : getSingleRespondentDocs(respondent)) {
+                AcasDocument acasDocument = acasDocument(documentTypeItem, respondent.getId());
+                if (acasDocument.documentId() != null) {
+                    documentIds.add(acasDocument.documentId());
+                }
+                acasDocuments.add(acasDocument);
+            }
         }
-        return documents.stream()
-            .anyMatch(caseDocumentAcasResponse -> uuid.toString()
-            .equals(defaultIfEmpty(caseDocumentAcasResponse.getDocumentId(), "")));
     }
 
-    private List<DocumentTypeItem> getAllCaseDocuments(String authorisation, List<CaseDocumentAcasResponse> documents,
-                                                       CaseData caseData) {
-        retrieveRespondentDocuments(authorisation, documents, caseData);
-
+    private void addCaseDocuments(List<AcasDocument> acasDocuments, Set<UUID> documentIds, CaseData caseData) {
         List<DocumentTypeItem> documentTypeItemList = new ArrayList<>(getDocumentCollectionDocs(caseData));
 
         if (caseData.getClaimantRequests() != null
@@ -180,7 +256,14 @@ public class AcasCaseService {
                 ET1_ATTACHMENT, caseData.getClaimantRequests().getClaimDescriptionDocument()
             ));
         }
-        return documentTypeItemList;
+
+        for (DocumentTypeItem documentTypeItem : documentTypeItemList) {
+            AcasDocument acasDocument = acasDocument(documentTypeItem, null);
+            // documents already listed, including those of the respondents, are skipped
+            if (acasDocument.documentId() == null || documentIds.add(acasDocument.documentId())) {
+                acasDocuments.add(acasDocument);
+            }
+        }
     }
 
     private static List<DocumentTypeItem> getDocumentCollectionDocs(CaseData caseData) {
@@ -193,21 +276,6 @@ public class AcasCaseService {
             .toList();
     }
 
-    private void retrieveRespondentDocuments(String authorisation, List<CaseDocumentAcasResponse> documents,
-                                             CaseData caseData) {
-        if (CollectionUtils.isEmpty(caseData.getRespondentCollection())) {
-            return;
-        }
-
-        caseData.getRespondentCollection().forEach(respondent -> {
-            List<DocumentTypeItem> respondentDocs = getSingleRespondentDocs(respondent);
-            respondentDocs.stream()
-                .map(documentTypeItem ->
-                         caseDocumentAcasResponseBuilder(documentTypeItem, authorisation, respondent.getId()))
-                .forEach(documents::add);
-        });
-    }
-
     private static String getDocumentType(DocumentTypeItem documentTypeItem) {
         return defaultIfEmpty(documentTypeItem.getValue().getDocumentType(),
                               defaultIfEmpty(documentTypeItem.getValue().getTypeOfDocument(), ""));
@@ -234,53 +302,82 @@ public class AcasCaseService {
         return respondentDocs;
     }
 
-    private CaseDocumentAcasResponse caseDocumentAcasResponseBuilder(DocumentTypeItem documentTypeItem,
-                                                                     String authorisation, String respondent) {
-
+    private AcasDocument acasDocument(DocumentTypeItem documentTypeItem, String respondent) {
         UUID uuid = caseDocumentService.getDocumentUuid(documentTypeItem.getValue()
                                                             .getUploadedDocument().getDocumentUrl());
+        return new AcasDocument(documentTypeItem, uuid, respondent);
+    }
 
-        if (uuid == null) {
+    private static CaseDocumentAcasResponse caseDocumentAcasResponseBuilder(AcasDocument acasDocument,
+                                                                            Map<UUID, CaseDocument> documentDetails) {
+        if (acasDocument.documentId() == null) {
             return CaseDocumentAcasResponse.builder().build();
         }
-        CaseDocument caseDocument = caseDocumentService.getDocumentDetails(authorisation, uuid).getBody();
+        CaseDocument caseDocument = documentDetails.get(acasDocument.documentId());
         return CaseDocumentAcasResponse.builder()
-            .documentType(getDocumentType(documentTypeItem))
-            .documentId(uuid.toString())
+            .documentType(getDocumentType(acasDocument.documentTypeItem()))
+            .documentId(acasDocument.documentId().toString())
             .modifiedOn(caseDocument == null
                             ? "No date found"
                             : defaultIfEmpty(caseDocument.getModifiedOn(), "No date found"))
-            .respondent(respondent)
+            .respondent(acasDocument.respondent())
             .build();
     }
 
+    private record AcasDocument(DocumentTypeItem documentTypeItem, UUID documentId, String respondent) {
+    }
+
     /**
      * Given a list of caseIds, this method will return a list of case details.
      *
      * @param authorisation used for IDAM authentication for the query
      * @param caseIds       used as the query parameter
      * @return a list of case details
+     * @throws IllegalArgumentException if there are too many case ids, or a case id is not valid
      */
     public List<CaseDetails> getCaseData(String authorisation, List<String> caseIds) {
-        String query = """
-            {
-              "size": %d,
-              "query": {
-                "bool": {
-                  "filter": [
-                    {
-                      "terms": {
-                        "reference.keyword": %s,
-                        "boost": 1.0
-                      }
-                    }
-                  ],
-                  "boost": 1.0
-                }
-              }
-            }
-            """.formatted(MAX_ES_SIZE, caseIds);
-        return searchEnglandScotlandCases(authorisation, query);
+        return getCaseData(authorisation, caseIds, null);
+    }
+
+    /**
+     * Given a list of caseIds, this method will return a list of case details with only the case data fields given.
+     *
+     * @param authorisation used for IDAM authentication for the query
+     * @param caseIds       used as the query parameter
+     * @param fields        case data fields to return, null or empty to return the whole case data
+     * @return a list of case details
+     * @throws IllegalArgumentException if there are too many case ids, or a case id or field is not valid
+     */
+    public List<CaseDetails> getCaseData(String authorisation, List<String> caseIds, List<String> fields) {
+        checkCaseDataBatchSize(caseIds);
+        return searchEnglandScotlandCases(authorisation, ElasticSearchQueryBuilder.buildByCaseReferences(
+            caseIds, fields));
+    }
+
+    /**
+     * Given a list of caseIds, this method will write the case details to the output as a JSON array one case at a
+     * time, as they are read from CCD, rather than holding every case in memory. The request is validated before
+     * anything is written, so that invalid requests can still be rejected.
+     *
+     * @param authorisation used for IDAM authentication for the query
+     * @param caseIds       used as the query parameter
+     * @param fields        case data fields to return, null or empty to return the whole case data
+     * @param output        stream the case details are written to
+     * @throws IllegalArgumentException if there are too many case ids, or a case id or field is not valid
+     * @throws IOException if the case details cannot be read or written
+     */
+    public void streamCaseData(String authorisation, List<String> caseIds, List<String> fields, OutputStream output)
+        throws IOException {
+        checkCaseDataBatchSize(caseIds);
+        String query = ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, fields);
+        caseSearchStreamer.writeCases(authorisation, List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE), query, output);
+    }
+
+    private void checkCaseDataBatchSize(List<String> caseIds) {
+        if (caseIds.size() > caseDataMaxBatchSize) {
+            throw new IllegalArgumentException(
+                "No more than " + caseDataMaxBatchSize + " case ids can be requested at once");
+        }
     }
 
     private List<CaseData> searchAndReturnCaseDataList(String authorisation, String query) {
@@ -300,20 +397,14 @@ public class AcasCaseService {
      * @return a list of case details that match the query from both England and Scotland case types
      */
     private List<CaseDetails> searchEnglandScotlandCases(String authorisation, String query) {
-        CompletableFuture<List<CaseDetails>> englandSearchFuture = CompletableFuture.supplyAsync(() ->
-                        searchCaseType(authorisation, ENGLAND_CASE_TYPE, query),
-                taskExecutor
-        );
-
-        CompletableFuture<List<CaseDetails>> scotlandSearchFuture = CompletableFuture.supplyAsync(() ->
-                        searchCaseType(authorisation, SCOTLAND_CASE_TYPE, query),
-                taskExecutor
-        );
-
-        return englandSearchFuture.thenCombine(scotlandSearchFuture,
-                (englandResults, scotlandResults) -> Stream.concat(englandResults.stream(), scotlandResults.stream())
-                .toList())
-                .join();
+        // ACAS relies on seeing every matching case, so partial results are not accepted here
+        return caseTypeSearchService.searchEach(
+                List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE),
+                caseTypeId -> searchCaseType(authorisation, caseTypeId, query))
+            .values()
+            .stream()
+            .flatMap(List::stream)
+            .toList();
     }
 
     private List<CaseDetails> searchCaseType(String authorisation, String caseTypeId, String query) {
@@ -344,7 +435,6 @@ public class AcasCaseService {
         StartEventResponse startEventResponse = startCaseUpdate(caseId, authorization, caseTypeId, "et1Vetting");
         CaseData caseData = convertCaseDataMapToCaseDataObject(startEventResponse.getCaseDetails().getData());
         setVettingData(caseData);
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(new ObjectMapper());
         submitCaseUpdate(caseId, authorization, caseTypeId, caseDetailsConverter, startEventResponse, caseData);
 
         startEventResponse = startCaseUpdate(caseId, authorization, caseTypeId, "preAcceptanceCase");
@@ -357,7 +447,7 @@ public class AcasCaseService {
                                          CaseDetailsConverter caseDetailsConverter,
                                          StartEventResponse startEventResponse, CaseData caseData) {
         String s2sToken = authTokenGenerator.generate();
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
         return ccdApiClient.submitEventForCaseWorker(
             authorization,
             s2sToken,
@@ -373,7 +463,7 @@ public class AcasCaseService {
     private StartEventResponse startCaseUpdate(String caseId, String authorization, String caseTypeId,
                                                String eventId) {
         String s2sToken = authTokenGenerator.generate();
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
         return ccdApiClient.startEventForCaseWorker(
             authorization,
             s2sToken,
@@ -0,0 +1,277 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.et.syaapi.models.AcasCertificate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounded cache of the ACAS certificates fetched by {@link AcasService}, keyed by the certificate number trimmed and in
+ * upper case.
+ *
+ * <p>
+ * Certificates found by ACAS are held for the configured TTL. Certificates ACAS did not find, whether returned with a
+ * {@code not found} document or missing from the response, are held for a shorter time so that a certificate issued
+ * shortly after a failed lookup is picked up. The numbers of one lookup that are not cached are fetched from ACAS
+ * together in a single request, and a number already being fetched for another request is waited for rather than
+ * fetched again, for at most the configured time. Failed fetches are not cached, and requests waiting for a fetch
+ * that fails, for any reason, fail with it.
+ * </p>
+ *
+ * <p>
+ * Certificate documents are Base64 encoded PDFs, so the cache is bounded by the size of the documents held as well as
+ * by their number: each entry weighs the length of its document plus an equal share of the byte limit, which keeps
+ * both the number of entries and the bytes of documents held within their limits.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>acas.certificate-cache.max-size</b>: Maximum number of certificates held.</li>
+ *   <li><b>acas.certificate-cache.max-bytes</b>: Maximum number of bytes of certificate documents held.</li>
+ *   <li><b>acas.certificate-cache.ttl</b>: Time in milliseconds a found certificate is held.</li>
+ *   <li><b>acas.certificate-cache.not-found-ttl</b>: Time in milliseconds a certificate ACAS did not find is held.</li>
+ *   <li><b>acas.certificate-cache.await-timeout</b>: Time in milliseconds a request waits for a certificate being
+ *   fetched for another request.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * Hit, miss, size and eviction counts are published under the {@code acasCertificates} and
+ * {@code acasCertificatesNotFound} cache names.
+ */
+@Slf4j
+@Component
+public class AcasCertificateCache {
+
+    static final String CACHE_NAME = "acasCertificates";
+    static final String NOT_FOUND_CACHE_NAME = "acasCertificatesNotFound";
+    static final String NOT_FOUND_DOCUMENT = "not found";
+    // held for a number missing from the response of ACAS
+    private static final AcasCertificate MISSING = new AcasCertificate();
+
+    private final Cache<String, AcasCertificate> certificates;
+    private final Cache<String, AcasCertificate> notFound;
+    private final ConcurrentMap<String, CompletableFuture<AcasCertificate>> inFlight = new ConcurrentHashMap<>();
+    private final long awaitTimeoutMillis;
+
+    /**
+     * Fetches certificates from ACAS.
+     */
+    @FunctionalInterface
+    public interface CertificateFetcher {
+
+        /**
+         * Fetches the certificates of the given numbers in a single request.
+         *
+         * @param acasNumbers the certificate numbers
+         * @return the certificates returned by ACAS
+         * @throws AcasException if a problem occurs obtaining the certificates
+         */
+        List<AcasCertificate> fetch(String... acasNumbers) throws AcasException;
+    }
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param meterRegistry     registry the cache statistics are published to
+     * @param maxSize           maximum number of certificates held
+     * @param maxBytes          maximum number of bytes of certificate documents held
+     * @param ttlMillis         time in milliseconds a found certificate is held
+     * @param notFoundTtlMillis  time in milliseconds a certificate ACAS did not find is held
+     * @param awaitTimeoutMillis time in milliseconds a request waits for a certificate fetched for another request
+     */
+    public AcasCertificateCache(MeterRegistry meterRegistry,
+                                @Value("${acas.certificate-cache.max-size:1000}") long maxSize,
+                                @Value("${acas.certificate-cache.max-bytes:67108864}") long maxBytes,
+                                @Value("${acas.certificate-cache.ttl:3600000}") long ttlMillis,
+                                @Value("${acas.certificate-cache.not-found-ttl:300000}") long notFoundTtlMillis,
+                                @Value("${acas.certificate-cache.await-timeout:120000}") long awaitTimeoutMillis) {
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        int entryWeight = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxBytes / Math.max(1, maxSize)));
+        this.certificates = CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .<String, AcasCertificate>weigher((number, certificate) -> (int) Math.min(
+                Integer.MAX_VALUE, (long) entryWeight + documentLength(certificate)))
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        this.notFound = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(notFoundTtlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, certificates, CACHE_NAME);
+        GuavaCacheMetrics.monitor(meterRegistry, notFound, NOT_FOUND_CACHE_NAME);
+    }
+
+    /**
+     * Gets the certificates of the given numbers, fetching those that are neither cached nor already being fetched in
+     * a single call to the fetcher. A certificate is returned for each number found, in the order of the numbers, and
+     * certificates returned by ACAS that do not match a requested number are returned after them, uncached.
+     *
+     * @param fetcher     fetches certificates that are not cached from ACAS
+     * @param acasNumbers the certificate numbers
+     * @return the certificates of the numbers
+     * @throws AcasException if a problem occurs obtaining the certificates
+     */
+    public List<AcasCertificate> getCertificates(CertificateFetcher fetcher, String... acasNumbers)
+        throws AcasException {
+        Map<String, AcasCertificate> resolved = new HashMap<>();
+        Map<String, CompletableFuture<AcasCertificate>> awaited = new LinkedHashMap<>();
+        Map<String, String> ownedNumbers = new LinkedHashMap<>();
+        Map<String, CompletableFuture<AcasCertificate>> owned = new LinkedHashMap<>();
+        for (String number : acasNumbers) {
+            String key = normalise(number);
+            if (resolved.containsKey(key) || awaited.containsKey(key) || owned.containsKey(key)) {
+                continue;
+            }
+            AcasCertificate cached = lookup(key);
+            if (cached != null) {
+                resolved.put(key, cached);
+                continue;
+            }
+            CompletableFuture<AcasCertificate> future = new CompletableFuture<>();
+            CompletableFuture<AcasCertificate> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                awaited.put(key, existing);
+                continue;
+            }
+            // the number may have been cached by a fetch that finished after the lookup above
+            cached = lookup(key);
+            if (cached != null) {
+                inFlight.remove(key, future);
+                future.complete(cached);
+                resolved.put(key, cached);
+                continue;
+            }
+            ownedNumbers.put(key, number);
+            owned.put(key, future);
+        }
+
+        List<AcasCertificate> unmatched = owned.isEmpty()
+            ? List.of()
+            : fetch(fetcher, ownedNumbers, owned, resolved);
+        for (Map.Entry<String, CompletableFuture<AcasCertificate>> entry : awaited.entrySet()) {
+            resolved.put(entry.getKey(), await(entry.getKey(), entry.getValue()));
+        }
+
+        List<AcasCertificate> result = new ArrayList<>();
+        for (String number : acasNumbers) {
+            AcasCertificate certificate = resolved.get(normalise(number));
+            if (certificate != MISSING) {
+                result.add(certificate);
+            }
+        }
+        result.addAll(unmatched);
+        return result;
+    }
+
+    private List<AcasCertificate> fetch(CertificateFetcher fetcher, Map<String, String> ownedNumbers,
+                                        Map<String, CompletableFuture<AcasCertificate>> owned,
+                                        Map<String, AcasCertificate> resolved) throws AcasException {
+        try {
+            return resolve(fetcher.fetch(ownedNumbers.values().toArray(new String[0])), owned, resolved);
+        } catch (AcasException | RuntimeException e) {
+            release(owned, e);
+            throw e;
+        } finally {
+            // an error, such as running out of memory, must not leave requests waiting for these numbers forever
+            release(owned, new IllegalStateException("Fetch of ACAS certificates did not complete"));
+        }
+    }
+
+    private List<AcasCertificate> resolve(List<AcasCertificate> fetched,
+                                          Map<String, CompletableFuture<AcasCertificate>> owned,
+                                          Map<String, AcasCertificate> resolved) {
+        Map<String, AcasCertificate> byNumber = new HashMap<>();
+        List<AcasCertificate> unmatched = new ArrayList<>();
+        for (AcasCertificate certificate : fetched == null ? List.<AcasCertificate>of() : fetched) {
+            String key = certificate.getCertificateNumber() == null
+                ? null
+                : normalise(certificate.getCertificateNumber());
+            if (key != null && owned.containsKey(key) && !byNumber.containsKey(key)) {
+                byNumber.put(key, certificate);
+            } else {
+                unmatched.add(certificate);
+            }
+        }
+        if (!unmatched.isEmpty()) {
+            log.warn("ACAS returned {} certificates that do not match a requested number", unmatched.size());
+        }
+
+        owned.forEach((key, future) -> {
+            AcasCertificate certificate = byNumber.getOrDefault(key, MISSING);
+            // a missing certificate may be one of the unmatched ones, so it is only cached when all are accounted for
+            if (certificate != MISSING || unmatched.isEmpty()) {
+                store(key, certificate);
+            }
+            resolved.put(key, certificate);
+            inFlight.remove(key, future);
+            future.complete(certificate);
+        });
+        return unmatched;
+    }
+
+    private void release(Map<String, CompletableFuture<AcasCertificate>> owned, Throwable failure) {
+        owned.forEach((key, future) -> {
+            inFlight.remove(key, future);
+            future.completeExceptionally(failure);
+        });
+    }
+
+    private AcasCertificate lookup(String key) {
+        AcasCertificate certificate = certificates.getIfPresent(key);
+        return certificate == null ? notFound.getIfPresent(key) : certificate;
+    }
+
+    private void store(String key, AcasCertificate certificate) {
+        if (certificate == MISSING || NOT_FOUND_DOCUMENT.equals(certificate.getCertificateDocument())) {
+            notFound.put(key, certificate);
+        } else {
+            certificates.put(key, certificate);
+        }
+    }
+
+    private AcasCertificate await(String key, CompletableFuture<AcasCertificate> future) throws AcasException {
+        try {
+            return future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AcasException acasException) {
+                throw new AcasException(acasException.getMessage(), acasException);
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new AcasException("Timed out waiting for ACAS certificate " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AcasException("Interrupted waiting for ACAS certificate " + key, e);
+        }
+    }
+
+    private static int documentLength(AcasCertificate certificate) {
+        return certificate.getCertificateDocument() == null ? 0 : certificate.getCertificateDocument().length();
+    }
+
+    private static String normalise(String acasNumber) {
+        return acasNumber.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.utils.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,11 +10,14 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+import uk.gov.hmcts.reform.et.syaapi.helper.IdentifierParser;
 import uk.gov.hmcts.reform.et.syaapi.models.AcasCertificate;
 import uk.gov.hmcts.reform.et.syaapi.models.AcasCertificateRequest;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.GenericServiceUtil;
@@ -20,8 +25,6 @@ import uk.gov.hmcts.reform.et.syaapi.service.utils.GenericServiceUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Pattern;
 
 /**
  * This provides services to access the ACAS external service for retrieving ACAS Certificate's held in {@link
@@ -32,23 +35,37 @@ import java.util.regex.Pattern;
 public class AcasService {
 
     public static final String OCP_APIM_SUBSCRIPTION_KEY = "Ocp-Apim-Subscription-Key";
+    /**
+     * The format of a valid ACAS number, checked by {@link IdentifierParser#isValidAcasNumber(String)}.
+     */
     public static final String VALID_ACAS_NUMBER_REGEX = "\\A[a-zA-Z]{1,2}\\d{6}/\\d{2}/\\d{2}\\z";
     public static final int MAX_ACAS_RETRIES = 5;
     private final RestTemplate restTemplate;
+    private final ResilienceService resilienceService;
+    private final AcasCertificateCache certificateCache;
+    private final RetryTemplate retryTemplate;
     private final String acasApiUrl;
     private final String acasApiKey;
 
     /**
      * Constructs an {@link AcasService} instance with the RestTemplate to use for talking with the ACAS service.
      *
-     * @param restTemplate the RestTemplate to use for talking with the ACAS service
-     * @param acasApiUrl   the URL to access the ACAS API
-     * @param acasApiKey   the OCP APIM Subscription Key used in the header to authenticate when contacting ACAS
+     * @param restTemplate      the RestTemplate to use for talking with the ACAS service
+     * @param resilienceService the service guarding calls to ACAS and providing the retry policy
+     * @param certificateCache  the cache of certificates already fetched from ACAS
+     * @param acasApiUrl        the URL to access the ACAS API
+     * @param acasApiKey        the OCP APIM Subscription Key used in the header to authenticate when contacting ACAS
      */
     public AcasService(RestTemplate restTemplate,
+                       ResilienceService resilienceService,
+                       AcasCertificateCache certificateCache,
                        @Value("${acas.api.url}") String acasApiUrl,
                        @Value("${acas.api.key}") String acasApiKey) {
         this.restTemplate = restTemplate;
+        this.resilienceService = resilienceService;
+        this.certificateCache = certificateCache;
+        this.retryTemplate = resilienceService.retryTemplate(MAX_ACAS_RETRIES + 1,
+                                                             List.of(RestClientResponseException.class));
         this.acasApiUrl = acasApiUrl;
         this.acasApiKey = acasApiKey;
     }
@@ -57,9 +74,10 @@ public class AcasService {
      * This will call upon ACAS with a set of ACAS case numbers to retrieve their associated certificates. Validation of
      * the ACAS numbers is first applied and may result in an {@link InvalidAcasNumbersException} being thrown should
      * there be any problems found. If all ACAS numbers are valid, then the service will attempt to retrieve a list of
-     * available {@link AcasCertificate}'s associated to the ACAS numbers provided. The service will retry up to 5 times
-     * to retrieve them if the call results in an error before then throwing an {@link AcasException} with the
-     * associated cause.
+     * available {@link AcasCertificate}'s associated to the ACAS numbers provided. The service will retry up to 5
+     * times, backing off between attempts, to retrieve them if the call results in an error before then throwing an
+     * {@link AcasException} with the associated cause. Certificates are held in the {@link AcasCertificateCache}, so
+     * only numbers that are not cached are requested from ACAS, each of them once.
      *
      * @param acasNumbers are the ACAS numbers we are seeking Certificates for
      * @return a List of {@link AcasCertificate}'s associated to the provided acasNumbers that are available at ACAS
@@ -71,25 +89,29 @@ public class AcasService {
         List<AcasCertificate> acasCertificates = new ArrayList<>();
         if (acasNumbers != null && acasNumbers.length > 0) {
             validateAcasNumbers(acasNumbers);
-            acasCertificates = attemptWithRetriesToFetchAcasCertificates(0, acasNumbers);
+            acasCertificates = certificateCache.getCertificates(this::attemptWithRetriesToFetchAcasCertificates,
+                                                                acasNumbers);
         }
         return acasCertificates;
     }
 
-    private List<AcasCertificate> attemptWithRetriesToFetchAcasCertificates(int attempts, String... acasNumbers)
+    private List<AcasCertificate> attemptWithRetriesToFetchAcasCertificates(String... acasNumbers)
         throws AcasException {
         try {
-            return fetchAcasCertificates(acasNumbers).getBody();
+            return retryTemplate.execute(context -> resilienceService.call(
+                Downstream.ACAS, () -> fetchAcasCertificates(acasNumbers).getBody()));
         } catch (RestClientResponseException e) {
-            if (attempts < MAX_ACAS_RETRIES) {
-                return attemptWithRetriesToFetchAcasCertificates(attempts + 1, acasNumbers);
-            }
             log.info("AcasCertificates retrieval for AcasNumbers: {} has failed after {} attempts with "
                          + "the exception: {}",
                      acasNumbers,
-                     attempts,
+                     MAX_ACAS_RETRIES + 1,
                      e);
             throw new AcasException("Failed to obtain certificates for acas numbers" + Arrays.toString(acasNumbers), e);
+        } catch (BulkheadFullException | CallNotPermittedException e) {
+            log.info("AcasCertificates retrieval for AcasNumbers: {} was not attempted as ACAS is unavailable: {}",
+                     acasNumbers,
+                     e.getMessage());
+            throw new AcasException("Failed to obtain certificates for acas numbers" + Arrays.toString(acasNumbers), e);
         }
     }
 
@@ -109,32 +131,28 @@ public class AcasService {
     }
 
     private void validateAcasNumbers(String... acasNumbers) throws InvalidAcasNumbersException {
-        AtomicInteger index = new AtomicInteger(0);
-        StringBuilder nullValueError = new StringBuilder();
-        List<String> invalidAcasNumbers = new ArrayList<>();
-
-        Arrays.stream(acasNumbers).forEach(acasNumber -> validateAcasNumber(
-            acasNumber,
-            invalidAcasNumbers,
-            nullValueError,
-            index.getAndIncrement()
-        ));
-        if (!invalidAcasNumbers.isEmpty() || nullValueError.length() > 0) {
-            throw new InvalidAcasNumbersException(nullValueError.toString(), invalidAcasNumbers.toArray(new String[0]));
-        }
-    }
-
-    private void validateAcasNumber(String acasNumber, List<String> invalidAcasNumbers,
-                                    StringBuilder nullValue, int index) {
-        if (acasNumber == null) {
-            nullValue.append("[ACAS number at position #")
-                .append(index)
-                .append(" must not be null]");
-            return;
+        StringBuilder nullValueError = null;
+        List<String> invalidAcasNumbers = null;
+        for (int index = 0; index < acasNumbers.length; index++) {
+            String acasNumber = acasNumbers[index];
+            if (acasNumber == null) {
+                if (nullValueError == null) {
+                    nullValueError = new StringBuilder();
+                }
+                nullValueError.append("[ACAS number at position #")
+                    .append(index)
+                    .append(" must not be null]");
+            } else if (!IdentifierParser.isValidAcasNumber(acasNumber)) {
+                if (invalidAcasNumbers == null) {
+                    invalidAcasNumbers = new ArrayList<>();
+                }
+                invalidAcasNumbers.add(acasNumber);
+            }
         }
-        char lastChar = acasNumber.charAt(acasNumber.length() - 1);
-        if (!Pattern.compile(VALID_ACAS_NUMBER_REGEX).matcher(acasNumber).matches() || lastChar == '/') {
-            invalidAcasNumbers.add(acasNumber);
+        if (invalidAcasNumbers != null || nullValueError != null) {
+            throw new InvalidAcasNumbersException(
+                nullValueError == null ? "" : nullValueError.toString(),
+                invalidAcasNumbers == null ? new String[0] : invalidAcasNumbers.toArray(new String[0]));
         }
     }
 
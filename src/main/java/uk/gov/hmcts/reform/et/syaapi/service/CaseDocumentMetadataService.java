@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.et.syaapi.models.CaseDocument;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gets the details of several documents from the Case Document API at once, such as when ACAS lists the documents of
+ * a case.
+ *
+ * <p>
+ * The details of the documents that are not cached are fetched concurrently on a bounded executor, one request per
+ * document, and the result is returned once all of them have been fetched. When the executor is saturated the
+ * details are fetched on the calling thread instead. The details fetched are cached by document id for a few
+ * seconds, so that documents listed again by the next request are not fetched again. Details such as
+ * {@code modifiedOn} and {@code ttl} change while the content of a document does not, so the details returned may be
+ * out of date by up to the cache TTL. The cache is shared by every caller, so it must only be used with a token that
+ * may read every document, such as that of the admin user.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>case_document_metadata.concurrency</b>: Number of document details fetched at the same time.</li>
+ *   <li><b>case_document_metadata.queue-capacity</b>: Number of fetches that may wait for a free thread.</li>
+ *   <li><b>case_document_metadata.cache.max-size</b>: Maximum number of document details held.</li>
+ *   <li><b>case_document_metadata.cache.ttl</b>: Time in milliseconds the details of a document are held, which is
+ *   how out of date the details returned may be.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * Hit, miss, size and eviction counts are published under the {@code caseDocumentMetadata} cache name and executor
+ * utilisation under the {@code caseDocumentMetadata} executor name.
+ */
+@Slf4j
+@Service
+public class CaseDocumentMetadataService {
+
+    static final String METRICS_NAME = "caseDocumentMetadata";
+
+    private final CaseDocumentService caseDocumentService;
+    private final Cache<UUID, CaseDocument> documentDetails;
+    private final ExecutorService executor;
+
+    /**
+     * Creates the service with its own bounded executor and cache.
+     *
+     * @param caseDocumentService the service fetching the details of a document
+     * @param meterRegistry       registry that cache and executor metrics are published to
+     * @param concurrency         number of document details fetched at the same time
+     * @param queueCapacity       number of fetches that may wait for a free thread
+     * @param maxSize             maximum number of document details held
+     * @param ttlMillis           time in milliseconds the details of a document are held
+     */
+    public CaseDocumentMetadataService(CaseDocumentService caseDocumentService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${case_document_metadata.concurrency:8}") int concurrency,
+                                       @Value("${case_document_metadata.queue-capacity:256}") int queueCapacity,
+                                       @Value("${case_document_metadata.cache.max-size:10000}") long maxSize,
+                                       @Value("${case_document_metadata.cache.ttl:10000}") long ttlMillis) {
+        this.caseDocumentService = caseDocumentService;
+        this.documentDetails = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, documentDetails, METRICS_NAME);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("case-document-metadata-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+            concurrency, concurrency, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, METRICS_NAME);
+    }
+
+    /**
+     * Gets the details of the given documents, fetching those that are not cached concurrently.
+     *
+     * @param authorisation the token used to call the Case Document API
+     * @param documentIds   the ids of the documents
+     * @return the details of each document, by document id, without the documents the API returned no details for
+     * @throws RuntimeException the failure of the first document whose details could not be fetched, once every fetch
+     *                          has finished
+     */
+    public Map<UUID, CaseDocument> getDocumentDetails(String authorisation, Collection<UUID> documentIds) {
+        Map<UUID, CaseDocument> details = new HashMap<>();
+        Map<UUID, CompletableFuture<CaseDocument>> fetches = new LinkedHashMap<>();
+        for (UUID documentId : documentIds) {
+            CaseDocument cached = documentDetails.getIfPresent(documentId);
+            if (cached != null) {
+                details.put(documentId, cached);
+            } else if (!fetches.containsKey(documentId)) {
+                fetches.put(documentId, CompletableFuture.supplyAsync(
+                    () -> caseDocumentService.getDocumentDetails(authorisation, documentId).getBody(), executor));
+            }
+        }
+        if (fetches.isEmpty()) {
+            return details;
+        }
+
+        CompletableFuture.allOf(fetches.values().toArray(new CompletableFuture<?>[0]))
+            .exceptionally(failure -> null)
+            .join();
+        log.info("Fetched the details of {} documents, {} were cached", fetches.size(), details.size());
+        RuntimeException failure = null;
+        for (Map.Entry<UUID, CompletableFuture<CaseDocument>> fetch : fetches.entrySet()) {
+            try {
+                CaseDocument document = fetch.getValue().join();
+                if (document != null) {
+                    documentDetails.put(fetch.getKey(), document);
+                    details.put(fetch.getKey(), document);
+                }
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return details;
+    }
+
+    /**
+     * Stops the executor when the application shuts down.
+     */
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
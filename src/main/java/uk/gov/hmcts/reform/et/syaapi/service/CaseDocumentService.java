@@ -1,5 +1,11 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +16,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -26,24 +34,32 @@ import uk.gov.hmcts.et.common.model.ccd.types.DocumentType;
 import uk.gov.hmcts.et.common.model.ccd.types.UploadedDocumentType;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.et.syaapi.config.interceptors.ResourceNotFoundException;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+import uk.gov.hmcts.reform.et.syaapi.helper.IdentifierParser;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocument;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
-import static uk.gov.hmcts.ecm.common.model.helper.DocumentConstants.ACAS_CERTIFICATE;
-import static uk.gov.hmcts.ecm.common.model.helper.DocumentConstants.ET1;
+import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 import static uk.gov.hmcts.ecm.common.model.helper.DocumentConstants.TYPE_OF_DOCUMENT;
 import static uk.gov.hmcts.reform.ccd.client.model.Classification.PUBLIC;
-import static uk.gov.hmcts.reform.et.syaapi.constants.DocumentCategoryConstants.ACAS_DOC_CATEGORY;
-import static uk.gov.hmcts.reform.et.syaapi.constants.DocumentCategoryConstants.ET1_PDF_DOC_CATEGORY;
 import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.ET1_ATTACHMENT;
 import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.JURISDICTION_ID;
 import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.RESOURCE_NOT_FOUND;
@@ -56,42 +72,113 @@ import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.RESOURCE_NO
  * <ul>
  *     <li>CASE_DOCUMENT_AM_URL</li>
  *     <li>CASE_DOCUMENT_AM_MAX_RETRIES</li>
+ *     <li>CASE_DOCUMENT_AM_MAX_FILES_PER_REQUEST</li>
+ *     <li>CASE_DOCUMENT_AM_STREAMING_UPLOAD</li>
  * </ul>
+ * <p/>
+ * With streaming uploads enabled, the content of an uploaded file is read from the stream of the request part, or
+ * from the temporary file it was spooled to, while the request to the Case Document API is written, so that a large
+ * file is neither copied onto the heap nor copied again when the request is retried. Otherwise each file is read into
+ * memory before it is sent.
+ *
+ * <h2>Metrics</h2>
+ * The number of upload requests being sent is published in the {@code et.cdam.upload.in.flight} gauge, the bytes
+ * sent in the {@code et.cdam.upload.bytes} counter and the rate of each successful upload request, in bytes per
+ * second, in the {@code et.cdam.upload.throughput} summary.
  */
 @Slf4j
 @Service
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
 public class CaseDocumentService {
     private static final String SERVICE_AUTHORIZATION = "ServiceAuthorization";
-    private static final String DOCUMENT_UUID_REGEX_PATTERN =
-        "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
     private static final String FILE_NAME_REGEX_PATTERN =
         "^(?!\\.)[^\\|*\\?\\:<>\\/$\"]{1,150}$";
     private static final Pattern FILE_NAME_PATTERN = Pattern.compile(FILE_NAME_REGEX_PATTERN);
     private static final String UPLOAD_FILE_EXCEPTION_MESSAGE = "Document management failed uploading file: ";
+    private static final String UPLOAD_BATCH_EXCEPTION_MESSAGE =
+        "Document management returned %d documents for %d uploaded files";
     private static final String VALIDATE_FILE_EXCEPTION_MESSAGE = "File does not pass validation";
-    private final Integer maxApiRetries;
+    private static final int DOWNLOAD_CHUNK_SIZE = 64 * 1024;
+    static final String UPLOAD_IN_FLIGHT_GAUGE = "et.cdam.upload.in.flight";
+    static final String UPLOAD_BYTES_COUNTER = "et.cdam.upload.bytes";
+    static final String UPLOAD_THROUGHPUT_SUMMARY = "et.cdam.upload.throughput";
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+        "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+        "transfer-encoding", "upgrade");
     private final RestTemplate restTemplate;
+    private final ResilienceService resilienceService;
+    private final RetryTemplate retryTemplate;
     private final AuthTokenGenerator authTokenGenerator;
     private final String caseDocApiUrl;
+    private final int maxUploadAttempts;
+    private final int maxFilesPerRequest;
+    private final boolean streamingUpload;
+    private final AtomicInteger uploadsInFlight = new AtomicInteger();
+    private final Counter uploadBytes;
+    private final DistributionSummary uploadThroughput;
+
+    /**
+     * Result of uploading one file of a batch, either the uploaded document or the reason it was not uploaded.
+     *
+     * @param file     the file
+     * @param document the uploaded document, null if the upload failed
+     * @param error    the reason the upload failed, null if it succeeded
+     */
+    public record UploadResult(MultipartFile file, CaseDocument document, CaseDocumentException error) {
+
+        /**
+         * Returns whether the file was uploaded.
+         *
+         * @return true if the file was uploaded
+         */
+        public boolean isSuccessful() {
+            return error == null;
+        }
+    }
 
     /**
      * Default constructor with injected parameters.
      *
      * @param restTemplate       the {@link RestTemplate} to be used to connect with the Case Document API
+     * @param resilienceService  the service guarding calls to the Case Document API and providing the retry policy
      * @param authTokenGenerator the {@link AuthTokenGenerator} used to generate tokens for communicating with the
      *                           Case Document API
      * @param caseDocApiUrl      the URL to call the Case Document API
+     * @param maxApiRetries      the number of times a failed upload is retried
+     * @param meterRegistry      registry that upload metrics are published to
+     * @param maxFilesPerRequest the number of files sent in a single upload request of a batch
+     * @param streamingUpload    whether files are streamed into upload requests rather than read into memory
      */
     public CaseDocumentService(RestTemplate restTemplate,
+                               ResilienceService resilienceService,
                                AuthTokenGenerator authTokenGenerator,
+                               MeterRegistry meterRegistry,
                                @Value("${case_document_am.url}")
                                String caseDocApiUrl,
-                               @Value("${case_document_am.max_retries}") Integer maxApiRetries) {
+                               @Value("${case_document_am.max_retries}") Integer maxApiRetries,
+                               @Value("${case_document_am.max_files_per_request:10}") int maxFilesPerRequest,
+                               @Value("${case_document_am.streaming_upload:true}") boolean streamingUpload) {
         this.restTemplate = restTemplate;
+        this.resilienceService = resilienceService;
+        this.maxUploadAttempts = maxApiRetries + 1;
+        this.retryTemplate = resilienceService.retryTemplate(maxUploadAttempts,
+                                                             List.of(IOException.class, RestClientException.class));
         this.authTokenGenerator = authTokenGenerator;
         this.caseDocApiUrl = caseDocApiUrl;
-        this.maxApiRetries = maxApiRetries;
+        this.maxFilesPerRequest = Math.max(1, maxFilesPerRequest);
+        this.streamingUpload = streamingUpload;
+        Gauge.builder(UPLOAD_IN_FLIGHT_GAUGE, uploadsInFlight, AtomicInteger::get)
+            .description("Upload requests being sent to the Case Document API")
+            .register(meterRegistry);
+        this.uploadBytes = Counter.builder(UPLOAD_BYTES_COUNTER)
+            .baseUnit("bytes")
+            .description("Bytes of files sent to the Case Document API")
+            .register(meterRegistry);
+        this.uploadThroughput = DistributionSummary.builder(UPLOAD_THROUGHPUT_SUMMARY)
+            .baseUnit("bytes/s")
+            .description("Rate at which the files of an upload request were sent to the Case Document API")
+            .register(meterRegistry);
     }
 
     /**
@@ -106,13 +193,90 @@ public class CaseDocumentService {
      */
     public CaseDocument uploadDocument(String authToken, String caseTypeId, MultipartFile file)
         throws CaseDocumentException {
+        validateFile(file);
         DocumentUploadResponse response = attemptWithRetriesToUploadDocumentToCaseDocumentApi(
-            0, authToken, caseTypeId, file);
+            authToken, caseTypeId, List.of(file));
 
         return validateResponse(
             Objects.requireNonNull(response), file.getOriginalFilename());
     }
 
+    /**
+     * Uploads several files to the CCD document API, sending up to {@code case_document_am.max_files_per_request}
+     * files in each request. A request that fails, or whose response does not hold a document for each of its files,
+     * is retried as a whole, while the files of a successful request that the API returned an invalid document for
+     * are sent again on their own, so only failed files are retried.
+     *
+     * @param authToken  the caller's bearer token used to verify the caller
+     * @param caseTypeId the area the files belong to e.g. ET_EnglandWales
+     * @param files      the files to be uploaded
+     * @return the result of each upload, in the order of the files
+     */
+    public List<UploadResult> uploadDocuments(String authToken, String caseTypeId,
+                                              List<? extends MultipartFile> files) {
+        UploadResult[] results = new UploadResult[files.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            try {
+                validateFile(files.get(i));
+                valid.add(i);
+            } catch (CaseDocumentException e) {
+                results[i] = new UploadResult(files.get(i), null, e);
+            }
+        }
+        for (int from = 0; from < valid.size(); from += maxFilesPerRequest) {
+            uploadBatch(authToken, caseTypeId, files,
+                        valid.subList(from, Math.min(from + maxFilesPerRequest, valid.size())), results);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void uploadBatch(String authToken, String caseTypeId, List<? extends MultipartFile> files,
+                             List<Integer> batch, UploadResult[] results) {
+        List<Integer> remaining = batch;
+        for (int attempt = 1; !remaining.isEmpty(); attempt++) {
+            DocumentUploadResponse response;
+            try {
+                response = Objects.requireNonNull(attemptWithRetriesToUploadDocumentToCaseDocumentApi(
+                    authToken, caseTypeId, remaining.stream().<MultipartFile>map(files::get).toList()));
+            } catch (CaseDocumentException e) {
+                for (int index : remaining) {
+                    results[index] = new UploadResult(files.get(index), null, e);
+                }
+                return;
+            }
+            List<CaseDocument> documents = response.getDocuments();
+            List<Integer> failed = new ArrayList<>();
+            if (documents == null || documents.size() != remaining.size()) {
+                // documents cannot be matched to files when some are missing, so none of them is used
+                CaseDocumentException e = new CaseDocumentException(String.format(
+                    UPLOAD_BATCH_EXCEPTION_MESSAGE, documents == null ? 0 : documents.size(), remaining.size()));
+                for (int index : remaining) {
+                    results[index] = new UploadResult(files.get(index), null, e);
+                }
+                failed.addAll(remaining);
+            } else {
+                // the Case Document API returns the documents in the order the files were sent
+                for (int position = 0; position < remaining.size(); position++) {
+                    int index = remaining.get(position);
+                    MultipartFile file = files.get(index);
+                    try {
+                        results[index] = new UploadResult(
+                            file, validateDocument(documents.get(position), file.getOriginalFilename()), null);
+                    } catch (CaseDocumentException e) {
+                        results[index] = new UploadResult(file, null, e);
+                        failed.add(index);
+                    }
+                }
+            }
+            if (!failed.isEmpty() && attempt < maxUploadAttempts) {
+                log.warn("Case Document API failed {} of {} uploaded files, retrying them",
+                         failed.size(), remaining.size());
+            }
+            remaining = attempt < maxUploadAttempts ? failed : List.of();
+        }
+    }
+
     /**
      * Returns content in binary stream of the given document id.
      *
@@ -129,12 +293,12 @@ public class CaseDocumentService {
         HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(headers);
 
         try {
-            return restTemplate.exchange(
+            return resilienceService.call(Downstream.CDAM, () -> restTemplate.exchange(
                 caseDocApiUrl + "/cases/documents/" + documentId + "/binary",
                 HttpMethod.GET,
                 request,
                 ByteArrayResource.class
-            );
+            ));
         } catch (HttpClientErrorException ex) {
             if (NOT_FOUND.equals(ex.getStatusCode())) {
                 throw new ResourceNotFoundException(String.format(RESOURCE_NOT_FOUND,
@@ -146,6 +310,79 @@ public class CaseDocumentService {
 
     }
 
+    /**
+     * Streams the binary content of the given document id to the response, a chunk at a time, so that memory used by
+     * a download does not grow with the size of the document. The status and headers of the Case Document API
+     * response, such as {@code Content-Length}, {@code Content-Type} and {@code Content-Range}, are passed on, and a
+     * {@code Range} request header is forwarded so that part of a document can be downloaded.
+     *
+     * @param authToken  the caller's bearer token used to verify the caller
+     * @param documentId the id of the document
+     * @param range      the {@code Range} header of the request, null to download the whole document
+     * @param response   the response the document is written to
+     * @throws ResourceNotFoundException if the target API returns 404 response code
+     */
+    public void streamDocument(String authToken, UUID documentId, String range, ServerHttpResponse response) {
+        log.info("Called streamDocument");
+        try {
+            restTemplate.execute(
+                caseDocApiUrl + "/cases/documents/" + documentId + "/binary",
+                HttpMethod.GET,
+                request -> {
+                    HttpHeaders headers = request.getHeaders();
+                    headers.add(HttpHeaders.AUTHORIZATION, authToken);
+                    headers.add(SERVICE_AUTHORIZATION, authTokenGenerator.generate());
+                    if (range != null) {
+                        headers.set(HttpHeaders.RANGE, range);
+                    }
+                },
+                documentResponse -> {
+                    response.setStatusCode(documentResponse.getStatusCode());
+                    copyResponseHeaders(documentResponse.getHeaders(), response.getHeaders());
+                    copyInChunks(documentResponse.getBody(), response.getBody());
+                    response.flush();
+                    return null;
+                }
+            );
+        } catch (HttpClientErrorException ex) {
+            if (NOT_FOUND.equals(ex.getStatusCode())) {
+                throw new ResourceNotFoundException(String.format(RESOURCE_NOT_FOUND,
+                                                                  documentId, ex.getMessage()
+                ), ex);
+            }
+            if (!REQUESTED_RANGE_NOT_SATISFIABLE.equals(ex.getStatusCode())) {
+                throw ex;
+            }
+            response.setStatusCode(ex.getStatusCode());
+            if (ex.getResponseHeaders() != null) {
+                copyResponseHeaders(ex.getResponseHeaders(), response.getHeaders());
+            }
+            try {
+                // headers are only written to the servlet response when it is flushed
+                response.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write the range not satisfiable response", e);
+            }
+        }
+    }
+
+    private static void copyResponseHeaders(HttpHeaders from, HttpHeaders to) {
+        from.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                to.put(name, values);
+            }
+        });
+    }
+
+    private static void copyInChunks(InputStream in, OutputStream out) throws IOException {
+        byte[] chunk = new byte[DOWNLOAD_CHUNK_SIZE];
+        int read = in.read(chunk);
+        while (read != -1) {
+            out.write(chunk, 0, read);
+            read = in.read(chunk);
+        }
+    }
+
     /**
      * Returns document details of the given document id.
      *
@@ -160,12 +397,12 @@ public class CaseDocumentService {
         headers.add(SERVICE_AUTHORIZATION, authTokenGenerator.generate());
         HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(headers);
         try {
-            ResponseEntity<CaseDocument> response = restTemplate.exchange(
+            ResponseEntity<CaseDocument> response = resilienceService.call(Downstream.CDAM, () -> restTemplate.exchange(
                 caseDocApiUrl + "/cases/documents/" + documentId,
                 HttpMethod.GET,
                 request,
                 CaseDocument.class
-            );
+            ));
 
             return new ResponseEntity<>(response.getBody(), getResponseHeaders(), HttpStatus.OK);
         } catch (HttpClientErrorException ex) {
@@ -189,38 +426,45 @@ public class CaseDocumentService {
         return responseHeaders;
     }
 
-    private DocumentUploadResponse attemptWithRetriesToUploadDocumentToCaseDocumentApi(int attempts,
-                                                                                       String authToken,
+    private DocumentUploadResponse attemptWithRetriesToUploadDocumentToCaseDocumentApi(String authToken,
                                                                                        String caseTypeId,
-                                                                                       MultipartFile file)
+                                                                                       List<MultipartFile> files)
         throws CaseDocumentException {
         try {
-            return uploadDocumentToCaseDocumentApi(authToken, caseTypeId, file).getBody();
-        } catch (IOException | RestClientException e) {
-            if (attempts < maxApiRetries) {
-                return attemptWithRetriesToUploadDocumentToCaseDocumentApi(
-                    attempts + 1, authToken, caseTypeId, file);
-            }
+            return retryTemplate.execute(context -> resilienceService.call(
+                Downstream.CDAM, () -> uploadDocumentToCaseDocumentApi(authToken, caseTypeId, files).getBody()));
+        } catch (IOException | RestClientException | BulkheadFullException | CallNotPermittedException e) {
             throw new CaseDocumentException("Failed to upload Case Document", e);
         }
     }
 
     private ResponseEntity<DocumentUploadResponse> uploadDocumentToCaseDocumentApi(String authToken,
                                                                                    String caseTypeId,
-                                                                                   MultipartFile file)
-        throws IOException, CaseDocumentException {
-        validateFile(file);
-
-        MultiValueMap<String, Object> body = generateUploadRequest(caseTypeId, file);
+                                                                                   List<MultipartFile> files)
+        throws IOException {
+        LongAdder bytesSent = new LongAdder();
+        MultiValueMap<String, Object> body = generateUploadRequest(caseTypeId, files, bytesSent);
 
         HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(body, getHttpHeaders(authToken));
 
-        return restTemplate.exchange(
-            caseDocApiUrl + "/cases/documents",
-            HttpMethod.POST,
-            request,
-            DocumentUploadResponse.class
-        );
+        uploadsInFlight.incrementAndGet();
+        long started = System.nanoTime();
+        try {
+            ResponseEntity<DocumentUploadResponse> response = restTemplate.exchange(
+                caseDocApiUrl + "/cases/documents",
+                HttpMethod.POST,
+                request,
+                DocumentUploadResponse.class
+            );
+            long elapsed = System.nanoTime() - started;
+            if (elapsed > 0) {
+                uploadThroughput.record(bytesSent.sum() * NANOS_PER_SECOND / elapsed);
+            }
+            return response;
+        } finally {
+            uploadsInFlight.decrementAndGet();
+            uploadBytes.increment(bytesSent.sum());
+        }
     }
 
     private HttpHeaders getHttpHeaders(String authToken) {
@@ -243,14 +487,15 @@ public class CaseDocumentService {
 
     private CaseDocument validateResponse(DocumentUploadResponse response, String originalFilename)
         throws CaseDocumentException {
-        if (response.getDocuments() == null) {
+        if (response.getDocuments() == null || response.getDocuments().size() != 1) {
             throw new CaseDocumentException(UPLOAD_FILE_EXCEPTION_MESSAGE + originalFilename);
         }
 
-        CaseDocument document = response.getDocuments().stream()
-            .findFirst()
-            .orElseThrow(() -> new CaseDocumentException(UPLOAD_FILE_EXCEPTION_MESSAGE + originalFilename));
+        return validateDocument(response.getDocuments().getFirst(), originalFilename);
+    }
 
+    private CaseDocument validateDocument(CaseDocument document, String originalFilename)
+        throws CaseDocumentException {
         if (!document.verifyUri()) {
             throw new CaseDocumentException(UPLOAD_FILE_EXCEPTION_MESSAGE + originalFilename);
         }
@@ -258,17 +503,14 @@ public class CaseDocumentService {
         return document;
     }
 
-    private MultiValueMap<String, Object> generateUploadRequest(String caseTypeId,
-                                                                MultipartFile file) throws IOException {
-        ByteArrayResource fileAsResource = new ByteArrayResource(file.getBytes()) {
-            @Override
-            public String getFilename() {
-                return file.getOriginalFilename();
-            }
-        };
-
+    private MultiValueMap<String, Object> generateUploadRequest(String caseTypeId, List<MultipartFile> files,
+                                                                LongAdder bytesSent) throws IOException {
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("files", fileAsResource);
+        for (MultipartFile file : files) {
+            body.add("files", streamingUpload
+                ? new MultipartFileStreamResource(file, bytesSent)
+                : readIntoMemory(file, bytesSent));
+        }
         body.add("classification", PUBLIC.toString());
         body.add("caseTypeId", caseTypeId);
         body.add("jurisdictionId", JURISDICTION_ID);
@@ -276,6 +518,17 @@ public class CaseDocumentService {
         return body;
     }
 
+    private static ByteArrayResource readIntoMemory(MultipartFile file, LongAdder bytesSent) throws IOException {
+        byte[] content = file.getBytes();
+        bytesSent.add(content.length);
+        return new ByteArrayResource(content) {
+            @Override
+            public String getFilename() {
+                return file.getOriginalFilename();
+            }
+        };
+    }
+
     @Data
     private static class DocumentUploadResponse {
         private List<CaseDocument> documents;
@@ -291,61 +544,65 @@ public class CaseDocumentService {
     }
 
     /**
-     * Accepts all files for a given case as a list of {@link PdfDecodedMultipartFile} and uploads them.
-     * Files are uploaded one at a file via this service and then returned as a list of {@link DocumentTypeItem}
+     * Uploads several pdf files of the same type together via {@link #uploadDocuments} and wraps each in a
+     * {@link DocumentTypeItem}.
      *
-     * @param authToken                jwt token used to call this service
-     * @param caseType                 defines the jurisdiction of the case e.g. ET_EnglandWales
-     * @param pdfDecodedMultipartFiles The pdf files that are generated for the case upon submittion
-     * @param acasCertificates         The acas certificates that are converted to pdf format for a case
-     * @return a complete list of each successfully uploaded file passed to the function
-     * @throws CaseDocumentException thrown if there is an error encounted whilst uploading a file
+     * @param authToken    jwt token used to call this service
+     * @param caseType     defines the jurisdiction of the case e.g. ET_EnglandWales
+     * @param documentType the type of the documents e.g. ACAS Certificate
+     * @param categoryId   the category of the documents
+     * @param files        the pdf files to upload
+     * @return a {@link DocumentTypeItem} for each file, in the order of the files
+     * @throws CaseDocumentException the error of the first file that could not be uploaded
      */
-    public List<DocumentTypeItem> uploadAllDocuments(String authToken,
-                                                     String caseType,
-                                                     List<PdfDecodedMultipartFile> pdfDecodedMultipartFiles,
-                                                     List<PdfDecodedMultipartFile> acasCertificates,
-                                                     CaseData caseData)
+    public List<DocumentTypeItem> createDocumentTypeItems(String authToken,
+                                                          String caseType,
+                                                          String documentType,
+                                                          String categoryId,
+                                                          List<PdfDecodedMultipartFile> files)
         throws CaseDocumentException {
+        return toDocumentTypeItems(uploadDocuments(authToken, caseType, files), files, documentType, categoryId);
+    }
+
+    private List<DocumentTypeItem> toDocumentTypeItems(List<UploadResult> results,
+                                                       List<PdfDecodedMultipartFile> files,
+                                                       String documentType,
+                                                       String categoryId) throws CaseDocumentException {
         List<DocumentTypeItem> documentTypeItems = new ArrayList<>();
-        if (pdfDecodedMultipartFiles != null) {
-            for (PdfDecodedMultipartFile casePdf : pdfDecodedMultipartFiles) {
-                documentTypeItems.add(createDocumentTypeItem(
-                    authToken,
-                    caseType,
-                    ET1,
-                    ET1_PDF_DOC_CATEGORY,
-                    casePdf
-                ));
+        for (int i = 0; i < results.size(); i++) {
+            UploadResult result = results.get(i);
+            if (!result.isSuccessful()) {
+                throw result.error();
             }
+            documentTypeItems.add(createDocumentTypeItemFromCaseDocument(result.document(), documentType,
+                                                                         files.get(i).getDocumentDescription(),
+                                                                         categoryId));
         }
+        return documentTypeItems;
+    }
 
-        if (!ObjectUtils.isEmpty(caseData.getClaimantRequests())
-            && !ObjectUtils.isEmpty(caseData.getClaimantRequests().getClaimDescriptionDocument())) {
-            caseData.getClaimantRequests().getClaimDescriptionDocument().setDocumentFilename(
-                ET1_ATTACHMENT
-                    + " - "
-                    + caseData.getClaimantIndType().getClaimantFirstNames()
-                    + " "
-                    + caseData.getClaimantIndType().getClaimantLastName());
-            documentTypeItems.add(createDocumentTypeItem(
-                ET1_ATTACHMENT,
-                caseData.getClaimantRequests().getClaimDescriptionDocument()
-            ));
-        }
-
-        if (acasCertificates != null) {
-            for (PdfDecodedMultipartFile acasCertificate : acasCertificates) {
-                documentTypeItems.add(createDocumentTypeItem(
-                    authToken,
-                    caseType,
-                    ACAS_CERTIFICATE,
-                    ACAS_DOC_CATEGORY,
-                    acasCertificate
-                ));
-            }
+    /**
+     * Wraps the claim description document the claimant uploaded with their claim, which is already in the document
+     * store, in a {@link DocumentTypeItem} named after the claimant.
+     *
+     * @param caseData the submitted case
+     * @return the claim description document, or empty if the claimant did not upload one
+     */
+    public Optional<DocumentTypeItem> createClaimDescriptionDocumentTypeItem(CaseData caseData) {
+        if (ObjectUtils.isEmpty(caseData.getClaimantRequests())
+            || ObjectUtils.isEmpty(caseData.getClaimantRequests().getClaimDescriptionDocument())) {
+            return Optional.empty();
         }
-        return documentTypeItems;
+        caseData.getClaimantRequests().getClaimDescriptionDocument().setDocumentFilename(
+            ET1_ATTACHMENT
+                + " - "
+                + caseData.getClaimantIndType().getClaimantFirstNames()
+                + " "
+                + caseData.getClaimantIndType().getClaimantLastName());
+        return Optional.of(createDocumentTypeItem(
+            ET1_ATTACHMENT,
+            caseData.getClaimantRequests().getClaimDescriptionDocument()
+        ));
     }
 
     /**
@@ -458,12 +715,13 @@ public class CaseDocumentService {
         return documentTypeItem;
     }
 
+    /**
+     * Gets the id of a document from its URL.
+     *
+     * @param url the URL of the document
+     * @return the UUID the URL ends with, null if the URL is null or does not end with a UUID
+     */
     public UUID getDocumentUuid(String url) {
-        Pattern pattern = Pattern.compile(DOCUMENT_UUID_REGEX_PATTERN);
-        Matcher matcher = pattern.matcher(url);
-        if (matcher.find()) {
-            return UUID.fromString(matcher.group());
-        }
-        return null;
+        return IdentifierParser.documentUuid(url);
     }
 }
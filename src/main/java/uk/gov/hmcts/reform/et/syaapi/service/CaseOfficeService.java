@@ -5,10 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
-import uk.gov.dwp.regex.InvalidPostcodeException;
 import uk.gov.hmcts.ecm.common.configuration.PostcodeToOfficeMappings;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
-import uk.gov.hmcts.ecm.common.service.PostcodeToOfficeService;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
 import uk.gov.hmcts.et.common.model.ccd.types.ClaimantWorkAddressType;
@@ -28,14 +26,15 @@ import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.UNASSIGNED_
 /**
  * Service class to assign case to a Tribunal based on the postcode. The postcode to office mapping is done
  * in et-common using this file {@link PostcodeToOfficeMappings} using this configuration
- * <a href="https://github.com/hmcts/et-common/blob/master/src/main/resources/postcode-office.yml">file</a>.
+ * <a href="https://github.com/hmcts/et-common/blob/master/src/main/resources/postcode-office.yml">file</a>, which is
+ * looked up through {@link TribunalOfficeLookup}.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @SuppressWarnings({"PMD.LawOfDemeter"})
 public class CaseOfficeService {
-    private final PostcodeToOfficeService postcodeToOfficeService;
+    private final TribunalOfficeLookup tribunalOfficeLookup;
 
     /**
      * Assigns case to local office. Returns @{@link CaseData} object.
@@ -73,13 +72,11 @@ public class CaseOfficeService {
     }
 
     private String getManagingOffice(String postcode, String caseTypeId) {
-        try {
-            Optional<TribunalOffice> office = postcodeToOfficeService.getTribunalOfficeFromPostcode(postcode);
-            return retrieveManagingOfficeAccordingToCaseTypeId(caseTypeId, office);
-        } catch (InvalidPostcodeException e) {
-            log.info("Failed to find tribunal office : {} ", e.getMessage());
-            return UNASSIGNED_OFFICE;
+        TribunalOfficeLookup.Result result = tribunalOfficeLookup.lookup(postcode);
+        if (result.status() == TribunalOfficeLookup.Status.INVALID_POSTCODE) {
+            log.info("Failed to find tribunal office : invalid postcode");
         }
+        return retrieveManagingOfficeAccordingToCaseTypeId(caseTypeId, result.tribunalOffice());
     }
 
     /**
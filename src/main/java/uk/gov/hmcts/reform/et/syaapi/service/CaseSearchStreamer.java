@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static uk.gov.hmcts.reform.et.syaapi.constants.ManageCaseRoleConstants.HEADER_SERVICE_AUTHORIZATION;
+
+/**
+ * Runs a CCD case search and writes the cases found to an output stream as a JSON array, one case at a time.
+ *
+ * <p>
+ * The search response is read with a streaming parser: each case in it is bound to {@link CaseDetails} and written
+ * to the output as soon as it has been read, so only one case is held in memory at a time rather than the whole
+ * search result, however many cases are found. Cases are written in the same JSON form as when a
+ * {@link CaseDetails} list is returned from a controller.
+ * </p>
+ *
+ * <p>
+ * Nothing is written until CCD has accepted the first search, and the output is never flushed by the streamer, so
+ * that a failed first search can still be reported with an error status. The closing bracket of the array is only
+ * written once every search has succeeded: a search that fails after cases have been written leaves the array
+ * unterminated, so that a client cannot mistake a partial result for a complete one.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CaseSearchStreamer {
+
+    private static final String SEARCH_CASES_PATH = "/searchCases?ctid={caseTypeId}";
+    private static final String CASES_FIELD = "cases";
+
+    private final RestTemplate restTemplate;
+    private final AuthTokenGenerator authTokenGenerator;
+    private final ResilienceService resilienceService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader caseDetailsReader;
+    private final ObjectWriter caseDetailsWriter;
+    private final String searchCasesUrl;
+
+    /**
+     * Creates the streamer.
+     *
+     * @param restTemplate       client used to call CCD
+     * @param authTokenGenerator generates the service token of the calls to CCD
+     * @param resilienceService  the service guarding calls to CCD
+     * @param objectMapper       mapper used to read and write the cases
+     * @param ccdApiUrl          base URL of the CCD data store API
+     */
+    public CaseSearchStreamer(RestTemplate restTemplate,
+                              AuthTokenGenerator authTokenGenerator,
+                              ResilienceService resilienceService,
+                              ObjectMapper objectMapper,
+                              @Value("${core_case_data.api.url}") String ccdApiUrl) {
+        this.restTemplate = restTemplate;
+        this.authTokenGenerator = authTokenGenerator;
+        this.resilienceService = resilienceService;
+        this.objectMapper = objectMapper;
+        this.caseDetailsReader = objectMapper.readerFor(CaseDetails.class);
+        this.caseDetailsWriter = objectMapper.writerFor(CaseDetails.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.searchCasesUrl = ccdApiUrl + SEARCH_CASES_PATH;
+    }
+
+    /**
+     * Searches each case type in turn and writes all the cases found to the output as a single JSON array.
+     *
+     * @param authorisation used for IDAM authentication for the query
+     * @param caseTypeIds   case types to search
+     * @param query         the elastic search query
+     * @param output        stream the cases are written to
+     * @throws IOException if the cases cannot be read or written
+     */
+    public void writeCases(String authorisation, List<String> caseTypeIds, String query, OutputStream output)
+        throws IOException {
+        byte[] body = query.getBytes(StandardCharsets.UTF_8);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)) {
+            for (String caseTypeId : caseTypeIds) {
+                Integer count = resilienceService.call(Downstream.CCD, () -> restTemplate.execute(
+                    searchCasesUrl,
+                    HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().add(HttpHeaders.AUTHORIZATION, authorisation);
+                        request.getHeaders().add(HEADER_SERVICE_AUTHORIZATION, authTokenGenerator.generate());
+                        request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                        request.getBody().write(body);
+                    },
+                    response -> copyCases(response.getBody(), generator),
+                    caseTypeId));
+                log.info("ACAS streamed search result for case type {} is {}", caseTypeId, count);
+            }
+            if (generator.getOutputContext().inRoot()) {
+                generator.writeStartArray();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private int copyCases(InputStream searchResult, JsonGenerator generator) throws IOException {
+        // the array is only started once CCD has accepted the first search
+        if (generator.getOutputContext().inRoot()) {
+            generator.writeStartArray();
+        }
+        int count = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(searchResult)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected case search result");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && CASES_FIELD.equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        CaseDetails caseDetails = caseDetailsReader.readValue(parser);
+                        caseDetailsWriter.writeValue(generator, caseDetails);
+                        count++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return count;
+    }
+}
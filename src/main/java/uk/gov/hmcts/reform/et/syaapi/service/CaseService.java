@@ -1,15 +1,13 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import uk.gov.dwp.regex.InvalidPostcodeException;
 import uk.gov.hmcts.ecm.common.helpers.DocumentHelper;
-import uk.gov.hmcts.ecm.common.service.PostcodeToOfficeService;
 import uk.gov.hmcts.ecm.common.service.pdf.PdfDecodedMultipartFile;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.Et1CaseData;
@@ -25,6 +23,7 @@ import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.Event;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.et.syaapi.enums.CaseEvent;
 import uk.gov.hmcts.reform.et.syaapi.helper.CaseDetailsConverter;
@@ -33,22 +32,20 @@ import uk.gov.hmcts.reform.et.syaapi.helper.JurisdictionCodesMapper;
 import uk.gov.hmcts.reform.et.syaapi.helper.TseApplicationHelper;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.RespondToApplicationRequest;
+import uk.gov.hmcts.reform.et.syaapi.models.UserCasesPage;
+import uk.gov.hmcts.reform.et.syaapi.search.ElasticSearchQueryBuilder;
+import uk.gov.hmcts.reform.et.syaapi.search.UserCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.pdf.PdfUploadService;
-import uk.gov.hmcts.reform.et.syaapi.service.utils.GenericServiceUtil;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.CLAIMANT_TITLE;
@@ -81,19 +78,24 @@ public class CaseService {
     public static final String DOCUMENT_COLLECTION = "documentCollection";
     private final AuthTokenGenerator authTokenGenerator;
     private final CoreCaseDataApi ccdApiClient;
-    private final IdamClient idamClient;
-    private final PostcodeToOfficeService postcodeToOfficeService;
-    private final AcasService acasService;
+    private final UserInfoService userInfoService;
+    private final TribunalOfficeLookup tribunalOfficeLookup;
     private final CaseDocumentService caseDocumentService;
     private final NotificationService notificationService;
     private final PdfUploadService pdfUploadService;
     private final JurisdictionCodesMapper jurisdictionCodesMapper;
     private final CaseOfficeService caseOfficeService;
+    private final CaseTypeSearchService caseTypeSearchService;
+    private final CaseDetailsConverter caseDetailsConverter;
+    private final Et1SubmissionService et1SubmissionService;
     private static final String ALL_CASES_QUERY = "{\"size\":10000,\"query\":{\"match_all\": {}}}";
     private static final String VARY_REVOKE_AN_ORDER = "Vary/revoke an order";
     private static final String VARY_OR_REVOKE_AN_ORDER_APP_TYPE = "Vary or revoke an order";
     private final FeatureToggleService featureToggleService;
 
+    @Value("${core_case_data.search.page_size:100}")
+    private int searchPageSize;
+
     /**
      * Given a user derived from the authorisation token in the request,
      * this will get all cases {@link CaseDetails} for that user.
@@ -105,21 +107,58 @@ public class CaseService {
     // covers all runtime exceptions.
     @Retryable
     protected List<CaseDetails> getAllUserCases(String authorization) {
-        // Elasticsearch
-        List<CaseDetails> scotlandCases = Optional.ofNullable(ccdApiClient.searchCases(
-            authorization,
-            authTokenGenerator.generate(),
-            SCOTLAND_CASE_TYPE,
-            ALL_CASES_QUERY).getCases()).orElse(Collections.emptyList());
+        // Elasticsearch, both case types searched in parallel
+        return caseTypeSearchService.searchAll(
+            List.of(SCOTLAND_CASE_TYPE, ENGLAND_CASE_TYPE),
+            caseTypeId -> ccdApiClient.searchCases(
+                authorization,
+                authTokenGenerator.generate(),
+                caseTypeId,
+                ALL_CASES_QUERY).getCases());
+    }
 
-        // Elasticsearch
-        List<CaseDetails> englandCases = Optional.ofNullable(ccdApiClient.searchCases(
-            authorization,
-            authTokenGenerator.generate(),
-            ENGLAND_CASE_TYPE,
-            ALL_CASES_QUERY).getCases()).orElse(Collections.emptyList());
-        return Stream.of(scotlandCases, englandCases)
-            .flatMap(Collection::stream).toList();
+    /**
+     * Given a user derived from the authorisation token in the request, this will get a page of the cases
+     * {@link CaseDetails} for that user. Scotland cases are listed before England and Wales cases, as in
+     * {@link #getAllUserCases(String)}, and a page is filled from the next case type when the current one runs out.
+     * The number of cases in a page is set by {@code core_case_data.search.page_size}.
+     *
+     * @param authorization is used to get the {@link UserInfo} for the request
+     * @param cursor        position to continue listing from, null for the first page
+     * @param sourceFields  case data fields to return, null or empty to return the whole case data
+     * @return the page of cases, with the cursor of the next page if there are more cases
+     */
+    @Retryable
+    protected UserCasesPage getUserCasesPage(String authorization, UserCasesCursor cursor,
+                                             List<String> sourceFields) {
+        List<String> caseTypeIds = List.of(SCOTLAND_CASE_TYPE, ENGLAND_CASE_TYPE);
+        int caseTypeIndex = cursor == null ? 0 : caseTypeIds.indexOf(cursor.caseTypeId());
+        if (caseTypeIndex < 0) {
+            throw new IllegalArgumentException("Unknown case type in cursor: " + cursor.caseTypeId());
+        }
+        Long searchAfterCaseId = cursor == null ? null : cursor.searchAfterCaseId();
+        List<CaseDetails> cases = new ArrayList<>();
+        for (; caseTypeIndex < caseTypeIds.size(); caseTypeIndex++) {
+            String caseTypeId = caseTypeIds.get(caseTypeIndex);
+            int remaining = searchPageSize - cases.size();
+            // Elasticsearch
+            List<CaseDetails> caseTypeCases = Optional.ofNullable(ccdApiClient.searchCases(
+                    authorization,
+                    authTokenGenerator.generate(),
+                    caseTypeId,
+                    ElasticSearchQueryBuilder.buildUserCasesPage(remaining, searchAfterCaseId, sourceFields)))
+                .map(SearchResult::getCases)
+                .orElse(List.of());
+            cases.addAll(caseTypeCases);
+            if (caseTypeCases.size() >= remaining) {
+                return UserCasesPage.builder()
+                    .cases(cases)
+                    .nextCursor(new UserCasesCursor(caseTypeId, caseTypeCases.getLast().getId()).encode())
+                    .build();
+            }
+            searchAfterCaseId = null;
+        }
+        return UserCasesPage.builder().cases(cases).build();
     }
 
     /**
@@ -133,7 +172,7 @@ public class CaseService {
     public CaseDetails createCase(String authorization,
                                   CaseRequest caseRequest) {
         String s2sToken = authTokenGenerator.generate();
-        String userId = idamClient.getUserInfo(authorization).getUid();
+        String userId = userInfoService.getUserInfo(authorization).getUid();
         String eventTypeName = INITIATE_CASE_DRAFT.name();
         String caseType = getCaseType(caseRequest);
         Et1CaseData data = new EmployeeObjectMapper().getEmploymentCaseData(caseRequest.getCaseData());
@@ -164,17 +203,14 @@ public class CaseService {
     }
 
     private String getCaseType(CaseRequest caseRequest) {
-        try {
-            if (!isNullOrEmpty(caseRequest.getCaseTypeId())) {
-                return caseRequest.getCaseTypeId();
-            }
-            return getCaseTypeId(
-                postcodeToOfficeService.getTribunalOfficeFromPostcode(caseRequest.getPostCode())
-                    .orElse(DEFAULT_TRIBUNAL_OFFICE).getOfficeName());
-        } catch (InvalidPostcodeException e) {
-            log.info("Failed to find tribunal office : {} ", e.getMessage());
-            return getCaseTypeId(DEFAULT_TRIBUNAL_OFFICE.getOfficeName());
+        if (!isNullOrEmpty(caseRequest.getCaseTypeId())) {
+            return caseRequest.getCaseTypeId();
+        }
+        TribunalOfficeLookup.Result result = tribunalOfficeLookup.lookup(caseRequest.getPostCode());
+        if (result.status() == TribunalOfficeLookup.Status.INVALID_POSTCODE) {
+            log.info("Failed to find tribunal office : invalid postcode");
         }
+        return getCaseTypeId(result.tribunalOffice().orElse(DEFAULT_TRIBUNAL_OFFICE).getOfficeName());
     }
 
     /**
@@ -203,7 +239,7 @@ public class CaseService {
         // Assigning local office to case data
         CaseData caseData = caseOfficeService.convertCaseRequestToCaseDataWithTribunalOffice(caseRequest);
         // Getting user info from IDAM
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
         // Submitting the case to CCD, receiving caseDetails and setting ethosCaseReference,
         // receiptDate, feeGroupReference with the received details.
         CaseDetails caseDetails = triggerEventForSubmitCase(authorization, caseRequest);
@@ -211,25 +247,10 @@ public class CaseService {
         if (!featureToggleService.citizenEt1Generation()) {
             log.info("Citizen ET1 generation feature is disabled");
             setCaseDataWithSubmittedCaseDetails(caseDetails, caseData);
-            // Create case pdf file(s). If the user selected language is Welsh, we also create Welsh pdf file
-            // and add it to our pdf files list
-            List<PdfDecodedMultipartFile> casePdfFiles =
-                pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(caseData, userInfo);
-            // Submit e-mail to the user with attached ET1 pdf file according to selected contact language
-            // (Welsh or English)
-            notificationService.sendSubmitCaseConfirmationEmail(caseRequest, caseData, userInfo, casePdfFiles);
-            // Creating acas certificates for each respondent
-            List<PdfDecodedMultipartFile> acasCertificates =
-                pdfUploadService.convertAcasCertificatesToPdfDecodedMultipartFiles(
-                    caseData, acasService.getAcasCertificatesByCaseData(caseData)
-            );
-            // Uploading all documents to document store
-            List<DocumentTypeItem> documentList = uploadAllDocuments(authorization,
-                                                                     caseRequest,
-                                                                     caseData,
-                                                                     casePdfFiles,
-                                                                     acasCertificates
-            );
+            // Create the case pdf file(s) and acas certificates, e-mail the user the pdf file according to their
+            // contact language (Welsh or English) and upload all documents to the document store, concurrently
+            List<DocumentTypeItem> documentList =
+                et1SubmissionService.prepareDocuments(authorization, caseRequest, caseData, userInfo);
 
             caseDetails.getData().put(DOCUMENT_COLLECTION, documentList);
 
@@ -243,27 +264,6 @@ public class CaseService {
         return caseDetails;
     }
 
-    private List<DocumentTypeItem> uploadAllDocuments(String authorization,
-                                                      CaseRequest caseRequest,
-                                                      CaseData caseData,
-                                                      List<PdfDecodedMultipartFile> casePdfFiles,
-                                                      List<PdfDecodedMultipartFile> acasCertificates) {
-        List<DocumentTypeItem> documentList = new ArrayList<>();
-        try {
-            documentList.addAll(caseDocumentService
-                                    .uploadAllDocuments(authorization, caseRequest.getCaseTypeId(),
-                                                        casePdfFiles, acasCertificates, caseData));
-        } catch (CaseDocumentException cde) {
-            // Send upload error alert email to shared inbox
-            notificationService.sendDocUploadErrorEmail(caseRequest, casePdfFiles, acasCertificates,
-                                                        caseData.getClaimantRequests().getClaimDescriptionDocument());
-            GenericServiceUtil.logException("Case Documents Upload error - Failed to complete case documents upload",
-                                            caseData.getEthosCaseReference(), cde.getMessage(),
-                                            this.getClass().getName(), "submitCase");
-        }
-        return documentList;
-    }
-
     private static void setCaseDataWithSubmittedCaseDetails(CaseDetails caseDetails, CaseData caseData) {
         caseData.setEthosCaseReference(caseDetails.getData().get("ethosCaseReference") == null ? "" :
                                            caseDetails.getData().get("ethosCaseReference").toString());
@@ -285,8 +285,6 @@ public class CaseService {
      */
     public CaseDetails triggerEvent(String authorization, String caseId, CaseEvent eventName,
                                     String caseType, Map<String, Object> caseData) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         StartEventResponse startEventResponse = startUpdate(authorization, caseId, caseType, eventName);
         CaseData caseData1 = EmployeeObjectMapper.convertCaseDataMapToCaseDataObject(caseData);
 
@@ -324,8 +322,6 @@ public class CaseService {
         caseData1.setClaimantPcqId(caseRequest.getCaseData().get("claimantPcqId") == null ? "" :
                                       caseRequest.getCaseData().get("claimantPcqId").toString());
         caseData1.setEt1OnlineSubmission(YES);
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         try {
             return submitUpdate(
                 authorization,
@@ -358,7 +354,7 @@ public class CaseService {
     public StartEventResponse startUpdate(String authorization, String caseId,
                                           String caseType, CaseEvent eventName) {
         String s2sToken = authTokenGenerator.generate();
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
 
         return ccdApiClient.startEventForCitizen(
             authorization,
@@ -381,7 +377,7 @@ public class CaseService {
      */
     public CaseDetails submitUpdate(String authorization, String caseId,
                                     CaseDataContent caseDataContent, String caseType) {
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
         String s2sToken = authTokenGenerator.generate();
         return ccdApiClient.submitEventForCitizen(
             authorization,
@@ -589,8 +585,6 @@ public class CaseService {
 
         CaseData caseData = EmployeeObjectMapper
             .convertCaseDataMapToCaseDataObject(startEventResponse.getCaseDetails().getData());
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         CaseDataContent content = caseDetailsConverter.caseDataContent(startEventResponse, caseData);
 
         return submitUpdate(
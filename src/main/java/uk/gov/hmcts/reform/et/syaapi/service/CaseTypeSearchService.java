@@ -0,0 +1,214 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.ENGLAND_CASE_TYPE;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.SCOTLAND_CASE_TYPE;
+
+/**
+ * Runs the same search against several case types (ET_EnglandWales and ET_Scotland).
+ *
+ * <p>
+ * Callers supply the search to run for a single case type; this service runs one search per case type on its own
+ * bounded executor, applies a per case type timeout and gathers the results in the order the case types were given.
+ * Listings search every case type concurrently, while lookups of a single case search the case types one after the
+ * other and stop at the first that finds it. When the executor is saturated the search runs on the calling thread
+ * instead of being rejected.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>case_search.pool-size</b>: Number of threads used for case type searches.</li>
+ *   <li><b>case_search.queue-capacity</b>: Number of searches that may wait for a free thread.</li>
+ *   <li><b>case_search.timeout.england</b> and <b>case_search.timeout.scotland</b>: Timeout in milliseconds for a
+ *   search of each case type.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * Search latency is recorded in the {@code et.case.search} timer, tagged by case type and outcome. Executor
+ * utilisation is published under the {@code caseSearch} executor name.
+ */
+@Slf4j
+@Service
+public class CaseTypeSearchService {
+
+    static final String SEARCH_TIMER = "et.case.search";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+    private static final String OUTCOME_TIMEOUT = "timeout";
+
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> timeoutMillisByCaseType;
+    private final long defaultTimeoutMillis;
+
+    /**
+     * Creates the service with its own bounded executor.
+     *
+     * @param meterRegistry          registry that latency and executor metrics are published to
+     * @param poolSize               number of threads used for case type searches
+     * @param queueCapacity          number of searches that may wait for a free thread
+     * @param englandTimeoutMillis   timeout for a search of ET_EnglandWales
+     * @param scotlandTimeoutMillis  timeout for a search of ET_Scotland
+     */
+    public CaseTypeSearchService(MeterRegistry meterRegistry,
+                                 @Value("${case_search.pool-size:16}") int poolSize,
+                                 @Value("${case_search.queue-capacity:64}") int queueCapacity,
+                                 @Value("${case_search.timeout.england:15000}") long englandTimeoutMillis,
+                                 @Value("${case_search.timeout.scotland:15000}") long scotlandTimeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillisByCaseType = Map.of(ENGLAND_CASE_TYPE, englandTimeoutMillis,
+                                              SCOTLAND_CASE_TYPE, scotlandTimeoutMillis);
+        this.defaultTimeoutMillis = Math.max(englandTimeoutMillis, scotlandTimeoutMillis);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("case-search-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+            poolSize, poolSize, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, "caseSearch");
+    }
+
+    /**
+     * Runs the search for every case type concurrently and returns the combined results in case type order.
+     * If the search fails or times out for some case types, the results of the others are still returned.
+     *
+     * @param caseTypeIds      the case types to search, e.g. ET_Scotland and ET_EnglandWales
+     * @param searchByCaseType the search to run for a single case type
+     * @param <T>              type of the search results
+     * @return the combined results of every case type that was searched successfully
+     * @throws RuntimeException the failure of the first case type if every case type failed
+     */
+    public <T> List<T> searchAll(List<String> caseTypeIds, Function<String, List<T>> searchByCaseType) {
+        Map<String, CompletableFuture<List<T>>> futures = submit(caseTypeIds, searchByCaseType);
+        List<T> results = new ArrayList<>();
+        RuntimeException firstFailure = null;
+        int failures = 0;
+        for (Map.Entry<String, CompletableFuture<List<T>>> entry : futures.entrySet()) {
+            try {
+                results.addAll(await(entry.getValue()));
+            } catch (RuntimeException e) {
+                log.warn("Search of case type {} failed, returning partial results", entry.getKey(), e);
+                failures++;
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null && failures == futures.size()) {
+            throw firstFailure;
+        }
+        return results;
+    }
+
+    /**
+     * Runs the search for every case type concurrently and returns the results of each case type separately.
+     * Unlike {@link #searchAll(List, Function)}, every case type must be searched successfully.
+     *
+     * @param caseTypeIds      the case types to search, e.g. ET_EnglandWales and ET_Scotland
+     * @param searchByCaseType the search to run for a single case type
+     * @param <T>              type of the search results
+     * @return the results of each case type, in the order the case types were given
+     * @throws RuntimeException the failure of the first case type that failed
+     */
+    public <T> Map<String, List<T>> searchEach(List<String> caseTypeIds, Function<String, List<T>> searchByCaseType) {
+        Map<String, CompletableFuture<List<T>>> futures = submit(caseTypeIds, searchByCaseType);
+        Map<String, List<T>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<List<T>>> entry : futures.entrySet()) {
+            results.put(entry.getKey(), await(entry.getValue()));
+        }
+        return results;
+    }
+
+    /**
+     * Searches the case types one after the other, in the order given, until one of them finds a result. Later case
+     * types are only searched when the earlier ones found nothing, so the first case type takes precedence and its
+     * result is returned whatever would have happened to the search of a later one. A lookup therefore usually costs
+     * a single search.
+     *
+     * @param caseTypeIds      the case types to search in order of precedence, e.g. ET_EnglandWales then ET_Scotland
+     * @param searchByCaseType the search to run for a single case type, returning null when it finds nothing
+     * @param <R>              type of the search result
+     * @return the result of the first case type that found one, null if none did
+     * @throws RuntimeException the failure of the first case type that failed before any result was found
+     */
+    public <R> R searchFirst(List<String> caseTypeIds, Function<String, R> searchByCaseType) {
+        for (String caseTypeId : caseTypeIds) {
+            R result = await(submit(caseTypeId, searchByCaseType));
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private <T> Map<String, CompletableFuture<List<T>>> submit(List<String> caseTypeIds,
+                                                              Function<String, List<T>> searchByCaseType) {
+        Map<String, CompletableFuture<List<T>>> futures = new LinkedHashMap<>();
+        for (String caseTypeId : caseTypeIds) {
+            futures.put(caseTypeId, submit(caseTypeId, caseType -> Optional.ofNullable(searchByCaseType.apply(caseType))
+                .orElse(Collections.emptyList())));
+        }
+        return futures;
+    }
+
+    private <R> CompletableFuture<R> submit(String caseTypeId, Function<String, R> searchByCaseType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return CompletableFuture
+            .supplyAsync(() -> searchByCaseType.apply(caseTypeId), executor)
+            .orTimeout(timeoutMillisByCaseType.getOrDefault(caseTypeId, defaultTimeoutMillis), TimeUnit.MILLISECONDS)
+            .whenComplete((result, throwable) -> sample.stop(
+                meterRegistry.timer(SEARCH_TIMER, "caseType", caseTypeId, "outcome", outcome(throwable))));
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching cases", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static String outcome(Throwable throwable) {
+        if (throwable == null) {
+            return OUTCOME_SUCCESS;
+        }
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        return cause instanceof TimeoutException ? OUTCOME_TIMEOUT : OUTCOME_FAILURE;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,20 +1,34 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.Data;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
 import uk.gov.hmcts.reform.et.syaapi.models.TornadoDocument;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is a service to generate documents given relevant data and the necessary template.
@@ -37,34 +51,67 @@ import java.util.Locale;
  * <br/>
  * There is a catch.  This applies to all NON-PRODUCTION environments.  The production environment follows a different
  * path, whereby the template would need to be uploaded to a sharepoint location which is documented in the page above.
+ * </p>
+ * Generated documents are cached, keyed by a SHA-256 hash of the request sent to Tornado, which holds the template
+ * name, the output file name and the data. A resubmitted request, for example after a retry or a double click, is
+ * answered from the cache. An identical request made while the first one is still being rendered waits for that
+ * render rather than sending another. Failed renders are not cached.
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>tornado.render-cache.max-bytes</b>: Maximum number of bytes of generated documents held.</li>
+ *   <li><b>tornado.render-cache.ttl</b>: Time in milliseconds a generated document is held.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * Hit, miss, size and eviction counts are published under the {@code tornadoRenders} cache name.
  */
 @Service
 public class DocumentGenerationService {
 
     private static final String UNKNOWN_TEMPLATE_ERROR = "Unknown Template: ";
     private static final String INVALID_OUTPUT_FILE_NAME_ERROR = "Invalid output file name: ";
+    private static final String TORNADO_CONNECTION_ERROR = "Failed to connect with Tornado";
+    static final String CACHE_NAME = "tornadoRenders";
 
     private final RestTemplate restTemplate;
+    private final ResilienceService resilienceService;
     private final ObjectMapper objectMapper;
     private final String tornadoUrl;
     private final String tornadoAccessKey;
+    private final Cache<String, byte[]> renders;
 
     /**
      * Creates a new instance of {@link DocumentGenerationService} with the specified Tornado details to use its
      * service in generating the document.
      *
-     * @param restTemplate     the RestTemplate to use for talking with the Tornado service
-     * @param objectMapper     the {@link ObjectMapper} to generate JSON from
-     * @param tornadoUrl       the Tornado URL endpoint to call to generate the document
-     * @param tornadoAccessKey the access key Tornado will require for authentication
+     * @param restTemplate      the RestTemplate to use for talking with the Tornado service
+     * @param resilienceService the service guarding calls to the Tornado service
+     * @param objectMapper      the {@link ObjectMapper} to generate JSON from
+     * @param meterRegistry     registry the render cache statistics are published to
+     * @param tornadoUrl        the Tornado URL endpoint to call to generate the document
+     * @param tornadoAccessKey  the access key Tornado will require for authentication
+     * @param cacheMaxBytes     maximum number of bytes of generated documents held
+     * @param cacheTtlMillis    time in milliseconds a generated document is held
      */
-    public DocumentGenerationService(RestTemplate restTemplate, ObjectMapper objectMapper,
+    public DocumentGenerationService(RestTemplate restTemplate, ResilienceService resilienceService,
+                                     ObjectMapper objectMapper, MeterRegistry meterRegistry,
                                      @Value("${tornado.api.url}") String tornadoUrl,
-                                     @Value("${tornado.api.key}") String tornadoAccessKey) {
+                                     @Value("${tornado.api.key}") String tornadoAccessKey,
+                                     @Value("${tornado.render-cache.max-bytes:33554432}") long cacheMaxBytes,
+                                     @Value("${tornado.render-cache.ttl:600000}") long cacheTtlMillis) {
         this.restTemplate = restTemplate;
+        this.resilienceService = resilienceService;
         this.objectMapper = objectMapper;
         this.tornadoUrl = tornadoUrl;
         this.tornadoAccessKey = tornadoAccessKey;
+        this.renders = CacheBuilder.newBuilder()
+            .maximumWeight(cacheMaxBytes)
+            .<String, byte[]>weigher((key, document) -> document.length)
+            .expireAfterWrite(cacheTtlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, renders, CACHE_NAME);
     }
 
     /**
@@ -82,10 +129,17 @@ public class DocumentGenerationService {
         throws DocumentGenerationException {
         validateGenDocInputs(templateName, outputFileName, sourceData);
 
+        TornadoRequestWrapper requestWrapper = generateTornadoRequestWrapper(templateName, outputFileName, sourceData);
         try {
-            return generateDocument(generateTornadoRequestWrapper(templateName, outputFileName, sourceData));
-        } catch (RestClientException e) {
-            throw new DocumentGenerationException("Failed to connect with Tornado", e);
+            return renders.get(renderKey(requestWrapper), () -> generateDocument(requestWrapper));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (!(cause instanceof RestClientException
+                || cause instanceof BulkheadFullException
+                || cause instanceof CallNotPermittedException)) {
+                Throwables.throwIfUnchecked(cause);
+            }
+            throw new DocumentGenerationException(TORNADO_CONNECTION_ERROR, cause);
         }
     }
 
@@ -112,20 +166,27 @@ public class DocumentGenerationService {
         return requestWrapper;
     }
 
-    private byte[]  generateDocument(TornadoRequestWrapper requestWrapper)
-        throws DocumentGenerationException {
-        String body;
-        try {
-            body = objectMapper.writeValueAsString(requestWrapper);
-        } catch (JsonProcessingException e) {
-            throw new DocumentGenerationException("Failed to convert the TornadoRequestWrapper to a string", e);
+    private String renderKey(TornadoRequestWrapper requestWrapper) throws DocumentGenerationException {
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (OutputStream output = Funnels.asOutputStream(hasher)) {
+            objectMapper.writeValue(output, requestWrapper);
+        } catch (IOException e) {
+            throw new DocumentGenerationException("Failed to convert the TornadoRequestWrapper to JSON", e);
         }
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Type", "application/json; charset=utf-8");
-        HttpEntity<byte[]> request = new HttpEntity<>(body.getBytes(), headers);
-        ResponseEntity<byte[]> response;
-        response = this.restTemplate.exchange(tornadoUrl, HttpMethod.POST, request, byte[].class);
-        return response.getBody();
+        return hasher.hash().toString();
+    }
+
+    private byte[] generateDocument(TornadoRequestWrapper requestWrapper) {
+        return resilienceService.call(
+            Downstream.TORNADO,
+            () -> restTemplate.execute(
+                tornadoUrl,
+                HttpMethod.POST,
+                request -> {
+                    request.getHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8");
+                    objectMapper.writeValue(StreamUtils.nonClosing(request.getBody()), requestWrapper);
+                },
+                response -> response.getBody().readAllBytes()));
     }
 
     @Data
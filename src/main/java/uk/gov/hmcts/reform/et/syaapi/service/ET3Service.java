@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -14,6 +13,7 @@ import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants;
 import uk.gov.hmcts.reform.et.syaapi.constants.ManageCaseRoleConstants;
@@ -25,16 +25,13 @@ import uk.gov.hmcts.reform.et.syaapi.search.ElasticSearchQueryBuilder;
 import uk.gov.hmcts.reform.et.syaapi.service.pdf.ET3FormService;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.HubLinksUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ResponseUtil;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.springframework.beans.BeanUtils.copyProperties;
@@ -52,10 +49,12 @@ public class ET3Service {
     private final AdminUserService adminUserService;
     private final AuthTokenGenerator authTokenGenerator;
     private final CoreCaseDataApi ccdApi;
-    private final IdamClient idamClient;
+    private final UserInfoService userInfoService;
     private final CaseService caseService;
     private final ET3FormService et3FormService;
     private final NotificationService notificationService;
+    private final CaseTypeSearchService caseTypeSearchService;
+    private final CaseDetailsConverter caseDetailsConverter;
     private static final String FIELD_NAME_SUBMISSION_REFERENCE = "reference.keyword";
     private static final String FIELD_NAME_STATE = "state.keyword";
     private static final String STATE_VALUE_ACCEPTED = "Accepted";
@@ -99,20 +98,14 @@ public class ET3Service {
 
     private CaseDetails getCaseDetails(String elasticSearchQuery) {
         String adminUserToken = adminUserService.getAdminUserToken();
-        CaseDetails englandCase = findCaseByCaseType(adminUserToken,
-                                                     EtSyaConstants.ENGLAND_CASE_TYPE, elasticSearchQuery
-        );
-        if (ObjectUtils.isNotEmpty(englandCase)) {
-            return englandCase;
-        }
-
-        CaseDetails scotlandCase = findCaseByCaseType(adminUserToken,
-                                                      EtSyaConstants.SCOTLAND_CASE_TYPE, elasticSearchQuery
+        // Scotland is only searched when England finds nothing
+        return caseTypeSearchService.searchFirst(
+            List.of(EtSyaConstants.ENGLAND_CASE_TYPE, EtSyaConstants.SCOTLAND_CASE_TYPE),
+            caseType -> {
+                List<CaseDetails> cases = findCasesByCaseType(adminUserToken, caseType, elasticSearchQuery);
+                return CollectionUtils.isNotEmpty(cases) ? cases.getFirst() : null;
+            }
         );
-        if (ObjectUtils.isNotEmpty(scotlandCase)) {
-            return scotlandCase;
-        }
-        return null;
     }
 
     /**
@@ -128,18 +121,17 @@ public class ET3Service {
         return getCaseDetails(elasticSearchQuery);
     }
 
-    private CaseDetails findCaseByCaseType(String adminUserToken,
-                                           String caseType,
-                                           String elasticSearchQuery) {
-        List<CaseDetails> caseDetailsList = Optional.ofNullable(ccdApi.searchCases(
-            adminUserToken,
-            authTokenGenerator.generate(),
-            caseType,
-            elasticSearchQuery
-        ).getCases()).orElse(Collections.emptyList());
-        return CollectionUtils.isNotEmpty(caseDetailsList)
-            ? caseDetailsList.getFirst()
-            : null;
+    private List<CaseDetails> findCasesByCaseType(String adminUserToken,
+                                                  String caseType,
+                                                  String elasticSearchQuery) {
+        return Optional.ofNullable(ccdApi.searchCases(
+                adminUserToken,
+                authTokenGenerator.generate(),
+                caseType,
+                elasticSearchQuery
+            ))
+            .map(SearchResult::getCases)
+            .orElse(Collections.emptyList());
     }
 
     /**
@@ -184,8 +176,6 @@ public class ET3Service {
      */
     public CaseDetails triggerEvent(String authorization, String caseId, StartEventResponse startEventResponse,
                                     String caseType, Map<String, Object> caseData) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(objectMapper);
         CaseData caseDataObject = EmployeeObjectMapper.convertCaseDataMapToCaseDataObject(caseData);
         return caseService.submitUpdate(
             authorization,
@@ -210,27 +200,20 @@ public class ET3Service {
     // covers all runtime exceptions.
     @Retryable
     protected List<CaseDetails> getAllUserCasesForET3(String authorization) {
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
         if (ObjectUtils.isEmpty(userInfo)) {
             log.info("Unable to get user info from idam for listing user cases");
             throw new ManageCaseRoleException(new Exception("Unable to get user info for listing user cases"));
         }
-        List<CaseDetails> englandCases = ccdApi.searchForCitizen(
-            authorization,
-            authTokenGenerator.generate(),
-            userInfo.getUid(),
-            EtSyaConstants.JURISDICTION_ID,
-            EtSyaConstants.ENGLAND_CASE_TYPE,
-            new HashMap<>());
-        List<CaseDetails> scotlandCases = ccdApi.searchForCitizen(
-            authorization,
-            authTokenGenerator.generate(),
-            userInfo.getUid(),
-            EtSyaConstants.JURISDICTION_ID,
-            EtSyaConstants.SCOTLAND_CASE_TYPE,
-            new HashMap<>());
-        return Stream.of(scotlandCases, englandCases)
-            .flatMap(Collection::stream).toList();
+        return caseTypeSearchService.searchAll(
+            List.of(EtSyaConstants.SCOTLAND_CASE_TYPE, EtSyaConstants.ENGLAND_CASE_TYPE),
+            caseType -> ccdApi.searchForCitizen(
+                authorization,
+                authTokenGenerator.generate(),
+                userInfo.getUid(),
+                EtSyaConstants.JURISDICTION_ID,
+                caseType,
+                new HashMap<>()));
     }
 
     @Retryable
@@ -249,7 +232,7 @@ public class ET3Service {
         HubLinksUtil.setLinkStatuses(caseData, selectedRespondent.getValue(), et3Request);
         if (MODIFICATION_TYPE_SUBMIT.equals(et3Request.getRequestType())) {
             if (isBlank(selectedRespondent.getValue().getResponseRespondentEmail())) {
-                UserInfo userInfo = idamClient.getUserInfo(authorisation);
+                UserInfo userInfo = userInfoService.getUserInfo(authorisation);
                 selectedRespondent.getValue().setResponseRespondentEmail(userInfo.getSub());
             }
             et3FormService.generateET3WelshAndEnglishForms(authorisation, caseData, selectedRespondent);
@@ -0,0 +1,509 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.et.syaapi.exception.NotificationException;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailCommand;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailDispatchProperties;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailJournal;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailOutcome;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailRequest;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Sends emails to GOV.UK Notify from a durable queue, so that the request queueing them does not wait for Notify.
+ *
+ * <p>
+ * Queued emails are recorded in an {@link EmailJournal} before {@link #dispatch} returns and are sent by a bounded pool
+ * of workers. Each template has its own rate limit; an email over the limit waits for the next period. Server errors,
+ * rate limit responses and failures to reach Notify are retried with jittered exponential backoff, while other client
+ * errors and emails still failing after the last attempt are dead-lettered. Emails left in the journal by a restart
+ * are sent once the service starts again. When the queue is disabled or full, or the journal cannot be written, the
+ * email is sent on the calling thread instead.
+ * </p>
+ *
+ * <p>
+ * The emails of one case are sent in the order they were dispatched: a single email or a fan-out to several
+ * recipients starts once everything dispatched earlier for the case has been sent or dead-lettered, so that for
+ * example the claimant is emailed before the respondents. The emails of one fan-out are sent concurrently. Emails
+ * that cannot be queued keep the same order: the calling thread waits for everything queued earlier for the case
+ * before sending them, and emails dispatched later for the case wait for it. This order is kept in memory only,
+ * emails resent after a restart are sent concurrently.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>notifications.dispatch.enabled</b>: Whether emails are queued rather than sent on the calling thread.</li>
+ *   <li><b>notifications.dispatch.journal-directory</b>: Directory holding the journals, required when emails are
+ *   queued. It must be on a persistent volume for queued emails to survive a restart of the pod.</li>
+ *   <li><b>notifications.dispatch.instance-id</b>: Id of this instance, usually the pod name, required when emails
+ *   are queued. Each instance keeps its journal and dead-letter files in a directory of that name, so the id must
+ *   stay the same across restarts for queued emails to be resent.</li>
+ *   <li><b>notifications.dispatch.journal-max-bytes</b>: Size in bytes that the journal entries of the waiting emails
+ *   may take up, including any documents attached to them. The waiting emails are also held in memory, and the
+ *   journal file is kept under twice this size.</li>
+ *   <li><b>notifications.dispatch.dead-letter.max-bytes</b>: Size at which the dead-letter file is rotated.</li>
+ *   <li><b>notifications.dispatch.workers</b>: Number of threads sending emails.</li>
+ *   <li><b>notifications.dispatch.fan-out-limit</b>: Number of threads sending the emails of a fan-out that could not
+ *   be queued.</li>
+ *   <li><b>notifications.dispatch.capacity</b>: Number of emails that may be waiting to be sent.</li>
+ *   <li><b>notifications.dispatch.template-rate-limit</b>: Number of emails sent per second with each template.</li>
+ *   <li><b>notifications.dispatch.max-attempts</b>: Number of attempts made to send an email.</li>
+ *   <li><b>notifications.dispatch.retry.initial-interval</b>, <b>multiplier</b> and <b>max-interval</b>: Backoff in
+ *   milliseconds between attempts. Each wait is a random time between half and all of the backoff.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * The number of waiting emails is published in the {@code et.notify.dispatch.queue} gauge and the time from queueing
+ * to sending in the {@code et.notify.dispatch.latency} timer. Retries and dead-lettered emails are counted in
+ * {@code et.notify.dispatch.retries} and {@code et.notify.dispatch.dead.letters}.
+ */
+@Slf4j
+@Service
+public class EmailDispatchService {
+
+    static final String QUEUE_GAUGE = "et.notify.dispatch.queue";
+    static final String LATENCY_TIMER = "et.notify.dispatch.latency";
+    static final String RETRIES_COUNTER = "et.notify.dispatch.retries";
+    static final String DEAD_LETTERS_COUNTER = "et.notify.dispatch.dead.letters";
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int MIN_CLIENT_ERROR = 400;
+    private static final int MIN_SERVER_ERROR = 500;
+    private static final Duration RATE_LIMIT_PERIOD = Duration.ofSeconds(1);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final NotificationClient notificationClient;
+    private final EmailDispatchProperties properties;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final Timer latency;
+    private final Counter retries;
+    private final Counter deadLetters;
+    private final ExecutorService fanOutExecutor;
+    private final Map<String, Set<String>> pendingByCase = new HashMap<>();
+    private final Map<String, List<CaseBarrier>> barriersByCase = new HashMap<>();
+    private EmailJournal journal;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Emails of a case waiting for the emails dispatched before them to be sent.
+     *
+     * @param waitingFor ids of the earlier emails still being sent
+     * @param release    starts sending the waiting emails
+     */
+    private record CaseBarrier(Set<String> waitingFor, Runnable release) {
+    }
+
+    /**
+     * Creates the service. Queued emails are only sent once {@link #start()} has been called.
+     *
+     * @param notificationClient the client sending emails to GOV.UK Notify
+     * @param properties         the settings of the queue
+     * @param meterRegistry      registry that queue metrics are published to
+     */
+    public EmailDispatchService(NotificationClient notificationClient, EmailDispatchProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.notificationClient = notificationClient;
+        this.properties = properties;
+        this.rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+            .limitForPeriod(Math.max(1, properties.getTemplateRateLimit()))
+            .limitRefreshPeriod(RATE_LIMIT_PERIOD)
+            .timeoutDuration(Duration.ZERO)
+            .build());
+        this.latency = Timer.builder(LATENCY_TIMER).register(meterRegistry);
+        this.retries = Counter.builder(RETRIES_COUNTER).register(meterRegistry);
+        this.deadLetters = Counter.builder(DEAD_LETTERS_COUNTER).register(meterRegistry);
+        Gauge.builder(QUEUE_GAUGE, this, EmailDispatchService::getQueueSize).register(meterRegistry);
+        this.fanOutExecutor = properties.getFanOutLimit() > 1
+            ? createFanOutExecutor(properties.getFanOutLimit())
+            : null;
+    }
+
+    /**
+     * Opens the journal of this instance, starts the workers and queues the emails left in the journal by the
+     * previous run.
+     *
+     * @throws IOException           if the journal cannot be opened
+     * @throws IllegalStateException if the journal directory or the instance id is not configured
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (isBlank(properties.getJournalDirectory()) || isBlank(properties.getInstanceId())) {
+            throw new IllegalStateException("notifications.dispatch.journal-directory and "
+                                                + "notifications.dispatch.instance-id must be set to queue emails");
+        }
+        journal = new EmailJournal(Path.of(properties.getJournalDirectory(), properties.getInstanceId()),
+                                   properties.getJournalMaxBytes(), properties.getDeadLetterMaxBytes());
+        List<EmailCommand> recovered = journal.recover();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("email-dispatch-");
+        threadFactory.setDaemon(true);
+        ScheduledThreadPoolExecutor threadPoolExecutor =
+            new ScheduledThreadPoolExecutor(properties.getWorkers(), threadFactory);
+        threadPoolExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor = threadPoolExecutor;
+        if (!recovered.isEmpty()) {
+            log.info("Resending {} emails left in the email journal", recovered.size());
+            Map<String, List<EmailCommand>> recoveredByCase = recovered.stream()
+                .collect(Collectors.groupingBy(command -> caseKey(command.reference()), LinkedHashMap::new,
+                                               Collectors.toList()));
+            recoveredByCase.forEach(this::scheduleAfterCase);
+        }
+    }
+
+    /**
+     * Queues an email to be sent to GOV.UK Notify. The personalisation is copied, so the caller may change it
+     * afterwards.
+     *
+     * @param templateId      the GOV.UK Notify template id
+     * @param emailAddress    the recipient
+     * @param personalisation the template parameters
+     * @param reference       the reference of the email, usually the case id
+     * @throws NotificationException if the email was sent on the calling thread and Notify rejected it
+     */
+    public void dispatch(String templateId, String emailAddress, Map<String, ?> personalisation, String reference) {
+        EmailCommand command = queue(templateId, emailAddress, personalisation, reference);
+        if (command == null) {
+            sendAfterCases(Set.of(caseKey(reference)), () -> {
+                sendNow(templateId, emailAddress, personalisation, reference);
+                return null;
+            });
+        } else {
+            scheduleAfterCase(caseKey(reference), List.of(command));
+        }
+    }
+
+    /**
+     * Sends the independent emails of one event to several recipients. Queued emails are sent concurrently once the
+     * emails queued earlier for the same case have been sent. If any of the emails cannot be queued, none of them is:
+     * the calling thread waits for the emails queued earlier for their cases and then sends them all concurrently on
+     * the fan-out threads and the calling thread. Failures are reported in the outcomes rather than thrown.
+     *
+     * @param requests the emails, each with its own personalisation
+     * @return the outcome of each email, in the order of the requests
+     */
+    public List<EmailOutcome> dispatchAll(List<EmailRequest> requests) {
+        Map<String, List<EmailCommand>> queuedByCase = new LinkedHashMap<>();
+        for (EmailRequest request : requests) {
+            EmailCommand command = queue(request.templateId(), request.emailAddress(), request.personalisation(),
+                                         request.reference());
+            if (command == null) {
+                queuedByCase.values().forEach(commands -> commands.forEach(this::complete));
+                Set<String> caseKeys = requests.stream()
+                    .map(each -> caseKey(each.reference()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+                return sendAfterCases(caseKeys, () -> sendAllNow(requests));
+            }
+            queuedByCase.computeIfAbsent(caseKey(request.reference()), key -> new ArrayList<>()).add(command);
+        }
+        queuedByCase.forEach(this::scheduleAfterCase);
+        return requests.stream()
+            .map(request -> new EmailOutcome(request.emailAddress(), EmailOutcome.Status.QUEUED, null))
+            .toList();
+    }
+
+    /**
+     * Returns the number of emails waiting to be sent.
+     *
+     * @return the number of emails in the journal
+     */
+    public int getQueueSize() {
+        return journal == null ? 0 : journal.size();
+    }
+
+    /**
+     * Stops the workers once the emails being sent have been sent. Emails still waiting stay in the journal and are
+     * sent after the next start.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdown();
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Email dispatch workers did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // queued emails still waiting stay in the journal, callers waiting to send on their own thread go ahead
+        List<Runnable> waiting;
+        synchronized (pendingByCase) {
+            waiting = barriersByCase.values().stream().flatMap(List::stream).map(CaseBarrier::release).toList();
+            barriersByCase.clear();
+        }
+        waiting.forEach(Runnable::run);
+        journal.close();
+    }
+
+    void send(EmailCommand command, int attempt) {
+        if (!rateLimiterRegistry.rateLimiter(command.templateId()).acquirePermission()) {
+            schedule(command, attempt, RATE_LIMIT_PERIOD.toMillis());
+            return;
+        }
+        try {
+            notificationClient.sendEmail(command.templateId(), command.emailAddress(), command.personalisation(),
+                                         command.reference());
+            latency.record(System.currentTimeMillis() - command.enqueuedAt(), TimeUnit.MILLISECONDS);
+            complete(command);
+            releaseCase(command);
+        } catch (NotificationClientException e) {
+            handleFailure(command, attempt, e, isRetryable(e.getHttpResult()));
+        } catch (RuntimeException e) {
+            // Notify's circuit is open, its bulkhead is full or it could not be reached
+            handleFailure(command, attempt, e, true);
+        }
+    }
+
+    static boolean isRetryable(int httpResult) {
+        return httpResult < MIN_CLIENT_ERROR || httpResult == TOO_MANY_REQUESTS || httpResult >= MIN_SERVER_ERROR;
+    }
+
+    long backoff(int attempt) {
+        double interval = properties.getRetryInitialInterval() * Math.pow(properties.getRetryMultiplier(), attempt - 1);
+        long maxInterval = (long) Math.min(interval, properties.getRetryMaxInterval());
+        // a random wait of between half and all of the interval keeps instances from retrying Notify in lockstep
+        return maxInterval / 2 + ThreadLocalRandom.current().nextLong(maxInterval - maxInterval / 2 + 1);
+    }
+
+    private void handleFailure(EmailCommand command, int attempt, Exception exception, boolean retryable) {
+        if (retryable && attempt < properties.getMaxAttempts()) {
+            log.warn("Attempt {} to send email {} with template {} failed: {}",
+                     attempt, command.id(), command.templateId(), exception.getMessage());
+            retries.increment();
+            schedule(command, attempt + 1, backoff(attempt));
+            return;
+        }
+        log.error("Email {} with template {} for case {} dead-lettered after {} attempts",
+                  command.id(), command.templateId(), command.reference(), attempt, exception);
+        deadLetters.increment();
+        try {
+            journal.deadLetter(command, exception.getMessage());
+        } catch (IOException e) {
+            log.error("Could not dead-letter email {}", command.id(), e);
+        }
+        releaseCase(command);
+    }
+
+    private void complete(EmailCommand command) {
+        try {
+            journal.complete(command.id());
+        } catch (IOException e) {
+            log.warn("Could not mark email {} as sent in the email journal", command.id(), e);
+        }
+    }
+
+    private void schedule(EmailCommand command, int attempt, long delayMillis) {
+        try {
+            executor.schedule(() -> send(command, attempt), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.info("Email dispatch is stopping, email {} is kept in the email journal", command.id());
+        }
+    }
+
+    private EmailCommand queue(String templateId, String emailAddress, Map<String, ?> personalisation,
+                               String reference) {
+        if (executor == null) {
+            return null;
+        }
+        if (journal.size() >= properties.getCapacity()) {
+            log.warn("Email queue is full, sending email with template {} on the calling thread", templateId);
+            return null;
+        }
+        EmailCommand command = new EmailCommand(UUID.randomUUID().toString(), templateId, emailAddress,
+                                                toJournalValues(personalisation), reference,
+                                                System.currentTimeMillis());
+        try {
+            if (!journal.append(command)) {
+                log.warn("Email journal is full, sending email with template {} on the calling thread", templateId);
+                return null;
+            }
+        } catch (IOException e) {
+            log.warn("Could not write to the email journal, sending email on the calling thread", e);
+            return null;
+        }
+        return command;
+    }
+
+    private void scheduleAfterCase(String caseKey, List<EmailCommand> commands) {
+        Runnable release = () -> commands.forEach(command -> schedule(command, 1, 0));
+        boolean ready;
+        synchronized (pendingByCase) {
+            ready = holdCase(caseKey, commands.stream().map(EmailCommand::id).toList(), release);
+        }
+        if (ready) {
+            release.run();
+        }
+    }
+
+    private <T> T sendAfterCases(Set<String> caseKeys, Supplier<T> sendNow) {
+        if (executor == null) {
+            return sendNow.get();
+        }
+        String holdId = UUID.randomUUID().toString();
+        List<CompletableFuture<Void>> turns = new ArrayList<>();
+        synchronized (pendingByCase) {
+            // once stopping, the emails being sent for a case are no longer released
+            if (!executor.isShutdown()) {
+                for (String caseKey : caseKeys) {
+                    CompletableFuture<Void> turn = new CompletableFuture<>();
+                    if (!holdCase(caseKey, List.of(holdId), () -> turn.complete(null))) {
+                        turns.add(turn);
+                    }
+                }
+            }
+        }
+        try {
+            turns.forEach(CompletableFuture::join);
+            return sendNow.get();
+        } finally {
+            caseKeys.forEach(caseKey -> releaseCase(caseKey, holdId));
+        }
+    }
+
+    /**
+     * Adds emails to those being sent for a case, to be released once the emails already being sent have been sent.
+     * Must be called holding the lock on {@code pendingByCase}.
+     *
+     * @param caseKey the case
+     * @param ids     ids of the emails, which are released with {@link #releaseCase(String, String)} once sent
+     * @param release starts sending the emails once the earlier emails have been sent
+     * @return {@code true} if nothing else is being sent for the case, in which case {@code release} is not run
+     */
+    private boolean holdCase(String caseKey, List<String> ids, Runnable release) {
+        Set<String> pending = pendingByCase.computeIfAbsent(caseKey, key -> new HashSet<>());
+        boolean ready = pending.isEmpty();
+        if (!ready) {
+            barriersByCase.computeIfAbsent(caseKey, key -> new ArrayList<>())
+                .add(new CaseBarrier(new HashSet<>(pending), release));
+        }
+        pending.addAll(ids);
+        return ready;
+    }
+
+    private void releaseCase(EmailCommand command) {
+        releaseCase(caseKey(command.reference()), command.id());
+    }
+
+    private void releaseCase(String caseKey, String id) {
+        List<Runnable> ready = new ArrayList<>();
+        synchronized (pendingByCase) {
+            Set<String> pending = pendingByCase.get(caseKey);
+            if (pending != null && pending.remove(id) && pending.isEmpty()) {
+                pendingByCase.remove(caseKey);
+            }
+            List<CaseBarrier> barriers = barriersByCase.getOrDefault(caseKey, List.of());
+            Iterator<CaseBarrier> iterator = barriers.iterator();
+            while (iterator.hasNext()) {
+                CaseBarrier barrier = iterator.next();
+                if (barrier.waitingFor().remove(id) && barrier.waitingFor().isEmpty()) {
+                    iterator.remove();
+                    ready.add(barrier.release());
+                }
+            }
+            if (barriers.isEmpty()) {
+                barriersByCase.remove(caseKey);
+            }
+        }
+        ready.forEach(Runnable::run);
+    }
+
+    private void sendNow(String templateId, String emailAddress, Map<String, ?> personalisation, String reference) {
+        try {
+            notificationClient.sendEmail(templateId, emailAddress, personalisation, reference);
+        } catch (NotificationClientException ne) {
+            throw new NotificationException(ne);
+        }
+    }
+
+    private List<EmailOutcome> sendAllNow(List<EmailRequest> requests) {
+        if (fanOutExecutor == null || requests.size() < 2) {
+            return requests.stream().map(this::sendOutcome).toList();
+        }
+        List<CompletableFuture<EmailOutcome>> futures = requests.stream()
+            .map(request -> CompletableFuture.supplyAsync(() -> sendOutcome(request), fanOutExecutor))
+            .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private EmailOutcome sendOutcome(EmailRequest request) {
+        try {
+            notificationClient.sendEmail(request.templateId(), request.emailAddress(), request.personalisation(),
+                                         request.reference());
+            return new EmailOutcome(request.emailAddress(), EmailOutcome.Status.SENT, null);
+        } catch (NotificationClientException | RuntimeException e) {
+            log.error("Could not send email with template {} for case {}", request.templateId(),
+                      request.reference(), e);
+            return new EmailOutcome(request.emailAddress(), EmailOutcome.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private static ExecutorService createFanOutExecutor(int fanOutLimit) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("email-fan-out-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+            fanOutLimit, fanOutLimit, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    private static String caseKey(String reference) {
+        return Objects.toString(reference, "");
+    }
+
+    private static Map<String, Object> toJournalValues(Map<String, ?> personalisation) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        personalisation.forEach((key, value) -> values.put(key, value instanceof JSONObject json
+            ? json.toMap()
+            : value));
+        return values;
+    }
+}
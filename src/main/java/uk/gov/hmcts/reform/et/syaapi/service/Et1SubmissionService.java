@@ -0,0 +1,252 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.ecm.common.service.pdf.PdfDecodedMultipartFile;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.et.common.model.ccd.items.DocumentTypeItem;
+import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
+import uk.gov.hmcts.reform.et.syaapi.service.pdf.PdfUploadService;
+import uk.gov.hmcts.reform.et.syaapi.service.utils.GenericServiceUtil;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static uk.gov.hmcts.ecm.common.model.helper.DocumentConstants.ACAS_CERTIFICATE;
+import static uk.gov.hmcts.ecm.common.model.helper.DocumentConstants.ET1;
+import static uk.gov.hmcts.reform.et.syaapi.constants.DocumentCategoryConstants.ACAS_DOC_CATEGORY;
+import static uk.gov.hmcts.reform.et.syaapi.constants.DocumentCategoryConstants.ET1_PDF_DOC_CATEGORY;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.ENGLISH_LANGUAGE;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.WELSH_LANGUAGE;
+
+/**
+ * Creates and uploads the documents of a submitted ET1 claim and sends the claimant their confirmation email.
+ *
+ * <p>
+ * The work is run as a graph of stages on a bounded executor, each stage starting as soon as its inputs are ready:
+ * the English and Welsh pdf files are created while the ACAS certificates are fetched, the confirmation email is sent
+ * once the pdf files exist, and each pdf file is uploaded to the document store as soon as it has been created, while
+ * the certificates are uploaded together in one batch. When the executor is saturated a stage runs on the thread that
+ * made it ready instead of being rejected.
+ * </p>
+ *
+ * <p>
+ * Failures are handled as they were when the stages ran one after another: a pdf file that cannot be created is left
+ * out, a failed upload sends the upload error email to the service owners and leaves the document collection empty,
+ * and any other failure is thrown once every stage has finished.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>et1_submission.pool-size</b>: Number of threads running submission stages.</li>
+ *   <li><b>et1_submission.queue-capacity</b>: Number of stages that may wait for a free thread.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * The duration of each stage is recorded in the {@code et.submission.stage} timer, tagged by stage and outcome, and
+ * logged with the case id once the documents are ready. Executor utilisation is published under the
+ * {@code et1Submission} executor name.
+ */
+@Slf4j
+@Service
+public class Et1SubmissionService {
+
+    static final String STAGE_TIMER = "et.submission.stage";
+    static final String STAGE_ENGLISH_PDF = "englishPdf";
+    static final String STAGE_WELSH_PDF = "welshPdf";
+    static final String STAGE_ACAS_CERTIFICATES = "acasCertificates";
+    static final String STAGE_CONFIRMATION_EMAIL = "confirmationEmail";
+    static final String STAGE_UPLOAD = "upload";
+    static final String STAGE_TOTAL = "total";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+
+    private final PdfUploadService pdfUploadService;
+    private final AcasService acasService;
+    private final CaseDocumentService caseDocumentService;
+    private final NotificationService notificationService;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    /**
+     * Stage of the submission, which may fail to upload a document.
+     *
+     * @param <T> type of the stage result
+     */
+    @FunctionalInterface
+    private interface Stage<T> {
+        T run() throws CaseDocumentException;
+    }
+
+    /**
+     * Creates the service with its own bounded executor.
+     *
+     * @param pdfUploadService    creates the ET1 and ACAS certificate pdf files
+     * @param acasService         fetches the ACAS certificates
+     * @param caseDocumentService uploads the pdf files to the document store
+     * @param notificationService sends the confirmation and upload error emails
+     * @param meterRegistry       registry that stage and executor metrics are published to
+     * @param poolSize            number of threads running submission stages
+     * @param queueCapacity       number of stages that may wait for a free thread
+     */
+    public Et1SubmissionService(PdfUploadService pdfUploadService,
+                                AcasService acasService,
+                                CaseDocumentService caseDocumentService,
+                                NotificationService notificationService,
+                                MeterRegistry meterRegistry,
+                                @Value("${et1_submission.pool-size:16}") int poolSize,
+                                @Value("${et1_submission.queue-capacity:64}") int queueCapacity) {
+        this.pdfUploadService = pdfUploadService;
+        this.acasService = acasService;
+        this.caseDocumentService = caseDocumentService;
+        this.notificationService = notificationService;
+        this.meterRegistry = meterRegistry;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("et1-submission-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+            poolSize, poolSize, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, "et1Submission");
+    }
+
+    /**
+     * Creates the ET1 pdf files, fetches the ACAS certificates, sends the confirmation email and uploads the documents
+     * of a submitted claim.
+     *
+     * @param authorization the claimant's token, used to upload the documents
+     * @param caseRequest   the submitted case request
+     * @param caseData      the submitted case, with its ethos case reference set
+     * @param userInfo      the claimant, whose name is used when the case has none
+     * @return the uploaded documents in the order ET1 pdf files, claim description, ACAS certificates, or an empty
+     *     list if any upload failed
+     */
+    public List<DocumentTypeItem> prepareDocuments(String authorization, CaseRequest caseRequest, CaseData caseData,
+                                                   UserInfo userInfo) {
+        Map<String, Long> timings = new ConcurrentSkipListMap<>();
+        Timer.Sample total = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        String caseType = caseRequest.getCaseTypeId();
+
+        CompletableFuture<Optional<PdfDecodedMultipartFile>> englishPdf = stage(
+            STAGE_ENGLISH_PDF, timings,
+            () -> pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(caseData, userInfo, ENGLISH_LANGUAGE));
+        CompletableFuture<Optional<PdfDecodedMultipartFile>> welshPdf =
+            WELSH_LANGUAGE.equals(GenericServiceUtil.findClaimantLanguage(caseData))
+                ? stage(STAGE_WELSH_PDF, timings,
+                        () -> pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(caseData, userInfo,
+                                                                                        WELSH_LANGUAGE))
+                : CompletableFuture.completedFuture(Optional.empty());
+        CompletableFuture<List<PdfDecodedMultipartFile>> acasCertificates = stage(
+            STAGE_ACAS_CERTIFICATES, timings,
+            () -> pdfUploadService.convertAcasCertificatesToPdfDecodedMultipartFiles(
+                caseData, acasService.getAcasCertificatesByCaseData(caseData)));
+
+        CompletableFuture<List<PdfDecodedMultipartFile>> casePdfFiles = englishPdf.thenCombine(
+            welshPdf, (english, welsh) -> Stream.of(english, welsh).flatMap(Optional::stream).toList());
+        CompletableFuture<?> confirmationEmail = casePdfFiles.thenCompose(files -> stage(
+            STAGE_CONFIRMATION_EMAIL, timings,
+            () -> notificationService.sendSubmitCaseConfirmationEmail(caseRequest, caseData, userInfo, files)));
+
+        CompletableFuture<List<DocumentTypeItem>> englishUpload = englishPdf.thenCompose(
+            pdf -> upload(authorization, caseType, ET1, ET1_PDF_DOC_CATEGORY, pdf.stream().toList(), timings));
+        CompletableFuture<List<DocumentTypeItem>> welshUpload = welshPdf.thenCompose(
+            pdf -> upload(authorization, caseType, ET1, ET1_PDF_DOC_CATEGORY, pdf.stream().toList(), timings));
+        CompletableFuture<List<DocumentTypeItem>> acasUpload = acasCertificates.thenCompose(
+            files -> upload(authorization, caseType, ACAS_CERTIFICATE, ACAS_DOC_CATEGORY, files, timings));
+
+        // every stage has finished, successfully or not, before the submission carries on or fails
+        CompletableFuture<?>[] lastStages = {confirmationEmail, englishUpload, welshUpload, acasUpload};
+        CompletableFuture.allOf(lastStages).exceptionally(throwable -> null).join();
+        boolean failed = Stream.of(lastStages).anyMatch(CompletableFuture::isCompletedExceptionally);
+        timings.put(STAGE_TOTAL, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        total.stop(meterRegistry.timer(STAGE_TIMER, "stage", STAGE_TOTAL,
+                                       "outcome", failed ? OUTCOME_FAILURE : OUTCOME_SUCCESS));
+        log.info("Prepared ET1 submission documents for case {}, stage durations in ms: {}",
+                 caseRequest.getCaseId(), timings);
+
+        try {
+            await(confirmationEmail);
+            await(acasCertificates);
+            List<DocumentTypeItem> documents = new ArrayList<>(await(englishUpload));
+            documents.addAll(await(welshUpload));
+            caseDocumentService.createClaimDescriptionDocumentTypeItem(caseData).ifPresent(documents::add);
+            documents.addAll(await(acasUpload));
+            return documents;
+        } catch (CaseDocumentException cde) {
+            // Send upload error alert email to shared inbox
+            notificationService.sendDocUploadErrorEmail(caseRequest, casePdfFiles.join(), acasCertificates.join(),
+                                                        caseData.getClaimantRequests().getClaimDescriptionDocument());
+            GenericServiceUtil.logException("Case Documents Upload error - Failed to complete case documents upload",
+                                            caseData.getEthosCaseReference(), cde.getMessage(),
+                                            this.getClass().getName(), "submitCase");
+            return new ArrayList<>();
+        }
+    }
+
+    private CompletableFuture<List<DocumentTypeItem>> upload(String authorization, String caseType,
+                                                             String documentType, String categoryId,
+                                                             List<PdfDecodedMultipartFile> files,
+                                                             Map<String, Long> timings) {
+        if (files.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return stage(STAGE_UPLOAD, timings, () -> caseDocumentService.createDocumentTypeItems(
+            authorization, caseType, documentType, categoryId, files));
+    }
+
+    private <T> CompletableFuture<T> stage(String name, Map<String, Long> timings, Stage<T> stage) {
+        return CompletableFuture.supplyAsync(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long started = System.nanoTime();
+            String outcome = OUTCOME_FAILURE;
+            try {
+                T result = stage.run();
+                outcome = OUTCOME_SUCCESS;
+                return result;
+            } catch (CaseDocumentException e) {
+                throw new CompletionException(e);
+            } finally {
+                timings.merge(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), Math::max);
+                sample.stop(meterRegistry.timer(STAGE_TIMER, "stage", name, "outcome", outcome));
+            }
+        }, executor);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws CaseDocumentException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CaseDocumentException caseDocumentException) {
+                throw caseDocumentException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
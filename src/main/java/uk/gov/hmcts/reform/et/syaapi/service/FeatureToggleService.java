@@ -1,51 +1,106 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import com.launchdarkly.sdk.server.interfaces.FlagChangeEvent;
+import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ecm.common.launchdarkly.FeatureToggleApi;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checks LaunchDarkly feature flags from a local snapshot of their values.
+ *
+ * <p>
+ * A flag is evaluated through {@link FeatureToggleApi} the first time it is checked, and its value is then held in an
+ * immutable map that is replaced as a whole whenever a value changes, so checks read the current map without locking
+ * or calling the flag SDK. Values are re-evaluated when the LaunchDarkly client reports that a flag changed, and all
+ * of them at a fixed interval in case a change was missed. A value that cannot be re-evaluated keeps its previous
+ * value.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>launchdarkly.snapshot.refresh-interval</b>: Time in milliseconds between re-evaluations of all the flags
+ *   held.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * Checks are counted per flag in the {@code et.feature_toggle.evaluations} counter, tagged with the flag key.
+ */
 @Slf4j
 @Service
 public class FeatureToggleService {
 
+    static final String EVALUATIONS_COUNTER = "et.feature_toggle.evaluations";
+
     private final FeatureToggleApi featureToggleApi;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<Map<String, Boolean>> flags = new AtomicReference<>(Map.of());
+    private final ConcurrentMap<String, Counter> evaluations = new ConcurrentHashMap<>();
 
+    /**
+     * Creates the service and subscribes to the flag changes reported by the LaunchDarkly client.
+     *
+     * @param featureToggleApi evaluates the flags
+     * @param meterRegistry    registry the evaluation counters are published to
+     * @param ldClient         the LaunchDarkly client reporting flag changes
+     */
     @Autowired
-    public FeatureToggleService(FeatureToggleApi featureToggleApi) {
+    public FeatureToggleService(FeatureToggleApi featureToggleApi, MeterRegistry meterRegistry,
+                                LDClientInterface ldClient) {
         this.featureToggleApi = featureToggleApi;
+        this.meterRegistry = meterRegistry;
+        ldClient.getFlagTracker().addFlagChangeListener(this::onFlagChange);
     }
 
     public boolean isFeatureEnabled(String feature) {
-        return this.featureToggleApi.isFeatureEnabled(feature);
+        evaluations.computeIfAbsent(feature, this::evaluationCounter).increment();
+        Boolean enabled = flags.get().get(feature);
+        if (enabled == null) {
+            boolean evaluated = featureToggleApi.isFeatureEnabled(feature);
+            // a value set by a change event in the meantime is newer than this one
+            enabled = flags.updateAndGet(current -> current.containsKey(feature)
+                ? current
+                : with(current, feature, evaluated)).get(feature);
+        }
+        return enabled;
     }
 
     public boolean isCaseFlagsEnabled() {
-        return this.featureToggleApi.isFeatureEnabled("case-flags-linking-enabled");
+        return isFeatureEnabled("case-flags-linking-enabled");
     }
 
     public boolean isBundlesEnabled() {
-        return this.featureToggleApi.isFeatureEnabled("bundles");
+        return isFeatureEnabled("bundles");
     }
 
     public boolean isWorkAllocationEnabled() {
-        return this.featureToggleApi.isFeatureEnabled("work-allocation");
+        return isFeatureEnabled("work-allocation");
     }
 
     public boolean isWelshEnabled() {
-        return this.featureToggleApi.isFeatureEnabled("welsh-language");
+        return isFeatureEnabled("welsh-language");
     }
 
     public boolean isEccEnabled() {
-        return this.featureToggleApi.isFeatureEnabled("ecc");
+        return isFeatureEnabled("ecc");
     }
 
     public boolean isMultiplesEnabled() {
-        return this.featureToggleApi.isFeatureEnabled("multiples");
+        return isFeatureEnabled("multiples");
     }
 
     public boolean citizenEt1Generation() {
-        return this.featureToggleApi.isFeatureEnabled("citizen-et1-generation");
+        return isFeatureEnabled("citizen-et1-generation");
     }
 
     /**
@@ -55,6 +110,52 @@ public class FeatureToggleService {
      * @return true if the feature toggle is enabled, false otherwise
      */
     public boolean isAcasVetAndAcceptEnabled() {
-        return this.featureToggleApi.isFeatureEnabled("acasVetAndAccept");
+        return isFeatureEnabled("acasVetAndAccept");
+    }
+
+    /**
+     * Re-evaluates all the flags held at the interval defined by {@code launchdarkly.snapshot.refresh-interval}.
+     */
+    @Scheduled(fixedRateString = "${launchdarkly.snapshot.refresh-interval:60000}")
+    public void refresh() {
+        Map<String, Boolean> refreshed = new HashMap<>();
+        for (String feature : flags.get().keySet()) {
+            try {
+                refreshed.put(feature, featureToggleApi.isFeatureEnabled(feature));
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh feature flag {}, keeping its previous value", feature, e);
+            }
+        }
+        flags.updateAndGet(current -> {
+            Map<String, Boolean> updated = new HashMap<>(current);
+            refreshed.forEach((feature, enabled) -> updated.replace(feature, enabled));
+            return Map.copyOf(updated);
+        });
+    }
+
+    void onFlagChange(FlagChangeEvent event) {
+        String feature = event.getKey();
+        if (!flags.get().containsKey(feature)) {
+            return;
+        }
+        try {
+            boolean enabled = featureToggleApi.isFeatureEnabled(feature);
+            flags.updateAndGet(current -> with(current, feature, enabled));
+        } catch (RuntimeException e) {
+            log.warn("Failed to evaluate changed feature flag {}, keeping its previous value", feature, e);
+        }
+    }
+
+    private Counter evaluationCounter(String feature) {
+        return Counter.builder(EVALUATIONS_COUNTER)
+            .description("Number of checks of a feature flag")
+            .tag("flag", feature)
+            .register(meterRegistry);
+    }
+
+    private static Map<String, Boolean> with(Map<String, Boolean> flags, String feature, boolean enabled) {
+        Map<String, Boolean> updated = new HashMap<>(flags);
+        updated.put(feature, enabled);
+        return Map.copyOf(updated);
     }
 }
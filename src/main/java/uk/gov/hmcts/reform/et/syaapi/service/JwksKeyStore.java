@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.SecretJWK;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+
+import java.net.URL;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory store of the IDAM JSON Web Keys used by {@link VerifyTokenService}, keyed by key id.
+ *
+ * <p>
+ * The key set is loaded from IDAM on a fixed schedule rather than per request. When a token arrives with a key id
+ * that is not in the store, a single refetch is attempted; these refetches are rate limited so that a flood of tokens
+ * with unknown key ids cannot be turned into a flood of calls to IDAM. If IDAM cannot be reached, the last key set
+ * that was successfully loaded continues to be served.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>idam.api.jwksUrl</b>: URL of the IDAM JWKS endpoint.</li>
+ *   <li><b>idam.jwks.refresh-interval</b>: Interval in milliseconds for the scheduled refresh.</li>
+ *   <li><b>idam.jwks.min-refetch-interval</b>: Minimum interval in milliseconds between refetches triggered by
+ *   unknown key ids.</li>
+ *   <li><b>idam.jwks.connect-timeout</b> and <b>idam.jwks.read-timeout</b>: Timeouts in milliseconds for loading the
+ *   key set.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JwksKeyStore {
+
+    private static final int JWKS_SIZE_LIMIT = 51_200;
+
+    private final String jwksUrl;
+    private final long minRefetchIntervalMillis;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final AtomicReference<Map<String, Key>> keys = new AtomicReference<>(Map.of());
+    private long lastRefetchMillis;
+
+    /**
+     * Creates the key store. The key set is not loaded until the first scheduled refresh or the first lookup.
+     *
+     * @param jwksUrl                  the IDAM JWKS endpoint
+     * @param minRefetchIntervalMillis minimum interval between refetches triggered by an unknown key id
+     * @param connectTimeoutMillis     connect timeout used when loading the key set
+     * @param readTimeoutMillis        read timeout used when loading the key set
+     */
+    public JwksKeyStore(@Value("${idam.api.jwksUrl}") String jwksUrl,
+                        @Value("${idam.jwks.min-refetch-interval:30000}") long minRefetchIntervalMillis,
+                        @Value("${idam.jwks.connect-timeout:5000}") int connectTimeoutMillis,
+                        @Value("${idam.jwks.read-timeout:5000}") int readTimeoutMillis) {
+        this.jwksUrl = jwksUrl;
+        this.minRefetchIntervalMillis = minRefetchIntervalMillis;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * Returns the key for the given key id. If the key id is unknown, the key set is refetched once (subject to
+     * the refetch rate limit) before giving up.
+     *
+     * @param keyId the {@code kid} from the header of the token being verified
+     * @return the key used to verify the token signature
+     * @throws InvalidTokenException if no key exists for the given key id
+     */
+    public Key getKey(String keyId) {
+        Key key = keys.get().get(keyId);
+        if (key == null) {
+            refetchForUnknownKey();
+            key = keys.get().get(keyId);
+        }
+        if (key == null) {
+            throw new InvalidTokenException("JWK does not exist in the key set");
+        }
+        return key;
+    }
+
+    /**
+     * Reloads the key set from IDAM at the interval defined by {@code idam.jwks.refresh-interval}. Failures are
+     * logged and the previously loaded keys are kept.
+     */
+    @Scheduled(fixedRateString = "${idam.jwks.refresh-interval:300000}")
+    public void refresh() {
+        try {
+            JWKSet jsonWebKeySet = JWKSet.load(new URL(jwksUrl), connectTimeoutMillis, readTimeoutMillis,
+                                               JWKS_SIZE_LIMIT);
+            keys.set(toKeyMap(jsonWebKeySet));
+        } catch (Exception e) {
+            log.warn("JWKS key loading error, keeping {} previously loaded keys", keys.get().size(), e);
+        }
+    }
+
+    private synchronized void refetchForUnknownKey() {
+        long now = System.currentTimeMillis();
+        if (now - lastRefetchMillis < minRefetchIntervalMillis) {
+            return;
+        }
+        lastRefetchMillis = now;
+        refresh();
+    }
+
+    private static Map<String, Key> toKeyMap(JWKSet jsonWebKeySet) throws JOSEException {
+        Map<String, Key> keyMap = new HashMap<>();
+        for (JWK jsonWebKey : jsonWebKeySet.getKeys()) {
+            if (jsonWebKey.getKeyID() == null) {
+                continue;
+            }
+            if (jsonWebKey instanceof SecretJWK secretJwk) {
+                keyMap.put(jsonWebKey.getKeyID(), secretJwk.toSecretKey());
+            } else if (jsonWebKey instanceof AsymmetricJWK asymmetricJwk) {
+                keyMap.put(jsonWebKey.getKeyID(), asymmetricJwk.toPublicKey());
+            } else {
+                log.warn("Unsupported JWK {}", jsonWebKey.getClass().getName());
+            }
+        }
+        return Map.copyOf(keyMap);
+    }
+}
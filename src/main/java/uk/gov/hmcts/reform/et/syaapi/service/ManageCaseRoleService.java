@@ -42,16 +42,18 @@ import uk.gov.hmcts.reform.et.syaapi.helper.CaseDetailsConverter;
 import uk.gov.hmcts.reform.et.syaapi.helper.EmployeeObjectMapper;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseAssignmentResponse;
 import uk.gov.hmcts.reform.et.syaapi.models.FindCaseForRoleModificationRequest;
+import uk.gov.hmcts.reform.et.syaapi.models.UserCasesPage;
 import uk.gov.hmcts.reform.et.syaapi.search.ElasticSearchQueryBuilder;
+import uk.gov.hmcts.reform.et.syaapi.search.UserCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ClaimantUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.DocumentUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ManageCaseRoleServiceUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.RemoteServiceUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.RespondentUtil;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -83,12 +85,13 @@ import static uk.gov.hmcts.reform.et.syaapi.service.utils.RemoteServiceUtil.buil
 public class ManageCaseRoleService {
     private final AdminUserService adminUserService;
     private final AuthTokenGenerator authTokenGenerator;
-    private final IdamClient idamClient;
+    private final UserInfoService userInfoService;
     private final RestTemplate restTemplate;
     private final CoreCaseDataApi ccdApi;
     private final ET3Service et3Service;
     private final CaseService caseService;
     private final CaseDetailsConverter caseDetailsConverter;
+    private final CaseTypeSearchService caseTypeSearchService;
 
     @Value("${assign_case_access_api_url}")
     private String aacUrl;
@@ -139,40 +142,43 @@ public class ManageCaseRoleService {
             ? ElasticSearchQueryBuilder.buildByFindCaseForRoleModificationRequestClaimant(request)
             : ElasticSearchQueryBuilder.buildByFindCaseForRoleModificationRequest(request);
 
-        if (ET_SYA_FRONTEND.equals(request.getApplicationName())) {
-            CaseDetails caseDetails = findCaseInSearchResults(adminUserToken, elasticSearchQuery, ENGLAND_CASE_TYPE);
-            if (caseDetails != null) {
-                return caseDetails;
-            }
-            return findCaseInSearchResults(adminUserToken, elasticSearchQuery, SCOTLAND_CASE_TYPE);
+        // Scotland is only searched when England finds nothing
+        try {
+            return caseTypeSearchService.searchFirst(
+                List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE),
+                caseType -> findCase(request, authorisation,
+                                     searchCasesByCaseType(adminUserToken, caseType, elasticSearchQuery))
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+    }
 
-        CaseDetails caseDetails = findCaseByCaseType(adminUserToken, ENGLAND_CASE_TYPE,
-                                                     elasticSearchQuery, authorisation);
-        if (caseDetails != null) {
-            return caseDetails;
+    private CaseDetails findCase(FindCaseForRoleModificationRequest request,
+                                 String authorisation,
+                                 List<CaseDetails> caseDetailsList) {
+        try {
+            return ET_SYA_FRONTEND.equals(request.getApplicationName())
+                ? findCaseInSearchResults(caseDetailsList)
+                : findCaseByCaseType(caseDetailsList, authorisation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return findCaseByCaseType(adminUserToken, SCOTLAND_CASE_TYPE, elasticSearchQuery, authorisation);
     }
 
-    private CaseDetails findCaseInSearchResults(String adminUserToken, String query, String caseType) {
+    private List<CaseDetails> searchCasesByCaseType(String adminUserToken, String caseType, String query) {
         SearchResult searchResult = ccdApi.searchCases(adminUserToken, authTokenGenerator.generate(), caseType, query);
-        if (ObjectUtils.isNotEmpty(searchResult) && CollectionUtils.isNotEmpty(searchResult.getCases())) {
-            return searchResult.getCases().getFirst();
-        }
-        return null;
+        return ObjectUtils.isNotEmpty(searchResult)
+            ? Optional.ofNullable(searchResult.getCases()).orElse(Collections.emptyList())
+            : Collections.emptyList();
+    }
+
+    private static CaseDetails findCaseInSearchResults(List<CaseDetails> caseDetailsList) {
+        return CollectionUtils.isNotEmpty(caseDetailsList) ? caseDetailsList.getFirst() : null;
     }
 
-    private CaseDetails findCaseByCaseType(String adminUserToken,
-                                           String caseType,
-                                           String elasticSearchQuery,
+    private CaseDetails findCaseByCaseType(List<CaseDetails> caseDetailsList,
                                            String authorisation) throws IOException {
-        List<CaseDetails> caseDetailsList = Optional.ofNullable(ccdApi.searchCases(
-            adminUserToken,
-            authTokenGenerator.generate(),
-            caseType,
-            elasticSearchQuery
-        ).getCases()).orElse(Collections.emptyList());
         return checkIsUserCreator(authorisation, caseDetailsList)
             ? null
             : ManageCaseRoleServiceUtil.checkCaseDetailsList(caseDetailsList);
@@ -268,7 +274,7 @@ public class ManageCaseRoleService {
                         modifyCaseUserRole.getRespondentName(),
                         modifyCaseUserRole.getUserId(),
                         modificationType,
-                        idamClient.getUserInfo(authorisation)
+                        userInfoService.getUserInfo(authorisation)
                     );
                     wasAlreadyAssigned = wasAlreadyAssigned || isAlreadyAssigned;
                     updatedCases.add(
@@ -320,7 +326,7 @@ public class ManageCaseRoleService {
                 modifyCaseUserRolesRequest);
 
         String adminToken = adminUserService.getAdminUserToken();
-        UserInfo adminUserInfo = idamClient.getUserInfo(adminToken);
+        UserInfo adminUserInfo = userInfoService.getUserInfo(adminToken);
 
         // Phase 1: Validate and prepare data (before role assignment)
         List<CaseDetails> preparedCases = new ArrayList<>();
@@ -358,7 +364,7 @@ public class ManageCaseRoleService {
                                                        CaseEvent.UPDATE_CASE_SUBMITTED.toString());
 
                     caseDetails = startEventResponse.getCaseDetails();
-                    UserInfo userInfo = idamClient.getUserInfo(authorisation);
+                    UserInfo userInfo = userInfoService.getUserInfo(authorisation);
                     assignClaimantToCase(roleReq, caseDetails, userInfo);
 
                     // Phase 2: Assign the role
@@ -417,7 +423,7 @@ public class ManageCaseRoleService {
             CaseDetails submittedCaseDetails = ccdApi.submitEventForCaseWorker(
                 authorisation,
                 authTokenGenerator.generate(),
-                idamClient.getUserInfo(authorisation).getUid(),
+                userInfoService.getUserInfo(authorisation).getUid(),
                 EMPLOYMENT,
                 caseDetails.getCaseTypeId(),
                 caseDetails.getId().toString(),
@@ -475,7 +481,7 @@ public class ManageCaseRoleService {
                     modifyCaseUserRole.getRespondentName(),
                     modifyCaseUserRole.getUserId(),
                     modificationType,
-                    idamClient.getUserInfo(authorisation)
+                    userInfoService.getUserInfo(authorisation)
                 );
                 caseDetailsList.add(
                     et3Service.updateSubmittedCaseWithCaseDetailsForCaseAssignment(authorisation,
@@ -497,7 +503,7 @@ public class ManageCaseRoleService {
      */
     public ModifyCaseUserRolesRequest generateModifyCaseUserRolesRequest(
         String authorisation, ModifyCaseUserRolesRequest modifyCaseUserRolesRequest) {
-        UserInfo userInfo = idamClient.getUserInfo(authorisation);
+        UserInfo userInfo = userInfoService.getUserInfo(authorisation);
         List<ModifyCaseUserRole> tmpModifyCaseUserRoles = new ArrayList<>();
         for (ModifyCaseUserRole modifyCaseUserRole : modifyCaseUserRolesRequest.getModifyCaseUserRoles()) {
             ModifyCaseUserRole tmpModifyCaseUserRole = ModifyCaseUserRole.builder()
@@ -523,7 +529,7 @@ public class ManageCaseRoleService {
      */
     public CaseAssignedUserRolesResponse getCaseUserRolesByCaseAndUserIdsAac(
         String authorization, List<CaseDetails> caseDetailsList) throws IOException {
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
         String aacApiUri = ManageCaseRoleServiceUtil
             .createAacSearchCaseUsersUriByCaseAndUserIds(aacUrl, caseDetailsList, List.of(userInfo));
         if (StringUtils.isBlank(aacApiUri)) {
@@ -569,7 +575,7 @@ public class ManageCaseRoleService {
         if (CollectionUtils.isEmpty(caseIds)) {
             return CaseAssignedUserRolesResponse.builder().build();
         }
-        UserInfo userInfo = idamClient.getUserInfo(authorization);
+        UserInfo userInfo = userInfoService.getUserInfo(authorization);
         SearchCaseAssignedUserRolesRequest searchCaseAssignedUserRolesRequest = SearchCaseAssignedUserRolesRequest
             .builder()
             .caseIds(caseIds)
@@ -634,6 +640,29 @@ public class ManageCaseRoleService {
                                                                      caseUserRole);
     }
 
+    /**
+     * Given a user derived from the authorisation token in the request, gets a page of the cases
+     * {@link uk.gov.hmcts.reform.ccd.client.model.CaseDetails} for that user, keeps the cases that the user has the
+     * given case user role on and filters case documents. Pages may hold fewer cases than the configured page size
+     * when cases are filtered out, the next cursor is still returned while there are more cases to list.
+     *
+     * @param authorization is used to get the {@link uk.gov.hmcts.reform.idam.client.models.UserInfo} for the request
+     * @param caseUserRole  case user role the user should have on the returned cases
+     * @param cursor        position to continue listing from, null for the first page
+     * @param sourceFields  case data fields to return, null or empty to return the whole case data
+     * @return the page of cases, with the cursor of the next page if there are more cases
+     */
+    public UserCasesPage getUserCasesPageByCaseUserRole(String authorization, String caseUserRole,
+                                                        UserCasesCursor cursor, List<String> sourceFields) {
+        UserCasesPage userCasesPage = caseService.getUserCasesPage(authorization, cursor, sourceFields);
+        if (CollectionUtils.isNotEmpty(userCasesPage.getCases())) {
+            userCasesPage.setCases(getCasesByCaseDetailsListAuthorizationAndCaseUserRole(userCasesPage.getCases(),
+                                                                                         authorization,
+                                                                                         caseUserRole));
+        }
+        return userCasesPage;
+    }
+
     private List<CaseDetails> getCaseDetailsByCaseUserRole(String authorization, String caseUserRole) {
         // If defendant uses ET3 cases search because case service's all case search doesn't list all cases
         // immediately after assigning a new case
@@ -849,7 +878,7 @@ public class ManageCaseRoleService {
      *      fields removed
      */
     public CaseDetails removeClaimantRepresentativeFromCaseData(String authorisation, CaseDetails caseDetails) {
-        UserInfo userInfo = idamClient.getUserInfo(authorisation);
+        UserInfo userInfo = userInfoService.getUserInfo(authorisation);
         StartEventResponse startEventResponse = ccdApi.startEventForCitizen(
             authorisation,
             authTokenGenerator.generate(),
@@ -903,7 +932,7 @@ public class ManageCaseRoleService {
                                                                   CaseDetails caseDetails,
                                                                   String respondentIndex,
                                                                   String caseUserRole) {
-        UserInfo userInfo = idamClient.getUserInfo(authorisation);
+        UserInfo userInfo = userInfoService.getUserInfo(authorisation);
         StartEventResponse startEventResponse = ccdApi.startEventForCitizen(
             authorisation,
             authTokenGenerator.generate(),
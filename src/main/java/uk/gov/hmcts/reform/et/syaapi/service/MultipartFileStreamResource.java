@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link org.springframework.core.io.Resource} reading the content of a {@link MultipartFile} from its stream, so
+ * that the content is copied into a request body a chunk at a time rather than being held on the heap.
+ *
+ * <p>
+ * The stream is opened again each time the content is read, which for an uploaded file reads the part held in memory
+ * or the temporary file it was spooled to, so a retried request sends the file again without having buffered it. The
+ * bytes read are added to a counter shared by the files of a request.
+ * </p>
+ */
+final class MultipartFileStreamResource extends AbstractResource {
+
+    private final MultipartFile file;
+    private final LongAdder bytesRead;
+
+    /**
+     * Creates the resource.
+     *
+     * @param file      the file whose content is read
+     * @param bytesRead the counter the number of bytes read is added to
+     */
+    MultipartFileStreamResource(MultipartFile file, LongAdder bytesRead) {
+        this.file = file;
+        this.bytesRead = bytesRead;
+    }
+
+    @Override
+    public String getFilename() {
+        return file.getOriginalFilename();
+    }
+
+    @Override
+    public long contentLength() {
+        return file.getSize();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Multipart file stream [" + file.getOriginalFilename() + "]";
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new CountingInputStream(file.getInputStream(), bytesRead);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+            || other instanceof MultipartFileStreamResource resource && file.equals(resource.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return file.hashCode();
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final LongAdder bytesRead;
+
+        CountingInputStream(InputStream in, LongAdder bytesRead) {
+            super(in);
+            this.bytesRead = bytesRead;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                bytesRead.increment();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                bytesRead.add(read);
+            }
+            return read;
+        }
+    }
+}
@@ -8,14 +8,11 @@ import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
 import uk.gov.hmcts.et.common.model.ccd.types.RepresentedTypeR;
 import uk.gov.hmcts.et.common.model.ccd.types.RespondentSumType;
-import uk.gov.hmcts.reform.et.syaapi.exception.NotificationException;
 import uk.gov.hmcts.reform.et.syaapi.helper.NotificationsHelper;
 import uk.gov.hmcts.reform.et.syaapi.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.et.syaapi.service.NotificationService.CoreEmailDetails;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ClaimantUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.RespondentUtil;
-import uk.gov.service.notify.NotificationClient;
-import uk.gov.service.notify.NotificationClientException;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,7 +31,7 @@ import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.WELSH_LANGU
 @Slf4j
 @RequiredArgsConstructor
 public class NotificationPseService {
-    private final NotificationClient notificationClient;
+    private final EmailDispatchService emailDispatchService;
     private final NotificationsProperties notificationsProperties;
     private final NotificationService notificationService;
 
@@ -285,16 +282,12 @@ public class NotificationPseService {
         claimantParameters.put(SEND_EMAIL_PARAMS_CITIZEN_PORTAL_LINK_KEY, linkToCase);
         claimantParameters.put(SEND_EMAIL_PARAMS_EXUI_LINK_KEY, linkToCase);
 
-        try {
-            notificationClient.sendEmail(
-                emailToClaimantTemplate,
-                claimantEmail,
-                claimantParameters,
-                caseId
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            emailToClaimantTemplate,
+            claimantEmail,
+            claimantParameters,
+            caseId
+        );
     }
 
     private static String getClaimantEmail(CaseData caseData, boolean isClaimantPseResponse) {
@@ -380,15 +373,11 @@ public class NotificationPseService {
         claimantParameters.put(SEND_EMAIL_PARAMS_SHORTTEXT_KEY, defaultIfEmpty(shortText, ""));
         claimantParameters.put(SEND_EMAIL_PARAMS_CITIZEN_PORTAL_LINK_KEY, portalLinkKey);
 
-        try {
-            notificationClient.sendEmail(
-                emailTemplate,
-                emailAddress,
-                claimantParameters,
-                details.caseId()
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            emailTemplate,
+            emailAddress,
+            claimantParameters,
+            details.caseId()
+        );
     }
 }
@@ -15,6 +15,8 @@ import uk.gov.hmcts.et.common.model.ccd.types.citizenhub.ClaimantTse;
 import uk.gov.hmcts.reform.et.syaapi.exception.NotificationException;
 import uk.gov.hmcts.reform.et.syaapi.helper.NotificationsHelper;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailOutcome;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailRequest;
 import uk.gov.hmcts.reform.et.syaapi.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.GenericServiceUtil;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
@@ -23,7 +25,9 @@ import uk.gov.service.notify.NotificationClientException;
 import uk.gov.service.notify.SendEmailResponse;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -98,6 +102,7 @@ public class NotificationService {
     private final NotificationClient notificationClient;
     private final NotificationsProperties notificationsProperties;
     private final FeatureToggleService featureToggleService;
+    private final EmailDispatchService emailDispatchService;
 
     private final String[] typeA =
         {"strike", "amend", "non-compliance", "other", "postpone", "vary", "respondent", "publicity"};
@@ -317,6 +322,7 @@ public class NotificationService {
                                                            JSONObject documentJson) {
         CaseData caseData = details.caseData();
         Set<String> sentEmailAddresses = new HashSet<>();
+        List<EmailRequest> requests = new ArrayList<>();
         String applicantName = getCurrentRespondentName(caseData, respondentApplication.getRespondentIdamId());
 
         if (TYPE_C.equals(respondentApplication.getContactApplicationType())
@@ -324,40 +330,43 @@ public class NotificationService {
             || NO.equals(respondentApplication.getCopyToOtherPartyYesOrNo())) {
             RespondentSumTypeItem currentRespondent =
                 getCurrentRespondent(caseData, respondentApplication.getRespondentIdamId());
-            handleAndSendRespondentsAndRespRepsEmails(caseData, respondentApplication, details,
-                                                       sentEmailAddresses, applicantName, documentJson,
-                                                       currentRespondent);
+            requests.addAll(prepareRespondentsAndRespRepsEmails(caseData, respondentApplication, details,
+                                                                sentEmailAddresses, applicantName, documentJson,
+                                                                currentRespondent));
         } else {
-            caseData.getRespondentCollection().forEach(resp ->
-                handleAndSendRespondentsAndRespRepsEmails(
+            caseData.getRespondentCollection().forEach(resp -> requests.addAll(
+                prepareRespondentsAndRespRepsEmails(
                     caseData, respondentApplication, details,
                     sentEmailAddresses, applicantName, documentJson, resp
                 )
-            );
+            ));
         }
+        dispatchRespondentEmails(requests);
     }
 
-    private void handleAndSendRespondentsAndRespRepsEmails(CaseData caseData,
-                                                           RespondentTse respondentApplication,
-                                                           CoreEmailDetails details,
-                                                           Set<String> sentEmailAddresses,
-                                                           String applicantName,
-                                                           JSONObject documentJson,
-                                                           RespondentSumTypeItem respondent) {
+    private List<EmailRequest> prepareRespondentsAndRespRepsEmails(CaseData caseData,
+                                                                   RespondentTse respondentApplication,
+                                                                   CoreEmailDetails details,
+                                                                   Set<String> sentEmailAddresses,
+                                                                   String applicantName,
+                                                                   JSONObject documentJson,
+                                                                   RespondentSumTypeItem respondent) {
         Map<String, Boolean> emailAddressesMap =
             getRespondentAndRespRepEmailAddressesMap(caseData, respondent.getValue());
+        List<EmailRequest> requests = new ArrayList<>();
 
         emailAddressesMap.forEach((email, isRespondent) -> {
             if (sentEmailAddresses.add(email)) {
-                prepareAndSendEmail(details, respondent, respondentApplication, email,
-                                    isRespondent, applicantName, documentJson);
+                requests.add(prepareEmail(details, respondent, respondentApplication, email,
+                                          isRespondent, applicantName, documentJson));
             }
         });
+        return requests;
     }
 
-    private void prepareAndSendEmail(CoreEmailDetails details, RespondentSumTypeItem respondent,
-                                     RespondentTse respondentApplication, String email, boolean isRespondent,
-                                     String applicantName, JSONObject documentJson) {
+    private EmailRequest prepareEmail(CoreEmailDetails details, RespondentSumTypeItem respondent,
+                                      RespondentTse respondentApplication, String email, boolean isRespondent,
+                                      String applicantName, JSONObject documentJson) {
         boolean isWelsh = isWelshLanguage(respondent);
         String hearingDate = getHearingDate(details.hearingDate(), isWelsh);
         Map<String, Object> respondentParameters = prepareEmailParameters(details, hearingDate, isWelsh);
@@ -386,17 +395,7 @@ public class NotificationService {
             respondentParameters.put(SEND_EMAIL_PARAMS_LINK_DOC_KEY, Objects.requireNonNullElse(documentJson, ""));
 
         }
-        sendEmailToRespondent(email, emailToRespondentTemplate, respondentParameters, details.caseId());
-    }
-
-    void sendEmailToRespondent(String respondentEmailAddress, String emailTemplate,
-                                       Map<String, Object> parameters, String caseId) {
-        try {
-            notificationClient.sendEmail(emailTemplate, respondentEmailAddress, parameters, caseId);
-            log.info("Sent email to respondent");
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        return new EmailRequest(emailToRespondentTemplate, email, respondentParameters, details.caseId());
     }
 
     private Map<String, Object> prepareEmailParameters(CoreEmailDetails details, String hearingDate, boolean isWelsh) {
@@ -603,16 +602,12 @@ public class NotificationService {
             return;
         }
 
-        try {
-            notificationClient.sendEmail(
-                notificationsProperties.getTribunalAcknowledgementTemplateId(),
-                details.caseData.getTribunalCorrespondenceEmail(),
-                tribunalParameters,
-                details.caseId
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            notificationsProperties.getTribunalAcknowledgementTemplateId(),
+            details.caseData.getTribunalCorrespondenceEmail(),
+            tribunalParameters,
+            details.caseId
+        );
     }
 
     /**
@@ -708,16 +703,12 @@ public class NotificationService {
                 : notificationsProperties.getTseClaimantResponseYesTemplateId();
         }
 
-        try {
-            notificationClient.sendEmail(
-                emailToClaimantTemplate,
-                claimantEmailAddress,
-                claimantParameters,
-                details.caseId
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            emailToClaimantTemplate,
+            claimantEmailAddress,
+            claimantParameters,
+            details.caseId
+        );
     }
 
     /**
@@ -741,6 +732,7 @@ public class NotificationService {
         String emailTemplate = getRespondentResponseEmailTemplate(isRespondingToRequestOrOrder,
                                                                   copyToOtherParty);
         Set<String> sentEmailAddresses = new HashSet<>();
+        List<EmailRequest> requests = new ArrayList<>();
 
         CaseData caseData = details.caseData();
         String respondingUserName = getCurrentRespondentName(details.caseData(), respondingUserIdamId);
@@ -752,18 +744,19 @@ public class NotificationService {
 
                 emailAddressesMap.forEach((emailAddress, isRespondent) -> {
                     if (sentEmailAddresses.add(emailAddress)) {
-                        prepareAndSendRespondingToAppEmail(details, isRespondent, applicationType, emailAddress,
-                                                           emailTemplate, respondingUserName, resp,
-                                                           respondingUserIdamId);
+                        requests.add(prepareRespondingToAppEmail(details, isRespondent, applicationType,
+                                                                 emailAddress, emailTemplate, respondingUserName,
+                                                                 resp, respondingUserIdamId));
                     }
                 });
             });
+        dispatchRespondentEmails(requests);
     }
 
-    private void prepareAndSendRespondingToAppEmail(CoreEmailDetails details, boolean isRespondent,
-                                                    String applicationType, String emailAddress, String emailTemplate,
-                                                    String respondingUserName, RespondentSumTypeItem respondent,
-                                                    String respondingUserIdamId) {
+    private EmailRequest prepareRespondingToAppEmail(CoreEmailDetails details, boolean isRespondent,
+                                                     String applicationType, String emailAddress,
+                                                     String emailTemplate, String respondingUserName,
+                                                     RespondentSumTypeItem respondent, String respondingUserIdamId) {
         Map<String, Object> emailParameters = prepareResponseEmailCommonParameters(details, applicationType);
 
         boolean isRespondingUser =
@@ -781,8 +774,7 @@ public class NotificationService {
             : getRespondentRepPortalLink(details.caseId());
         emailParameters.put(SEND_EMAIL_PARAMS_CITIZEN_PORTAL_LINK_KEY, linkToCase);
 
-
-        sendEmailToRespondent(emailAddress, emailTemplate, emailParameters, details.caseId);
+        return new EmailRequest(emailTemplate, emailAddress, emailParameters, details.caseId);
     }
 
     private Map<String, Object> prepareResponseEmailCommonParameters(CoreEmailDetails details,
@@ -926,16 +918,12 @@ public class NotificationService {
 
         String emailTemplate = notificationsProperties.getTseReplyToTribunalToRespondentTemplateId();
 
-        try {
-            notificationClient.sendEmail(
-                emailTemplate,
-                claimantEmailAddress,
-                claimantParameters,
-                caseId
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            emailTemplate,
+            claimantEmailAddress,
+            claimantParameters,
+            caseId
+        );
     }
 
     /**
@@ -979,16 +967,12 @@ public class NotificationService {
 
         String emailTemplate = notificationsProperties.getTseRespondentResponseTemplateId();
 
-        try {
-            notificationClient.sendEmail(
-                emailTemplate,
-                claimantEmailAddress,
-                claimantParameters,
-                details.caseId
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            emailTemplate,
+            claimantEmailAddress,
+            claimantParameters,
+            details.caseId
+        );
     }
 
     void sendStoredEmailToClaimant(CoreEmailDetails details, String shortText) {
@@ -1035,20 +1019,18 @@ public class NotificationService {
             return;
         }
 
-        try {
-            notificationClient.sendEmail(
-                templateId,
-                caseData.getTribunalCorrespondenceEmail(),
-                tribunalParameters,
-                caseId
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            templateId,
+            caseData.getTribunalCorrespondenceEmail(),
+            tribunalParameters,
+            caseId
+        );
     }
 
-    void sendRespondentEmails(CaseData caseData, String caseId, Map<String, Object> respondentParameters,
-                                      String emailToRespondentTemplate) {
+    List<EmailOutcome> sendRespondentEmails(CaseData caseData, String caseId,
+                                            Map<String, Object> respondentParameters,
+                                            String emailToRespondentTemplate) {
+        List<EmailRequest> requests = new ArrayList<>();
         caseData.getRespondentCollection()
             .forEach(resp -> {
                 Map<String, Boolean> respondentEmailAddress =
@@ -1062,12 +1044,25 @@ public class NotificationService {
                         String linkToCase = Boolean.TRUE.equals(isRespondent)
                             ? getRespondentPortalLink(caseId, resp.getId(), isWelsh)
                             : getRespondentRepPortalLink(caseId);
-                        respondentParameters.put(SEND_EMAIL_PARAMS_EXUI_LINK_KEY, linkToCase);
-                        respondentParameters.put(SEND_EMAIL_PARAMS_CITIZEN_PORTAL_LINK_KEY, linkToCase);
-                        sendEmailToRespondent(email, emailToRespondentTemplate, respondentParameters, caseId);
+                        Map<String, Object> parameters = new HashMap<>(respondentParameters);
+                        parameters.put(SEND_EMAIL_PARAMS_EXUI_LINK_KEY, linkToCase);
+                        parameters.put(SEND_EMAIL_PARAMS_CITIZEN_PORTAL_LINK_KEY, linkToCase);
+                        requests.add(new EmailRequest(emailToRespondentTemplate, email, parameters, caseId));
                     }
                 });
             });
+        return dispatchRespondentEmails(requests);
+    }
+
+    private List<EmailOutcome> dispatchRespondentEmails(List<EmailRequest> requests) {
+        List<EmailOutcome> outcomes = emailDispatchService.dispatchAll(requests);
+        long failed = outcomes.stream().filter(outcome -> !outcome.isSuccessful()).count();
+        if (failed > 0) {
+            log.error("{} of {} emails to respondents could not be sent", failed, outcomes.size());
+        } else {
+            log.info("Sent or queued {} emails to respondents", outcomes.size());
+        }
+        return outcomes;
     }
 
     private void sendStoreConfirmationEmail(String emailToClaimantTemplate, CoreEmailDetails details,
@@ -1094,16 +1089,12 @@ public class NotificationService {
             notificationsProperties.getCitizenPortalLink() + details.caseId
         );
 
-        try {
-            notificationClient.sendEmail(
-                emailToClaimantTemplate,
-                claimantEmailAddress,
-                claimantParameters,
-                details.caseId
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            emailToClaimantTemplate,
+            claimantEmailAddress,
+            claimantParameters,
+            details.caseId
+        );
     }
 
     /**
@@ -1247,15 +1238,11 @@ public class NotificationService {
         parameters.put(SEND_EMAIL_PARAMS_LINK_TO_PORTAL,
                        notificationsProperties.getRespondentPortalLink() + "case-details/" + caseId);
 
-        try {
-            notificationClient.sendEmail(
-                notificationsProperties.getEt3SubmissionConfirmationTemplateId(),
-                email,
-                parameters,
-                UUID.randomUUID().toString()
-            );
-        } catch (NotificationClientException ne) {
-            throw new NotificationException(ne);
-        }
+        emailDispatchService.dispatch(
+            notificationsProperties.getEt3SubmissionConfirmationTemplateId(),
+            email,
+            parameters,
+            UUID.randomUUID().toString()
+        );
     }
 }
@@ -0,0 +1,145 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards the calls made to each {@link Downstream} service, so that one slow or failing service does not hold up the
+ * request threads serving endpoints that do not depend on it.
+ *
+ * <p>
+ * Each call takes a permit from the downstream's bulkhead, which limits how many requests may wait on it at once, and
+ * is then recorded by the downstream's circuit breaker, which rejects calls outright while the downstream is failing
+ * or slow. Calls rejected by either throw {@link io.github.resilience4j.bulkhead.BulkheadFullException} or
+ * {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException}, which are never retried.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>resilience.retry.initial-interval</b>: Milliseconds to wait before the first retry.</li>
+ *   <li><b>resilience.retry.multiplier</b>: Factor the wait grows by with each retry.</li>
+ *   <li><b>resilience.retry.max-interval</b>: Longest wait between two retries in milliseconds.</li>
+ * </ul>
+ * Bulkheads and circuit breakers are configured in
+ * {@link uk.gov.hmcts.reform.et.syaapi.config.ResilienceConfiguration}.
+ */
+@Service
+public class ResilienceService {
+
+    private final Map<Downstream, Bulkhead> bulkheads = new EnumMap<>(Downstream.class);
+    private final Map<Downstream, CircuitBreaker> circuitBreakers = new EnumMap<>(Downstream.class);
+    private final long initialRetryInterval;
+    private final double retryMultiplier;
+    private final long maxRetryInterval;
+
+    /**
+     * Creates the service with a bulkhead and circuit breaker for each downstream.
+     *
+     * @param bulkheadRegistry       registry the bulkhead of each downstream is taken from
+     * @param circuitBreakerRegistry registry the circuit breaker of each downstream is taken from
+     * @param initialRetryInterval   milliseconds to wait before the first retry
+     * @param retryMultiplier        factor the wait grows by with each retry
+     * @param maxRetryInterval       longest wait between two retries in milliseconds
+     */
+    public ResilienceService(BulkheadRegistry bulkheadRegistry,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             @Value("${resilience.retry.initial-interval:200}") long initialRetryInterval,
+                             @Value("${resilience.retry.multiplier:2.0}") double retryMultiplier,
+                             @Value("${resilience.retry.max-interval:2000}") long maxRetryInterval) {
+        for (Downstream downstream : Downstream.values()) {
+            bulkheads.put(downstream, bulkheadRegistry.bulkhead(downstream.getName()));
+            circuitBreakers.put(downstream, circuitBreakerRegistry.circuitBreaker(downstream.getName()));
+        }
+        this.initialRetryInterval = initialRetryInterval;
+        this.retryMultiplier = retryMultiplier;
+        this.maxRetryInterval = maxRetryInterval;
+    }
+
+    /**
+     * Makes a call to a downstream service through its bulkhead and circuit breaker.
+     *
+     * @param downstream the service being called
+     * @param call       the call to make
+     * @param <T>        type of the call's result
+     * @param <E>        type of checked exception the call may throw
+     * @return the result of the call
+     * @throws E if the call fails
+     * @throws io.github.resilience4j.bulkhead.BulkheadFullException if too many calls to the downstream are waiting
+     * @throws io.github.resilience4j.circuitbreaker.CallNotPermittedException if the downstream's circuit is open
+     */
+    public <T, E extends Exception> T call(Downstream downstream, DownstreamCall<T, E> call) throws E {
+        Bulkhead bulkhead = bulkheads.get(downstream);
+        CircuitBreaker circuitBreaker = circuitBreakers.get(downstream);
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+            long start = System.nanoTime();
+            try {
+                T result = call.call();
+                circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, result);
+                return result;
+            } catch (Throwable e) {
+                // errors are recorded too, otherwise a call failing with one while half open keeps its permit
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                throw e;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    /**
+     * Creates a retry policy that waits between attempts for an exponentially growing interval with random jitter, so
+     * that callers retrying a struggling downstream spread their attempts out rather than all retrying at once.
+     *
+     * @param maxAttempts the number of attempts, including the first
+     * @param retryOn     the exceptions that are retried, any other exception is thrown straight away
+     * @return the retry policy
+     */
+    public RetryTemplate retryTemplate(int maxAttempts, List<Class<? extends Throwable>> retryOn) {
+        return RetryTemplate.builder()
+            .maxAttempts(maxAttempts)
+            .exponentialBackoff(initialRetryInterval, retryMultiplier, maxRetryInterval, true)
+            .retryOn(retryOn)
+            .build();
+    }
+
+    /**
+     * Returns the current state of the circuit of a downstream service.
+     *
+     * @param downstream the service
+     * @return the state of its circuit
+     */
+    public CircuitBreaker.State getState(Downstream downstream) {
+        return circuitBreakers.get(downstream).getState();
+    }
+
+    /**
+     * A call to a downstream service.
+     *
+     * @param <T> type of the call's result
+     * @param <E> type of checked exception the call may throw
+     */
+    @FunctionalInterface
+    public interface DownstreamCall<T, E extends Exception> {
+
+        /**
+         * Makes the call.
+         *
+         * @return the result of the call
+         * @throws E if the call fails
+         */
+        T call() throws E;
+    }
+}
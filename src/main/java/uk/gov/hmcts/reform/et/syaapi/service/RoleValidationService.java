@@ -3,7 +3,6 @@ package uk.gov.hmcts.reform.et.syaapi.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.util.List;
@@ -16,7 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RoleValidationService {
 
-    private final IdamClient idamClient;
+    private final UserInfoService userInfoService;
 
     /**
      * Validates if a user has any of the required roles.
@@ -27,7 +26,7 @@ public class RoleValidationService {
      */
     public boolean hasAnyRole(String authorization, List<String> requiredRoles) {
         try {
-            UserInfo userInfo = idamClient.getUserInfo(authorization);
+            UserInfo userInfo = userInfoService.getUserInfo(authorization);
             List<String> userRoles = userInfo.getRoles();
             
             if (userRoles == null || userRoles.isEmpty()) {
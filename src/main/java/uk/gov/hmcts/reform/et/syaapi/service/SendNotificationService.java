@@ -23,7 +23,6 @@ import uk.gov.hmcts.reform.et.syaapi.helper.NotificationsHelper;
 import uk.gov.hmcts.reform.et.syaapi.helper.TseApplicationHelper;
 import uk.gov.hmcts.reform.et.syaapi.models.SendNotificationAddResponseRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.SendNotificationStateUpdateRequest;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -49,7 +48,7 @@ public class SendNotificationService {
     private final CaseDetailsConverter caseDetailsConverter;
     private final NotificationPseService notificationPseService;
     private final FeatureToggleService featureToggleService;
-    private final IdamClient idamClient;
+    private final UserInfoService userInfoService;
 
     public CaseDetails updateSendNotificationState(String authorization, SendNotificationStateUpdateRequest request) {
         StartEventResponse startEventResponse = caseService.startUpdate(
@@ -146,7 +145,7 @@ public class SendNotificationService {
         pseResponseType.setDate(TseApplicationHelper.formatCurrentDate(LocalDate.now()));
         pseResponseType.setFrom(CLAIMANT_TITLE);
         if (featureToggleService.isMultiplesEnabled()) {
-            pseResponseType.setAuthor(idamClient.getUserInfo(authorization).getName());
+            pseResponseType.setAuthor(userInfoService.getUserInfo(authorization).getName());
         }
 
         if (request.getSupportingMaterialFile() != null) {
@@ -0,0 +1,195 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.ecm.common.configuration.PostcodeToOfficeMappings;
+import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Finds the tribunal office responsible for a postcode, using the postcode to office mappings of et-common
+ * ({@link PostcodeToOfficeMappings}) read once when the application starts.
+ *
+ * <p>
+ * The mappings are keyed by outward code (e.g. {@code EC1A}), by area and district (e.g. {@code EC1}) or by area alone
+ * (e.g. {@code EC}). They are held as a sorted array of those prefixes, searched from the most specific prefix of a
+ * postcode to the least specific. The postcode is validated and split without regular expressions, and an invalid
+ * postcode is reported in the {@link Result} rather than by throwing an exception.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TribunalOfficeLookup {
+
+    private static final int INWARD_CODE_LENGTH = 3;
+    private static final int MIN_POSTCODE_LENGTH = 5;
+    private static final int MAX_POSTCODE_LENGTH = 7;
+
+    private final String[] prefixes;
+    private final TribunalOffice[] offices;
+
+    /**
+     * Builds the lookup from the postcode to office mappings. Mappings to an unknown office are ignored.
+     *
+     * @param postcodeToOfficeMappings the postcode to office mappings of et-common
+     */
+    public TribunalOfficeLookup(PostcodeToOfficeMappings postcodeToOfficeMappings) {
+        Map<String, TribunalOffice> sorted = new TreeMap<>();
+        for (Map.Entry<String, String> mapping : postcodeToOfficeMappings.getPostcodes().entrySet()) {
+            String prefix = normalise(mapping.getKey());
+            Optional<TribunalOffice> office = officeOf(mapping.getValue());
+            if (prefix.isEmpty() || office.isEmpty()) {
+                log.warn("Ignoring postcode to office mapping {} -> {}", mapping.getKey(), mapping.getValue());
+            } else {
+                sorted.put(prefix, office.get());
+            }
+        }
+        this.prefixes = sorted.keySet().toArray(String[]::new);
+        this.offices = sorted.values().toArray(TribunalOffice[]::new);
+        log.info("Loaded {} postcode to tribunal office mappings", prefixes.length);
+    }
+
+    /**
+     * Finds the tribunal office responsible for a postcode, matching its outward code, then its area and district
+     * and then its area.
+     *
+     * @param postcode full postcode, in any case and with or without spaces
+     * @return the office found, or whether the postcode was invalid or has no office
+     */
+    public Result lookup(String postcode) {
+        String outwardCode = outwardCode(postcode);
+        if (outwardCode == null) {
+            return Result.INVALID_POSTCODE;
+        }
+        TribunalOffice office = find(outwardCode, outwardCode.length());
+        int last = outwardCode.length() - 1;
+        if (office == null && isLetter(outwardCode.charAt(last))) {
+            office = find(outwardCode, last);
+        }
+        if (office == null) {
+            office = find(outwardCode, isLetter(outwardCode.charAt(1)) ? 2 : 1);
+        }
+        return office == null ? Result.NOT_FOUND : Result.found(office);
+    }
+
+    private TribunalOffice find(String outwardCode, int length) {
+        int index = Arrays.binarySearch(prefixes, outwardCode.substring(0, length));
+        return index >= 0 ? offices[index] : null;
+    }
+
+    /**
+     * Gets the outward code of a postcode: one or two letters for the area, a digit for the district, optionally
+     * followed by a second digit or a letter, then a digit and two letters for the inward code.
+     */
+    private static String outwardCode(String postcode) {
+        if (postcode == null) {
+            return null;
+        }
+        String compact = normalise(postcode);
+        int length = compact.length();
+        if (length < MIN_POSTCODE_LENGTH || length > MAX_POSTCODE_LENGTH) {
+            return null;
+        }
+        int inward = length - INWARD_CODE_LENGTH;
+        if (!isDigit(compact.charAt(inward))
+            || !isLetter(compact.charAt(inward + 1))
+            || !isLetter(compact.charAt(inward + 2))) {
+            return null;
+        }
+        int area = isLetter(compact.charAt(1)) ? 2 : 1;
+        if (!isLetter(compact.charAt(0)) || area >= inward || !isDigit(compact.charAt(area))) {
+            return null;
+        }
+        int districtEnd = area + 1;
+        if (districtEnd < inward && !isDigit(compact.charAt(districtEnd)) && !isLetter(compact.charAt(districtEnd))) {
+            return null;
+        }
+        return inward - districtEnd > 1 ? null : compact.substring(0, inward);
+    }
+
+    private static String normalise(String value) {
+        StringBuilder compact = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                compact.append(c);
+            }
+        }
+        return compact.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static Optional<TribunalOffice> officeOf(String officeName) {
+        return Arrays.stream(TribunalOffice.values())
+            .filter(office -> office.getOfficeName().equalsIgnoreCase(officeName == null ? "" : officeName.trim()))
+            .findFirst();
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Outcome of finding the tribunal office of a postcode.
+     *
+     * @param status whether an office was found
+     * @param office the office found, null unless the status is {@link Status#FOUND}
+     */
+    public record Result(Status status, TribunalOffice office) {
+
+        /**
+         * Result of a postcode that is not a valid UK postcode.
+         */
+        public static final Result INVALID_POSTCODE = new Result(Status.INVALID_POSTCODE, null);
+
+        /**
+         * Result of a valid postcode no office is mapped to.
+         */
+        public static final Result NOT_FOUND = new Result(Status.NOT_FOUND, null);
+
+        private static final Map<TribunalOffice, Result> FOUND = new EnumMap<>(TribunalOffice.class);
+
+        static {
+            for (TribunalOffice office : TribunalOffice.values()) {
+                FOUND.put(office, new Result(Status.FOUND, office));
+            }
+        }
+
+        /**
+         * Gets the result of a postcode mapped to an office.
+         *
+         * @param office the office found
+         * @return the result
+         */
+        public static Result found(TribunalOffice office) {
+            return FOUND.get(office);
+        }
+
+        /**
+         * Gets the office found.
+         *
+         * @return the office, empty if none was found
+         */
+        public Optional<TribunalOffice> tribunalOffice() {
+            return Optional.ofNullable(office);
+        }
+    }
+
+    /**
+     * Whether the office of a postcode was found.
+     */
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        INVALID_POSTCODE
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the {@link UserInfo} of a bearer token, avoiding repeated calls to IDAM for the same token.
+ *
+ * <p>
+ * A single API call commonly needs the user details several times, e.g. when starting and then submitting a CCD
+ * event. The first resolution within an HTTP request is memoized on the request itself so that every later lookup
+ * during that request returns the same {@link UserInfo}. Across requests, results are also held in a bounded cache for
+ * a short TTL so that a burst of calls from the same session only reaches IDAM once.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>idam.user-info-cache.max-size</b>: Maximum number of tokens held, least recently used entries are evicted
+ *   first.</li>
+ *   <li><b>idam.user-info-cache.ttl</b>: Time in milliseconds a resolved {@link UserInfo} is held. A value of 0 only
+ *   memoizes within a request.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * Hit, miss, size and eviction counts are published under the {@code userInfo} cache name.
+ */
+@Service
+public class UserInfoService {
+
+    static final String CACHE_NAME = "userInfo";
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserInfoService.class.getName() + ".";
+
+    private final IdamClient idamClient;
+    private final Cache<String, UserInfo> userInfoCache;
+
+    /**
+     * Creates the service and registers its cache metrics.
+     *
+     * @param idamClient    client used to fetch user details from IDAM
+     * @param meterRegistry registry the cache statistics are published to
+     * @param maxSize       maximum number of tokens held in the cache
+     * @param ttlMillis     time in milliseconds a resolved {@link UserInfo} is held
+     */
+    public UserInfoService(IdamClient idamClient,
+                           MeterRegistry meterRegistry,
+                           @Value("${idam.user-info-cache.max-size:1000}") long maxSize,
+                           @Value("${idam.user-info-cache.ttl:30000}") long ttlMillis) {
+        this.idamClient = idamClient;
+        this.userInfoCache = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, userInfoCache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the {@link UserInfo} for the given authorization token, calling IDAM only if the token has not been
+     * resolved within the current request or the cache TTL.
+     *
+     * @param authorization the bearer token of the user
+     * @return the {@link UserInfo} associated with the token
+     */
+    public UserInfo getUserInfo(String authorization) {
+        String key = hash(authorization);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            Object memoized = requestAttributes.getAttribute(REQUEST_ATTRIBUTE_PREFIX + key,
+                                                             RequestAttributes.SCOPE_REQUEST);
+            if (memoized instanceof UserInfo userInfo) {
+                return userInfo;
+            }
+        }
+
+        UserInfo userInfo = userInfoCache.getIfPresent(key);
+        if (userInfo == null) {
+            userInfo = idamClient.getUserInfo(authorization);
+            if (userInfo != null) {
+                userInfoCache.put(key, userInfo);
+            }
+        }
+
+        if (requestAttributes != null && userInfo != null) {
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE_PREFIX + key, userInfo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return userInfo;
+    }
+
+    private static String hash(String authorization) {
+        return Hashing.sha256().hashString(String.valueOf(authorization), StandardCharsets.UTF_8).toString();
+    }
+}
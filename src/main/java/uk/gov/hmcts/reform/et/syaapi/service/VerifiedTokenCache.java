@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of bearer tokens whose signature has already been verified by {@link VerifyTokenService}.
+ *
+ * <p>
+ * Tokens are keyed by their SHA-256 hash so the raw token is never held in memory by the cache. An entry expires at
+ * the token's own {@code exp} claim or after the configured TTL, whichever comes first. Only successful verifications
+ * are cached, so a token rejected while IDAM keys are being rotated is checked again on its next use.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>idam.token-cache.max-size</b>: Maximum number of verified tokens held.</li>
+ *   <li><b>idam.token-cache.ttl</b>: Maximum time in milliseconds a verified token is held.</li>
+ * </ul>
+ *
+ * <h2>Metrics</h2>
+ * Hit, miss, size and eviction counts are published under the {@code verifiedTokens} cache name.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "verifiedTokens";
+
+    private final Cache<String, Long> verifiedTokens;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param meterRegistry registry the cache statistics are published to
+     * @param maxSize       maximum number of verified tokens held
+     * @param ttlMillis     maximum time in milliseconds a verified token is held
+     */
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${idam.token-cache.max-size:10000}") long maxSize,
+                              @Value("${idam.token-cache.ttl:300000}") long ttlMillis) {
+        this.verifiedTokens = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+    }
+
+    /**
+     * Checks whether the token has already been verified and has not yet expired.
+     *
+     * @param token the bearer token, without the {@code Bearer} prefix
+     * @return true if the token signature has already been verified
+     */
+    public boolean isVerified(String token) {
+        String key = hash(token);
+        Long expiresAt = verifiedTokens.getIfPresent(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            verifiedTokens.invalidate(key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a token whose signature has been verified.
+     *
+     * @param token          the bearer token, without the {@code Bearer} prefix
+     * @param expirationTime the {@code exp} claim of the token, may be null
+     */
+    public void putVerified(String token, Date expirationTime) {
+        long expiresAt = expirationTime == null ? Long.MAX_VALUE : expirationTime.getTime();
+        if (expiresAt > System.currentTimeMillis()) {
+            verifiedTokens.put(hash(token), expiresAt);
+        }
+    }
+
+    private static String hash(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -9,7 +9,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.ecm.common.exceptions.PdfServiceException;
 import uk.gov.hmcts.ecm.common.service.pdf.PdfDecodedMultipartFile;
-import uk.gov.hmcts.ecm.common.service.pdf.PdfService;
 import uk.gov.hmcts.ecm.common.service.pdf.et1.GenericServiceUtil;
 import uk.gov.hmcts.et.common.model.bulk.types.DynamicFixedListType;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
@@ -17,7 +16,7 @@ import uk.gov.hmcts.et.common.model.ccd.items.DocumentTypeItem;
 import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseDocumentException;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseDocumentService;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.et.syaapi.service.UserInfoService;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.util.ArrayList;
@@ -42,9 +41,9 @@ import static uk.gov.hmcts.reform.et.syaapi.service.pdf.PdfUploadService.sanitiz
 @Service
 @RequiredArgsConstructor()
 public class ET3FormService {
-    private final PdfService pdfService;
+    private final PdfFormRenderer pdfFormRenderer;
     private final CaseDocumentService caseDocumentService;
-    private final IdamClient idamClient;
+    private final UserInfoService userInfoService;
 
     @Value("${pdf.et3English}")
     public String et3EnglishPdfTemplateSource;
@@ -120,14 +119,14 @@ public class ET3FormService {
             caseData.setSubmitEt3Respondent(DynamicFixedListType.from("SubmitRespondent",
                                                                       selectedRespondent.getId(),
                                                                       true));
-            byte[] englishPdfFileByteArray = pdfService.convertCaseToPdf(
+            byte[] englishPdfFileByteArray = pdfFormRenderer.render(
                 caseData,
                 et3EnglishPdfTemplateSource,
                 PDF_TYPE_ET3,
                 ET3_FORM_CLIENT_TYPE_RESPONDENT,
                 SUBMIT_ET3_CITIZEN
             );
-            UserInfo userInfo = idamClient.getUserInfo(authorisation);
+            UserInfo userInfo = userInfoService.getUserInfo(authorisation);
             PdfDecodedMultipartFile englishET3Form = new PdfDecodedMultipartFile(
                 englishPdfFileByteArray,
                 createET3PdfDocumentNameFromCaseData(ENGLISH_LANGUAGE, userInfo, selectedRespondent),
@@ -148,7 +147,7 @@ public class ET3FormService {
             selectedRespondent.getValue().setEt3Form(englishDocument.getValue().getUploadedDocument());
             if (ET3_RESPONSE_LANGUAGE_PREFERENCE_WELSH.equals(
                 selectedRespondent.getValue().getEt3ResponseLanguagePreference())) {
-                byte[] welshPdfFileByteArray = pdfService.convertCaseToPdf(
+                byte[] welshPdfFileByteArray = pdfFormRenderer.render(
                     caseData,
                     et3WelshPdfTemplateSource,
                     PDF_TYPE_ET3,
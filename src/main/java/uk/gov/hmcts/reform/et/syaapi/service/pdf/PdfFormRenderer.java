@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.et.syaapi.service.pdf;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+import uk.gov.hmcts.ecm.common.exceptions.PdfServiceException;
+import uk.gov.hmcts.ecm.common.service.pdf.PdfService;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+
+/**
+ * Renders the ET1 and ET3 forms from their PDF templates through {@link PdfService}, timing each render per template.
+ *
+ * <p>
+ * {@link PdfService} loads and fills the template named in each call itself, so every ET1 and ET3 form, and its
+ * Welsh version, goes through here to make the cost of each template visible.
+ * </p>
+ *
+ * <h2>Metrics</h2>
+ * Render time is recorded in the {@code et.pdf.render} timer, tagged by template and by outcome: {@code success},
+ * {@code empty} when no PDF was produced, for example because the template was not found, or {@code error}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PdfFormRenderer {
+
+    static final String RENDER_TIMER = "et.pdf.render";
+
+    private final PdfService pdfService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Fills a PDF form template with case data.
+     *
+     * @param caseData    the case data to fill the form with
+     * @param template    classpath name of the template, e.g. {@code ET1_0224.pdf}
+     * @param pdfType     type of the form, ET1 or ET3
+     * @param clientType  the type of user the form is created for
+     * @param submitEvent the event the form is created in
+     * @return the filled form, empty if it could not be produced
+     * @throws PdfServiceException if the form could not be filled
+     */
+    public byte[] render(CaseData caseData, String template, String pdfType, String clientType, String submitEvent)
+        throws PdfServiceException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            byte[] pdf = pdfService.convertCaseToPdf(caseData, template, pdfType, clientType, submitEvent);
+            outcome = ObjectUtils.isEmpty(pdf) ? "empty" : "success";
+            return pdf;
+        } finally {
+            sample.stop(Timer.builder(RENDER_TIMER)
+                            .description("Time taken to fill a PDF form template")
+                            .tag("template", String.valueOf(template))
+                            .tag("outcome", outcome)
+                            .register(meterRegistry));
+        }
+    }
+}
@@ -9,7 +9,6 @@ import org.springframework.util.ObjectUtils;
 import uk.gov.hmcts.ecm.common.exceptions.PdfServiceException;
 import uk.gov.hmcts.ecm.common.helpers.UtilHelper;
 import uk.gov.hmcts.ecm.common.service.pdf.PdfDecodedMultipartFile;
-import uk.gov.hmcts.ecm.common.service.pdf.PdfService;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.GenericTseApplicationType;
 import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
@@ -20,6 +19,7 @@ import uk.gov.hmcts.reform.et.syaapi.models.AcasCertificate;
 import uk.gov.hmcts.reform.et.syaapi.models.AppResponseCitizen;
 import uk.gov.hmcts.reform.et.syaapi.models.GenericTseApplication;
 import uk.gov.hmcts.reform.et.syaapi.models.RespondToApplicationRequest;
+import uk.gov.hmcts.reform.et.syaapi.models.TornadoDocument;
 import uk.gov.hmcts.reform.et.syaapi.service.DocumentGenerationException;
 import uk.gov.hmcts.reform.et.syaapi.service.DocumentGenerationService;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ClaimantTseUtil;
@@ -51,8 +51,9 @@ import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.WELSH_LANGU
 @RequiredArgsConstructor()
 public class PdfUploadService {
 
-    private final PdfService pdfService;
+    private final PdfFormRenderer pdfFormRenderer;
     private final DocumentGenerationService documentGenerationService;
+    private final SummaryPdfRenderer summaryPdfRenderer;
     @Value("${pdf.english}")
     public String englishPdfTemplateSource;
     @Value("${pdf.welsh}")
@@ -123,53 +124,55 @@ public class PdfUploadService {
     public List<PdfDecodedMultipartFile> convertCaseDataToPdfDecodedMultipartFile(CaseData caseData, UserInfo
         userInfo) {
         List<PdfDecodedMultipartFile> files = new ArrayList<>();
+        convertCaseDataToPdfDecodedMultipartFile(caseData, userInfo, ENGLISH_LANGUAGE).ifPresent(files::add);
+        if (WELSH_LANGUAGE.equals(GenericServiceUtil.findClaimantLanguage(caseData))) {
+            convertCaseDataToPdfDecodedMultipartFile(caseData, userInfo, WELSH_LANGUAGE).ifPresent(files::add);
+        }
+        return files;
+    }
+
+    /**
+     * Converts case data to the ET1 pdf of a single language, so that the English and Welsh pdf files can be created
+     * separately. A failure to create the pdf file is logged rather than thrown.
+     *
+     * @param caseData         The case data to be converted into a pdf file wrapped in a {@link CaseData}
+     * @param userInfo         a {@link UserInfo} used username as a backup if no name in case
+     * @param documentLanguage {@code English} or {@code Welsh}
+     * @return the pdf file, or empty if it could not be created
+     */
+    public Optional<PdfDecodedMultipartFile> convertCaseDataToPdfDecodedMultipartFile(CaseData caseData,
+                                                                                       UserInfo userInfo,
+                                                                                       String documentLanguage) {
+        boolean isWelsh = WELSH_LANGUAGE.equals(documentLanguage);
         try {
-            byte[] pdfData = pdfService.convertCaseToPdf(caseData, this.englishPdfTemplateSource, PDF_TYPE_ET1,
-                                                         CLIENT_TYPE_CLAIMANT, SUBMIT_ET1_CITIZEN);
+            // New parameter CLIENT_TYPE_RESPONDENT not has any effect to the flow of ET1 pdf creation.
+            // It is used to discriminate representatives and respondents while mapping ET3 PDF data.
+            // SUBMIT_ET1_CITIZEN does not have any effect to the flow of ET1 pdf creation just checks if
+            // the event is submission event not. If submit event, sets date received field of pdf file to the
+            // local date current value. This is because, on caseworker screens we create PDF files without
+            // submission of the event.
+            byte[] pdfData = pdfFormRenderer.render(
+                caseData, isWelsh ? this.welshPdfTemplateSource : this.englishPdfTemplateSource, PDF_TYPE_ET1,
+                CLIENT_TYPE_CLAIMANT, SUBMIT_ET1_CITIZEN);
             if (ObjectUtils.isEmpty(pdfData)) {
                 throw new PdfServiceException(
-                    "Failed to convert to PDF. English Template Not Found",
+                    "Failed to convert to PDF. " + (isWelsh ? "Welsh" : "English") + " Template Not Found",
                     new NullPointerException()
                 );
             }
-            files.add(new PdfDecodedMultipartFile(
+            return Optional.of(new PdfDecodedMultipartFile(
                 pdfData,
-                createPdfDocumentNameFromCaseData(caseData, ENGLISH_LANGUAGE, userInfo, ET1),
+                createPdfDocumentNameFromCaseData(caseData, documentLanguage, userInfo, ET1),
                 PDF_FILE_TIKA_CONTENT_TYPE,
                 createPdfDocumentDescriptionFromCaseData(caseData)
             ));
         } catch (PdfServiceException e) {
-            GenericServiceUtil.logException("Case English PDF file could not be created for case: ",
+            GenericServiceUtil.logException("Case " + (isWelsh ? "Welsh" : "English")
+                                                + " PDF file could not be created for case: ",
                                             caseData.getEthosCaseReference(), e.getMessage(),
                                             this.getClass().getName(), "convertCaseDataToPdfDecodedMultipartFile");
+            return Optional.empty();
         }
-        try {
-            if (WELSH_LANGUAGE.equals(GenericServiceUtil.findClaimantLanguage(caseData))) {
-                // New parameter CLIENT_TYPE_RESPONDENT not has any effect to the flow of ET1 pdf creation.
-                // It is used to discriminate representatives and respondents while mapping ET3 PDF data.
-                // SUBMIT_ET1_CITIZEN does not have any effect to the flow of ET1 pdf creation just checks if
-                // the event is submission event not. If submit event, sets date received field of pdf file to the
-                // local date current value. This is because, on caseworker screens we create PDF files without
-                // submission of the event.
-                byte[] pdfData = pdfService.convertCaseToPdf(caseData, this.welshPdfTemplateSource, PDF_TYPE_ET1,
-                                                             CLIENT_TYPE_CLAIMANT, SUBMIT_ET1_CITIZEN);
-                if (ObjectUtils.isEmpty(pdfData)) {
-                    throw new PdfServiceException("Failed to convert to PDF. Welsh Template Not Found",
-                                                  new NullPointerException());
-                }
-                files.add(new PdfDecodedMultipartFile(
-                    pdfData,
-                    createPdfDocumentNameFromCaseData(caseData, WELSH_LANGUAGE, userInfo, ET1),
-                    PDF_FILE_TIKA_CONTENT_TYPE,
-                    createPdfDocumentDescriptionFromCaseData(caseData)
-                ));
-            }
-        } catch (PdfServiceException e) {
-            GenericServiceUtil.logException("Case Welsh PDF file could not be created for case: ",
-                                            caseData.getEthosCaseReference(), e.getMessage(),
-                                            this.getClass().getName(), "convertCaseDataToPdfDecodedMultipartFile");
-        }
-        return files;
     }
 
     /**
@@ -220,7 +223,7 @@ public class PdfUploadService {
         GenericTseApplication genericTseApplication =
             ClaimantTseUtil.getGenericTseApplicationFromClaimantTse(claimantTse, caseReference);
 
-        byte[] tseApplicationPdf = documentGenerationService.genPdfDocument(
+        byte[] tseApplicationPdf = generateSummaryPdf(
             contactTheTribunalPdfTemplate,
             docName,
             genericTseApplication
@@ -282,13 +285,21 @@ public class PdfUploadService {
             .copyToOtherPartyYesOrNo(applicationResponse.getCopyToOtherParty())
             .build();
 
-        return documentGenerationService.genPdfDocument(
+        return generateSummaryPdf(
             claimantResponsePdfTemplate,
             documentName,
             claimantResponseCya
         );
     }
 
+    private byte[] generateSummaryPdf(String templateName, String documentName, TornadoDocument document)
+        throws DocumentGenerationException {
+        if (summaryPdfRenderer.rendersLocally(templateName)) {
+            return summaryPdfRenderer.render(document);
+        }
+        return documentGenerationService.genPdfDocument(templateName, documentName, document);
+    }
+
     protected static String sanitizePartyName(String partyName) {
         if (isNullOrEmpty(partyName)) {
             return "";
@@ -321,7 +332,7 @@ public class PdfUploadService {
         GenericTseApplication genericTseApplication =
             RespondentTseUtil.getGenericTseApplicationFromRespondentTse(respondentTse, caseReference);
 
-        byte[] tseApplicationPdf = documentGenerationService.genPdfDocument(
+        byte[] tseApplicationPdf = generateSummaryPdf(
             contactTheTribunalPdfTemplate,
             docName,
             genericTseApplication
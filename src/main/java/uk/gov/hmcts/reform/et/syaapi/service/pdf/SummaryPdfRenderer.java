@@ -0,0 +1,287 @@
+package uk.gov.hmcts.reform.et.syaapi.service.pdf;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.et.syaapi.models.AppResponseCitizen;
+import uk.gov.hmcts.reform.et.syaapi.models.GenericTseApplication;
+import uk.gov.hmcts.reform.et.syaapi.models.TornadoDocument;
+import uk.gov.hmcts.reform.et.syaapi.service.DocumentGenerationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the check your answers summaries of applications to the tribunal and of responses to them as PDF
+ * documents in process with PDFBox, instead of sending them to Tornado.
+ *
+ * <p>
+ * The summaries have a fixed layout: a title followed by a label and a value for each answer, wrapped to the width of
+ * an A4 page, breaking words too long for a line wherever the line is full. They are rendered with an embedded
+ * subset of the DejaVu Sans fonts, which cover Welsh and most other alphabets; the few characters those fonts have no
+ * glyph for, such as Chinese, are replaced with {@code ?}.
+ * </p>
+ *
+ * <h2>Configuration</h2>
+ * <ul>
+ *   <li><b>pdf.local_templates</b>: Comma separated names of the Tornado templates whose documents are rendered
+ *   here instead, e.g. {@code EM-TRB-EGW-ENG-00068.docx}. Empty by default, so every document goes to Tornado.</li>
+ * </ul>
+ */
+@Component
+public class SummaryPdfRenderer {
+
+    private static final PDRectangle PAGE_SIZE = PDRectangle.A4;
+    private static final float MARGIN = 50;
+    private static final float TITLE_FONT_SIZE = 16;
+    private static final float FONT_SIZE = 11;
+    private static final float LEADING = 14;
+    private static final float ANSWER_SPACING = 8;
+    private static final String UNENCODABLE_CHARACTER = "?";
+    private static final String REGULAR_FONT = "/fonts/DejaVuSans.ttf";
+    private static final String BOLD_FONT = "/fonts/DejaVuSans-Bold.ttf";
+
+    private final Set<String> localTemplates;
+    private final byte[] regularFontData = fontData(REGULAR_FONT);
+    private final byte[] boldFontData = fontData(BOLD_FONT);
+
+    /**
+     * Creates the renderer.
+     *
+     * @param localTemplates names of the templates rendered here instead of by Tornado
+     */
+    public SummaryPdfRenderer(@Value("${pdf.local_templates:}") String... localTemplates) {
+        this.localTemplates = Arrays.stream(localTemplates)
+            .map(String::trim)
+            .filter(StringUtils::isNotEmpty)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Whether documents of a template are rendered here rather than by Tornado.
+     *
+     * @param templateName name of the Tornado template
+     * @return true if the template is configured to be rendered locally
+     */
+    public boolean rendersLocally(String templateName) {
+        return localTemplates.contains(templateName);
+    }
+
+    private static byte[] fontData(String resource) {
+        try (InputStream font = SummaryPdfRenderer.class.getResourceAsStream(resource)) {
+            if (font == null) {
+                throw new IllegalStateException("Font " + resource + " not found");
+            }
+            return font.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read font " + resource, e);
+        }
+    }
+
+    /**
+     * Renders a summary as a PDF document.
+     *
+     * @param document the summary to render
+     * @return the PDF document
+     * @throws DocumentGenerationException if the summary has no local layout or cannot be rendered
+     */
+    public byte[] render(TornadoDocument document) throws DocumentGenerationException {
+        return switch (document) {
+            case GenericTseApplication application -> render("Contact the tribunal", answers(application));
+            case AppResponseCitizen response -> render("Respond to an application", answers(response));
+            case null -> throw new DocumentGenerationException("sourceData MUST NOT be null");
+            default -> throw new DocumentGenerationException(
+                "No local layout for " + document.getClass().getSimpleName());
+        };
+    }
+
+    private static Map<String, String> answers(GenericTseApplication application) {
+        Map<String, String> answers = new LinkedHashMap<>();
+        answers.put("Case number", application.getCaseNumber());
+        answers.put("Applicant", application.getApplicant());
+        answers.put("Application date", application.getApplicationDate());
+        answers.put("Application type", application.getApplicationType());
+        answers.put("What do you want to tell or ask the tribunal?", application.getTellOrAskTribunal());
+        answers.put("Supporting material", application.getSupportingEvidence());
+        answers.put("Do you want to copy this correspondence to the other party to satisfy the Rules of Procedure?",
+                    application.getCopyToOtherPartyYesOrNo());
+        answers.put("Reason for not informing the other party", application.getCopyToOtherPartyText());
+        return answers;
+    }
+
+    private static Map<String, String> answers(AppResponseCitizen response) {
+        Map<String, String> answers = new LinkedHashMap<>();
+        answers.put("Case number", response.getCaseNumber());
+        answers.put("Applicant", response.getApplicant());
+        answers.put("Application date", response.getApplicationDate());
+        answers.put("Application type", response.getApplicationType());
+        answers.put("What's your response to the application?", response.getResponse());
+        answers.put("Supporting material", response.getFileName());
+        answers.put("Do you want to copy this correspondence to the other party to satisfy the Rules of Procedure?",
+                    response.getCopyToOtherPartyYesOrNo());
+        return answers;
+    }
+
+    private byte[] render(String title, Map<String, String> answers) throws DocumentGenerationException {
+        try (PDDocument pdf = new PDDocument()) {
+            PDFont regularFont = PDType0Font.load(pdf, new ByteArrayInputStream(regularFontData), true);
+            PDFont boldFont = PDType0Font.load(pdf, new ByteArrayInputStream(boldFontData), true);
+            PageWriter writer = new PageWriter(pdf);
+            try {
+                writer.write(boldFont, TITLE_FONT_SIZE, title);
+                writer.space(ANSWER_SPACING);
+                for (Map.Entry<String, String> answer : answers.entrySet()) {
+                    if (StringUtils.isNotBlank(answer.getValue())) {
+                        writer.write(boldFont, FONT_SIZE, answer.getKey());
+                        writer.write(regularFont, FONT_SIZE, answer.getValue());
+                        writer.space(ANSWER_SPACING);
+                    }
+                }
+            } finally {
+                writer.close();
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            pdf.save(output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new DocumentGenerationException("Failed to render " + title + " summary", e);
+        }
+    }
+
+    /**
+     * Writes wrapped lines of text down the pages of a document, starting a new page when one is full.
+     */
+    private static final class PageWriter {
+
+        private final PDDocument pdf;
+        private PDPageContentStream content;
+        private float y;
+
+        PageWriter(PDDocument pdf) throws IOException {
+            this.pdf = pdf;
+            newPage();
+        }
+
+        void write(PDFont font, float fontSize, String text) throws IOException {
+            for (String line : wrap(font, fontSize, text)) {
+                if (y - LEADING < MARGIN) {
+                    newPage();
+                }
+                y -= LEADING;
+                content.beginText();
+                content.setFont(font, fontSize);
+                content.newLineAtOffset(MARGIN, y);
+                content.showText(line);
+                content.endText();
+            }
+        }
+
+        void space(float height) {
+            y -= height;
+        }
+
+        void close() throws IOException {
+            content.close();
+        }
+
+        private void newPage() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+            PDPage page = new PDPage(PAGE_SIZE);
+            pdf.addPage(page);
+            content = new PDPageContentStream(pdf, page);
+            y = PAGE_SIZE.getHeight() - MARGIN;
+        }
+
+        private static List<String> wrap(PDFont font, float fontSize, String text) throws IOException {
+            float maxWidth = PAGE_SIZE.getWidth() - 2 * MARGIN;
+            List<String> lines = new ArrayList<>();
+            for (String paragraph : encodable(font, text).split("\\R", -1)) {
+                StringBuilder line = new StringBuilder();
+                for (String word : paragraph.split(" ")) {
+                    String candidate = line.isEmpty() ? word : line + " " + word;
+                    if (width(font, fontSize, candidate) <= maxWidth) {
+                        line.setLength(0);
+                        line.append(candidate);
+                        continue;
+                    }
+                    if (!line.isEmpty()) {
+                        lines.add(line.toString());
+                    }
+                    line.setLength(0);
+                    line.append(word);
+                    // a word wider than a whole line, such as a long link, is broken wherever the line is full
+                    int end = fittingLength(font, fontSize, line, maxWidth);
+                    while (end < line.length()) {
+                        lines.add(line.substring(0, end));
+                        line.delete(0, end);
+                        end = fittingLength(font, fontSize, line, maxWidth);
+                    }
+                }
+                lines.add(line.toString());
+            }
+            return lines;
+        }
+
+        private static int fittingLength(PDFont font, float fontSize, CharSequence text, float maxWidth)
+            throws IOException {
+            float lineWidth = 0;
+            int end = 0;
+            while (end < text.length()) {
+                int next = end + Character.charCount(Character.codePointAt(text, end));
+                lineWidth += width(font, fontSize, text.subSequence(end, next).toString());
+                if (lineWidth > maxWidth) {
+                    // a line always takes at least one character, however narrow the page
+                    return end == 0 ? next : end;
+                }
+                end = next;
+            }
+            return end;
+        }
+
+        private static float width(PDFont font, float fontSize, String text) throws IOException {
+            return font.getStringWidth(text) / 1000 * fontSize;
+        }
+
+        private static String encodable(PDFont font, String text) {
+            StringBuilder result = new StringBuilder(text.length());
+            text.codePoints().forEach(codePoint -> {
+                String character = Character.toString(codePoint);
+                if (codePoint == '\n' || codePoint == '\r') {
+                    result.append(character);
+                } else if (codePoint == '\t') {
+                    result.append(' ');
+                } else {
+                    result.append(canEncode(font, character) ? character : UNENCODABLE_CHARACTER);
+                }
+            });
+            return result.toString();
+        }
+
+        private static boolean canEncode(PDFont font, String character) {
+            try {
+                font.encode(character);
+                return true;
+            } catch (IOException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package uk.gov.hmcts.reform.et.syaapi.config;
 
-
 import feign.FeignException;
 import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -66,4 +67,18 @@ class GlobalExceptionHandlerTest {
         assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
         assertThat(errorResponse).isEqualTo(actualResponse.getBody());
     }
+
+    @Test
+    void shouldHandleCallNotPermittedException() {
+        final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+        final CallNotPermittedException exception =
+            CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("tornado"));
+
+        final ResponseEntity<ErrorResponse> actualResponse =
+            exceptionHandler.handleDownstreamUnavailableException(exception);
+
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(actualResponse.getBody())
+            .isEqualTo(ErrorResponse.builder().message(exception.getMessage()).code(503).build());
+    }
 }
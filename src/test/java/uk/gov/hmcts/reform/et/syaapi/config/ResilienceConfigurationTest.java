@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.et.syaapi.config;
+
+import feign.Client;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import uk.gov.hmcts.reform.et.syaapi.service.ResilienceService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilienceConfigurationTest {
+
+    private static final String CCD_URL = "http://localhost:4452";
+
+    private final ResilienceConfiguration configuration = new ResilienceConfiguration();
+    private final BulkheadRegistry bulkheadRegistry =
+        configuration.bulkheadRegistry(new String[]{" tornado = 10 ", "", "acas=5"}, 25, 100);
+    private final CircuitBreakerRegistry circuitBreakerRegistry =
+        configuration.circuitBreakerRegistry(50, 80, 15_000, 2, 2, 30_000, 1);
+
+    @Test
+    void bulkheadRegistryShouldLimitEachDownstream() {
+        assertThat(bulkheadRegistry.bulkhead("tornado").getBulkheadConfig().getMaxConcurrentCalls()).isEqualTo(10);
+        assertThat(bulkheadRegistry.bulkhead("acas").getBulkheadConfig().getMaxConcurrentCalls()).isEqualTo(5);
+        assertThat(bulkheadRegistry.bulkhead("ccd").getBulkheadConfig().getMaxConcurrentCalls()).isEqualTo(25);
+    }
+
+    @Test
+    void parseLimitsShouldRejectUnknownDownstreamsAndEntriesWithoutLimit() {
+        assertThrows(IllegalArgumentException.class, () -> ResilienceConfiguration.parseLimits("docmosis=5"));
+        assertThrows(IllegalArgumentException.class, () -> ResilienceConfiguration.parseLimits("ccd"));
+    }
+
+    @Test
+    void clientErrorsShouldNotCountAsDownstreamFailures() {
+        assertThat(ResilienceConfiguration.isDownstreamFailure(new HttpClientErrorException(HttpStatus.BAD_REQUEST)))
+            .isFalse();
+        assertThat(ResilienceConfiguration.isDownstreamFailure(feignException(404))).isFalse();
+        assertThat(ResilienceConfiguration.isDownstreamFailure(feignException(502))).isTrue();
+        assertThat(ResilienceConfiguration.isDownstreamFailure(new HttpServerErrorException(HttpStatus.BAD_GATEWAY)))
+            .isTrue();
+        assertThat(ResilienceConfiguration.isDownstreamFailure(new ResourceAccessException("Read timed out")))
+            .isTrue();
+    }
+
+    @Test
+    void serverErrorResponsesShouldCountAsDownstreamFailures() {
+        assertThat(ResilienceConfiguration.isServerErrorResponse(response(503))).isTrue();
+        assertThat(ResilienceConfiguration.isServerErrorResponse(response(404))).isFalse();
+        assertThat(ResilienceConfiguration.isServerErrorResponse("503")).isFalse();
+    }
+
+    @Test
+    void ccdCapabilityShouldOpenCircuitOnServerErrorsFromCcdOnly() throws IOException {
+        ResilienceService resilienceService =
+            new ResilienceService(bulkheadRegistry, circuitBreakerRegistry, 200, 2.0, 2000);
+        AtomicInteger calls = new AtomicInteger();
+        Client client = configuration.ccdResilienceCapability(resilienceService, CCD_URL)
+            .enrich((request, options) -> {
+                calls.incrementAndGet();
+                return response(500);
+            });
+        Request.Options options = new Request.Options();
+
+        client.execute(request(CCD_URL + "/cases/1"), options);
+        client.execute(request(CCD_URL + "/cases/2"), options);
+        client.execute(request("http://localhost:5000/details"), options);
+
+        assertThrows(CallNotPermittedException.class, () -> client.execute(request(CCD_URL + "/cases/3"), options));
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void resilienceMetricsShouldPublishStateOfEachCircuit() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        configuration.resilienceMetrics(bulkheadRegistry, circuitBreakerRegistry).bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state")
+                       .tag("name", "notify").tag("state", "closed").gauge().value())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("resilience4j.bulkhead.max.allowed.concurrent.calls")
+                       .tag("name", "tornado").gauge().value())
+            .isEqualTo(10);
+    }
+
+    private static FeignException feignException(int status) {
+        return FeignException.errorStatus("getCase", response(status));
+    }
+
+    private static Request request(String url) {
+        return Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Response response(int status) {
+        return Response.builder()
+            .status(status)
+            .request(request(CCD_URL))
+            .headers(Map.of())
+            .build();
+    }
+}
@@ -1,14 +1,97 @@
 package uk.gov.hmcts.reform.et.syaapi.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class RestTemplateConfigurationTest {
 
+    private static final String CDAM_URL = "http://ccd-case-document-am-api:4455";
+    private static final String ACAS_URL = "https://api-dev-acas-01.azure-api.net/ECCLUAT";
+    private static final String[] ROUTE_LIMITS = {CDAM_URL + "=5", ACAS_URL + "=3"};
+
+    private final RestTemplateConfiguration configuration = new RestTemplateConfiguration();
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+        connectionManager = configuration.httpClientConnectionManager(
+            20, 10, ROUTE_LIMITS, 1000, 1000, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    void createRestTemplateGeneratesNewRestTemplate() throws IOException {
+        try (CloseableHttpClient httpClient = configuration.pooledHttpClient(connectionManager, 1000, 1000, 1000)) {
+            assertThat(configuration.getRestTemplate(configuration.pooledClientHttpRequestFactory(httpClient))
+                           .getRequestFactory())
+                .isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+        }
+    }
+
+    @Test
+    void createRestTemplateWithHttp2UsesJdkClient() {
+        assertThat(configuration.getRestTemplate(configuration.http2ClientHttpRequestFactory(1000, 1000))
+                       .getRequestFactory())
+            .isInstanceOf(JdkClientHttpRequestFactory.class);
+    }
+
     @Test
-    void createRestTemplateGeneratesNewRestTemplate() {
-        assertThat(new RestTemplateConfiguration().getRestTemplate())
-            .isNotNull();
+    void connectionPoolShouldLimitEachConfiguredHost() {
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(20);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(10);
+        assertThat(connectionManager.getMaxPerRoute(RestTemplateConfiguration.route(CDAM_URL))).isEqualTo(5);
+        assertThat(connectionManager.getMaxPerRoute(RestTemplateConfiguration.route(ACAS_URL))).isEqualTo(3);
+        assertThat(connectionManager.getMaxPerRoute(RestTemplateConfiguration.route("http://localhost:8090")))
+            .isEqualTo(10);
+    }
+
+    @Test
+    void routeShouldUseDefaultPortOfScheme() {
+        HttpRoute route = RestTemplateConfiguration.route(ACAS_URL);
+
+        assertThat(route.getTargetHost()).isEqualTo(new HttpHost("https", "api-dev-acas-01.azure-api.net", 443));
+        assertThat(route.isSecure()).isTrue();
+    }
+
+    @Test
+    void parseRouteLimitsShouldIgnoreBlankEntriesAndRejectEntriesWithoutLimit() {
+        Map<HttpRoute, Integer> limits = RestTemplateConfiguration.parseRouteLimits(" " + CDAM_URL + " = 5 ", "");
+
+        assertThat(limits).containsExactly(Map.entry(RestTemplateConfiguration.route(CDAM_URL), 5));
+        assertThrows(IllegalArgumentException.class, () -> RestTemplateConfiguration.parseRouteLimits(CDAM_URL));
+    }
+
+    @Test
+    void poolMetricsShouldIncludeEachConfiguredHost() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        configuration.httpClientPoolMetrics(connectionManager, ROUTE_LIMITS).bindTo(registry);
+
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.max").gauge().value()).isEqualTo(20);
+        assertThat(registry.get(RestTemplateConfiguration.ROUTE_POOL_GAUGE + ".max")
+                       .tag("route", CDAM_URL).gauge().value())
+            .isEqualTo(5);
+        assertThat(registry.get(RestTemplateConfiguration.ROUTE_POOL_GAUGE + ".leased")
+                       .tag("route", "https://api-dev-acas-01.azure-api.net:443").gauge().value())
+            .isZero();
     }
 }
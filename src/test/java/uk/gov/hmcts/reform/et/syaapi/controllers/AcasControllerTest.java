@@ -6,10 +6,8 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,6 +18,8 @@ import uk.gov.hmcts.reform.et.syaapi.SyaApiApplication;
 import uk.gov.hmcts.reform.et.syaapi.config.AcasRoleAuthorizationAspect;
 import uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocumentAcasResponse;
+import uk.gov.hmcts.reform.et.syaapi.models.LastModifiedCasesPage;
+import uk.gov.hmcts.reform.et.syaapi.search.LastModifiedCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.AcasCaseService;
 import uk.gov.hmcts.reform.et.syaapi.service.AdminUserService;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseDocumentService;
@@ -27,6 +27,8 @@ import uk.gov.hmcts.reform.et.syaapi.service.FeatureToggleService;
 import uk.gov.hmcts.reform.et.syaapi.service.RoleValidationService;
 import uk.gov.hmcts.reform.et.syaapi.service.VerifyTokenService;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -36,9 +38,15 @@ import java.util.UUID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(SpringRunner.class)
@@ -51,7 +59,9 @@ class AcasControllerTest {
     private static final String REQUEST_DATE_TIME_STRING = "2022-09-01T12:34:00";
     private static final String AUTH_TOKEN = "some-token";
     private static final String GET_LAST_MODIFIED_CASE_LIST_URL = "/getLastModifiedCaseList";
+    private static final String GET_LAST_MODIFIED_CASE_FEED_URL = "/getLastModifiedCaseFeed";
     private static final String GET_CASE_DATA_URL = "/getCaseData";
+    private static final String GET_CASE_DATA_STREAM_URL = "/getCaseDataStream";
     private static final String GET_ACAS_DOCUMENTS_URL = "/getAcasDocuments";
     private static final String DOWNLOAD_ACAS_DOCUMENTS_URL = "/downloadAcasDocuments";
     private static final String VET_AND_ACCEPT_CASE = "/vetAndAcceptCase";
@@ -121,6 +131,54 @@ class AcasControllerTest {
             .andExpect(status().isForbidden());
     }
 
+    @Test
+    void getLastModifiedCaseFeedFromDateTimeReturnsPageWithCursor() throws Exception {
+        LocalDateTime requestDateTime =
+            LocalDateTime.parse(REQUEST_DATE_TIME_STRING, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String cursor = new LastModifiedCasesCursor(1_662_035_640_000L, 1_646_225_213_651_598L).encode();
+        when(acasCaseService.getLastModifiedCasesPage(AUTH_TOKEN, requestDateTime, null))
+            .thenReturn(LastModifiedCasesPage.builder()
+                            .caseIds(List.of(1_646_225_213_651_598L)).cursor(cursor).hasMore(true).build());
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_LAST_MODIFIED_CASE_FEED_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
+                            .param("datetime", REQUEST_DATE_TIME_STRING))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.caseIds[0]").value(1_646_225_213_651_598L))
+            .andExpect(jsonPath("$.cursor").value(cursor))
+            .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void getLastModifiedCaseFeedFromCursorPassesDecodedCursor() throws Exception {
+        LastModifiedCasesCursor cursor = new LastModifiedCasesCursor(1_662_035_640_000L, 1_646_225_213_651_598L);
+        when(acasCaseService.getLastModifiedCasesPage(AUTH_TOKEN, null, cursor))
+            .thenReturn(LastModifiedCasesPage.builder().caseIds(List.of()).cursor(cursor.encode()).build());
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_LAST_MODIFIED_CASE_FEED_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
+                            .param("cursor", cursor.encode()))
+            .andExpect(status().isOk());
+        verify(acasCaseService).getLastModifiedCasesPage(AUTH_TOKEN, null, cursor);
+    }
+
+    @Test
+    void getLastModifiedCaseFeedWhenNoDateTimeOrCursorReturnError() throws Exception {
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_LAST_MODIFIED_CASE_FEED_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getLastModifiedCaseFeedWhenInvalidCursorReturnError() throws Exception {
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_LAST_MODIFIED_CASE_FEED_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
+                            .param("cursor", "not a cursor"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getCaseDataSuccessNoCases() throws Exception {
         when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
@@ -144,6 +202,57 @@ class AcasControllerTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    void getCaseDataWithFieldsReturnsProjectedCases() throws Exception {
+        when(acasCaseService.getCaseData(AUTH_TOKEN, List.of("1646225213651598"), List.of("claimantIndType")))
+            .thenReturn(List.of(CaseDetails.builder().id(1_646_225_213_651_598L).build()));
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_CASE_DATA_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
+                            .param("caseIds", "1646225213651598")
+                            .param("fields", "claimantIndType"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1_646_225_213_651_598L));
+    }
+
+    @Test
+    void getCaseDataOverMaximumBatchSizeReturnError() throws Exception {
+        when(acasCaseService.getCaseData(anyString(), any()))
+            .thenThrow(new IllegalArgumentException("No more than 1 case ids can be requested at once"));
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_CASE_DATA_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
+                            .param("caseIds", "1646225213651598", "1646225213651533"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCaseDataStreamWritesCases() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(3);
+            output.write("[{\"id\":1646225213651598}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(acasCaseService).streamCaseData(eq(AUTH_TOKEN), eq(List.of("1646225213651598")), any(), any());
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_CASE_DATA_STREAM_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
+                            .param("caseIds", "1646225213651598"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$[0].id").value(1_646_225_213_651_598L));
+    }
+
+    @Test
+    void getCaseDataStreamInvalidCaseIdReturnError() throws Exception {
+        doThrow(new IllegalArgumentException("Invalid case id: abc"))
+            .when(acasCaseService).streamCaseData(eq(AUTH_TOKEN), eq(List.of("abc")), any(), any());
+        when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
+        mockMvc.perform(get(GET_CASE_DATA_STREAM_URL)
+                            .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
+                            .param("caseIds", "abc"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getCaseDataNoParameter() throws Exception {
         when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
@@ -200,11 +309,13 @@ class AcasControllerTest {
     void downloadAcasDocumentsDocumentsFound() throws Exception {
         when(verifyTokenService.verifyTokenSignature(AUTH_TOKEN)).thenReturn(true);
         when(adminUserService.getAdminUserToken()).thenReturn(AUTH_TOKEN);
-        when(caseDocumentService.downloadDocument(anyString(), any())).thenReturn(getDocumentBinaryContent());
+        UUID documentId = UUID.randomUUID();
         mockMvc.perform(get(DOWNLOAD_ACAS_DOCUMENTS_URL)
                             .header(HttpHeaders.AUTHORIZATION, AUTH_TOKEN)
-                            .param("documentId", UUID.randomUUID().toString()))
+                            .header(HttpHeaders.RANGE, "bytes=0-99")
+                            .param("documentId", documentId.toString()))
             .andExpect(status().isOk());
+        verify(caseDocumentService).streamDocument(eq(AUTH_TOKEN), eq(documentId), eq("bytes=0-99"), any());
     }
 
     @Test
@@ -308,14 +419,4 @@ class AcasControllerTest {
                             .param(CASE_ID_PARAM, "1234567890123456"))
             .andExpect(status().isForbidden());
     }
-
-    private ResponseEntity<ByteArrayResource> getDocumentBinaryContent() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Type", "application/json; charset=utf-8");
-        return new ResponseEntity<>(
-            new ByteArrayResource("test document content".getBytes()),
-            headers,
-            HttpStatus.OK
-        );
-    }
 }
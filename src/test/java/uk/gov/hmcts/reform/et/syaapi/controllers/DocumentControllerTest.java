@@ -4,11 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import uk.gov.hmcts.reform.et.syaapi.config.interceptors.ResourceNotFoundException;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocument;
@@ -20,9 +20,14 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.TEST_SERVICE_AUTH_TOKEN;
@@ -35,6 +40,8 @@ class DocumentControllerTest {
 
     private static final UUID DOCUMENT_ID = UUID.fromString("0d94b4e4-4659-47ad-a640-c63517c76706");
     private static final String NOT_FOUND_MESSAGE = "Document not found";
+    private static final String RANGE = "bytes=0-3";
+    private static final byte[] DOCUMENT_CONTENT = "test document content".getBytes();
 
     @Autowired
     private MockMvc mockMvc;
@@ -48,21 +55,28 @@ class DocumentControllerTest {
     @Test
     void documentBinaryContentSuccess() throws Exception {
         when(verifyTokenService.verifyTokenSignature(any())).thenReturn(true);
-        when(caseDocumentService.downloadDocument(TEST_SERVICE_AUTH_TOKEN, DOCUMENT_ID))
-            .thenReturn(getDocumentBinaryContent());
+        doAnswer(invocation -> {
+            ServerHttpResponse response = invocation.getArgument(3);
+            response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+            response.getHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes 0-3/21");
+            response.getBody().write(DOCUMENT_CONTENT, 0, 4);
+            return null;
+        }).when(caseDocumentService).streamDocument(eq(TEST_SERVICE_AUTH_TOKEN), eq(DOCUMENT_ID), eq(RANGE), any());
 
         mockMvc.perform(get("/document/download/" + DOCUMENT_ID)
                             .contentType(MediaType.APPLICATION_JSON)
-                            .header(HttpHeaders.AUTHORIZATION, TEST_SERVICE_AUTH_TOKEN))
-            .andExpect(status().isOk())
-            .andExpect(content().bytes(getDocumentBinaryContent().getBody().getByteArray()));
+                            .header(HttpHeaders.AUTHORIZATION, TEST_SERVICE_AUTH_TOKEN)
+                            .header(HttpHeaders.RANGE, RANGE))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/21"))
+            .andExpect(content().bytes("test".getBytes()));
     }
 
     @Test
     void documentBinaryContentResourceNotFound() throws Exception {
         when(verifyTokenService.verifyTokenSignature(any())).thenReturn(true);
-        when(caseDocumentService.downloadDocument(TEST_SERVICE_AUTH_TOKEN, DOCUMENT_ID))
-            .thenThrow(new ResourceNotFoundException(NOT_FOUND_MESSAGE, null));
+        doThrow(new ResourceNotFoundException(NOT_FOUND_MESSAGE, null))
+            .when(caseDocumentService).streamDocument(eq(TEST_SERVICE_AUTH_TOKEN), eq(DOCUMENT_ID), isNull(), any());
 
         mockMvc.perform(get("/document/download/" + DOCUMENT_ID)
                             .contentType(MediaType.APPLICATION_JSON)
@@ -99,16 +113,6 @@ class DocumentControllerTest {
             .andExpect(jsonPath("$.message").value("Document not found"));
     }
 
-    private ResponseEntity<ByteArrayResource> getDocumentBinaryContent() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-Type", "application/json; charset=utf-8");
-        return new ResponseEntity<>(
-            new ByteArrayResource("test document content".getBytes()),
-            headers,
-            HttpStatus.OK
-        );
-    }
-
     private ResponseEntity<CaseDocument> getDocumentDetails() {
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-Type", "application/json; charset=utf-8");
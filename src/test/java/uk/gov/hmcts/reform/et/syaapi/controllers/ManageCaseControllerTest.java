@@ -24,6 +24,8 @@ import uk.gov.hmcts.reform.et.syaapi.models.ClaimantApplicationRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.HubLinksStatusesRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.RespondToApplicationRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.TribunalResponseViewedRequest;
+import uk.gov.hmcts.reform.et.syaapi.models.UserCasesPage;
+import uk.gov.hmcts.reform.et.syaapi.search.UserCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.ApplicationService;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseService;
 import uk.gov.hmcts.reform.et.syaapi.service.HubLinkService;
@@ -46,6 +48,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.SCOTLAND_CASE_TYPE;
@@ -180,6 +183,55 @@ class ManageCaseControllerTest {
             .andExpect(jsonPath("[1].case_type_id").value(requestCaseDataList.get(1).getCaseTypeId()));
     }
 
+    @Test
+    @SneakyThrows
+    void shouldGetPageOfCaseDetailsByUserWithNextCursor() {
+        String nextCursor = new UserCasesCursor(SCOTLAND_CASE_TYPE, 1L).encode();
+        when(verifyTokenService.verifyTokenSignature(any())).thenReturn(true);
+        when(manageCaseRoleService.getUserCasesPageByCaseUserRole(
+            TEST_SERVICE_AUTH_TOKEN, CASE_USER_ROLE_CREATOR, null, List.of("claimant", "ethosCaseReference")
+        )).thenReturn(UserCasesPage.builder().cases(requestCaseDataList).nextCursor(nextCursor).build());
+
+        mockMvc.perform(
+                get("/cases/user-cases?paginated=true&fields=claimant,ethosCaseReference")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.AUTHORIZATION, TEST_SERVICE_AUTH_TOKEN))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ManageCaseController.NEXT_CURSOR_HEADER, nextCursor))
+            .andExpect(jsonPath("[0].case_type_id").value(requestCaseDataList.get(0).getCaseTypeId()))
+            .andExpect(jsonPath("[1].case_type_id").value(requestCaseDataList.get(1).getCaseTypeId()));
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldGetLastPageOfCaseDetailsByUserWithoutNextCursor() {
+        UserCasesCursor cursor = new UserCasesCursor(SCOTLAND_CASE_TYPE, 1L);
+        when(verifyTokenService.verifyTokenSignature(any())).thenReturn(true);
+        when(manageCaseRoleService.getUserCasesPageByCaseUserRole(
+            TEST_SERVICE_AUTH_TOKEN, CASE_USER_ROLE_CREATOR, cursor, null
+        )).thenReturn(UserCasesPage.builder().cases(requestCaseDataList).build());
+
+        mockMvc.perform(
+                get("/cases/user-cases?cursor=" + cursor.encode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.AUTHORIZATION, TEST_SERVICE_AUTH_TOKEN))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(ManageCaseController.NEXT_CURSOR_HEADER))
+            .andExpect(jsonPath("[0].case_type_id").value(requestCaseDataList.get(0).getCaseTypeId()));
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldReturnBadRequestForInvalidCursor() {
+        when(verifyTokenService.verifyTokenSignature(any())).thenReturn(true);
+
+        mockMvc.perform(
+                get("/cases/user-cases?cursor=not-a-cursor")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.AUTHORIZATION, TEST_SERVICE_AUTH_TOKEN))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @SneakyThrows
     void shouldReturnBadRequestForNonExistingItem() {
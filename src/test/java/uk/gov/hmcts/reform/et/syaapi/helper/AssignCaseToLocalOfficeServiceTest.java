@@ -6,14 +6,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.dwp.regex.InvalidPostcodeException;
 import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
-import uk.gov.hmcts.ecm.common.service.PostcodeToOfficeService;
 import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseOfficeService;
-
-import java.util.Optional;
+import uk.gov.hmcts.reform.et.syaapi.service.TribunalOfficeLookup;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,7 +23,7 @@ class AssignCaseToLocalOfficeServiceTest {
     @InjectMocks
     private CaseOfficeService assignCaseToLocalOfficeService;
     @Mock
-    private PostcodeToOfficeService postcodeToOfficeService;
+    private TribunalOfficeLookup tribunalOfficeLookup;
     private CaseTestData caseTestData;
 
     @BeforeEach
@@ -35,9 +32,9 @@ class AssignCaseToLocalOfficeServiceTest {
     }
 
     @Test
-    void shouldAssignManagingAddressFromClaimantWorkAddress() throws InvalidPostcodeException {
+    void shouldAssignManagingAddressFromClaimantWorkAddress() {
         CaseRequest request = caseTestData.getCaseRequest();
-        when(postcodeToOfficeService.getTribunalOfficeFromPostcode(any())).thenReturn(Optional.of(
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.found(
             TribunalOffice.GLASGOW
         ));
         assertThat(
@@ -46,19 +43,17 @@ class AssignCaseToLocalOfficeServiceTest {
     }
 
     @Test
-    void shouldReturnAssignedForWrongPostcode() throws InvalidPostcodeException {
+    void shouldReturnAssignedForWrongPostcode() {
         CaseRequest request = caseTestData.getCaseRequest();
-        when(postcodeToOfficeService.getTribunalOfficeFromPostcode(any()))
-            .thenThrow(new InvalidPostcodeException(""));
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.INVALID_POSTCODE);
         assertThat(assignCaseToLocalOfficeService.convertCaseRequestToCaseDataWithTribunalOffice(
             request).getManagingOffice()).isEqualTo("Unassigned");
     }
 
     @Test
-    void shouldReturnAssignedForEmptyOffice() throws InvalidPostcodeException {
+    void shouldReturnAssignedForEmptyOffice() {
         CaseRequest request = caseTestData.getCaseRequest();
-        when(postcodeToOfficeService.getTribunalOfficeFromPostcode(any()))
-            .thenReturn(Optional.empty());
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.NOT_FOUND);
         assertThat(assignCaseToLocalOfficeService.convertCaseRequestToCaseDataWithTribunalOffice(
             request).getManagingOffice()).isEqualTo("Unassigned");
     }
@@ -72,9 +67,9 @@ class AssignCaseToLocalOfficeServiceTest {
     }
 
     @Test
-    void shouldAssignManagingAddressFromOneOfRespondentAddress() throws InvalidPostcodeException {
+    void shouldAssignManagingAddressFromOneOfRespondentAddress() {
         CaseRequest request = caseTestData.getCaseRequestWithoutManagingAddress();
-        when(postcodeToOfficeService.getTribunalOfficeFromPostcode(any())).thenReturn(Optional.of(
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.found(
             TribunalOffice.GLASGOW
         ));
         assertThat(
@@ -83,10 +78,10 @@ class AssignCaseToLocalOfficeServiceTest {
     }
 
     @Test
-    void shouldAssignUnassignedIfCaseTypeIdIsScotlandAndPostCodeFromEnglandArea() throws InvalidPostcodeException {
+    void shouldAssignUnassignedIfCaseTypeIdIsScotlandAndPostCodeFromEnglandArea() {
         CaseRequest request = caseTestData.getCaseRequestWithoutManagingAddress();
 
-        when(postcodeToOfficeService.getTribunalOfficeFromPostcode(any())).thenReturn(Optional.of(
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.found(
             TribunalOffice.LEEDS
         ));
 
@@ -96,10 +91,10 @@ class AssignCaseToLocalOfficeServiceTest {
     }
 
     @Test
-    void shouldAssignUnassignedIfCaseTypeIdIsEnglandAndPostCodeFromScotlandArea() throws InvalidPostcodeException {
+    void shouldAssignUnassignedIfCaseTypeIdIsEnglandAndPostCodeFromScotlandArea() {
         CaseRequest request = caseTestData.getEnglandWalesRequest();
 
-        when(postcodeToOfficeService.getTribunalOfficeFromPostcode(any())).thenReturn(Optional.of(
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.found(
             TribunalOffice.EDINBURGH
         ));
 
@@ -109,10 +104,10 @@ class AssignCaseToLocalOfficeServiceTest {
     }
 
     @Test
-    void shouldAssignAnyScottlandOfficeToGlasgowByDefault() throws InvalidPostcodeException {
+    void shouldAssignAnyScottlandOfficeToGlasgowByDefault() {
         CaseRequest request = caseTestData.getCaseRequestWithoutManagingAddress();
 
-        when(postcodeToOfficeService.getTribunalOfficeFromPostcode(any())).thenReturn(Optional.of(
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.found(
             TribunalOffice.DUNDEE
         ));
 
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.et.common.model.ccd.Et1CaseData;
+import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CaseDataJsonMapperTest {
+
+    private CaseTestData caseTestData;
+    private ObjectMapper perCallMapper;
+
+    @BeforeEach
+    void beforeEach() {
+        caseTestData = new CaseTestData();
+        perCallMapper = new ObjectMapper();
+        perCallMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    void toMapShouldMatchConvertValue() {
+        CaseData caseData = caseTestData.getCaseData();
+
+        assertThat(CaseDataJsonMapper.toMap(caseData))
+            .isEqualTo(perCallMapper.convertValue(caseData, new TypeReference<Map<String, Object>>() {}));
+    }
+
+    @Test
+    void toCaseDataShouldMatchConvertValue() {
+        Map<String, Object> caseDataMap = caseTestData.getCaseRequestCaseDataMap();
+
+        assertThat(CaseDataJsonMapper.toCaseData(caseDataMap))
+            .isEqualTo(perCallMapper.convertValue(caseDataMap, CaseData.class));
+    }
+
+    @Test
+    void toEt1CaseDataShouldMatchConvertValue() {
+        Map<String, Object> caseDataMap = caseTestData.getCaseRequestCaseDataMap();
+
+        assertThat(CaseDataJsonMapper.toEt1CaseData(caseDataMap))
+            .isEqualTo(perCallMapper.convertValue(caseDataMap, Et1CaseData.class));
+    }
+
+    @Test
+    void caseDataShouldSurviveRoundTrip() {
+        CaseData caseData = caseTestData.getCaseData();
+
+        assertThat(CaseDataJsonMapper.toCaseData(CaseDataJsonMapper.toMap(caseData))).isEqualTo(caseData);
+    }
+
+    @Test
+    void conversionsShouldReturnNullForNullCaseData() {
+        assertThat(CaseDataJsonMapper.toMap(null)).isNull();
+        assertThat(CaseDataJsonMapper.toCaseData(null)).isNull();
+        assertThat(CaseDataJsonMapper.toEt1CaseData(null)).isNull();
+    }
+
+    @Test
+    void readEt1CaseDataShouldThrowForInvalidJson() {
+        assertThrows(JsonProcessingException.class, () -> CaseDataJsonMapper.readEt1CaseData("\"caseType\": \"x\""));
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentifierParserTest {
+
+    private static final Pattern ACAS_NUMBER_PATTERN = Pattern.compile("\\A[a-zA-Z]{1,2}\\d{6}/\\d{2}/\\d{2}\\z");
+    private static final Pattern DOCUMENT_UUID_PATTERN = Pattern.compile(
+        "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final String UUID_VALUE = "6a5c1d0e-2b3f-4c5d-8e9f-0a1b2c3d4e5f";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"R123456/12/34", "AB123456/12/34", "r123456/12/34", "zZ000000/00/00"})
+    void shouldAcceptValidAcasNumbers(String acasNumber) {
+        assertThat(IdentifierParser.isValidAcasNumber(acasNumber)).isTrue();
+        assertThat(ACAS_NUMBER_PATTERN.matcher(acasNumber).matches()).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"R123456/12/3", "ABC123456/12/34", "123456/12/34", "R123456/12/34/", "R1234567/12/34",
+        "R123456-12-34", "R12345a/12/34", "R123456/12/34\n", " R123456/12/34", "É123456/12/34", "R١٢٣٤٥٦/12/34",
+        "R123456/1/234"})
+    void shouldRejectInvalidAcasNumbers(String acasNumber) {
+        assertThat(IdentifierParser.isValidAcasNumber(acasNumber)).isFalse();
+        if (acasNumber != null) {
+            assertThat(ACAS_NUMBER_PATTERN.matcher(acasNumber).matches()).isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http://dm-store:8080/documents/" + UUID_VALUE,
+        "http://dm-store:8080/documents/" + UUID_VALUE + "\n",
+        "http://dm-store:8080/documents/" + UUID_VALUE + "\r\n",
+        "http://dm-store:8080/documents/6A5C1D0E-2B3F-4C5D-8E9F-0A1B2C3D4E5F",
+        UUID_VALUE})
+    void shouldGetUuidDocumentUrlEndsWith(String url) {
+        Matcher matcher = DOCUMENT_UUID_PATTERN.matcher(url);
+        assertThat(matcher.find()).isTrue();
+
+        assertThat(IdentifierParser.documentUuid(url)).isEqualTo(UUID.fromString(matcher.group()))
+            .isEqualTo(UUID.fromString(UUID_VALUE));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"http://dm-store:8080/documents/" + UUID_VALUE + "/binary",
+        "http://dm-store:8080/documents/" + UUID_VALUE + "\n\n",
+        "http://dm-store:8080/documents/6a5c1d0e-2b3f-4c5d-8e9f-0a1b2c3d4e5g",
+        "http://dm-store:8080/documents/6a5c1d0e2b3f-4c5d-8e9f-0a1b2c3d4e5f0",
+        "6a5c1d0e-2b3f-4c5d-8e9f-0a1b2c3d4e5"})
+    void shouldNotGetUuidWhenDocumentUrlDoesNotEndWithOne(String url) {
+        assertThat(IdentifierParser.documentUuid(url)).isNull();
+        if (url != null) {
+            assertThat(DOCUMENT_UUID_PATTERN.matcher(url).find()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldParseUuidInCanonicalFormOnly() {
+        UUID uuid = UUID.randomUUID();
+
+        assertThat(IdentifierParser.parseUuid(uuid.toString())).isEqualTo(uuid);
+        assertThat(IdentifierParser.parseUuid(uuid.toString().toUpperCase())).isEqualTo(uuid);
+        assertThat(IdentifierParser.parseUuid(uuid + " ")).isNull();
+        assertThat(IdentifierParser.parseUuid(uuid.toString().replace('-', '_'))).isNull();
+        assertThat(IdentifierParser.parseUuid(null)).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MapBuildingGeneratorTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldBuildNestedMapsAndLists() throws IOException {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "test");
+        value.put("count", 3L);
+        value.put("items", List.of(Map.of("id", 1), 2.5));
+        value.put("empty", null);
+
+        try (MapBuildingGenerator generator = new MapBuildingGenerator(mapper)) {
+            mapper.writeValue(generator, value);
+
+            Map<String, Object> result = generator.getRootObject();
+            assertThat(result).isInstanceOf(LinkedHashMap.class).isEqualTo(value);
+            assertThat(result.get("count")).isInstanceOf(Long.class);
+            assertThat(result.get("items")).isInstanceOf(ArrayList.class);
+        }
+    }
+
+    @Test
+    void shouldBuildCaseDataMapLikeConvertValue() throws IOException {
+        CaseData caseData = new CaseTestData().getCaseData();
+
+        try (MapBuildingGenerator generator = new MapBuildingGenerator(mapper)) {
+            mapper.writerFor(CaseData.class).writeValue(generator, caseData);
+
+            assertThat(generator.getRootObject())
+                .isEqualTo(mapper.convertValue(caseData, new TypeReference<Map<String, Object>>() {}));
+        }
+    }
+
+    @Test
+    void shouldRejectValueWhereFieldNameIsExpected() throws IOException {
+        try (MapBuildingGenerator generator = new MapBuildingGenerator(mapper)) {
+            generator.writeStartObject();
+
+            assertThrows(JsonGenerationException.class, () -> generator.writeString("no field name"));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.et.syaapi.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MapTraversingParserTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldStreamTokensOfNestedMapsAndLists() throws IOException {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "test");
+        value.put("items", List.of(1, 2.5));
+        value.put("empty", null);
+
+        List<JsonToken> tokens = new ArrayList<>();
+        try (MapTraversingParser parser = new MapTraversingParser(value, mapper)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                tokens.add(token);
+            }
+        }
+
+        assertThat(tokens).containsExactly(
+            JsonToken.START_OBJECT,
+            JsonToken.FIELD_NAME, JsonToken.VALUE_STRING,
+            JsonToken.FIELD_NAME, JsonToken.START_ARRAY, JsonToken.VALUE_NUMBER_INT, JsonToken.VALUE_NUMBER_FLOAT,
+            JsonToken.END_ARRAY,
+            JsonToken.FIELD_NAME, JsonToken.VALUE_NULL,
+            JsonToken.END_OBJECT
+        );
+    }
+
+    @Test
+    void shouldBindCaseDataLikeConvertValue() throws IOException {
+        Map<String, Object> caseDataMap = mapper.convertValue(new CaseTestData().getCaseData(), MAP_TYPE);
+
+        CaseData caseData = mapper.readerFor(CaseData.class).readValue(new MapTraversingParser(caseDataMap, mapper));
+
+        assertThat(caseData).isEqualTo(mapper.convertValue(caseDataMap, CaseData.class));
+    }
+
+    @Test
+    void shouldReadObjectsThatAreNotJsonValuesThroughTheMapper() throws IOException {
+        CaseTestData caseTestData = new CaseTestData();
+        Map<String, Object> caseDataMap = caseTestData.getCaseRequestCaseDataMap();
+
+        CaseData caseData = mapper.readerFor(CaseData.class).readValue(new MapTraversingParser(caseDataMap, mapper));
+
+        assertThat(caseData.getClaimantIndType()).isEqualTo(caseDataMap.get("claimantIndType"));
+        assertThat(caseData.getRespondentCollection()).isEqualTo(caseDataMap.get("respondentCollection"));
+    }
+
+    @Test
+    void shouldRejectNumbersOutOfRangeOfTheTarget() {
+        Map<String, Object> value = Map.of("count", Long.MAX_VALUE);
+        TypeReference<Map<String, Integer>> intMapType = new TypeReference<>() {};
+
+        assertThrows(
+            JsonProcessingException.class,
+            () -> mapper.readerFor(intMapType).readValue(new MapTraversingParser(value, mapper))
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailJournalTest {
+
+    private static final long MAX_BYTES = 64 * 1024;
+    private static final long DEAD_LETTER_MAX_BYTES = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverShouldReturnEmailsQueuedButNotCompletedBeforeRestart() throws IOException {
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            assertThat(journal.recover()).isEmpty();
+            journal.append(command("1"));
+            journal.append(command("2"));
+            journal.append(command("3"));
+            journal.complete("2");
+        }
+
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            List<EmailCommand> recovered = journal.recover();
+
+            assertThat(recovered).extracting(EmailCommand::id).containsExactly("1", "3");
+            assertThat(recovered.get(0)).isEqualTo(command("1"));
+            assertThat(journal.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void recoverShouldSkipEntryCutShortByCrash() throws IOException {
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            journal.recover();
+            journal.append(command("1"));
+        }
+        Files.writeString(directory.resolve(EmailJournal.JOURNAL_FILE), "{\"queued\":{\"id\":\"2\",\"templ",
+                          StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            assertThat(journal.recover()).extracting(EmailCommand::id).containsExactly("1");
+        }
+    }
+
+    @Test
+    void completeShouldTruncateJournalWhenNothingIsPending() throws IOException {
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            journal.recover();
+            journal.append(command("1"));
+            journal.complete("1");
+
+            assertThat(journal.size()).isZero();
+            assertThat(Files.size(directory.resolve(EmailJournal.JOURNAL_FILE))).isZero();
+        }
+    }
+
+    @Test
+    void appendShouldRefuseEmailOverSizeLimit() throws IOException {
+        long entryBytes = entryBytes(command("1"));
+        try (EmailJournal journal = new EmailJournal(directory, 2 * entryBytes, DEAD_LETTER_MAX_BYTES)) {
+            journal.recover();
+
+            assertThat(journal.append(command("1"))).isTrue();
+            assertThat(journal.append(command("2"))).isTrue();
+            assertThat(journal.append(command("3"))).isFalse();
+            journal.complete("1");
+            assertThat(journal.append(command("3"))).isTrue();
+        }
+
+        try (EmailJournal journal = new EmailJournal(directory, 2 * entryBytes, DEAD_LETTER_MAX_BYTES)) {
+            assertThat(journal.recover()).extracting(EmailCommand::id).containsExactly("2", "3");
+        }
+    }
+
+    @Test
+    void completeShouldCompactJournalOnceCompletedEntriesMakeUpMostOfItsSizeLimit() throws IOException {
+        long entryBytes = entryBytes(command("1"));
+        Path journalFile = directory.resolve(EmailJournal.JOURNAL_FILE);
+        try (EmailJournal journal = new EmailJournal(directory, 3 * entryBytes, DEAD_LETTER_MAX_BYTES)) {
+            journal.recover();
+            journal.append(command("1"));
+            for (String id : List.of("2", "3", "4", "5")) {
+                journal.append(command(id));
+                journal.complete(id);
+
+                assertThat(Files.size(journalFile)).isLessThan(2 * 3 * entryBytes);
+            }
+
+            assertThat(Files.readAllLines(journalFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    void deadLetterShouldKeepEmailOutOfJournal() throws IOException {
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            journal.recover();
+            journal.append(command("1"));
+            journal.append(command("2"));
+            journal.deadLetter(command("1"), "Status code: 400 BadRequestError");
+        }
+
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            assertThat(journal.recover()).extracting(EmailCommand::id).containsExactly("2");
+        }
+        assertThat(Files.readString(directory.resolve(EmailJournal.DEAD_LETTER_FILE)))
+            .contains("\"id\":\"1\"", "Status code: 400 BadRequestError")
+            .doesNotContain("test@example.com", "6000001/2024", "YQ==");
+    }
+
+    @Test
+    void deadLetterShouldRotateFileOnceItReachesItsLimit() throws IOException {
+        try (EmailJournal journal = new EmailJournal(directory, MAX_BYTES, 1)) {
+            journal.recover();
+            for (String id : List.of("1", "2", "3")) {
+                journal.append(command(id));
+                journal.deadLetter(command(id), "Status code: 400 BadRequestError");
+            }
+        }
+
+        assertThat(Files.readString(directory.resolve(EmailJournal.DEAD_LETTER_FILE)))
+            .contains("\"id\":\"3\"")
+            .doesNotContain("\"id\":\"2\"");
+        assertThat(Files.readString(directory.resolve(EmailJournal.ROTATED_DEAD_LETTER_FILE)))
+            .contains("\"id\":\"2\"")
+            .doesNotContain("\"id\":\"1\"");
+    }
+
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    void filesShouldOnlyBeReadableByTheirOwner() throws IOException {
+        Path journalDirectory = directory.resolve("et-sya-api-0");
+        try (EmailJournal journal = new EmailJournal(journalDirectory, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            journal.recover();
+            journal.append(command("1"));
+            journal.deadLetter(command("1"), "Status code: 400 BadRequestError");
+        }
+
+        assertThat(Files.getPosixFilePermissions(journalDirectory))
+            .isEqualTo(PosixFilePermissions.fromString("rwx------"));
+        assertThat(Files.getPosixFilePermissions(journalDirectory.resolve(EmailJournal.JOURNAL_FILE)))
+            .isEqualTo(PosixFilePermissions.fromString("rw-------"));
+        assertThat(Files.getPosixFilePermissions(journalDirectory.resolve(EmailJournal.DEAD_LETTER_FILE)))
+            .isEqualTo(PosixFilePermissions.fromString("rw-------"));
+    }
+
+    private long entryBytes(EmailCommand command) throws IOException {
+        Path sizing = directory.resolve("sizing");
+        try (EmailJournal journal = new EmailJournal(sizing, MAX_BYTES, DEAD_LETTER_MAX_BYTES)) {
+            journal.recover();
+            journal.append(command);
+            return Files.size(sizing.resolve(EmailJournal.JOURNAL_FILE));
+        }
+    }
+
+    private static EmailCommand command(String id) {
+        return new EmailCommand(id, "templateId", "test@example.com",
+                                Map.of("caseNumber", "6000001/2024", "document", Map.of("file", "YQ==")),
+                                "1234567890123456", 1_700_000_000_000L);
+    }
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.et.syaapi.notification;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+import uk.gov.hmcts.reform.et.syaapi.service.ResilienceService;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilientNotificationClientTest {
+
+    private static final String API_KEY = "test_key-" + UUID.randomUUID() + "-" + UUID.randomUUID();
+
+    @Test
+    void sendEmailShouldNotCallNotifyWhileItsCircuitIsOpen() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        ResilientNotificationClient notificationClient = new ResilientNotificationClient(
+            API_KEY, new ResilienceService(BulkheadRegistry.ofDefaults(), circuitBreakerRegistry, 1, 1.5, 2));
+        circuitBreakerRegistry.circuitBreaker(Downstream.NOTIFY.getName()).transitionToOpenState();
+
+        assertThrows(CallNotPermittedException.class, () -> notificationClient.sendEmail(
+            "templateId", "test@example.com", Map.of(), "reference"));
+        assertThrows(CallNotPermittedException.class, () -> notificationClient.sendEmail(
+            "templateId", "test@example.com", Map.of(), "reference", "replyToId"));
+    }
+}
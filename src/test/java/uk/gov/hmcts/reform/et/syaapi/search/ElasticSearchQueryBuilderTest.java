@@ -3,7 +3,11 @@ package uk.gov.hmcts.reform.et.syaapi.search;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.reform.et.syaapi.models.FindCaseForRoleModificationRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.EXPECTED_QUERY_BY_ETHOS_CASE_REFERENCE;
 import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.EXPECTED_QUERY_BY_ROLE_MODIFICATION_REQUEST;
 import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.EXPECTED_QUERY_BY_SUBMISSION_REFERENCE;
@@ -41,4 +45,72 @@ class ElasticSearchQueryBuilderTest {
         assertThat(ElasticSearchQueryBuilder.buildByEthosCaseReference(TEST_ETHOS_CASE_REFERENCE))
             .isEqualTo(EXPECTED_QUERY_BY_ETHOS_CASE_REFERENCE);
     }
+
+    @Test
+    void theBuildUserCasesPageForFirstPage() {
+        assertThat(ElasticSearchQueryBuilder.buildUserCasesPage(50, null, null))
+            .isEqualTo("{\"size\":50,\"query\":{\"match_all\":{}},\"sort\":[{\"id\":\"asc\"}]}");
+    }
+
+    @Test
+    void theBuildUserCasesPageWithSearchAfterAndSourceFields() {
+        assertThat(ElasticSearchQueryBuilder.buildUserCasesPage(
+            50, 1_646_225_213_651_598L, List.of("claimantIndType", "data.ethosCaseReference")))
+            .isEqualTo("{\"size\":50,\"query\":{\"match_all\":{}},\"sort\":[{\"id\":\"asc\"}],"
+                           + "\"search_after\":[1646225213651598],"
+                           + "\"_source\":[\"data.claimantIndType\",\"data.ethosCaseReference\"]}");
+    }
+
+    @Test
+    void theBuildUserCasesPageRejectsInvalidSourceField() {
+        List<String> sourceFields = List.of("claimantIndType\"],\"size\":10000");
+        assertThrows(IllegalArgumentException.class,
+                     () -> ElasticSearchQueryBuilder.buildUserCasesPage(50, null, sourceFields));
+    }
+
+    @Test
+    void theBuildLastModifiedCasesPageForFirstPage() {
+        assertThat(ElasticSearchQueryBuilder.buildLastModifiedCasesPage(
+            500, LocalDateTime.of(2022, 9, 1, 12, 34), null, 1_662_036_000_000L))
+            .isEqualTo("{\"size\":500,\"query\":{\"bool\":{\"filter\":[{\"range\":{\"last_modified\":"
+                           + "{\"gte\":1662035640000,\"lt\":1662036000000,\"format\":\"epoch_millis\"}}}],"
+                           + "\"must_not\":[{\"term\":{\"data.migratedFromEcm\":\"Yes\"}}]}},"
+                           + "\"sort\":[{\"last_modified\":\"asc\"},{\"reference.keyword\":\"asc\"}],"
+                           + "\"_source\":[\"reference\",\"last_modified\"]}");
+    }
+
+    @Test
+    void theBuildLastModifiedCasesPageWithCursor() {
+        assertThat(ElasticSearchQueryBuilder.buildLastModifiedCasesPage(
+            500, null, new LastModifiedCasesCursor(1_662_035_640_000L, 1_646_225_213_651_598L), 1_662_036_000_000L))
+            .isEqualTo("{\"size\":500,\"query\":{\"bool\":{\"filter\":[{\"range\":{\"last_modified\":"
+                           + "{\"gte\":1662035640000,\"lt\":1662036000000,\"format\":\"epoch_millis\"}}}],"
+                           + "\"must_not\":[{\"term\":{\"data.migratedFromEcm\":\"Yes\"}}]}},"
+                           + "\"sort\":[{\"last_modified\":\"asc\"},{\"reference.keyword\":\"asc\"}],"
+                           + "\"search_after\":[1662035640000,\"1646225213651598\"],"
+                           + "\"_source\":[\"reference\",\"last_modified\"]}");
+    }
+
+    @Test
+    void theBuildByCaseReferences() {
+        assertThat(ElasticSearchQueryBuilder.buildByCaseReferences(
+            List.of("1646225213651598", "1646225213651533"), null))
+            .isEqualTo("{\"size\":2,\"query\":{\"bool\":{\"filter\":[{\"terms\":{\"reference.keyword\":"
+                           + "[\"1646225213651598\",\"1646225213651533\"]}}]}}}");
+    }
+
+    @Test
+    void theBuildByCaseReferencesWithSourceFields() {
+        assertThat(ElasticSearchQueryBuilder.buildByCaseReferences(
+            List.of("1646225213651598"), List.of("claimantIndType")))
+            .isEqualTo("{\"size\":1,\"query\":{\"bool\":{\"filter\":[{\"terms\":{\"reference.keyword\":"
+                           + "[\"1646225213651598\"]}}]}},\"_source\":[\"data.claimantIndType\"]}");
+    }
+
+    @Test
+    void theBuildByCaseReferencesRejectsInvalidCaseId() {
+        List<String> caseIds = List.of("1646225213651598\"]}}],\"size\":10000");
+        assertThrows(IllegalArgumentException.class,
+                     () -> ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, null));
+    }
 }
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.et.syaapi.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LastModifiedCasesCursorTest {
+
+    @Test
+    void theEncodedCursorDecodesToTheSameCursor() {
+        LastModifiedCasesCursor cursor = new LastModifiedCasesCursor(1_662_035_640_000L, 1_646_225_213_651_598L);
+        assertThat(LastModifiedCasesCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void theEncodedCursorIsUrlSafe() {
+        assertThat(new LastModifiedCasesCursor(1_662_035_640_000L, 1_646_225_213_651_598L).encode())
+            .matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "MTY2MjAzNTY0MDAwMA", "OjEyMw", "MTIzOmFiYw", "LTE6MTIz"})
+    void theDecodeRejectsInvalidCursors(String token) {
+        assertThrows(IllegalArgumentException.class, () -> LastModifiedCasesCursor.decode(token));
+    }
+}
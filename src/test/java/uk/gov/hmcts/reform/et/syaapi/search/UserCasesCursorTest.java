@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.et.syaapi.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserCasesCursorTest {
+
+    @Test
+    void theEncodedCursorDecodesToTheSameCursor() {
+        UserCasesCursor cursor = new UserCasesCursor("ET_EnglandWales", 1_646_225_213_651_598L);
+        assertThat(UserCasesCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void theEncodedCursorWithoutCaseIdDecodesToTheSameCursor() {
+        UserCasesCursor cursor = new UserCasesCursor("ET_Scotland", null);
+        assertThat(UserCasesCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void theEncodedCursorIsUrlSafe() {
+        assertThat(new UserCasesCursor("ET_EnglandWales", 1_646_225_213_651_598L).encode())
+            .matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "RVRfU2NvdGxhbmQ", "OjEyMw", "RVRfU2NvdGxhbmQ6YWJj"})
+    void theDecodeRejectsInvalidCursors(String token) {
+        assertThrows(IllegalArgumentException.class, () -> UserCasesCursor.decode(token));
+    }
+}
@@ -1,14 +1,19 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.ecm.common.model.helper.Constants;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.types.UploadedDocumentType;
@@ -18,18 +23,30 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants;
+import uk.gov.hmcts.reform.et.syaapi.helper.CaseDetailsConverter;
 import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
+import uk.gov.hmcts.reform.et.syaapi.models.CaseDocument;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocumentAcasResponse;
+import uk.gov.hmcts.reform.et.syaapi.models.LastModifiedCasesPage;
+import uk.gov.hmcts.reform.et.syaapi.search.ElasticSearchQueryBuilder;
+import uk.gov.hmcts.reform.et.syaapi.search.LastModifiedCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.data.TestDataProvider;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -40,6 +57,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,17 +74,27 @@ class AcasCaseServiceTest {
     @Mock
     private CoreCaseDataApi ccdApiClient;
     @Mock
-    private IdamClient idamClient;
+    private UserInfoService userInfoService;
     @Mock
     private AdminUserService adminUserService;
     @Mock
     private CaseDocumentService caseDocumentService;
     @Mock
-    private TaskExecutor taskExecutor;
+    private CaseDocumentMetadataService caseDocumentMetadataService;
+    @Spy
+    private CaseTypeSearchService caseTypeSearchService = new CaseTypeSearchService(
+        new SimpleMeterRegistry(), 2, 10, 5000, 5000);
+    @Mock
+    private CaseSearchStreamer caseSearchStreamer;
+    @Spy
+    private CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(new ObjectMapper());
+    @Captor
+    private ArgumentCaptor<Collection<UUID>> documentIds;
     @InjectMocks
     private AcasCaseService acasCaseService;
     private final CaseTestData testData;
     private static final String EXAMPLE_CASE_ID = "1646225213651598";
+    private static final long INDEXING_LAG = 60_000;
 
     AcasCaseServiceTest() {
         testData = new CaseTestData();
@@ -74,12 +102,9 @@ class AcasCaseServiceTest {
 
     @BeforeEach
     void setUp() {
-        when(authTokenGenerator.generate()).thenReturn(TestConstants.TEST_SERVICE_AUTH_TOKEN);
+        lenient().when(authTokenGenerator.generate()).thenReturn(TestConstants.TEST_SERVICE_AUTH_TOKEN);
         lenient().when(adminUserService.getAdminUserToken()).thenReturn(TestConstants.TEST_SERVICE_AUTH_TOKEN);
-        lenient().doAnswer(invocation -> {
-            ((Runnable) invocation.getArgument(0)).run();
-            return null;
-        }).when(taskExecutor).execute(any(Runnable.class));
+        ReflectionTestUtils.setField(acasCaseService, "caseDataMaxBatchSize", 100);
     }
 
     @Test
@@ -145,6 +170,73 @@ class AcasCaseServiceTest {
             .isEmpty();
     }
 
+    @Test
+    void shouldGetLastModifiedCasesPageMergingCaseTypesInOrder() {
+        ReflectionTestUtils.setField(acasCaseService, "lastModifiedCasesPageSize", 2);
+        ReflectionTestUtils.setField(acasCaseService, "lastModifiedCasesIndexingLag", INDEXING_LAG);
+        LocalDateTime requestDateTime =
+            LocalDateTime.parse("2022-09-01T12:34:00", DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        when(ccdApiClient.searchCases(eq(TestConstants.TEST_SERVICE_AUTH_TOKEN),
+                                      eq(TestConstants.TEST_SERVICE_AUTH_TOKEN),
+                                      eq(EtSyaConstants.ENGLAND_CASE_TYPE), anyString()))
+            .thenReturn(SearchResult.builder().total(1).cases(List.of(
+                lastModifiedCase(1_646_225_213_651_533L, requestDateTime.plusMinutes(2)))).build());
+        when(ccdApiClient.searchCases(eq(TestConstants.TEST_SERVICE_AUTH_TOKEN),
+                                      eq(TestConstants.TEST_SERVICE_AUTH_TOKEN),
+                                      eq(EtSyaConstants.SCOTLAND_CASE_TYPE), anyString()))
+            .thenReturn(SearchResult.builder().total(2).cases(List.of(
+                lastModifiedCase(1_646_225_213_651_598L, requestDateTime),
+                lastModifiedCase(1_646_225_213_651_512L, requestDateTime.plusMinutes(2)))).build());
+        long before = System.currentTimeMillis();
+
+        LastModifiedCasesPage page = acasCaseService.getLastModifiedCasesPage(
+            TestConstants.TEST_SERVICE_AUTH_TOKEN, requestDateTime, null);
+
+        assertLastModifiedCasesQuery(requestDateTime, null, before, System.currentTimeMillis());
+        assertThat(page.getCaseIds()).containsExactly(1_646_225_213_651_598L, 1_646_225_213_651_512L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(LastModifiedCasesCursor.decode(page.getCursor())).isEqualTo(new LastModifiedCasesCursor(
+            requestDateTime.plusMinutes(2).toInstant(ZoneOffset.UTC).toEpochMilli(), 1_646_225_213_651_512L));
+    }
+
+    @Test
+    void shouldGetLastModifiedCasesPageFromCursorAndKeepCursorWhenNoCases() {
+        ReflectionTestUtils.setField(acasCaseService, "lastModifiedCasesPageSize", 2);
+        ReflectionTestUtils.setField(acasCaseService, "lastModifiedCasesIndexingLag", INDEXING_LAG);
+        LastModifiedCasesCursor cursor = new LastModifiedCasesCursor(1_662_035_640_000L, 1_646_225_213_651_598L);
+        when(ccdApiClient.searchCases(eq(TestConstants.TEST_SERVICE_AUTH_TOKEN),
+                                      eq(TestConstants.TEST_SERVICE_AUTH_TOKEN), anyString(), anyString()))
+            .thenReturn(SearchResult.builder().total(0).cases(null).build());
+        long before = System.currentTimeMillis();
+
+        LastModifiedCasesPage page = acasCaseService.getLastModifiedCasesPage(
+            TestConstants.TEST_SERVICE_AUTH_TOKEN, null, cursor);
+
+        assertLastModifiedCasesQuery(null, cursor, before, System.currentTimeMillis());
+        assertThat(page.getCaseIds()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getCursor()).isEqualTo(cursor.encode());
+    }
+
+    private void assertLastModifiedCasesQuery(LocalDateTime requestDateTime, LastModifiedCasesCursor cursor,
+                                              long before, long after) {
+        for (String caseTypeId : List.of(EtSyaConstants.ENGLAND_CASE_TYPE, EtSyaConstants.SCOTLAND_CASE_TYPE)) {
+            ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+            verify(ccdApiClient).searchCases(eq(TestConstants.TEST_SERVICE_AUTH_TOKEN),
+                                             eq(TestConstants.TEST_SERVICE_AUTH_TOKEN), eq(caseTypeId),
+                                             query.capture());
+            // the cases listed stop the indexing lag before the time of the request
+            long modifiedBefore = Long.parseLong(StringUtils.substringBetween(query.getValue(), "\"lt\":", ","));
+            assertThat(modifiedBefore).isBetween(before - INDEXING_LAG, after - INDEXING_LAG);
+            assertThat(query.getValue()).isEqualTo(ElasticSearchQueryBuilder.buildLastModifiedCasesPage(
+                2, requestDateTime, cursor, modifiedBefore));
+        }
+    }
+
+    private static CaseDetails lastModifiedCase(Long id, LocalDateTime lastModified) {
+        return CaseDetails.builder().id(id).lastModified(lastModified).build();
+    }
+
     private String generateCaseDataEsQueryWithDate(LocalDateTime requestDateTime) {
         return """
             {
@@ -191,12 +283,12 @@ class AcasCaseServiceTest {
         when(ccdApiClient.searchCases(
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
-            EtSyaConstants.ENGLAND_CASE_TYPE, generateCaseDataEsQuery(caseIds)
+            EtSyaConstants.ENGLAND_CASE_TYPE, ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, null)
         )).thenReturn(englandWalesSearchResult);
         when(ccdApiClient.searchCases(
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
-            EtSyaConstants.SCOTLAND_CASE_TYPE, generateCaseDataEsQuery(caseIds)
+            EtSyaConstants.SCOTLAND_CASE_TYPE, ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, null)
         )).thenReturn(scotlandSearchResult);
 
         List<CaseDetails> caseDetailsList = acasCaseService.getCaseData(TestConstants.TEST_SERVICE_AUTH_TOKEN, caseIds);
@@ -204,6 +296,58 @@ class AcasCaseServiceTest {
         assertThat(caseDetailsList).isEqualTo(testData.getExpectedCaseDataListCombined());
     }
 
+    @Test
+    void shouldReturnProjectedCaseDataWhenFieldsGiven() {
+        List<String> caseIds = List.of(EXAMPLE_CASE_ID);
+        String query = ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, List.of("ethosCaseReference"));
+        when(ccdApiClient.searchCases(TestConstants.TEST_SERVICE_AUTH_TOKEN, TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                      EtSyaConstants.ENGLAND_CASE_TYPE, query))
+            .thenReturn(SearchResult.builder().total(1).cases(testData.getRequestCaseDataListEngland()).build());
+        when(ccdApiClient.searchCases(TestConstants.TEST_SERVICE_AUTH_TOKEN, TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                      EtSyaConstants.SCOTLAND_CASE_TYPE, query))
+            .thenReturn(SearchResult.builder().total(0).cases(null).build());
+
+        assertThat(acasCaseService.getCaseData(
+            TestConstants.TEST_SERVICE_AUTH_TOKEN, caseIds, List.of("ethosCaseReference")))
+            .isEqualTo(testData.getRequestCaseDataListEngland());
+    }
+
+    @Test
+    void shouldRejectCaseDataBatchOverMaximumSize() {
+        ReflectionTestUtils.setField(acasCaseService, "caseDataMaxBatchSize", 1);
+        List<String> caseIds = List.of(EXAMPLE_CASE_ID, "1646225213651533");
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> acasCaseService.getCaseData(TestConstants.TEST_SERVICE_AUTH_TOKEN, caseIds));
+        assertThrows(IllegalArgumentException.class,
+                     () -> acasCaseService.streamCaseData(TestConstants.TEST_SERVICE_AUTH_TOKEN, caseIds, null,
+                                                          new ByteArrayOutputStream()));
+        verify(ccdApiClient, never()).searchCases(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectInvalidCaseIdWithoutFields() {
+        List<String> caseIds = List.of(EXAMPLE_CASE_ID, "1\"],\"size\":10000");
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> acasCaseService.getCaseData(TestConstants.TEST_SERVICE_AUTH_TOKEN, caseIds));
+        verify(ccdApiClient, never()).searchCases(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldStreamCaseDataOfBothCaseTypes() throws IOException {
+        List<String> caseIds = List.of(EXAMPLE_CASE_ID);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        acasCaseService.streamCaseData(TestConstants.TEST_SERVICE_AUTH_TOKEN, caseIds, List.of("claimant"), output);
+
+        verify(caseSearchStreamer).writeCases(
+            TestConstants.TEST_SERVICE_AUTH_TOKEN,
+            List.of(EtSyaConstants.ENGLAND_CASE_TYPE, EtSyaConstants.SCOTLAND_CASE_TYPE),
+            ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, List.of("claimant")),
+            output);
+    }
+
     @Test
     void shouldReturnCaseDataNoCasesFound() {
         List<String> caseIds = List.of(EXAMPLE_CASE_ID, "1646225213651533");
@@ -219,12 +363,12 @@ class AcasCaseServiceTest {
         when(ccdApiClient.searchCases(
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
-            EtSyaConstants.ENGLAND_CASE_TYPE, generateCaseDataEsQuery(caseIds)
+            EtSyaConstants.ENGLAND_CASE_TYPE, ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, null)
         )).thenReturn(englandWalesSearchResult);
         when(ccdApiClient.searchCases(
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
-            EtSyaConstants.SCOTLAND_CASE_TYPE, generateCaseDataEsQuery(caseIds)
+            EtSyaConstants.SCOTLAND_CASE_TYPE, ElasticSearchQueryBuilder.buildByCaseReferences(caseIds, null)
         )).thenReturn(scotlandSearchResult);
 
         List<CaseDetails> caseDetailsList = acasCaseService.getCaseData(TestConstants.TEST_SERVICE_AUTH_TOKEN, caseIds);
@@ -278,16 +422,27 @@ class AcasCaseServiceTest {
             isA(String.class), isA(UploadedDocumentType.class));
 
         doCallRealMethod().when(caseDocumentService).getDocumentUuid(isA(String.class));
-        when(caseDocumentService.getDocumentDetails(any(), any()))
-            .thenReturn(TestDataProvider.getDocumentDetailsFromCdam());
+        when(caseDocumentMetadataService.getDocumentDetails(any(), any())).thenAnswer(invocation -> {
+            Map<UUID, CaseDocument> details = new HashMap<>();
+            Collection<UUID> requested = invocation.getArgument(1);
+            requested.forEach(documentId -> details.put(
+                documentId, TestDataProvider.getDocumentDetailsFromCdam().getBody()));
+            return details;
+        });
         List<CaseDocumentAcasResponse> documents = acasCaseService.retrieveAcasDocuments(caseId);
         assertNotNull(documents);
         assertThat(documents).hasSize(5);
+
+        verify(caseDocumentMetadataService, times(1)).getDocumentDetails(any(), documentIds.capture());
+        assertThat(documentIds.getValue()).doesNotHaveDuplicates()
+            .hasSameSizeAs(documents.stream().map(CaseDocumentAcasResponse::getDocumentId)
+                               .filter(Objects::nonNull).distinct().toList());
+        verify(caseDocumentService, never()).getDocumentDetails(any(), any());
     }
 
     @Test
     void vetAndAcceptCase() {
-        when(idamClient.getUserInfo(TestConstants.TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
+        when(userInfoService.getUserInfo(TestConstants.TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
             null, USER_ID, TEST_NAME, "ET", "Admin", null));
         when(ccdApiClient.getCase(TestConstants.TEST_SERVICE_AUTH_TOKEN, TestConstants.TEST_SERVICE_AUTH_TOKEN,
                 EXAMPLE_CASE_ID))
@@ -0,0 +1,252 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.et.syaapi.models.AcasCertificate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AcasCertificateCacheTest {
+
+    private static final String R111111_11_11 = "R111111/11/11";
+    private static final String R222222_22_22 = "R222222/22/22";
+    private static final String R333333_33_33 = "R333333/33/33";
+    private static final String DOCUMENT = "JVBERi0xLjcNCiW1tbW1";
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private AcasCertificateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AcasCertificateCache(meterRegistry, 100, 1_000_000, 60_000, 60_000, 60_000);
+    }
+
+    @Test
+    void shouldFetchOnlyNumbersThatAreNotCached() throws AcasException {
+        cache.getCertificates(this::fetchFound, R111111_11_11);
+
+        List<AcasCertificate> certificates = cache.getCertificates(this::fetchFound, R111111_11_11, R222222_22_22);
+
+        assertThat(certificates).extracting(AcasCertificate::getCertificateNumber)
+            .containsExactly(R111111_11_11, R222222_22_22);
+        assertThat(requests).containsExactly(List.of(R111111_11_11), List.of(R222222_22_22));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", AcasCertificateCache.CACHE_NAME)
+                       .tag("result", "hit").functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void shouldMatchNumbersIgnoringCaseAndSpacesAndRequestEachOnce() throws AcasException {
+        List<AcasCertificate> certificates = cache.getCertificates(
+            this::fetchFound, R111111_11_11, " r111111/11/11 ", R111111_11_11);
+
+        assertThat(certificates).hasSize(3).allMatch(certificate -> R111111_11_11.equals(
+            certificate.getCertificateNumber()));
+        assertThat(requests).containsExactly(List.of(R111111_11_11));
+    }
+
+    @Test
+    void shouldCacheCertificatesNotFound() throws AcasException {
+        List<AcasCertificate> first = cache.getCertificates(
+            numbers -> {
+                requests.add(List.of(numbers));
+                return List.of(certificate(R111111_11_11, AcasCertificateCache.NOT_FOUND_DOCUMENT));
+            }, R111111_11_11, R222222_22_22);
+
+        List<AcasCertificate> second = cache.getCertificates(this::fetchFound, R111111_11_11, R222222_22_22);
+
+        assertThat(first).containsExactly(certificate(R111111_11_11, AcasCertificateCache.NOT_FOUND_DOCUMENT));
+        assertThat(second).isEqualTo(first);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void shouldExpireCertificatesNotFound() throws AcasException {
+        cache = new AcasCertificateCache(meterRegistry, 100, 1_000_000, 60_000, 0, 60_000);
+        cache.getCertificates(numbers -> List.of(), R111111_11_11);
+
+        assertThat(cache.getCertificates(this::fetchFound, R111111_11_11)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotCacheNumbersWhenResponseHasUnmatchedCertificates() throws AcasException {
+        List<AcasCertificate> first = cache.getCertificates(
+            numbers -> List.of(certificate(R333333_33_33, DOCUMENT)), R111111_11_11);
+
+        cache.getCertificates(this::fetchFound, R111111_11_11);
+
+        assertThat(first).extracting(AcasCertificate::getCertificateNumber).containsExactly(R333333_33_33);
+        assertThat(requests).containsExactly(List.of(R111111_11_11));
+    }
+
+    @Test
+    void shouldNotCacheFailedFetches() throws AcasException {
+        AcasException failure = new AcasException("ACAS is down", null);
+        assertThrows(AcasException.class, () -> cache.getCertificates(numbers -> {
+            throw failure;
+        }, R111111_11_11));
+
+        assertThat(cache.getCertificates(this::fetchFound, R111111_11_11)).hasSize(1);
+    }
+
+    @Test
+    void shouldEvictCertificatesOverByteLimit() throws AcasException {
+        cache = new AcasCertificateCache(meterRegistry, 100, DOCUMENT.length() * 2L, 60_000, 60_000, 60_000);
+        cache.getCertificates(this::fetchFound, R111111_11_11, R222222_22_22, R333333_33_33);
+        requests.clear();
+
+        cache.getCertificates(this::fetchFound, R111111_11_11, R222222_22_22, R333333_33_33);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0)).isNotEmpty();
+    }
+
+    @Test
+    void shouldShareFetchOfNumberAlreadyBeingFetched() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        CompletableFuture<List<AcasCertificate>> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.getCertificates(numbers -> {
+                    requests.add(List.of(numbers));
+                    fetchStarted.countDown();
+                    awaitRelease(releaseFetch);
+                    return List.of(certificate(R111111_11_11, DOCUMENT));
+                }, R111111_11_11);
+            } catch (AcasException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(fetchStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<AcasCertificate>> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.getCertificates(this::fetchFound, R111111_11_11, R222222_22_22);
+            } catch (AcasException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // the second lookup fetches the number nobody is fetching while it waits for the other one
+        assertThat(awaitRequests(2)).isTrue();
+        releaseFetch.countDown();
+
+        assertThat(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).extracting(AcasCertificate::getCertificateNumber)
+            .containsExactly(R111111_11_11, R222222_22_22);
+        assertThat(requests).containsExactlyInAnyOrder(List.of(R111111_11_11), List.of(R222222_22_22));
+    }
+
+    @Test
+    void shouldFailLookupsWaitingForFetchThatThrowsError() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        CompletableFuture<List<AcasCertificate>> first = lookUpAsync(numbers -> {
+            requests.add(List.of(numbers));
+            fetchStarted.countDown();
+            awaitRelease(releaseFetch);
+            throw new OutOfMemoryError("Java heap space");
+        });
+        assertThat(fetchStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        FutureTask<List<AcasCertificate>> second = new FutureTask<>(
+            () -> cache.getCertificates(this::fetchFound, R111111_11_11));
+        Thread waiting = new Thread(second);
+        waiting.start();
+        assertThat(awaitWaiting(waiting)).isTrue();
+        releaseFetch.countDown();
+
+        ExecutionException firstFailure = assertThrows(ExecutionException.class,
+                                                       () -> first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        ExecutionException secondFailure = assertThrows(ExecutionException.class,
+                                                        () -> second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(firstFailure).hasRootCauseInstanceOf(OutOfMemoryError.class);
+        assertThat(secondFailure).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.getCertificates(this::fetchFound, R111111_11_11)).hasSize(1);
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void shouldStopWaitingForNumberBeingFetchedAfterTimeout() throws Exception {
+        cache = new AcasCertificateCache(meterRegistry, 100, 1_000_000, 60_000, 60_000, 50);
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        CompletableFuture<List<AcasCertificate>> first = lookUpAsync(numbers -> {
+            fetchStarted.countDown();
+            awaitRelease(releaseFetch);
+            return List.of(certificate(R111111_11_11, DOCUMENT));
+        });
+        assertThat(fetchStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        AcasException timeout = assertThrows(AcasException.class,
+                                             () -> cache.getCertificates(this::fetchFound, R111111_11_11));
+        releaseFetch.countDown();
+
+        assertThat(timeout).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(requests).isEmpty();
+    }
+
+    private CompletableFuture<List<AcasCertificate>> lookUpAsync(AcasCertificateCache.CertificateFetcher fetcher) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.getCertificates(fetcher, R111111_11_11);
+            } catch (AcasException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void awaitRelease(CountDownLatch releaseFetch) {
+        try {
+            releaseFetch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return thread.getState() == Thread.State.TIMED_WAITING;
+    }
+
+    private boolean awaitRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (requests.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return requests.size() >= count;
+    }
+
+    private List<AcasCertificate> fetchFound(String... numbers) {
+        requests.add(Arrays.asList(numbers));
+        List<AcasCertificate> certificates = new ArrayList<>();
+        for (String number : numbers) {
+            certificates.add(certificate(number.trim(), DOCUMENT));
+        }
+        return certificates;
+    }
+
+    private static AcasCertificate certificate(String number, String document) {
+        AcasCertificate certificate = new AcasCertificate();
+        certificate.setCertificateNumber(number);
+        certificate.setCertificateDocument(document);
+        return certificate;
+    }
+}
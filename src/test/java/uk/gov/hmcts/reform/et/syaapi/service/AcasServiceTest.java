@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -70,6 +73,8 @@ class AcasServiceTest {
     private static final String R600227_21_76 = "R600227/21/76";
     private static final String R600227_21_77 = "R600227/21/77";
     public static final String DUMMY_ACAS_NUMBER = "dummy acas number";
+    private static final ResilienceService RESILIENCE_SERVICE =
+        new ResilienceService(BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(), 1, 1.5, 2);
     private AcasService acasService;
     private RestTemplate restTemplate;
     private CaseTestData caseTestData;
@@ -78,7 +83,10 @@ class AcasServiceTest {
     void setup() {
         caseTestData = new CaseTestData();
         restTemplate = new RestTemplate();
-        acasService = new AcasService(restTemplate, ACAS_DEV_API_URL, ACAS_API_KEY);
+        acasService = new AcasService(restTemplate, RESILIENCE_SERVICE,
+                                      new AcasCertificateCache(new SimpleMeterRegistry(), 100, 1_000_000, 60_000,
+                                                               60_000, 60_000),
+                                      ACAS_DEV_API_URL, ACAS_API_KEY);
     }
 
     @Test
@@ -244,6 +252,21 @@ class AcasServiceTest {
             .hasSize(1);
     }
 
+    @SneakyThrows
+    @Test
+    void theGetAcasCertTwiceRequestsCertFromAcasOnce() {
+        MockRestServiceServer mockServer = getMockServer();
+        mockServer.expect(ExpectedCount.once(), requestTo(ACAS_DEV_API_URL))
+            .andExpect(method(HttpMethod.POST))
+            .andRespond(withStatus(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("[{\"CertificateNumber\":\"R123456/11/12\",\"CertificateDocument\":\"JVBERi0x\"}]"));
+
+        assertThat(acasService.getCertificates(R123456_11_12)).hasSize(1);
+        assertThat(acasService.getCertificates(R123456_11_12)).hasSize(1);
+        mockServer.verify();
+    }
+
     @Test
     void theGetAcasCertsWithOneValidAndTwoInvalidAcasNumbersProducesInvalidAcasNumbersException() {
         InvalidAcasNumbersException exception = assertThrows(
@@ -292,8 +315,8 @@ class AcasServiceTest {
     @Test
     void theGetAcasCertificatesByCaseDataProducesTwoAcasCertificates() {
         JSONObject expectedBody = new JSONObject();
-        expectedBody.put("certificateNumbers", List.of(R600227_21_75, R600227_21_76,
-                                                       R600227_21_77, R600227_21_77, R600227_21_77));
+        // numbers shared by several respondents are requested once
+        expectedBody.put("certificateNumbers", List.of(R600227_21_75, R600227_21_76, R600227_21_77));
 
         getMockServer().expect(ExpectedCount.times(2), requestTo(ACAS_DEV_API_URL))
             .andExpect(method(HttpMethod.POST))
@@ -328,7 +351,7 @@ class AcasServiceTest {
         caseTestData.getCaseData().getRespondentCollection().get(0).setValue(null);
         caseTestData.getCaseData().getRespondentCollection().get(1).setValue(null);
         JSONObject expectedBody = new JSONObject();
-        expectedBody.put("certificateNumbers", List.of(R600227_21_77, R600227_21_77, R600227_21_77));
+        expectedBody.put("certificateNumbers", List.of(R600227_21_77));
 
         getMockServer().expect(ExpectedCount.times(2), requestTo(ACAS_DEV_API_URL))
             .andExpect(method(HttpMethod.POST))
@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.reform.et.syaapi.models.CaseDocument;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseDocumentMetadataServiceTest {
+
+    private static final String AUTHORISATION = "Bearer admin";
+    private static final UUID FIRST = UUID.fromString("6a5c1d0e-2b3f-4c5d-8e9f-0a1b2c3d4e5f");
+    private static final UUID SECOND = UUID.fromString("7b6d2e1f-3c40-4d6e-9fa0-1b2c3d4e5f60");
+
+    @Mock
+    private CaseDocumentService caseDocumentService;
+    private SimpleMeterRegistry meterRegistry;
+    private CaseDocumentMetadataService caseDocumentMetadataService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        caseDocumentMetadataService = new CaseDocumentMetadataService(
+            caseDocumentService, meterRegistry, 2, 10, 100, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        caseDocumentMetadataService.shutdown();
+    }
+
+    @Test
+    void shouldFetchDetailsOfEachDocumentOnce() {
+        when(caseDocumentService.getDocumentDetails(AUTHORISATION, FIRST)).thenReturn(details("first"));
+        when(caseDocumentService.getDocumentDetails(AUTHORISATION, SECOND)).thenReturn(details("second"));
+
+        Map<UUID, CaseDocument> documentDetails = caseDocumentMetadataService.getDocumentDetails(
+            AUTHORISATION, List.of(FIRST, SECOND, FIRST));
+
+        assertThat(documentDetails).containsOnlyKeys(FIRST, SECOND);
+        assertThat(documentDetails.get(FIRST).getModifiedOn()).isEqualTo("first");
+        assertThat(documentDetails.get(SECOND).getModifiedOn()).isEqualTo("second");
+        verify(caseDocumentService, times(1)).getDocumentDetails(AUTHORISATION, FIRST);
+    }
+
+    @Test
+    void shouldReuseCachedDetails() {
+        when(caseDocumentService.getDocumentDetails(AUTHORISATION, FIRST)).thenReturn(details("first"));
+        when(caseDocumentService.getDocumentDetails(AUTHORISATION, SECOND)).thenReturn(details("second"));
+        caseDocumentMetadataService.getDocumentDetails(AUTHORISATION, List.of(FIRST));
+
+        Map<UUID, CaseDocument> documentDetails = caseDocumentMetadataService.getDocumentDetails(
+            AUTHORISATION, List.of(FIRST, SECOND));
+
+        assertThat(documentDetails).containsOnlyKeys(FIRST, SECOND);
+        verify(caseDocumentService, times(1)).getDocumentDetails(AUTHORISATION, FIRST);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CaseDocumentMetadataService.METRICS_NAME)
+                       .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheDocumentsWithoutDetails() {
+        when(caseDocumentService.getDocumentDetails(AUTHORISATION, FIRST))
+            .thenReturn(ResponseEntity.ok().build(), details("first"));
+
+        assertThat(caseDocumentMetadataService.getDocumentDetails(AUTHORISATION, List.of(FIRST))).isEmpty();
+        assertThat(caseDocumentMetadataService.getDocumentDetails(AUTHORISATION, List.of(FIRST)))
+            .containsOnlyKeys(FIRST);
+    }
+
+    @Test
+    void shouldFetchDetailsConcurrently() throws InterruptedException {
+        CountDownLatch bothFetching = new CountDownLatch(2);
+        when(caseDocumentService.getDocumentDetails(eq(AUTHORISATION), any())).thenAnswer(invocation -> {
+            bothFetching.countDown();
+            // each fetch waits for the other, so this only completes when both run at the same time
+            assertThat(bothFetching.await(5, TimeUnit.SECONDS)).isTrue();
+            return details("modified");
+        });
+
+        assertThat(caseDocumentMetadataService.getDocumentDetails(AUTHORISATION, List.of(FIRST, SECOND)))
+            .containsOnlyKeys(FIRST, SECOND);
+        assertThat(bothFetching.getCount()).isZero();
+    }
+
+    @Test
+    void shouldThrowFailureOfFetchAndCacheOthers() {
+        IllegalStateException failure = new IllegalStateException("CDAM is down");
+        when(caseDocumentService.getDocumentDetails(AUTHORISATION, FIRST)).thenReturn(details("first"));
+        when(caseDocumentService.getDocumentDetails(AUTHORISATION, SECOND)).thenThrow(failure);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> caseDocumentMetadataService.getDocumentDetails(AUTHORISATION, List.of(FIRST, SECOND)));
+
+        assertThat(thrown).isSameAs(failure);
+        caseDocumentMetadataService.getDocumentDetails(AUTHORISATION, List.of(FIRST));
+        verify(caseDocumentService, times(1)).getDocumentDetails(AUTHORISATION, FIRST);
+    }
+
+    private static ResponseEntity<CaseDocument> details(String modifiedOn) {
+        return ResponseEntity.ok(CaseDocument.builder().modifiedOn(modifiedOn).build());
+    }
+}
@@ -1,5 +1,8 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,9 +10,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
@@ -17,13 +23,11 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.ecm.common.service.pdf.PdfDecodedMultipartFile;
-import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.DocumentTypeItem;
 import uk.gov.hmcts.et.common.model.ccd.types.DocumentType;
 import uk.gov.hmcts.et.common.model.ccd.types.UploadedDocumentType;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.et.syaapi.config.interceptors.ResourceNotFoundException;
-import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseDocument;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ResourceLoader;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ResourceUtil;
@@ -31,16 +35,18 @@ import uk.gov.hmcts.reform.et.syaapi.service.utils.ResourceUtil;
 import java.io.IOException;
 import java.net.URI;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
@@ -87,11 +93,6 @@ class CaseDocumentServiceTest {
         MOCK_FILE_BODY.getBytes(), "Test OriginalFileName.pdf", "text/plain",
         "Test Document Description"
     );
-    private static final List<PdfDecodedMultipartFile> MOCK_PDF_DECODED_MULTIPART_FILE_LIST =
-        new ArrayList<PdfDecodedMultipartFile>() {{
-                add(MOCK_PDF_DECODED_MULTIPART_FILE);
-            }
-        };
 
     private static final MockMultipartFile MOCK_FILE_INVALID_NAME = new MockMultipartFile(
         "mock_file_with_invalid_name",
@@ -131,8 +132,12 @@ class CaseDocumentServiceTest {
         + "\"claim-submit.png\",\"_links\":{}}]}";
 
 
+    private static final ResilienceService RESILIENCE_SERVICE =
+        new ResilienceService(BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(), 1, 1.5, 2);
+
     private final String fullJsonResponse;
     private CaseDocumentService caseDocumentService;
+    private SimpleMeterRegistry meterRegistry;
     private MockRestServiceServer mockServer;
 
     CaseDocumentServiceTest() throws IOException {
@@ -146,9 +151,12 @@ class CaseDocumentServiceTest {
     void setup() {
         RestTemplate restTemplate = new RestTemplate();
         AuthTokenGenerator authTokenGenerator = () -> SERVICE_AUTH;
+        meterRegistry = new SimpleMeterRegistry();
         caseDocumentService = new CaseDocumentService(restTemplate,
+                                                      RESILIENCE_SERVICE,
                                                       authTokenGenerator,
-                                                      DOCUMENT_SERVICE_API_URL, 3
+                                                      meterRegistry,
+                                                      DOCUMENT_SERVICE_API_URL, 3, 10, true
         );
         mockServer = MockRestServiceServer.createServer(restTemplate);
     }
@@ -212,9 +220,47 @@ class CaseDocumentServiceTest {
             .isEqualTo(SERVER_ERROR_MESSAGE);
     }
 
+    @Test
+    void theUploadDocStreamsFileAndPublishesUploadMetrics() throws CaseDocumentException, IOException {
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL))
+            .andExpect(content().string(containsString(MOCK_FILE_BODY)))
+            .andRespond(withStatus(HttpStatus.OK)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(MOCK_RESPONSE_WITH_DOCUMENT));
+        MockMultipartFile mockMultipartFileSpy = Mockito.spy(new MockMultipartFile(
+            "mock_file_spy", DOCUMENT_NAME, MediaType.TEXT_PLAIN_VALUE, MOCK_FILE_BODY.getBytes()));
+
+        caseDocumentService.uploadDocument(MOCK_TOKEN, CASE_TYPE, mockMultipartFileSpy);
+
+        Mockito.verify(mockMultipartFileSpy, Mockito.never()).getBytes();
+        assertThat(meterRegistry.get(CaseDocumentService.UPLOAD_BYTES_COUNTER).counter().count())
+            .isEqualTo(MOCK_FILE_BODY.length());
+        assertThat(meterRegistry.get(CaseDocumentService.UPLOAD_THROUGHPUT_SUMMARY).summary().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get(CaseDocumentService.UPLOAD_IN_FLIGHT_GAUGE).gauge().value()).isZero();
+        mockServer.verify();
+    }
+
+    @Test
+    void theUploadDocWhenStreamingFileFailsProducesDocException() throws IOException {
+        IOException ioException = new IOException("Test throw");
+        MockMultipartFile mockMultipartFileSpy = Mockito.spy(new MockMultipartFile(
+            "mock_file_spy", DOCUMENT_NAME, MediaType.TEXT_PLAIN_VALUE, "Hello, World!".getBytes()));
+        doThrow(ioException).when(mockMultipartFileSpy).getInputStream();
+
+        CaseDocumentException documentException = assertThrows(
+            CaseDocumentException.class, () -> caseDocumentService.uploadDocument(
+                MOCK_TOKEN, CASE_TYPE, mockMultipartFileSpy));
+
+        assertThat(documentException.getCause()).hasRootCause(ioException);
+        assertThat(meterRegistry.get(CaseDocumentService.UPLOAD_IN_FLIGHT_GAUGE).gauge().value()).isZero();
+    }
+
     @Test
     void theUploadDocWhenIoExceptionProducesDocException() throws IOException {
         IOException ioException = new IOException("Test throw");
+        caseDocumentService = new CaseDocumentService(new RestTemplate(), RESILIENCE_SERVICE, () -> SERVICE_AUTH,
+                                                      meterRegistry, DOCUMENT_SERVICE_API_URL, 3, 10, false);
 
         MockMultipartFile mockMultipartFileSpy = Mockito.spy(new MockMultipartFile(
             "mock_file_spy",
@@ -400,6 +446,71 @@ class CaseDocumentServiceTest {
             .isEqualTo(String.format(RESOURCE_NOT_FOUND, DOCUMENT_ID, "404 Not Found: [no body]"));
     }
 
+    @Test
+    void streamDocumentShouldWriteDocumentToResponse() {
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL_WITH_SLASH + DOCUMENT_ID + "/binary"))
+            .andExpect(method(HttpMethod.GET))
+            .andExpect(header(AUTHORIZATION, MOCK_TOKEN))
+            .andRespond(withStatus(HttpStatus.OK)
+                            .contentType(MediaType.APPLICATION_PDF)
+                            .body("test document content"));
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        caseDocumentService.streamDocument(MOCK_TOKEN, DOCUMENT_ID, null,
+                                           new ServletServerHttpResponse(servletResponse));
+
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(servletResponse.getContentType()).isEqualTo(MediaType.APPLICATION_PDF_VALUE);
+        assertThat(servletResponse.getContentAsByteArray()).isEqualTo("test document content".getBytes());
+    }
+
+    @Test
+    void streamDocumentShouldForwardRangeAndReturnPartialContent() {
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL_WITH_SLASH + DOCUMENT_ID + "/binary"))
+            .andExpect(method(HttpMethod.GET))
+            .andExpect(header(HttpHeaders.RANGE, "bytes=0-3"))
+            .andRespond(withStatus(HttpStatus.PARTIAL_CONTENT)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes 0-3/21")
+                            .header(HttpHeaders.CONNECTION, "keep-alive")
+                            .body("test"));
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        caseDocumentService.streamDocument(MOCK_TOKEN, DOCUMENT_ID, "bytes=0-3",
+                                           new ServletServerHttpResponse(servletResponse));
+
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-3/21");
+        assertThat(servletResponse.getHeader(HttpHeaders.CONNECTION)).isNull();
+        assertThat(servletResponse.getContentAsByteArray()).isEqualTo("test".getBytes());
+    }
+
+    @Test
+    void streamDocumentShouldPassUnsatisfiableRangeThrough() {
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL_WITH_SLASH + DOCUMENT_ID + "/binary"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */21"));
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        caseDocumentService.streamDocument(MOCK_TOKEN, DOCUMENT_ID, "bytes=50-",
+                                           new ServletServerHttpResponse(servletResponse));
+
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */21");
+        assertThat(servletResponse.isCommitted()).isTrue();
+    }
+
+    @Test
+    void streamDocumentResourceNotFound() {
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL_WITH_SLASH + DOCUMENT_ID + "/binary"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        assertThrows(ResourceNotFoundException.class,
+                     () -> caseDocumentService.streamDocument(MOCK_TOKEN, DOCUMENT_ID, null, response));
+    }
+
     @Test
     void documentDetailsSuccess() {
         CaseDocument mockDocumentDetailsResponse = CaseDocument.builder()
@@ -434,33 +545,98 @@ class CaseDocumentServiceTest {
     }
 
     @Test
-    void shouldUploadAllDocuments() throws CaseDocumentException {
+    void uploadDocumentsShouldSendFilesInOneRequestAndReturnResultsInOrder() {
         mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL))
             .andExpect(method(HttpMethod.POST))
+            .andExpect(content().string(containsString("filename=\"first.pdf\"")))
+            .andExpect(content().string(containsString("filename=\"second.pdf\"")))
             .andRespond(withStatus(HttpStatus.OK)
                             .contentType(MediaType.APPLICATION_JSON)
-                            .body(MOCK_RESPONSE_WITH_DOCUMENT));
+                            .body(responseWithDocuments("first.pdf", "second.pdf")));
 
-        List<PdfDecodedMultipartFile> acasCertificates = new ArrayList<>();
-        CaseData caseData = new CaseTestData().getCaseData();
-        caseDocumentService.uploadAllDocuments(MOCK_TOKEN, CASE_TYPE, MOCK_PDF_DECODED_MULTIPART_FILE_LIST,
-                                               acasCertificates, caseData
-        );
+        List<CaseDocumentService.UploadResult> results = caseDocumentService.uploadDocuments(
+            MOCK_TOKEN, CASE_TYPE, List.of(pdf("first.pdf"), MOCK_FILE_INVALID_NAME, pdf("second.pdf")));
+
+        assertThat(results).extracting(CaseDocumentService.UploadResult::isSuccessful)
+            .containsExactly(true, false, true);
+        assertThat(results.get(0).document().getOriginalDocumentName()).isEqualTo("first.pdf");
+        assertThat(results.get(1).error().getMessage()).isEqualTo(FILE_DOES_NOT_PASS_VALIDATION);
+        assertThat(results.get(2).document().getOriginalDocumentName()).isEqualTo("second.pdf");
+        mockServer.verify();
     }
 
     @Test
-    void shouldUploadAllDocumentsWhenAcasCertificatesExists() throws CaseDocumentException {
+    void uploadDocumentsShouldRetryWholeRequestWhenResponseIsMissingDocuments() {
         mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL))
-            .andExpect(method(HttpMethod.POST))
             .andRespond(withStatus(HttpStatus.OK)
                             .contentType(MediaType.APPLICATION_JSON)
-                            .body(MOCK_RESPONSE_WITH_DOCUMENT));
+                            .body(responseWithDocuments("first.pdf")));
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL))
+            .andExpect(content().string(containsString("filename=\"first.pdf\"")))
+            .andExpect(content().string(containsString("filename=\"second.pdf\"")))
+            .andRespond(withStatus(HttpStatus.OK)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(responseWithDocuments("first.pdf", "second.pdf")));
 
-        List<PdfDecodedMultipartFile> acasCertificates = new ArrayList<>();
-        acasCertificates.add(MOCK_PDF_DECODED_MULTIPART_FILE);
-        caseDocumentService.uploadAllDocuments(MOCK_TOKEN, CASE_TYPE, null,
-                                               acasCertificates, new CaseData()
-        );
+        List<CaseDocumentService.UploadResult> results = caseDocumentService.uploadDocuments(
+            MOCK_TOKEN, CASE_TYPE, List.of(pdf("first.pdf"), pdf("second.pdf")));
+
+        assertThat(results).allMatch(CaseDocumentService.UploadResult::isSuccessful);
+        assertThat(results).extracting(result -> result.document().getOriginalDocumentName())
+            .containsExactly("first.pdf", "second.pdf");
+        mockServer.verify();
+    }
+
+    @Test
+    void uploadDocumentsShouldFailEveryFileOfRequestThatKeepsMissingDocuments() {
+        mockServer.expect(ExpectedCount.times(MAX_API_CALL_ATTEMPTS), requestTo(DOCUMENT_API_URL))
+            .andRespond(withStatus(HttpStatus.OK)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(responseWithDocuments("second.pdf")));
+
+        List<CaseDocumentService.UploadResult> results = caseDocumentService.uploadDocuments(
+            MOCK_TOKEN, CASE_TYPE, List.of(pdf("first.pdf"), pdf("second.pdf")));
+
+        assertThat(results).noneMatch(CaseDocumentService.UploadResult::isSuccessful);
+        assertThat(results).extracting(result -> result.error().getMessage())
+            .containsOnly("Document management returned 1 documents for 2 uploaded files");
+        mockServer.verify();
+    }
+
+    @Test
+    void uploadDocumentsShouldSplitFilesIntoRequestsOfMaxFilesPerRequest() {
+        RestTemplate restTemplate = new RestTemplate();
+        caseDocumentService = new CaseDocumentService(restTemplate, RESILIENCE_SERVICE, () -> SERVICE_AUTH,
+                                                      meterRegistry, DOCUMENT_SERVICE_API_URL, 3, 2, true);
+        mockServer = MockRestServiceServer.createServer(restTemplate);
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL))
+            .andRespond(withStatus(HttpStatus.OK)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(responseWithDocuments("first.pdf", "second.pdf")));
+        mockServer.expect(ExpectedCount.once(), requestTo(DOCUMENT_API_URL))
+            .andRespond(withStatus(HttpStatus.OK)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(responseWithDocuments("third.pdf")));
+
+        List<CaseDocumentService.UploadResult> results = caseDocumentService.uploadDocuments(
+            MOCK_TOKEN, CASE_TYPE, List.of(pdf("first.pdf"), pdf("second.pdf"), pdf("third.pdf")));
+
+        assertThat(results).extracting(result -> result.document().getOriginalDocumentName())
+            .containsExactly("first.pdf", "second.pdf", "third.pdf");
+        mockServer.verify();
+    }
+
+    @Test
+    void uploadDocumentsShouldFailEveryFileOfRequestThatKeepsFailing() {
+        mockServer.expect(ExpectedCount.times(MAX_API_CALL_ATTEMPTS), requestTo(DOCUMENT_API_URL))
+            .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        List<CaseDocumentService.UploadResult> results = caseDocumentService.uploadDocuments(
+            MOCK_TOKEN, CASE_TYPE, List.of(pdf("first.pdf"), pdf("second.pdf")));
+
+        assertThat(results).noneMatch(CaseDocumentService.UploadResult::isSuccessful);
+        assertThat(results.get(0).error().getMessage()).isEqualTo(SERVER_ERROR_MESSAGE);
+        mockServer.verify();
     }
 
     @Test
@@ -517,4 +693,18 @@ class CaseDocumentServiceTest {
         assertEquals(createdDoc.getValue().getDateOfCorrespondence(),
                      documentTypeItem.getValue().getDateOfCorrespondence());
     }
+
+    private static PdfDecodedMultipartFile pdf(String name) {
+        return new PdfDecodedMultipartFile(MOCK_FILE_BODY.getBytes(), name, "application/pdf", name);
+    }
+
+    private static String responseWithDocuments(String... names) {
+        StringBuilder body = new StringBuilder("{\"documents\":[");
+        for (int i = 0; i < names.length; i++) {
+            body.append(i == 0 ? "" : ",")
+                .append("{\"originalDocumentName\":\"").append(names[i])
+                .append("\",\"_links\":{\"self\":{\"href\": \"").append(MOCK_HREF).append("\"}}}");
+        }
+        return body.append("]}").toString();
+    }
 }
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.ENGLAND_CASE_TYPE;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.SCOTLAND_CASE_TYPE;
+
+class CaseSearchStreamerTest {
+
+    private static final String CCD_URL = "http://ccd";
+    private static final String AUTHORISATION = "Bearer token";
+    private static final String SERVICE_AUTHORISATION = "Bearer service";
+    private static final String QUERY = "{\"size\":2}";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+    private MockRestServiceServer mockServer;
+    private CaseSearchStreamer caseSearchStreamer;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        mockServer = MockRestServiceServer.createServer(restTemplate);
+        ResilienceService resilienceService =
+            new ResilienceService(BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(), 1, 1.5, 2);
+        caseSearchStreamer = new CaseSearchStreamer(restTemplate, () -> SERVICE_AUTHORISATION, resilienceService,
+                                                    objectMapper, CCD_URL);
+    }
+
+    @Test
+    void shouldWriteCasesOfEachCaseTypeAsOneArray() throws IOException {
+        expectSearch(ENGLAND_CASE_TYPE, """
+            {"total": 2, "cases": [
+              {"id": 1646225213651598, "case_type_id": "ET_EnglandWales", "case_data": {"ethosCaseReference": "1"}},
+              {"id": 1646225213651533, "case_type_id": "ET_EnglandWales", "case_data": {"ethosCaseReference": "2"}}
+            ], "case_types_results": [{"case_type_id": "ET_EnglandWales", "total": 2}]}
+            """);
+        expectSearch(SCOTLAND_CASE_TYPE, """
+            {"total": 1, "cases": [
+              {"id": 1646225213651512, "case_type_id": "ET_Scotland", "case_data": {"ethosCaseReference": "3"}}
+            ]}
+            """);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        caseSearchStreamer.writeCases(AUTHORISATION, List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE), QUERY, output);
+
+        List<CaseDetails> cases = List.of(objectMapper.readValue(output.toByteArray(), CaseDetails[].class));
+        assertThat(cases).extracting(CaseDetails::getId)
+            .containsExactly(1_646_225_213_651_598L, 1_646_225_213_651_533L, 1_646_225_213_651_512L);
+        assertThat(cases.getFirst().getData()).isEqualTo(Map.of("ethosCaseReference", "1"));
+        mockServer.verify();
+    }
+
+    @Test
+    void shouldWriteEmptyArrayWhenNoCasesFound() throws IOException {
+        expectSearch(ENGLAND_CASE_TYPE, "{\"total\": 0, \"cases\": []}");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        caseSearchStreamer.writeCases(AUTHORISATION, List.of(ENGLAND_CASE_TYPE), QUERY, output);
+
+        assertThat(output.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void shouldWriteNothingWhenFirstSearchFails() {
+        mockServer.expect(requestTo(CCD_URL + "/searchCases?ctid=" + ENGLAND_CASE_TYPE))
+            .andRespond(withServerError());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<String> caseTypeIds = List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE);
+
+        assertThrows(HttpServerErrorException.class,
+                     () -> caseSearchStreamer.writeCases(AUTHORISATION, caseTypeIds, QUERY, output));
+        assertThat(output.size()).isZero();
+    }
+
+    @Test
+    void shouldLeaveArrayUnterminatedWhenLaterSearchFails() {
+        expectSearch(ENGLAND_CASE_TYPE, """
+            {"total": 1, "cases": [
+              {"id": 1646225213651598, "case_type_id": "ET_EnglandWales", "case_data": {"ethosCaseReference": "1"}}
+            ]}
+            """);
+        mockServer.expect(requestTo(CCD_URL + "/searchCases?ctid=" + SCOTLAND_CASE_TYPE))
+            .andRespond(withServerError());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<String> caseTypeIds = List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE);
+
+        assertThrows(HttpServerErrorException.class,
+                     () -> caseSearchStreamer.writeCases(AUTHORISATION, caseTypeIds, QUERY, output));
+        assertThat(output.toString()).startsWith("[{").doesNotEndWith("]");
+        assertThrows(JsonProcessingException.class,
+                     () -> objectMapper.readValue(output.toByteArray(), CaseDetails[].class));
+    }
+
+    private void expectSearch(String caseTypeId, String searchResult) {
+        mockServer.expect(requestTo(CCD_URL + "/searchCases?ctid=" + caseTypeId))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(header("Authorization", AUTHORISATION))
+            .andExpect(header("ServiceAuthorization", SERVICE_AUTHORISATION))
+            .andExpect(content().string(QUERY))
+            .andRespond(withSuccess(searchResult, MediaType.APPLICATION_JSON));
+    }
+}
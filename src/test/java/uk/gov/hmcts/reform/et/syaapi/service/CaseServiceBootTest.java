@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.TEST_SERVICE_AUTH_TOKEN;
@@ -91,12 +92,12 @@ class CaseServiceBootTest {
             eq(true),
             any(CaseDataContent.class)
         )).thenReturn(caseTestData.getExpectedDetails());
-        when(caseDocumentService.uploadAllDocuments(
+        when(caseDocumentService.createDocumentTypeItems(
             eq(TEST_SERVICE_AUTH_TOKEN),
             eq(caseTestData.getCaseRequest().getCaseTypeId()),
-            anyList(),
-            anyList(),
-            any()
+            anyString(),
+            anyString(),
+            anyList()
         )).thenReturn(caseTestData.getUploadDocumentResponse());
         when(notificationService.sendSubmitCaseConfirmationEmail(
             eq(caseTestData.getCaseRequest()),
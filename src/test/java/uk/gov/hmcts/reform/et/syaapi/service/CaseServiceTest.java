@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.EqualsAndHashCode;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +15,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import uk.gov.hmcts.ecm.common.service.PostcodeToOfficeService;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.ecm.common.service.pdf.PdfDecodedMultipartFile;
 import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.DocumentTypeItem;
@@ -26,15 +28,19 @@ import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDataContent;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.Event;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.et.syaapi.constants.JurisdictionCodesConstants;
+import uk.gov.hmcts.reform.et.syaapi.helper.CaseDetailsConverter;
 import uk.gov.hmcts.reform.et.syaapi.helper.JurisdictionCodesMapper;
 import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
+import uk.gov.hmcts.reform.et.syaapi.models.UserCasesPage;
 import uk.gov.hmcts.reform.et.syaapi.notification.NotificationsProperties;
+import uk.gov.hmcts.reform.et.syaapi.search.ElasticSearchQueryBuilder;
+import uk.gov.hmcts.reform.et.syaapi.search.UserCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.pdf.PdfUploadService;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import uk.gov.service.notify.SendEmailResponse;
 
@@ -84,20 +90,18 @@ import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.USER_ID;
 class CaseServiceTest {
 
     @Mock
-    private PostcodeToOfficeService postcodeToOfficeService;
+    private TribunalOfficeLookup tribunalOfficeLookup;
     @Mock
     private AuthTokenGenerator authTokenGenerator;
     @Mock
     private CoreCaseDataApi ccdApiClient;
     @Mock
-    private IdamClient idamClient;
+    private UserInfoService userInfoService;
     @Mock
     private JurisdictionCodesMapper jurisdictionCodesMapper;
     @Mock
     private PdfUploadService pdfUploadService;
     @Mock
-    private AcasService acasService;
-    @Mock
     private CaseDocumentService caseDocumentService;
     @Mock
     private DocumentGenerationService documentGenerationService;
@@ -109,8 +113,15 @@ class CaseServiceTest {
     private FeatureToggleService featureToggle;
     @Mock
     private ManageCaseRoleService manageCaseRoleService;
+    @Mock
+    private Et1SubmissionService et1SubmissionService;
     @Spy
     private NotificationsProperties notificationsProperties;
+    @Spy
+    private CaseTypeSearchService caseTypeSearchService = new CaseTypeSearchService(
+        new SimpleMeterRegistry(), 2, 10, 5000, 5000);
+    @Spy
+    private CaseDetailsConverter caseDetailsConverter = new CaseDetailsConverter(new ObjectMapper());
     @InjectMocks
     private CaseService caseService;
     private SendEmailResponse sendEmailResponse;
@@ -134,11 +145,12 @@ class CaseServiceTest {
 
     @BeforeEach
     void setUp(TestInfo testInfo) {
+        when(tribunalOfficeLookup.lookup(any())).thenReturn(TribunalOfficeLookup.Result.NOT_FOUND);
         if (!testInfo.getDisplayName().startsWith("submitCase")) {
             return;
         }
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
             null,
             USER_ID,
             TEST_NAME,
@@ -169,22 +181,6 @@ class CaseServiceTest {
             any(String.class)
         )).thenReturn(caseTestData.getStartEventResponse());
 
-        PdfDecodedMultipartFile pdfDecodedMultipartFile =
-            new PdfDecodedMultipartFile(
-                new byte[0],
-                TEST,
-                TEST,
-                TEST
-            );
-
-        when(pdfUploadService.convertAcasCertificatesToPdfDecodedMultipartFiles(any(), any()))
-            .thenReturn(List.of(pdfDecodedMultipartFile));
-
-        when(pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(any(), any()))
-            .thenReturn(List.of(pdfDecodedMultipartFile));
-
-        when(acasService.getAcasCertificatesByCaseData(any())).thenReturn(List.of());
-
         when(assignCaseToLocalOfficeService.convertCaseRequestToCaseDataWithTribunalOffice(any()))
             .thenReturn(caseTestData.getCaseData());
         sendEmailResponse
@@ -208,11 +204,77 @@ class CaseServiceTest {
             .thenReturn(sendEmailResponse);
     }
 
+    @Test
+    void shouldGetAllUserCasesFromBothCaseTypesScotlandFirst() {
+        CaseDetails scotlandCase = CaseDetails.builder().id(1L).caseTypeId(SCOTLAND_CASE_TYPE).build();
+        CaseDetails englandCase = CaseDetails.builder().id(2L).caseTypeId(ENGLAND_CASE_TYPE).build();
+        when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
+        when(ccdApiClient.searchCases(eq(TEST_SERVICE_AUTH_TOKEN), eq(TEST_SERVICE_AUTH_TOKEN),
+                                      eq(SCOTLAND_CASE_TYPE), anyString()))
+            .thenReturn(SearchResult.builder().cases(List.of(scotlandCase)).total(1).build());
+        when(ccdApiClient.searchCases(eq(TEST_SERVICE_AUTH_TOKEN), eq(TEST_SERVICE_AUTH_TOKEN),
+                                      eq(ENGLAND_CASE_TYPE), anyString()))
+            .thenReturn(SearchResult.builder().cases(List.of(englandCase)).total(1).build());
+
+        assertThat(caseService.getAllUserCases(TEST_SERVICE_AUTH_TOKEN)).containsExactly(scotlandCase, englandCase);
+    }
+
+    @Test
+    void shouldGetAllUserCasesFromRemainingCaseTypeWhenOneSearchFails() {
+        CaseDetails scotlandCase = CaseDetails.builder().id(1L).caseTypeId(SCOTLAND_CASE_TYPE).build();
+        when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
+        when(ccdApiClient.searchCases(eq(TEST_SERVICE_AUTH_TOKEN), eq(TEST_SERVICE_AUTH_TOKEN),
+                                      eq(SCOTLAND_CASE_TYPE), anyString()))
+            .thenReturn(SearchResult.builder().cases(List.of(scotlandCase)).total(1).build());
+        when(ccdApiClient.searchCases(eq(TEST_SERVICE_AUTH_TOKEN), eq(TEST_SERVICE_AUTH_TOKEN),
+                                      eq(ENGLAND_CASE_TYPE), anyString()))
+            .thenThrow(new IllegalStateException("Elasticsearch unavailable"));
+
+        assertThat(caseService.getAllUserCases(TEST_SERVICE_AUTH_TOKEN)).containsExactly(scotlandCase);
+    }
+
+    @Test
+    void shouldGetUserCasesPageFillingFromNextCaseTypeAndReturnCursor() {
+        ReflectionTestUtils.setField(caseService, "searchPageSize", 2);
+        CaseDetails scotlandCase = CaseDetails.builder().id(1L).caseTypeId(SCOTLAND_CASE_TYPE).build();
+        CaseDetails englandCase = CaseDetails.builder().id(2L).caseTypeId(ENGLAND_CASE_TYPE).build();
+        when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
+        when(ccdApiClient.searchCases(TEST_SERVICE_AUTH_TOKEN, TEST_SERVICE_AUTH_TOKEN, SCOTLAND_CASE_TYPE,
+                                      ElasticSearchQueryBuilder.buildUserCasesPage(2, null, List.of("claimant"))))
+            .thenReturn(SearchResult.builder().cases(List.of(scotlandCase)).total(1).build());
+        when(ccdApiClient.searchCases(TEST_SERVICE_AUTH_TOKEN, TEST_SERVICE_AUTH_TOKEN, ENGLAND_CASE_TYPE,
+                                      ElasticSearchQueryBuilder.buildUserCasesPage(1, null, List.of("claimant"))))
+            .thenReturn(SearchResult.builder().cases(List.of(englandCase)).total(3).build());
+
+        UserCasesPage userCasesPage = caseService.getUserCasesPage(TEST_SERVICE_AUTH_TOKEN, null, List.of("claimant"));
+
+        assertThat(userCasesPage.getCases()).containsExactly(scotlandCase, englandCase);
+        assertThat(UserCasesCursor.decode(userCasesPage.getNextCursor()))
+            .isEqualTo(new UserCasesCursor(ENGLAND_CASE_TYPE, 2L));
+    }
+
+    @Test
+    void shouldGetLastUserCasesPageWithoutCursor() {
+        ReflectionTestUtils.setField(caseService, "searchPageSize", 2);
+        CaseDetails englandCase = CaseDetails.builder().id(3L).caseTypeId(ENGLAND_CASE_TYPE).build();
+        when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
+        when(ccdApiClient.searchCases(TEST_SERVICE_AUTH_TOKEN, TEST_SERVICE_AUTH_TOKEN, ENGLAND_CASE_TYPE,
+                                      ElasticSearchQueryBuilder.buildUserCasesPage(2, 2L, null)))
+            .thenReturn(SearchResult.builder().cases(List.of(englandCase)).total(3).build());
+
+        UserCasesPage userCasesPage = caseService.getUserCasesPage(
+            TEST_SERVICE_AUTH_TOKEN, new UserCasesCursor(ENGLAND_CASE_TYPE, 2L), null);
+
+        assertThat(userCasesPage.getCases()).containsExactly(englandCase);
+        assertThat(userCasesPage.getNextCursor()).isNull();
+        verify(ccdApiClient, never()).searchCases(anyString(), anyString(), eq(SCOTLAND_CASE_TYPE), anyString());
+    }
+
     @Test
     void shouldCreateNewDraftCaseInCcd() {
 
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
             null,
             USER_ID,
             TEST_NAME,
@@ -254,7 +316,7 @@ class CaseServiceTest {
     void shouldCreateNewDraftCaseInCcdWithPostCode() {
 
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
             null,
             USER_ID,
             TEST_NAME,
@@ -296,7 +358,7 @@ class CaseServiceTest {
     @Test
     void shouldStartUpdateCaseInCcd() {
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
             null,
             USER_ID,
             TEST_NAME,
@@ -329,7 +391,7 @@ class CaseServiceTest {
     @Test
     void shouldSubmitUpdateCaseInCcd() {
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
             null,
             USER_ID,
             TEST_NAME,
@@ -361,8 +423,8 @@ class CaseServiceTest {
     @SneakyThrows
     @Test
     void submitCaseShouldAddSupportingDocumentToDocumentCollection() {
-        when(caseDocumentService.uploadAllDocuments(any(), any(), any(), any(), any()))
-            .thenReturn(List.of(createDocumentTypeItem()));
+        when(et1SubmissionService.prepareDocuments(any(), any(), any(), any()))
+            .thenReturn(new ArrayList<>(List.of(createDocumentTypeItem())));
 
         CaseDetails caseDetails = caseService.submitCase(
             TEST_SERVICE_AUTH_TOKEN,
@@ -387,24 +449,6 @@ class CaseServiceTest {
             ((DocumentTypeItem) docCollection.get(0)).getValue().toString());
     }
 
-    @Test
-    @SneakyThrows
-    void submitCaseShouldSendErrorEmail() {
-        when(caseDocumentService.uploadAllDocuments(any(), any(), any(), any(), any()))
-            .thenThrow(new CaseDocumentException("Failed to upload documents"));
-
-        when(notificationService.sendDocUploadErrorEmail(any(), any(), any(), any()))
-            .thenReturn(sendEmailResponse);
-
-        caseService.submitCase(
-            TEST_SERVICE_AUTH_TOKEN,
-            caseTestData.getCaseRequest()
-        );
-
-        verify(notificationService, times(1))
-            .sendDocUploadErrorEmail(any(), any(), any(), any());
-    }
-
     @SneakyThrows
     @Test
     void submitCaseShouldSetEt1OnlineSubmission() {
@@ -479,7 +523,7 @@ class CaseServiceTest {
             .build();
 
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(new UserInfo(
             null,
             USER_ID,
             TEST_NAME,
@@ -559,13 +603,12 @@ class CaseServiceTest {
     }
 
     @Test
-    void submitCaseCitizenDocGenerationToggleEnabled() throws CaseDocumentException {
+    void submitCaseCitizenDocGenerationToggleEnabled() {
         when(featureToggle.citizenEt1Generation()).thenReturn(true);
         caseService.submitCase(TEST_SERVICE_AUTH_TOKEN, caseTestData.getCaseRequest());
 
+        verify(et1SubmissionService, never()).prepareDocuments(any(), any(), any(), any());
         verify(notificationService, never()).sendSubmitCaseConfirmationEmail(any(), any(), any(), any());
-        verify(pdfUploadService, never()).convertCaseDataToPdfDecodedMultipartFile(any(), any());
-        verify(caseDocumentService, never()).uploadAllDocuments(any(), any(), any(), any(), any());
 
     }
 
@@ -611,7 +654,7 @@ class CaseServiceTest {
         StartEventResponse startEventResponse = new CaseTestData().getStartEventResponse();
         UserInfo userInfo = new CaseTestData().getUserInfo();
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(userInfo);
         when(ccdApiClient.startEventForCitizen(
             TEST_SERVICE_AUTH_TOKEN,
             TEST_SERVICE_AUTH_TOKEN,
@@ -0,0 +1,169 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.ENGLAND_CASE_TYPE;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.SCOTLAND_CASE_TYPE;
+
+class CaseTypeSearchServiceTest {
+
+    private static final List<String> CASE_TYPES = List.of(SCOTLAND_CASE_TYPE, ENGLAND_CASE_TYPE);
+    private static final List<String> ENGLAND_FIRST = List.of(ENGLAND_CASE_TYPE, SCOTLAND_CASE_TYPE);
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaseTypeSearchService caseTypeSearchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        caseTypeSearchService = new CaseTypeSearchService(meterRegistry, 2, 10, 5000, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        caseTypeSearchService.shutdown();
+    }
+
+    @Test
+    void searchAllShouldCombineResultsInCaseTypeOrder() {
+        List<String> results = caseTypeSearchService.searchAll(CASE_TYPES, caseType -> List.of(caseType + "-1"));
+
+        assertThat(results).containsExactly(SCOTLAND_CASE_TYPE + "-1", ENGLAND_CASE_TYPE + "-1");
+        assertThat(meterRegistry.get(CaseTypeSearchService.SEARCH_TIMER)
+                       .tag("caseType", ENGLAND_CASE_TYPE).tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void searchAllShouldRunCaseTypesConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(CASE_TYPES.size());
+
+        List<String> results = caseTypeSearchService.searchAll(CASE_TYPES, caseType -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(2, TimeUnit.SECONDS) ? List.of(caseType) : List.of();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+        });
+
+        assertThat(results).containsExactlyElementsOf(CASE_TYPES);
+    }
+
+    @Test
+    void searchAllShouldReturnPartialResultsWhenOneCaseTypeFails() {
+        List<String> results = caseTypeSearchService.searchAll(CASE_TYPES, caseType -> {
+            if (ENGLAND_CASE_TYPE.equals(caseType)) {
+                throw new IllegalStateException("England search failed");
+            }
+            return List.of(caseType);
+        });
+
+        assertThat(results).containsExactly(SCOTLAND_CASE_TYPE);
+        assertThat(meterRegistry.get(CaseTypeSearchService.SEARCH_TIMER)
+                       .tag("caseType", ENGLAND_CASE_TYPE).tag("outcome", "failure").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void searchAllShouldReturnPartialResultsWhenOneCaseTypeTimesOut() {
+        List<String> results = caseTypeSearchService.searchAll(CASE_TYPES, caseType -> {
+            if (SCOTLAND_CASE_TYPE.equals(caseType)) {
+                sleep(2000);
+            }
+            return List.of(caseType);
+        });
+
+        assertThat(results).containsExactly(ENGLAND_CASE_TYPE);
+        assertThat(meterRegistry.get(CaseTypeSearchService.SEARCH_TIMER)
+                       .tag("caseType", SCOTLAND_CASE_TYPE).tag("outcome", "timeout").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void searchAllShouldThrowWhenEveryCaseTypeFails() {
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> caseTypeSearchService.searchAll(CASE_TYPES, caseType -> {
+                throw new IllegalStateException(caseType);
+            })
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(SCOTLAND_CASE_TYPE);
+    }
+
+    @Test
+    void searchEachShouldKeepResultsPerCaseTypeAndTreatNullAsEmpty() {
+        Map<String, List<String>> results = caseTypeSearchService.searchEach(
+            CASE_TYPES, caseType -> SCOTLAND_CASE_TYPE.equals(caseType) ? null : List.of(caseType));
+
+        assertThat(results.keySet()).containsExactlyElementsOf(CASE_TYPES);
+        assertThat(results.get(SCOTLAND_CASE_TYPE)).isEmpty();
+        assertThat(results.get(ENGLAND_CASE_TYPE)).containsExactly(ENGLAND_CASE_TYPE);
+    }
+
+    @Test
+    void searchEachShouldThrowWhenAnyCaseTypeFails() {
+        assertThrows(IllegalStateException.class, () -> caseTypeSearchService.searchEach(CASE_TYPES, caseType -> {
+            if (ENGLAND_CASE_TYPE.equals(caseType)) {
+                throw new IllegalStateException("England search failed");
+            }
+            return List.of(caseType);
+        }));
+    }
+
+    @Test
+    void searchFirstShouldNotSearchLaterCaseTypesOnceFound() {
+        List<String> searched = new CopyOnWriteArrayList<>();
+
+        String result = caseTypeSearchService.searchFirst(ENGLAND_FIRST, caseType -> {
+            searched.add(caseType);
+            return caseType;
+        });
+
+        assertThat(result).isEqualTo(ENGLAND_CASE_TYPE);
+        assertThat(searched).containsExactly(ENGLAND_CASE_TYPE);
+    }
+
+    @Test
+    void searchFirstShouldSearchNextCaseTypeWhenNothingFound() {
+        String result = caseTypeSearchService.searchFirst(
+            ENGLAND_FIRST, caseType -> SCOTLAND_CASE_TYPE.equals(caseType) ? caseType : null);
+
+        assertThat(result).isEqualTo(SCOTLAND_CASE_TYPE);
+        assertThat(caseTypeSearchService.searchFirst(ENGLAND_FIRST, caseType -> null)).isNull();
+    }
+
+    @Test
+    void searchFirstShouldThrowFailureOfLaterCaseTypeOnlyWhenNothingFound() {
+        assertThrows(IllegalStateException.class, () -> caseTypeSearchService.searchFirst(ENGLAND_FIRST, caseType -> {
+            if (SCOTLAND_CASE_TYPE.equals(caseType)) {
+                throw new IllegalStateException("Scotland search failed");
+            }
+            return null;
+        }));
+        assertThat(meterRegistry.get(CaseTypeSearchService.SEARCH_TIMER)
+                       .tag("caseType", SCOTLAND_CASE_TYPE).tag("outcome", "failure").timer().count())
+            .isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
 import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpMethod;
@@ -15,18 +17,24 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.et.syaapi.models.ClaimCaseDocument;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.UnknownHostException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 @SuppressWarnings({"PMD.TooManyMethods"})
 class DocumentGenerationServiceTest {
@@ -38,6 +46,11 @@ class DocumentGenerationServiceTest {
     public static final String EM_TRB_HELLO_WORLD_DOCX = "EM-TRB-helloworld.docx";
     public static final String DOCUMENT_PDF = "document.pdf";
     public static final String FAILED_TO_CONNECT_WITH_TORNADO = "Failed to connect with Tornado";
+    private static final long CACHE_MAX_BYTES = 1024;
+    private static final long CACHE_TTL_MILLIS = 60_000;
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final ResilienceService RESILIENCE_SERVICE =
+        new ResilienceService(BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(), 1, 1.5, 2);
     private DocumentGenerationService documentGenerationService;
     private MockRestServiceServer mockServer;
 
@@ -45,8 +58,8 @@ class DocumentGenerationServiceTest {
     void setup() {
         RestTemplate restTemplate = new RestTemplate();
         ObjectMapper objectMapper = new ObjectMapper();
-        documentGenerationService = new DocumentGenerationService(restTemplate, objectMapper,
-            TORNADO_API_URL, SOME_KEY);
+        documentGenerationService = new DocumentGenerationService(restTemplate, RESILIENCE_SERVICE, objectMapper,
+            new SimpleMeterRegistry(), TORNADO_API_URL, SOME_KEY, CACHE_MAX_BYTES, CACHE_TTL_MILLIS);
         mockServer = MockRestServiceServer.createServer(restTemplate);
     }
 
@@ -69,20 +82,109 @@ class DocumentGenerationServiceTest {
 
     @Test
     void genDocumentWithDataFailingToConvertToJsonThrowsDocumentGenerationException()
-        throws JsonProcessingException {
+        throws IOException {
         RestTemplate restTemplate = new RestTemplate();
         ObjectMapper objectMapper = mock(ObjectMapper.class);
-        given(objectMapper.writeValueAsString(any()))
-            .willThrow(new JsonParseException(null, "wellthatworkednot"));
+        willThrow(new JsonParseException(null, "wellthatworkednot"))
+            .given(objectMapper).writeValue(any(OutputStream.class), any());
         DocumentGenerationService localDocumentGenerationService = new DocumentGenerationService(restTemplate,
-            objectMapper,
-            TORNADO_API_URL, SOME_KEY);
+            RESILIENCE_SERVICE, objectMapper, new SimpleMeterRegistry(),
+            TORNADO_API_URL, SOME_KEY, CACHE_MAX_BYTES, CACHE_TTL_MILLIS);
 
         DocumentGenerationException exception = assertThrows(
             DocumentGenerationException.class,
             () -> localDocumentGenerationService.genPdfDocument(
                 EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF, new ClaimCaseDocument()));
-        assertThat(exception.getMessage()).isEqualTo("Failed to convert the TornadoRequestWrapper to a string");
+        assertThat(exception.getMessage()).isEqualTo("Failed to convert the TornadoRequestWrapper to JSON");
+    }
+
+    @Test
+    void genDocumentWithSameDataIsRenderedOnce() throws DocumentGenerationException {
+        mockServer.expect(ExpectedCount.once(), requestTo(TORNADO_API_URL))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(jsonPath(ACCESS_KEY).value(SOME_KEY))
+            .andRespond(withSuccess(RESPONSE_BODY, MediaType.APPLICATION_PDF));
+
+        byte[] first = documentGenerationService.genPdfDocument(EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF,
+                                                                 createClaimCase());
+        byte[] second = documentGenerationService.genPdfDocument(EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF,
+                                                                  createClaimCase());
+
+        assertThat(first).isEqualTo(RESPONSE_BODY);
+        assertThat(second).isEqualTo(RESPONSE_BODY);
+        mockServer.verify();
+    }
+
+    @Test
+    void genDocumentWithDifferentDataOrOutputNameIsRenderedAgain() throws DocumentGenerationException {
+        mockServer.expect(ExpectedCount.times(3), requestTo(TORNADO_API_URL))
+            .andRespond(withSuccess(RESPONSE_BODY, MediaType.APPLICATION_PDF));
+        ClaimCaseDocument otherClaimCase = createClaimCase();
+        otherClaimCase.setTestMessage("Goodbye World");
+
+        documentGenerationService.genPdfDocument(EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF, createClaimCase());
+        documentGenerationService.genPdfDocument(EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF, otherClaimCase);
+        documentGenerationService.genPdfDocument(EM_TRB_HELLO_WORLD_DOCX, "other.pdf", createClaimCase());
+
+        mockServer.verify();
+    }
+
+    @Test
+    void genDocumentFailureIsNotCached() throws DocumentGenerationException {
+        mockServer.expect(ExpectedCount.once(), requestTo(TORNADO_API_URL))
+            .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        mockServer.expect(ExpectedCount.once(), requestTo(TORNADO_API_URL))
+            .andRespond(withSuccess(RESPONSE_BODY, MediaType.APPLICATION_PDF));
+        ClaimCaseDocument claimCase = createClaimCase();
+
+        assertThrows(DocumentGenerationException.class,
+                     () -> documentGenerationService.genPdfDocument(EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF, claimCase));
+        assertThat(documentGenerationService.genPdfDocument(EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF, claimCase))
+            .isEqualTo(RESPONSE_BODY);
+        mockServer.verify();
+    }
+
+    @Test
+    void genDocumentWithSameDataWhileRenderingWaitsForThatRender() throws Exception {
+        CountDownLatch renderStarted = new CountDownLatch(1);
+        CountDownLatch releaseRender = new CountDownLatch(1);
+        mockServer.expect(ExpectedCount.once(), requestTo(TORNADO_API_URL))
+            .andRespond(request -> {
+                renderStarted.countDown();
+                awaitRelease(releaseRender);
+                return withSuccess(RESPONSE_BODY, MediaType.APPLICATION_PDF).createResponse(request);
+            });
+        FutureTask<byte[]> first = new FutureTask<>(() -> documentGenerationService.genPdfDocument(
+            EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF, createClaimCase()));
+        new Thread(first).start();
+        assertThat(renderStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        FutureTask<byte[]> second = new FutureTask<>(() -> documentGenerationService.genPdfDocument(
+            EM_TRB_HELLO_WORLD_DOCX, DOCUMENT_PDF, createClaimCase()));
+        Thread secondThread = new Thread(second);
+        secondThread.start();
+        assertThat(awaitWaiting(secondThread)).isTrue();
+        releaseRender.countDown();
+
+        assertThat(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(RESPONSE_BODY);
+        assertThat(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(RESPONSE_BODY);
+        mockServer.verify();
+    }
+
+    private static void awaitRelease(CountDownLatch releaseRender) {
+        try {
+            releaseRender.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return thread.getState() == Thread.State.WAITING;
     }
 
     @Test
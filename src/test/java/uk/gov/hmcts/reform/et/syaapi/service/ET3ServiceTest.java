@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,11 +20,11 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.et.syaapi.exception.ManageCaseRoleException;
+import uk.gov.hmcts.reform.et.syaapi.helper.CaseDetailsConverter;
 import uk.gov.hmcts.reform.et.syaapi.helper.EmployeeObjectMapper;
 import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
 import uk.gov.hmcts.reform.et.syaapi.service.pdf.ET3FormService;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.util.ArrayList;
@@ -58,7 +60,7 @@ class ET3ServiceTest {
     @Mock
     CaseService caseService;
     @Mock
-    IdamClient idamClient;
+    UserInfoService userInfoService;
     @Mock
     NotificationService notificationService;
     @Mock
@@ -71,10 +73,12 @@ class ET3ServiceTest {
         et3Service = new ET3Service(adminUserService,
                                     authTokenGenerator,
                                     ccdApi,
-                                    idamClient,
+                                    userInfoService,
                                     caseService,
                                     et3FormService,
-                                    notificationService);
+                                    notificationService,
+                                    new CaseTypeSearchService(new SimpleMeterRegistry(), 2, 10, 5000, 5000),
+                                    new CaseDetailsConverter(new ObjectMapper()));
     }
 
     @ParameterizedTest
@@ -143,7 +147,7 @@ class ET3ServiceTest {
         allCaseDetails.addAll(englandWalesCaseDetailsList);
         when(authTokenGenerator.generate()).thenReturn(TestConstants.TEST_SERVICE_AUTH_TOKEN);
         UserInfo userinfo = new CaseTestData().getUserInfo();
-        when(idamClient.getUserInfo(TestConstants.TEST_SERVICE_AUTH_TOKEN)).thenReturn(userinfo);
+        when(userInfoService.getUserInfo(TestConstants.TEST_SERVICE_AUTH_TOKEN)).thenReturn(userinfo);
         when(ccdApi.searchForCitizen(
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
             TestConstants.TEST_SERVICE_AUTH_TOKEN,
@@ -159,7 +163,7 @@ class ET3ServiceTest {
             TestConstants.TEST_CASE_TYPE_ID_SCOTLAND,
             new HashMap<>())).thenReturn(scotlandCaseDetailsList);
         assertThat(et3Service.getAllUserCasesForET3(TestConstants.TEST_SERVICE_AUTH_TOKEN)).isEqualTo(allCaseDetails);
-        when(idamClient.getUserInfo(TestConstants.TEST_SERVICE_AUTH_TOKEN)).thenReturn(null);
+        when(userInfoService.getUserInfo(TestConstants.TEST_SERVICE_AUTH_TOKEN)).thenReturn(null);
         ManageCaseRoleException exception =
             assertThrows(ManageCaseRoleException.class,
                          () -> et3Service.getAllUserCasesForET3(TestConstants.TEST_SERVICE_AUTH_TOKEN));
@@ -279,6 +283,36 @@ class ET3ServiceTest {
         assertThat(caseDetails).isNull();
     }
 
+    @Test
+    void theFindCaseByEthosCaseReferenceShouldOnlySearchScotlandWhenNotFoundInEngland() {
+        CaseDetails englandWalesCaseDetails = CaseDetails.builder()
+            .caseTypeId(TestConstants.TEST_CASE_TYPE_ID_ENGLAND_WALES)
+            .id(Long.parseLong(TestConstants.TEST_CASE_SUBMISSION_REFERENCE1))
+            .build();
+        when(adminUserService.getAdminUserToken()).thenReturn(TestConstants.TEST_SERVICE_AUTH_TOKEN);
+        when(authTokenGenerator.generate()).thenReturn(TestConstants.TEST_SERVICE_AUTH_TOKEN);
+        when(ccdApi.searchCases(TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                TestConstants.TEST_CASE_TYPE_ID_ENGLAND_WALES,
+                                TestConstants.EXPECTED_QUERY_BY_ETHOS_CASE_REFERENCE))
+            .thenReturn(SearchResult.builder().cases(List.of(englandWalesCaseDetails)).total(1).build())
+            .thenReturn(SearchResult.builder().cases(new ArrayList<>()).build());
+        when(ccdApi.searchCases(TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                TestConstants.TEST_CASE_TYPE_ID_SCOTLAND,
+                                TestConstants.EXPECTED_QUERY_BY_ETHOS_CASE_REFERENCE))
+            .thenThrow(new IllegalStateException("Scotland search failed"));
+
+        assertThat(et3Service.findCaseByEthosCaseReference(TestConstants.TEST_ETHOS_CASE_REFERENCE))
+            .isEqualTo(englandWalesCaseDetails);
+        assertThrows(IllegalStateException.class,
+                     () -> et3Service.findCaseByEthosCaseReference(TestConstants.TEST_ETHOS_CASE_REFERENCE));
+        verify(ccdApi, times(1)).searchCases(TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                             TestConstants.TEST_SERVICE_AUTH_TOKEN,
+                                             TestConstants.TEST_CASE_TYPE_ID_SCOTLAND,
+                                             TestConstants.EXPECTED_QUERY_BY_ETHOS_CASE_REFERENCE);
+    }
+
     @Test
     void theFindCaseById() {
         CaseDetails englandWalesCaseDetails = CaseDetails.builder()
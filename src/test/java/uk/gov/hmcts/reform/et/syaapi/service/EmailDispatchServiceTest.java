@@ -0,0 +1,318 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import uk.gov.hmcts.reform.et.syaapi.exception.NotificationException;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailCommand;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailDispatchProperties;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailJournal;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailOutcome;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailRequest;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.INPUT_SEND_EMAIL_RESPONSE;
+
+class EmailDispatchServiceTest {
+
+    private static final String TEMPLATE_ID = "templateId";
+    private static final String EMAIL = "respondent@example.com";
+    private static final String OTHER_EMAIL = "representative@example.com";
+    private static final String CLAIMANT_EMAIL = "claimant@example.com";
+    private static final String CASE_ID = "1234567890123456";
+    private static final String OTHER_CASE_ID = "6543210987654321";
+    private static final Map<String, Object> PERSONALISATION = Map.of("caseNumber", "6000001/2024");
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final long WAIT_MILLIS = 200;
+    private static final String INSTANCE_ID = "et-sya-api-0";
+
+    @TempDir
+    Path directory;
+
+    private final NotificationClient notificationClient = mock(NotificationClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailDispatchProperties properties;
+    private EmailDispatchService emailDispatchService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmailDispatchProperties();
+        properties.setEnabled(true);
+        properties.setJournalDirectory(directory.toString());
+        properties.setInstanceId(INSTANCE_ID);
+        properties.setJournalMaxBytes(1024 * 1024);
+        properties.setDeadLetterMaxBytes(1024);
+        properties.setWorkers(2);
+        properties.setCapacity(100);
+        properties.setTemplateRateLimit(100);
+        properties.setMaxAttempts(3);
+        properties.setRetryInitialInterval(1);
+        properties.setRetryMultiplier(2.0);
+        properties.setRetryMaxInterval(10);
+        emailDispatchService = new EmailDispatchService(notificationClient, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        emailDispatchService.stop();
+    }
+
+    @Test
+    void dispatchShouldSendOnCallingThreadWhenQueueIsDisabled() throws IOException, NotificationClientException {
+        properties.setEnabled(false);
+        emailDispatchService.start();
+        given(notificationClient.sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID))
+            .willThrow(new NotificationClientException("Status code: 400 BadRequestError"));
+
+        assertThrows(NotificationException.class,
+                     () -> emailDispatchService.dispatch(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID));
+    }
+
+    @Test
+    void dispatchShouldSendCopyOfPersonalisationFromQueue() throws IOException, NotificationClientException {
+        emailDispatchService.start();
+        Map<String, Object> personalisation = new HashMap<>(PERSONALISATION);
+        personalisation.put("linkToDocument", new JSONObject(Map.of("file", "YQ==")));
+
+        emailDispatchService.dispatch(TEMPLATE_ID, EMAIL, personalisation, CASE_ID);
+        personalisation.put("caseNumber", "changed");
+
+        verify(notificationClient, timeout(TIMEOUT_MILLIS)).sendEmail(
+            TEMPLATE_ID, EMAIL, Map.of("caseNumber", "6000001/2024", "linkToDocument", Map.of("file", "YQ==")),
+            CASE_ID);
+        emailDispatchService.stop();
+        assertThat(emailDispatchService.getQueueSize()).isZero();
+        assertThat(meterRegistry.get(EmailDispatchService.LATENCY_TIMER).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchShouldRetryEmailWhenNotifyCannotBeReached() throws IOException, NotificationClientException {
+        given(notificationClient.sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID))
+            .willThrow(new NotificationClientException("Read timed out"))
+            .willReturn(INPUT_SEND_EMAIL_RESPONSE);
+        emailDispatchService.start();
+
+        emailDispatchService.dispatch(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+
+        verify(notificationClient, timeout(TIMEOUT_MILLIS).times(2)).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION,
+                                                                             CASE_ID);
+        emailDispatchService.stop();
+        assertThat(meterRegistry.get(EmailDispatchService.RETRIES_COUNTER).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(EmailDispatchService.DEAD_LETTERS_COUNTER).counter().count()).isZero();
+        assertThat(emailDispatchService.getQueueSize()).isZero();
+    }
+
+    @Test
+    void dispatchShouldDeadLetterEmailRejectedByNotify() throws IOException, NotificationClientException {
+        NotificationClientException badRequest = new NotificationClientException("Status code: 400 BadRequestError") {
+            @Override
+            public int getHttpResult() {
+                return 400;
+            }
+        };
+        given(notificationClient.sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID)).willThrow(badRequest);
+        emailDispatchService.start();
+
+        emailDispatchService.dispatch(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+
+        verify(notificationClient, timeout(TIMEOUT_MILLIS)).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+        emailDispatchService.stop();
+        assertThat(meterRegistry.get(EmailDispatchService.DEAD_LETTERS_COUNTER).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(EmailDispatchService.RETRIES_COUNTER).counter().count()).isZero();
+        assertThat(emailDispatchService.getQueueSize()).isZero();
+        assertThat(Files.readString(directory.resolve(INSTANCE_ID).resolve("dead-letter.log")))
+            .contains(CASE_ID, "400 BadRequestError")
+            .doesNotContain(EMAIL);
+    }
+
+    @Test
+    void startShouldSendEmailsLeftInJournal() throws IOException, NotificationClientException {
+        try (EmailJournal journal = new EmailJournal(directory.resolve(INSTANCE_ID), 1024 * 1024, 1024)) {
+            journal.recover();
+            journal.append(new EmailCommand("1", TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID,
+                                            System.currentTimeMillis()));
+        }
+
+        emailDispatchService.start();
+
+        verify(notificationClient, timeout(TIMEOUT_MILLIS)).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+    }
+
+    @Test
+    void startShouldFailWhenJournalDirectoryIsNotSet() {
+        properties.setJournalDirectory("");
+
+        assertThrows(IllegalStateException.class, () -> emailDispatchService.start());
+    }
+
+    @Test
+    void startShouldFailWhenInstanceIdIsNotSet() {
+        properties.setInstanceId(null);
+
+        assertThrows(IllegalStateException.class, () -> emailDispatchService.start());
+    }
+
+    @Test
+    void dispatchShouldSendOnCallingThreadWhenQueueIsFull() throws IOException, NotificationClientException {
+        properties.setCapacity(0);
+        emailDispatchService.start();
+
+        emailDispatchService.dispatch(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+
+        verify(notificationClient).sendEmail(eq(TEMPLATE_ID), eq(EMAIL), any(), eq(CASE_ID));
+    }
+
+    @Test
+    void dispatchShouldSendOnCallingThreadWhenJournalIsFull() throws IOException, NotificationClientException {
+        properties.setJournalMaxBytes(1);
+        emailDispatchService.start();
+
+        emailDispatchService.dispatch(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+
+        verify(notificationClient).sendEmail(eq(TEMPLATE_ID), eq(EMAIL), any(), eq(CASE_ID));
+        assertThat(emailDispatchService.getQueueSize()).isZero();
+    }
+
+    @Test
+    void dispatchAllShouldReportOutcomeOfEachEmailSentOnCallingThreads() throws IOException,
+        NotificationClientException {
+        properties.setEnabled(false);
+        properties.setFanOutLimit(4);
+        emailDispatchService = new EmailDispatchService(notificationClient, properties, meterRegistry);
+        emailDispatchService.start();
+        given(notificationClient.sendEmail(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION, CASE_ID))
+            .willThrow(new NotificationClientException("Status code: 400 BadRequestError"));
+
+        List<EmailOutcome> outcomes = emailDispatchService.dispatchAll(List.of(
+            new EmailRequest(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID),
+            new EmailRequest(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION, CASE_ID)));
+
+        assertThat(outcomes).extracting(EmailOutcome::emailAddress).containsExactly(EMAIL, OTHER_EMAIL);
+        assertThat(outcomes).extracting(EmailOutcome::status)
+            .containsExactly(EmailOutcome.Status.SENT, EmailOutcome.Status.FAILED);
+        assertThat(outcomes.get(1).error()).contains("400");
+    }
+
+    @Test
+    void dispatchAllShouldQueueEmails() throws IOException, NotificationClientException {
+        emailDispatchService.start();
+
+        List<EmailOutcome> outcomes = emailDispatchService.dispatchAll(List.of(
+            new EmailRequest(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID),
+            new EmailRequest(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION, CASE_ID)));
+
+        assertThat(outcomes).allMatch(outcome -> outcome.status() == EmailOutcome.Status.QUEUED);
+        verify(notificationClient, timeout(TIMEOUT_MILLIS)).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+        verify(notificationClient, timeout(TIMEOUT_MILLIS)).sendEmail(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION,
+                                                                      CASE_ID);
+    }
+
+    @Test
+    void dispatchAllShouldWaitForEmailsQueuedEarlierForSameCase() throws Exception {
+        CountDownLatch claimantEmailSending = new CountDownLatch(1);
+        CountDownLatch releaseClaimantEmail = new CountDownLatch(1);
+        given(notificationClient.sendEmail(TEMPLATE_ID, CLAIMANT_EMAIL, PERSONALISATION, CASE_ID)).willAnswer(
+            invocation -> {
+                claimantEmailSending.countDown();
+                releaseClaimantEmail.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                return INPUT_SEND_EMAIL_RESPONSE;
+            });
+        emailDispatchService.start();
+
+        emailDispatchService.dispatch(TEMPLATE_ID, CLAIMANT_EMAIL, PERSONALISATION, CASE_ID);
+        emailDispatchService.dispatchAll(List.of(new EmailRequest(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID)));
+        emailDispatchService.dispatch(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION, OTHER_CASE_ID);
+
+        assertThat(claimantEmailSending.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        verify(notificationClient, timeout(TIMEOUT_MILLIS)).sendEmail(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION,
+                                                                      OTHER_CASE_ID);
+        verify(notificationClient, never()).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+
+        releaseClaimantEmail.countDown();
+
+        verify(notificationClient, timeout(TIMEOUT_MILLIS)).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+    }
+
+    @Test
+    void dispatchAllShouldSendWholeBatchAfterEmailsQueuedEarlierForSameCaseWhenAnyCannotBeQueued() throws Exception {
+        CountDownLatch claimantEmailSending = new CountDownLatch(1);
+        CountDownLatch releaseClaimantEmail = new CountDownLatch(1);
+        given(notificationClient.sendEmail(TEMPLATE_ID, CLAIMANT_EMAIL, PERSONALISATION, CASE_ID)).willAnswer(
+            invocation -> {
+                claimantEmailSending.countDown();
+                releaseClaimantEmail.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                return INPUT_SEND_EMAIL_RESPONSE;
+            });
+        emailDispatchService.start();
+        emailDispatchService.dispatch(TEMPLATE_ID, CLAIMANT_EMAIL, PERSONALISATION, CASE_ID);
+        assertThat(claimantEmailSending.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        // room for the first email of the batch only
+        properties.setCapacity(2);
+
+        CompletableFuture<List<EmailOutcome>> outcomes = CompletableFuture.supplyAsync(
+            () -> emailDispatchService.dispatchAll(List.of(
+                new EmailRequest(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID),
+                new EmailRequest(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION, CASE_ID))));
+
+        verify(notificationClient, after(WAIT_MILLIS).never()).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+        verify(notificationClient, never()).sendEmail(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION, CASE_ID);
+        assertThat(outcomes).isNotDone();
+
+        releaseClaimantEmail.countDown();
+
+        assertThat(outcomes.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).extracting(EmailOutcome::status)
+            .containsExactly(EmailOutcome.Status.SENT, EmailOutcome.Status.SENT);
+        InOrder inOrder = inOrder(notificationClient);
+        inOrder.verify(notificationClient).sendEmail(TEMPLATE_ID, CLAIMANT_EMAIL, PERSONALISATION, CASE_ID);
+        inOrder.verify(notificationClient).sendEmail(TEMPLATE_ID, EMAIL, PERSONALISATION, CASE_ID);
+        verify(notificationClient).sendEmail(TEMPLATE_ID, OTHER_EMAIL, PERSONALISATION, CASE_ID);
+        assertThat(emailDispatchService.getQueueSize()).isZero();
+    }
+
+    @Test
+    void onlyServerErrorsRateLimitsAndConnectionFailuresShouldBeRetried() {
+        assertThat(EmailDispatchService.isRetryable(0)).isTrue();
+        assertThat(EmailDispatchService.isRetryable(429)).isTrue();
+        assertThat(EmailDispatchService.isRetryable(503)).isTrue();
+        assertThat(EmailDispatchService.isRetryable(400)).isFalse();
+        assertThat(EmailDispatchService.isRetryable(403)).isFalse();
+    }
+
+    @Test
+    void backoffShouldGrowExponentiallyUpToMaxIntervalWithJitter() {
+        properties.setRetryInitialInterval(1000);
+        properties.setRetryMaxInterval(5000);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(emailDispatchService.backoff(1)).isBetween(500L, 1000L);
+            assertThat(emailDispatchService.backoff(3)).isBetween(2000L, 4000L);
+            assertThat(emailDispatchService.backoff(4)).isBetween(2500L, 5000L);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.ecm.common.service.pdf.PdfDecodedMultipartFile;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+import uk.gov.hmcts.et.common.model.ccd.items.DocumentTypeItem;
+import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
+import uk.gov.hmcts.reform.et.syaapi.models.AcasCertificate;
+import uk.gov.hmcts.reform.et.syaapi.service.pdf.PdfUploadService;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.ecm.common.model.helper.DocumentConstants.ACAS_CERTIFICATE;
+import static uk.gov.hmcts.ecm.common.model.helper.DocumentConstants.ET1;
+import static uk.gov.hmcts.reform.et.syaapi.constants.DocumentCategoryConstants.ACAS_DOC_CATEGORY;
+import static uk.gov.hmcts.reform.et.syaapi.constants.DocumentCategoryConstants.ET1_PDF_DOC_CATEGORY;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.ENGLISH_LANGUAGE;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.WELSH_LANGUAGE;
+
+class Et1SubmissionServiceTest {
+
+    private static final String AUTHORIZATION = "Bearer token";
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    private final PdfUploadService pdfUploadService = mock(PdfUploadService.class);
+    private final AcasService acasService = mock(AcasService.class);
+    private final CaseDocumentService caseDocumentService = mock(CaseDocumentService.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PdfDecodedMultipartFile englishPdf = pdf("ET1 - Michael Jackson.pdf");
+    private final PdfDecodedMultipartFile welshPdf = pdf("ET1 - Michael Jackson - Welsh.pdf");
+    private final PdfDecodedMultipartFile acasCertificate = pdf("ACAS Certificate - R111111_11_11.pdf");
+    private CaseTestData caseTestData;
+    private CaseData caseData;
+    private Et1SubmissionService et1SubmissionService;
+
+    @BeforeEach
+    void setUp() {
+        caseTestData = new CaseTestData();
+        caseData = caseTestData.getCaseData();
+        caseData.getClaimantHearingPreference().setContactLanguage(ENGLISH_LANGUAGE);
+        et1SubmissionService = new Et1SubmissionService(pdfUploadService, acasService, caseDocumentService,
+                                                        notificationService, meterRegistry, 4, 16);
+        List<AcasCertificate> certificates = List.of(new AcasCertificate());
+        given(acasService.getAcasCertificatesByCaseData(caseData)).willReturn(certificates);
+        given(pdfUploadService.convertAcasCertificatesToPdfDecodedMultipartFiles(caseData, certificates))
+            .willReturn(List.of(acasCertificate));
+        given(pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(caseData, caseTestData.getUserInfo(),
+                                                                        ENGLISH_LANGUAGE))
+            .willReturn(Optional.of(englishPdf));
+        given(pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(caseData, caseTestData.getUserInfo(),
+                                                                        WELSH_LANGUAGE))
+            .willReturn(Optional.of(welshPdf));
+    }
+
+    @AfterEach
+    void tearDown() {
+        et1SubmissionService.shutdown();
+    }
+
+    @Test
+    void prepareDocumentsShouldUploadDocumentsAndSendConfirmationEmail() throws CaseDocumentException {
+        DocumentTypeItem et1 = documentTypeItem("1");
+        DocumentTypeItem claimDescription = documentTypeItem("2");
+        DocumentTypeItem acas = documentTypeItem("3");
+        given(caseDocumentService.createDocumentTypeItems(AUTHORIZATION, caseTestData.getCaseRequest().getCaseTypeId(),
+                                                          ET1, ET1_PDF_DOC_CATEGORY, List.of(englishPdf)))
+            .willReturn(List.of(et1));
+        given(caseDocumentService.createClaimDescriptionDocumentTypeItem(caseData))
+            .willReturn(Optional.of(claimDescription));
+        given(caseDocumentService.createDocumentTypeItems(AUTHORIZATION, caseTestData.getCaseRequest().getCaseTypeId(),
+                                                          ACAS_CERTIFICATE, ACAS_DOC_CATEGORY,
+                                                          List.of(acasCertificate)))
+            .willReturn(List.of(acas));
+
+        List<DocumentTypeItem> documents = prepareDocuments();
+
+        assertThat(documents).containsExactly(et1, claimDescription, acas);
+        verify(notificationService).sendSubmitCaseConfirmationEmail(caseTestData.getCaseRequest(), caseData,
+                                                                    caseTestData.getUserInfo(), List.of(englishPdf));
+        verify(pdfUploadService, never()).convertCaseDataToPdfDecodedMultipartFile(any(), any(), eq(WELSH_LANGUAGE));
+        assertThat(meterRegistry.get(Et1SubmissionService.STAGE_TIMER)
+                       .tag("stage", Et1SubmissionService.STAGE_UPLOAD).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(Et1SubmissionService.STAGE_TIMER)
+                       .tag("stage", Et1SubmissionService.STAGE_TOTAL).tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void prepareDocumentsShouldCreateAndUploadWelshPdfWhenClaimantContactLanguageIsWelsh()
+        throws CaseDocumentException {
+        caseData.getClaimantHearingPreference().setContactLanguage(WELSH_LANGUAGE);
+        DocumentTypeItem english = documentTypeItem("1");
+        DocumentTypeItem welsh = documentTypeItem("2");
+        given(caseDocumentService.createDocumentTypeItems(any(), any(), eq(ET1), any(), eq(List.of(englishPdf))))
+            .willReturn(List.of(english));
+        given(caseDocumentService.createDocumentTypeItems(any(), any(), eq(ET1), any(), eq(List.of(welshPdf))))
+            .willReturn(List.of(welsh));
+
+        List<DocumentTypeItem> documents = prepareDocuments();
+
+        assertThat(documents).startsWith(english, welsh);
+        verify(notificationService).sendSubmitCaseConfirmationEmail(caseTestData.getCaseRequest(), caseData,
+                                                                    caseTestData.getUserInfo(),
+                                                                    List.of(englishPdf, welshPdf));
+    }
+
+    @Test
+    void prepareDocumentsShouldCreatePdfWhileAcasCertificatesAreFetched() {
+        CountDownLatch pdfStarted = new CountDownLatch(1);
+        CountDownLatch acasStarted = new CountDownLatch(1);
+        given(pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(caseData, caseTestData.getUserInfo(),
+                                                                        ENGLISH_LANGUAGE))
+            .willAnswer(invocation -> {
+                pdfStarted.countDown();
+                acasStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                return Optional.of(englishPdf);
+            });
+        given(acasService.getAcasCertificatesByCaseData(caseData)).willAnswer(invocation -> {
+            acasStarted.countDown();
+            pdfStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return List.of();
+        });
+
+        long started = System.nanoTime();
+        prepareDocuments();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(TIMEOUT_MILLIS);
+    }
+
+    @Test
+    void prepareDocumentsShouldSendUploadErrorEmailWhenUploadFails() throws CaseDocumentException {
+        given(caseDocumentService.createDocumentTypeItems(any(), any(), eq(ACAS_CERTIFICATE), any(), any()))
+            .willThrow(new CaseDocumentException("Failed to upload documents"));
+
+        List<DocumentTypeItem> documents = prepareDocuments();
+
+        assertThat(documents).isEmpty();
+        verify(notificationService).sendDocUploadErrorEmail(
+            caseTestData.getCaseRequest(), List.of(englishPdf), List.of(acasCertificate),
+            caseData.getClaimantRequests().getClaimDescriptionDocument());
+    }
+
+    @Test
+    void prepareDocumentsShouldThrowFailureOnceEveryStageHasFinished() throws CaseDocumentException {
+        given(notificationService.sendSubmitCaseConfirmationEmail(any(), any(), any(), any()))
+            .willThrow(new IllegalStateException("Notify is down"));
+
+        assertThrows(IllegalStateException.class, this::prepareDocuments);
+        verify(caseDocumentService).createDocumentTypeItems(any(), any(), eq(ET1), any(), eq(List.of(englishPdf)));
+        verify(caseDocumentService).createDocumentTypeItems(any(), any(), eq(ACAS_CERTIFICATE), any(),
+                                                            eq(List.of(acasCertificate)));
+        verify(notificationService, never()).sendDocUploadErrorEmail(any(), any(), any(), any());
+    }
+
+    private List<DocumentTypeItem> prepareDocuments() {
+        return et1SubmissionService.prepareDocuments(AUTHORIZATION, caseTestData.getCaseRequest(), caseData,
+                                                     caseTestData.getUserInfo());
+    }
+
+    private static PdfDecodedMultipartFile pdf(String name) {
+        return new PdfDecodedMultipartFile(new byte[]{1}, name, "application/pdf", name);
+    }
+
+    private static DocumentTypeItem documentTypeItem(String id) {
+        DocumentTypeItem documentTypeItem = new DocumentTypeItem();
+        documentTypeItem.setId(id);
+        return documentTypeItem;
+    }
+}
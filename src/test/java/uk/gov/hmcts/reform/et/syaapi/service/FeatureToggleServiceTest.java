@@ -1,27 +1,57 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import com.launchdarkly.sdk.server.Components;
+import com.launchdarkly.sdk.server.LDClient;
+import com.launchdarkly.sdk.server.LDConfig;
+import com.launchdarkly.sdk.server.integrations.TestData;
+import com.launchdarkly.sdk.server.interfaces.FlagChangeEvent;
+import com.launchdarkly.sdk.server.interfaces.FlagChangeListener;
+import com.launchdarkly.sdk.server.interfaces.FlagTracker;
+import com.launchdarkly.sdk.server.interfaces.LDClientInterface;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.ecm.common.launchdarkly.FeatureToggleApi;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class FeatureToggleServiceTest {
 
+    private static final String ECC = "ecc";
+    private static final String MULTIPLES = "multiples";
+    private static final long TIMEOUT_MILLIS = 2000;
+
     @Mock
     private FeatureToggleApi featureToggleApi;
 
+    @Mock
+    private LDClientInterface ldClient;
+    @Mock
+    private FlagTracker flagTracker;
+    @Captor
+    private ArgumentCaptor<FlagChangeListener> flagChangeListener;
+    private MeterRegistry meterRegistry;
     private FeatureToggleService featureToggleService;
 
     @BeforeEach
     void setUp() {
-        featureToggleService = new FeatureToggleService(featureToggleApi);
+        meterRegistry = new SimpleMeterRegistry();
+        when(ldClient.getFlagTracker()).thenReturn(flagTracker);
+        featureToggleService = new FeatureToggleService(featureToggleApi, meterRegistry, ldClient);
+        verify(flagTracker).addFlagChangeListener(flagChangeListener.capture());
     }
 
     @ParameterizedTest
@@ -81,6 +111,77 @@ class FeatureToggleServiceTest {
         assertThat(featureToggleService.isAcasVetAndAcceptEnabled()).isEqualTo(toggleStat);
     }
 
+    @Test
+    void shouldEvaluateFlagOnceAndCountEachCheck() {
+        givenToggle(ECC, true);
+
+        assertThat(featureToggleService.isEccEnabled()).isTrue();
+        assertThat(featureToggleService.isEccEnabled()).isTrue();
+
+        verify(featureToggleApi, times(1)).isFeatureEnabled(ECC);
+        assertThat(meterRegistry.get(FeatureToggleService.EVALUATIONS_COUNTER).tag("flag", ECC).counter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpdateSnapshotWhenLaunchDarklyClientReportsFlagChange() {
+        when(featureToggleApi.isFeatureEnabled(ECC)).thenReturn(true, false);
+        assertThat(featureToggleService.isEccEnabled()).isTrue();
+
+        flagChangeListener.getValue().onFlagChange(new FlagChangeEvent(ECC));
+
+        assertThat(featureToggleService.isEccEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldUpdateSnapshotWhenFlagChangesInLaunchDarkly() throws Exception {
+        TestData testData = TestData.dataSource();
+        try (LDClient client = new LDClient(
+            "sdk-key", new LDConfig.Builder().dataSource(testData).events(Components.noEvents()).build())) {
+            FeatureToggleService service = new FeatureToggleService(featureToggleApi, meterRegistry, client);
+            when(featureToggleApi.isFeatureEnabled(ECC)).thenReturn(true, false);
+            assertThat(service.isEccEnabled()).isTrue();
+
+            testData.update(testData.flag(ECC).booleanFlag().variationForAll(false));
+
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (service.isEccEnabled() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(service.isEccEnabled()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldIgnoreChangeOfFlagNotChecked() {
+        flagChangeListener.getValue().onFlagChange(new FlagChangeEvent(ECC));
+
+        verify(featureToggleApi, never()).isFeatureEnabled(ECC);
+    }
+
+    @Test
+    void shouldKeepPreviousValueWhenChangedFlagCannotBeEvaluated() {
+        when(featureToggleApi.isFeatureEnabled(ECC)).thenReturn(true).thenThrow(new IllegalStateException("offline"));
+        assertThat(featureToggleService.isEccEnabled()).isTrue();
+
+        flagChangeListener.getValue().onFlagChange(new FlagChangeEvent(ECC));
+
+        assertThat(featureToggleService.isEccEnabled()).isTrue();
+    }
+
+    @Test
+    void shouldRefreshAllFlagsHeld() {
+        when(featureToggleApi.isFeatureEnabled(ECC)).thenReturn(false, true);
+        when(featureToggleApi.isFeatureEnabled(MULTIPLES)).thenReturn(true).thenThrow(new IllegalStateException());
+        assertThat(featureToggleService.isEccEnabled()).isFalse();
+        assertThat(featureToggleService.isMultiplesEnabled()).isTrue();
+
+        featureToggleService.refresh();
+
+        assertThat(featureToggleService.isEccEnabled()).isTrue();
+        assertThat(featureToggleService.isMultiplesEnabled()).isTrue();
+    }
+
     private void givenToggle(String feature, boolean state) {
         when(featureToggleApi.isFeatureEnabled(feature)).thenReturn(state);
     }
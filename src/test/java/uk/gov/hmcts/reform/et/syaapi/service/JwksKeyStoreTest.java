@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+
+import java.security.Key;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwksKeyStoreTest {
+
+    private static final String KEY_ID = "23456789";
+    private static final String UNREACHABLE_JWKS_URL = "http://localhost:5555/o/jwks";
+
+    private JwksKeyStore jwksKeyStore;
+
+    @BeforeEach
+    void setUp() {
+        jwksKeyStore = new JwksKeyStore(UNREACHABLE_JWKS_URL, 30_000, 100, 100);
+    }
+
+    @Test
+    void getKeyThrowsWhenKeyIdIsUnknown() {
+        assertThrows(InvalidTokenException.class, () -> jwksKeyStore.getKey(KEY_ID));
+    }
+
+    @Test
+    @SneakyThrows
+    void getKeyServesLastLoadedKeysWhenIdamIsUnavailable() {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        loadedKeys().set(Map.of(KEY_ID, rsaKey.toPublicKey()));
+
+        jwksKeyStore.refresh();
+
+        assertThat(jwksKeyStore.getKey(KEY_ID)).isEqualTo(rsaKey.toPublicKey());
+    }
+
+    @Test
+    @SneakyThrows
+    void getKeyDoesNotRefetchWithinMinimumInterval() {
+        long lastRefetch = System.currentTimeMillis();
+        ReflectionTestUtils.setField(jwksKeyStore, "lastRefetchMillis", lastRefetch);
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        loadedKeys().set(Map.of(KEY_ID, rsaKey.toPublicKey()));
+
+        assertThrows(InvalidTokenException.class, () -> jwksKeyStore.getKey("unknown"));
+        assertThat(ReflectionTestUtils.getField(jwksKeyStore, "lastRefetchMillis")).isEqualTo(lastRefetch);
+        assertThat(jwksKeyStore.getKey(KEY_ID)).isEqualTo(rsaKey.toPublicKey());
+    }
+
+    @SuppressWarnings("unchecked")
+    private AtomicReference<Map<String, Key>> loadedKeys() {
+        return (AtomicReference<Map<String, Key>>) ReflectionTestUtils.getField(jwksKeyStore, "keys");
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +20,6 @@ import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
 import uk.gov.hmcts.reform.et.syaapi.constants.ManageCaseRoleConstants;
 import uk.gov.hmcts.reform.et.syaapi.helper.CaseDetailsConverter;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseAssignmentResponse;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 
 import java.io.IOException;
 import java.util.List;
@@ -43,7 +43,7 @@ class ManageCaseRoleServiceProfessionalUserTest {
     @Mock
     private AuthTokenGenerator authTokenGenerator;
     @Mock
-    private IdamClient idamClient;
+    private UserInfoService userInfoService;
     @Mock
     private ET3Service et3Service;
     @Mock
@@ -75,12 +75,13 @@ class ManageCaseRoleServiceProfessionalUserTest {
         manageCaseRoleService = new ManageCaseRoleService(
             adminUserService,
             authTokenGenerator,
-            idamClient,
+            userInfoService,
             restTemplate,
             ccdApi,
             et3Service,
             caseService,
-            caseDetailsConverter
+            caseDetailsConverter,
+            new CaseTypeSearchService(new SimpleMeterRegistry(), 2, 10, 5000, 5000)
         );
         ReflectionTestUtils.setField(manageCaseRoleService, "ccdApiUrl", CCD_API_URL);
 
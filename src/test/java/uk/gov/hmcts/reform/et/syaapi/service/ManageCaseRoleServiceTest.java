@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.EqualsAndHashCode;
 import lombok.SneakyThrows;
 import org.apache.commons.collections4.CollectionUtils;
@@ -49,11 +50,12 @@ import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseAssignmentResponse;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.FindCaseForRoleModificationRequest;
+import uk.gov.hmcts.reform.et.syaapi.models.UserCasesPage;
 import uk.gov.hmcts.reform.et.syaapi.search.ElasticSearchQueryBuilder;
+import uk.gov.hmcts.reform.et.syaapi.search.UserCasesCursor;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ManageCaseRoleServiceUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.RemoteServiceUtil;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.io.IOException;
@@ -102,7 +104,7 @@ class ManageCaseRoleServiceTest {
     @Mock
     AuthTokenGenerator authTokenGenerator;
     @Mock
-    IdamClient idamClient;
+    UserInfoService userInfoService;
     @Mock
     ET3Service et3Service;
     @Mock
@@ -157,12 +159,14 @@ class ManageCaseRoleServiceTest {
         caseTestData = new CaseTestData();
         manageCaseRoleService = new ManageCaseRoleService(adminUserService,
                                                           authTokenGenerator,
-                                                          idamClient,
+                                                          userInfoService,
                                                           restTemplate,
                                                           ccdApi,
                                                           et3Service,
                                                           caseService,
-                                                          caseDetailsConverter);
+                                                          caseDetailsConverter,
+                                                          new CaseTypeSearchService(
+                                                              new SimpleMeterRegistry(), 2, 10, 5000, 5000));
         // Mock feature flag to be enabled for these tests (new behavior)
         // Using lenient() because not all tests call modifyUserCaseRoles
         userInfo = new CaseTestData().getUserInfo();
@@ -422,7 +426,7 @@ class ManageCaseRoleServiceTest {
         CaseDetails expectedCaseDetails = new CaseTestData().getCaseDetailsWithCaseData();
         setExpectedDetails(modifyCaseUserRolesRequest, modificationType, expectedCaseDetails);
         when(adminUserService.getAdminUserToken()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
             .thenReturn(UserInfo.builder()
                             .uid("123456789012345678901234567890")
                             .givenName("First")
@@ -449,7 +453,7 @@ class ManageCaseRoleServiceTest {
         CaseDetails expectedCaseDetails = new CaseTestData().getCaseDetailsWithCaseData();
         setExpectedDetails(modifyCaseUserRolesRequest, modificationType, expectedCaseDetails);
         when(adminUserService.getAdminUserToken()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
             .thenReturn(UserInfo.builder()
                             .uid("123456789012345678901234567890")
                             .givenName("First")
@@ -494,8 +498,8 @@ class ManageCaseRoleServiceTest {
                                                                  .id(Long.parseLong(CASE_SUBMISSION_REFERENCE))
                                                                  .state(TestConstants.TEST_CASE_STATE_ACCEPTED)
                                                                  .build())).total(1).build());
-        // Mock idamClient to return user info for the authorization check
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN))
+        // Mock userInfoService to return user info for the authorization check
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN))
             .thenReturn(UserInfo.builder().uid(DUMMY_USER_ID).build());
         // Mock restTemplate to return empty response (user is NOT the creator)
         when(restTemplate.postForObject(
@@ -542,8 +546,8 @@ class ManageCaseRoleServiceTest {
                                                                  .id(Long.parseLong(CASE_SUBMISSION_REFERENCE))
                                                                  .state(TestConstants.TEST_CASE_STATE_ACCEPTED)
                                                                  .build())).total(1).build());
-        // Mock idamClient to return user info for the authorization check
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN))
+        // Mock userInfoService to return user info for the authorization check
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN))
             .thenReturn(UserInfo.builder().uid(DUMMY_USER_ID).build());
         // Mock restTemplate to return empty response (user is NOT the creator)
         when(restTemplate.postForObject(
@@ -640,7 +644,7 @@ class ManageCaseRoleServiceTest {
             .build();
         ModifyCaseUserRolesRequest modifyCaseUserRolesRequest = ModifyCaseUserRolesRequest.builder()
             .modifyCaseUserRoles(List.of(modifyCaseUserRoleWithoutUserId, modifyCaseUserRoleWithUserId)).build();
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         ModifyCaseUserRolesRequest  actualModifyCaseUserRolesRequest =
             manageCaseRoleService.generateModifyCaseUserRolesRequest(
                 DUMMY_AUTHORISATION_TOKEN, modifyCaseUserRolesRequest);
@@ -662,7 +666,7 @@ class ManageCaseRoleServiceTest {
         CaseAssignedUserRolesResponse expectedCaseAssignedUserRolesResponse = CaseAssignedUserRolesResponse.builder()
             .caseAssignedUserRoles(List.of(caseAssignmentUserRole))
             .build();
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         when(restTemplate.exchange(
             ArgumentMatchers.anyString(),
             eq(HttpMethod.GET),
@@ -681,7 +685,7 @@ class ManageCaseRoleServiceTest {
     @SneakyThrows
     void theGetCaseUserRolesByCaseAndUserIdsAacThrowsExceptionWhenCaseDetailsEmpty() {
         ReflectionTestUtils.setField(manageCaseRoleService, AAC_URL_PARAMETER_NAME, AAC_URL_PARAMETER_TEST_VALUE);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         String message = assertThrows(
             ManageCaseRoleException.class,
             () -> manageCaseRoleService
@@ -702,7 +706,7 @@ class ManageCaseRoleServiceTest {
         CaseAssignedUserRolesResponse expectedCaseAssignedUserRolesResponse = CaseAssignedUserRolesResponse.builder()
             .caseAssignedUserRoles(List.of(caseAssignmentUserRole))
             .build();
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         when(restTemplate.postForObject(
             eq(CCD_API_URL_PARAMETER_TEST_VALUE
                    + CASE_USER_ROLE_CCD_API_POST_METHOD_NAME),
@@ -818,7 +822,7 @@ class ManageCaseRoleServiceTest {
                                      CCD_API_URL_PARAMETER_NAME,
                                      CCD_API_URL_PARAMETER_TEST_VALUE);
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
-        when(idamClient.getUserInfo(ArgumentMatchers.anyString())).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(ArgumentMatchers.anyString())).thenReturn(userInfo);
         when(ccdApi.getCase(
             TEST_SERVICE_AUTH_TOKEN,
             TEST_SERVICE_AUTH_TOKEN,
@@ -935,7 +939,7 @@ class ManageCaseRoleServiceTest {
             eq(CASE_ID),
             eq(UPDATE_CASE_SUBMITTED.toString())
         )).thenReturn(startEventResponse);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
             .thenReturn(UserInfo.builder().uid(USER_ID).sub("test@email.com").build());
         when(caseDetailsConverter.caseDataContent(eq(startEventResponse), any(CaseData.class)))
             .thenReturn(null);
@@ -998,7 +1002,7 @@ class ManageCaseRoleServiceTest {
         CaseDetails expectedCaseDetails = new CaseTestData().getCaseDetailsWithCaseData();
         when(ccdApi.getCase(DUMMY_AUTHORISATION_TOKEN, TEST_SERVICE_AUTH_TOKEN, CASE_ID))
             .thenReturn(expectedCaseDetails);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
             .thenReturn(UserInfo.builder().uid(USER_ID).sub("test@email.com").build());
 
         ModifyCaseUserRolesRequest modifyCaseUserRolesRequest = ModifyCaseUserRolesRequest
@@ -1024,7 +1028,7 @@ class ManageCaseRoleServiceTest {
         List<CaseDetails> allCaseDetails = caseTestData.getSearchResultRequestCaseDataListScotland().getCases();
         allCaseDetails.addAll(caseTestData.getSearchResultRequestCaseDataListEngland().getCases());
         when(caseService.getAllUserCases(TEST_SERVICE_AUTH_TOKEN)).thenReturn(allCaseDetails);
-        when(idamClient.getUserInfo(ArgumentMatchers.anyString())).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(ArgumentMatchers.anyString())).thenReturn(userInfo);
         List<CaseDetails> expectedCaseDetails = caseTestData.getExpectedCaseDataListCombined();
 
         when(restTemplate.postForObject(
@@ -1050,6 +1054,36 @@ class ManageCaseRoleServiceTest {
             .hasSize(expectedCaseDetails.size()).hasSameElementsAs(expectedCaseDetails);
     }
 
+    @Test
+    @SneakyThrows
+    void shouldGetPageOfUserCasesAndKeepNextCursor() {
+        ReflectionTestUtils.setField(manageCaseRoleService,
+                                     CCD_API_URL_PARAMETER_NAME,
+                                     CCD_API_URL_PARAMETER_TEST_VALUE);
+        when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
+        List<CaseDetails> allCaseDetails = caseTestData.getSearchResultRequestCaseDataListScotland().getCases();
+        allCaseDetails.addAll(caseTestData.getSearchResultRequestCaseDataListEngland().getCases());
+        UserCasesCursor cursor = new UserCasesCursor(SCOTLAND_CASE_TYPE, 1L);
+        String nextCursor = new UserCasesCursor(SCOTLAND_CASE_TYPE, 2L).encode();
+        when(caseService.getUserCasesPage(TEST_SERVICE_AUTH_TOKEN, cursor, List.of("claimant")))
+            .thenReturn(UserCasesPage.builder().cases(allCaseDetails).nextCursor(nextCursor).build());
+        when(userInfoService.getUserInfo(ArgumentMatchers.anyString())).thenReturn(userInfo);
+        when(restTemplate.postForObject(
+            eq(CCD_API_URL_PARAMETER_TEST_VALUE
+                   + CASE_USER_ROLE_CCD_API_POST_METHOD_NAME),
+            any(HttpEntity.class),
+            eq(CaseAssignedUserRolesResponse.class)))
+            .thenReturn(expectedCaseAssignedUserRolesResponseCreator);
+
+        UserCasesPage userCasesPage = manageCaseRoleService.getUserCasesPageByCaseUserRole(
+            TEST_SERVICE_AUTH_TOKEN, CASE_USER_ROLE_CREATOR, cursor, List.of("claimant"));
+
+        List<CaseDetails> expectedCaseDetails = caseTestData.getExpectedCaseDataListCombined();
+        assertThat(userCasesPage.getCases())
+            .hasSize(expectedCaseDetails.size()).hasSameElementsAs(expectedCaseDetails);
+        assertThat(userCasesPage.getNextCursor()).isEqualTo(nextCursor);
+    }
+
     @Test
     void theRemoveClaimantRepresentativeFromCaseData() {
         CaseDetails caseDetails = new CaseTestData().getCaseDetailsWithCaseData();
@@ -1077,7 +1111,7 @@ class ManageCaseRoleServiceTest {
             null,
             caseDetails.getCaseTypeId()
         )).thenReturn(caseDetails);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
         when(authTokenGenerator.generate()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
         assertDoesNotThrow(() -> manageCaseRoleService.removeClaimantRepresentativeFromCaseData(
             DUMMY_AUTHORISATION_TOKEN, caseDetails));
@@ -1197,7 +1231,7 @@ class ManageCaseRoleServiceTest {
         CaseDetails caseDetails = CaseDetails.builder().id(TEST_CASE_ID_LONG)
             .data(new CaseTestData().getCaseDetails().getData()).build();
         when(adminUserService.getAdminUserToken()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
         when(ccdApi.getCase(DUMMY_AUTHORISATION_TOKEN, DUMMY_AUTHORISATION_TOKEN, TEST_CASE_ID_STRING))
             .thenReturn(caseDetails);
         CaseUserAssignmentData caseUserAssignmentData = CaseUserAssignmentData.builder()
@@ -1237,7 +1271,7 @@ class ManageCaseRoleServiceTest {
             null,
             caseDetails.getCaseTypeId()
         )).thenReturn(caseDetails);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
         when(authTokenGenerator.generate()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
         assertDoesNotThrow(() -> manageCaseRoleService.revokeClaimantSolicitorRole(
             DUMMY_AUTHORISATION_TOKEN, TEST_CASE_ID_STRING));
@@ -1270,7 +1304,7 @@ class ManageCaseRoleServiceTest {
         caseData.setRepCollection(List.of(RepresentedTypeRItem.builder().value(
             RepresentedTypeR.builder().respondentId(USER_ID).build()).build()));
         caseDetails.setData(EmployeeObjectMapper.mapCaseDataToLinkedHashMap(caseData));
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         when(authTokenGenerator.generate()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
         StartEventResponse startEventResponse = StartEventResponse.builder()
             .caseDetails(caseDetails).eventId(UPDATE_CASE_SUBMITTED.name()).token(DUMMY_AUTHORISATION_TOKEN).build();
@@ -1333,7 +1367,7 @@ class ManageCaseRoleServiceTest {
             NoticeOfChangeAnswers.builder().respondentName(TEST_RESPONDENT_ORGANISATION_NAME).build());
         caseDetails.setData(EmployeeObjectMapper.mapCaseDataToLinkedHashMap(caseData));
         when(authTokenGenerator.generate()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(new CaseTestData().getUserInfo());
         when(ccdApi.getCase(DUMMY_AUTHORISATION_TOKEN, DUMMY_AUTHORISATION_TOKEN, TEST_CASE_ID_STRING))
             .thenReturn(caseDetails);
         CaseUserAssignmentData caseUserAssignmentData = CaseUserAssignmentData.builder()
@@ -1561,7 +1595,7 @@ class ManageCaseRoleServiceTest {
         when(ccdApi.searchCases(TEST_SERVICE_AUTH_TOKEN, TEST_SERVICE_AUTH_TOKEN,
                                 SCOTLAND_CASE_TYPE, elasticSearchQuery))
             .thenReturn(SearchResult.builder().build());
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN))
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN))
             .thenReturn(UserInfo.builder().uid(DUMMY_USER_ID).build());
         when(restTemplate.postForObject(
             eq(CCD_API_URL_PARAMETER_TEST_VALUE + CASE_USER_ROLE_CCD_API_POST_METHOD_NAME),
@@ -1622,7 +1656,7 @@ class ManageCaseRoleServiceTest {
                 HttpStatus.OK
             ));
         when(ccdApi.getCase(DUMMY_AUTHORISATION_TOKEN, TEST_SERVICE_AUTH_TOKEN, CASE_ID)).thenReturn(caseDetails);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
             .thenReturn(UserInfo.builder().uid(USER_ID).sub("test@email.com").build());
         when(ccdApi.startEventForCaseWorker(
             eq(DUMMY_AUTHORISATION_TOKEN),
@@ -1670,7 +1704,7 @@ class ManageCaseRoleServiceTest {
                 HttpStatus.OK
             ));
         when(ccdApi.getCase(DUMMY_AUTHORISATION_TOKEN, TEST_SERVICE_AUTH_TOKEN, CASE_ID)).thenReturn(caseDetails);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN))
             .thenReturn(UserInfo.builder().uid(USER_ID).sub("test@email.com").build());
         when(ccdApi.startEventForCaseWorker(
             eq(DUMMY_AUTHORISATION_TOKEN),
@@ -1721,7 +1755,7 @@ class ManageCaseRoleServiceTest {
     @Test
     void getCaseUserRolesByCaseAndUserIdsAac_shouldPropagateIoExceptionFromHeaderCreation() {
         ReflectionTestUtils.setField(manageCaseRoleService, AAC_URL_PARAMETER_NAME, AAC_URL_PARAMETER_TEST_VALUE);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
 
         try (MockedStatic<RemoteServiceUtil> remoteServiceUtil = mockStatic(RemoteServiceUtil.class)) {
@@ -1744,7 +1778,7 @@ class ManageCaseRoleServiceTest {
     void getCaseUserRolesByCaseAndUserIdsCcd_shouldPropagateIoExceptionFromHeaderCreation() {
         ReflectionTestUtils.setField(manageCaseRoleService, CCD_API_URL_PARAMETER_NAME,
                                      CCD_API_URL_PARAMETER_TEST_VALUE);
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         when(authTokenGenerator.generate()).thenReturn(TEST_SERVICE_AUTH_TOKEN);
 
         try (MockedStatic<RemoteServiceUtil> remoteServiceUtil = mockStatic(RemoteServiceUtil.class)) {
@@ -1777,7 +1811,7 @@ class ManageCaseRoleServiceTest {
             .token(DUMMY_AUTHORISATION_TOKEN)
             .build();
 
-        when(idamClient.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(DUMMY_AUTHORISATION_TOKEN)).thenReturn(userInfo);
         when(authTokenGenerator.generate()).thenReturn(DUMMY_AUTHORISATION_TOKEN);
         when(ccdApi.startEventForCitizen(
             DUMMY_AUTHORISATION_TOKEN,
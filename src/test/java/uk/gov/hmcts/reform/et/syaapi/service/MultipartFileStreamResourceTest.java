@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultipartFileStreamResourceTest {
+
+    private static final String CONTENT = "Hello, World!";
+    private static final MockMultipartFile FILE = new MockMultipartFile(
+        "document_upload", "hello.txt", MediaType.TEXT_PLAIN_VALUE, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void shouldDescribeFileWithoutReadingIt() {
+        LongAdder bytesRead = new LongAdder();
+        MultipartFileStreamResource resource = new MultipartFileStreamResource(FILE, bytesRead);
+
+        assertThat(resource.getFilename()).isEqualTo("hello.txt");
+        assertThat(resource.contentLength()).isEqualTo(CONTENT.length());
+        assertThat(resource.exists()).isTrue();
+        assertThat(bytesRead.sum()).isZero();
+    }
+
+    @Test
+    void shouldCountBytesEachTimeContentIsRead() throws IOException {
+        LongAdder bytesRead = new LongAdder();
+        MultipartFileStreamResource resource = new MultipartFileStreamResource(FILE, bytesRead);
+
+        try (InputStream in = resource.getInputStream()) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            assertThat(in.read()).isEqualTo('H');
+        }
+
+        assertThat(bytesRead.sum()).isEqualTo(CONTENT.length() + 1L);
+    }
+}
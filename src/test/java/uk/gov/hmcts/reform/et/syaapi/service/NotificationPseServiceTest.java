@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
 import uk.gov.hmcts.et.common.model.ccd.types.Organisation;
 import uk.gov.hmcts.et.common.model.ccd.types.RepresentedTypeR;
 import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailDispatchProperties;
 import uk.gov.hmcts.reform.et.syaapi.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.et.syaapi.service.NotificationService.CoreEmailDetails;
 import uk.gov.service.notify.NotificationClient;
@@ -53,13 +55,16 @@ class NotificationPseServiceTest {
 
     @BeforeEach
     void before() {
+        EmailDispatchService emailDispatchService =
+            new EmailDispatchService(notificationClient, new EmailDispatchProperties(), new SimpleMeterRegistry());
         NotificationService notificationService = new NotificationService(
             notificationClient,
             notificationsProperties,
-            featureToggleService
+            featureToggleService,
+            emailDispatchService
         );
         notificationPseService = new NotificationPseService(
-            notificationClient,
+            emailDispatchService,
             notificationsProperties,
             notificationService
         );
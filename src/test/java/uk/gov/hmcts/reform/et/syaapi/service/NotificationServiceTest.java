@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +40,7 @@ import uk.gov.hmcts.et.common.model.ccd.types.citizenhub.ClaimantTse;
 import uk.gov.hmcts.reform.et.syaapi.exception.NotificationException;
 import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
 import uk.gov.hmcts.reform.et.syaapi.models.CaseRequest;
+import uk.gov.hmcts.reform.et.syaapi.notification.EmailDispatchProperties;
 import uk.gov.hmcts.reform.et.syaapi.notification.NotificationsProperties;
 import uk.gov.hmcts.reform.et.syaapi.service.NotificationService.CoreEmailDetails;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.GenericServiceUtil;
@@ -135,7 +137,8 @@ class NotificationServiceTest {
         notificationClient = mock(NotificationClient.class);
         notificationsProperties = mock(NotificationsProperties.class);
         notificationService = new NotificationService(
-            notificationClient, notificationsProperties, featureToggleService);
+            notificationClient, notificationsProperties, featureToggleService,
+            new EmailDispatchService(notificationClient, new EmailDispatchProperties(), new SimpleMeterRegistry()));
 
         given(notificationClient.sendEmail(anyString(), anyString(), any(), anyString()))
             .willReturn(TestConstants.INPUT_SEND_EMAIL_RESPONSE);
@@ -253,7 +256,8 @@ class NotificationServiceTest {
     private SendEmailResponse mockSendEmailResponse() {
         notificationClient = mock(NotificationClient.class);
         notificationService = new NotificationService(
-            notificationClient, notificationsProperties, featureToggleService);
+            notificationClient, notificationsProperties, featureToggleService,
+            new EmailDispatchService(notificationClient, new EmailDispatchProperties(), new SimpleMeterRegistry()));
         doReturn(TestConstants.INPUT_SEND_EMAIL_RESPONSE).when(notificationClient)
             .sendEmail(TestConstants.TEST_TEMPLATE_API_KEY,
                        TestConstants.TEST_EMAIL, parameters, TestConstants.REFERENCE_STRING);
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import uk.gov.hmcts.reform.et.syaapi.config.ResilienceConfiguration;
+import uk.gov.hmcts.reform.et.syaapi.enums.Downstream;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilienceServiceTest {
+
+    private static final String OK = "ok";
+
+    private final ResilienceConfiguration configuration = new ResilienceConfiguration();
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ResilienceService resilienceService;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = configuration.circuitBreakerRegistry(50, 100, 60_000, 4, 4, 60_000, 1);
+        resilienceService = new ResilienceService(
+            configuration.bulkheadRegistry(new String[]{"tornado=1"}, 5, 0), circuitBreakerRegistry, 1, 1.5, 2);
+    }
+
+    @Test
+    void callShouldReturnResultOfCall() {
+        assertThat(resilienceService.call(Downstream.CDAM, () -> OK)).isEqualTo(OK);
+        assertThat(resilienceService.getState(Downstream.CDAM)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void callShouldBeRejectedWhenBulkheadIsFull() {
+        assertThrows(BulkheadFullException.class, () -> resilienceService.call(
+            Downstream.TORNADO, () -> resilienceService.call(Downstream.TORNADO, () -> OK)));
+    }
+
+    @Test
+    void bulkheadShouldOnlyLimitItsOwnDownstream() {
+        assertThat(resilienceService.call(
+            Downstream.TORNADO, () -> resilienceService.call(Downstream.ACAS, () -> OK))).isEqualTo(OK);
+    }
+
+    @Test
+    void circuitShouldOpenAfterServerErrorsAndRejectCalls() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpServerErrorException.class, () -> resilienceService.call(Downstream.ACAS, () -> {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }));
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(resilienceService.getState(Downstream.ACAS)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThrows(CallNotPermittedException.class,
+                     () -> resilienceService.call(Downstream.ACAS, calls::incrementAndGet));
+        assertThat(calls).hasValue(0);
+        assertThat(resilienceService.getState(Downstream.CDAM)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void circuitShouldRecordErrorOfCallMadeWhileHalfOpen() {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(Downstream.ACAS.getName());
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+
+        assertThrows(NoClassDefFoundError.class, () -> resilienceService.call(Downstream.ACAS, () -> {
+            throw new NoClassDefFoundError("uk/gov/hmcts/Missing");
+        }));
+
+        assertThat(resilienceService.getState(Downstream.ACAS)).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void circuitShouldStayClosedAfterClientErrors() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class, () -> resilienceService.call(Downstream.ACAS, () -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }));
+        }
+
+        assertThat(resilienceService.getState(Downstream.ACAS)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void retryTemplateShouldRetryListedExceptionsUpToMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ResourceAccessException.class, () -> resilienceService
+            .retryTemplate(3, List.of(ResourceAccessException.class))
+            .execute(context -> {
+                attempts.incrementAndGet();
+                throw new ResourceAccessException("Read timed out");
+            }));
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void retryTemplateShouldNotRetryOtherExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(CallNotPermittedException.class, () -> resilienceService
+            .retryTemplate(3, List.of(ResourceAccessException.class))
+            .execute(context -> {
+                attempts.incrementAndGet();
+                throw CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("acas"));
+            }));
+        assertThat(attempts).hasValue(1);
+    }
+}
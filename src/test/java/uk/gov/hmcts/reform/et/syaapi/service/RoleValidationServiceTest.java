@@ -6,7 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.util.Arrays;
@@ -20,7 +19,7 @@ import static org.mockito.Mockito.when;
 class RoleValidationServiceTest {
 
     @Mock
-    private IdamClient idamClient;
+    private UserInfoService userInfoService;
 
     @InjectMocks
     private RoleValidationService roleValidationService;
@@ -47,7 +46,7 @@ class RoleValidationServiceTest {
             .roles(Arrays.asList(CASEWORKER_ROLE, OTHER_ROLE))
             .build();
 
-        when(idamClient.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
 
         List<String> requiredRoles = Arrays.asList(CASEWORKER_ROLE, ACAS_ROLE);
         boolean result = roleValidationService.hasAnyRole(AUTH_TOKEN, requiredRoles);
@@ -62,7 +61,7 @@ class RoleValidationServiceTest {
             .roles(Arrays.asList(ACAS_ROLE, OTHER_ROLE))
             .build();
 
-        when(idamClient.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
 
         List<String> requiredRoles = Arrays.asList(CASEWORKER_ROLE, ACAS_ROLE);
         boolean result = roleValidationService.hasAnyRole(AUTH_TOKEN, requiredRoles);
@@ -77,7 +76,7 @@ class RoleValidationServiceTest {
             .roles(Collections.singletonList(OTHER_ROLE))
             .build();
 
-        when(idamClient.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
 
         List<String> requiredRoles = Arrays.asList(CASEWORKER_ROLE, ACAS_ROLE);
         boolean result = roleValidationService.hasAnyRole(AUTH_TOKEN, requiredRoles);
@@ -92,7 +91,7 @@ class RoleValidationServiceTest {
             .roles(Collections.emptyList())
             .build();
 
-        when(idamClient.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
 
         List<String> requiredRoles = Arrays.asList(CASEWORKER_ROLE, ACAS_ROLE);
         boolean result = roleValidationService.hasAnyRole(AUTH_TOKEN, requiredRoles);
@@ -107,7 +106,7 @@ class RoleValidationServiceTest {
             .roles(null)
             .build();
 
-        when(idamClient.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
+        when(userInfoService.getUserInfo(AUTH_TOKEN)).thenReturn(userInfo);
 
         List<String> requiredRoles = Arrays.asList(CASEWORKER_ROLE, ACAS_ROLE);
         boolean result = roleValidationService.hasAnyRole(AUTH_TOKEN, requiredRoles);
@@ -117,7 +116,7 @@ class RoleValidationServiceTest {
 
     @Test
     void hasAnyRole_shouldReturnFalse_whenExceptionOccurs() {
-        when(idamClient.getUserInfo(AUTH_TOKEN)).thenThrow(new RuntimeException("IDAM error"));
+        when(userInfoService.getUserInfo(AUTH_TOKEN)).thenThrow(new RuntimeException("IDAM error"));
 
         List<String> requiredRoles = Arrays.asList(CASEWORKER_ROLE, ACAS_ROLE);
         boolean result = roleValidationService.hasAnyRole(AUTH_TOKEN, requiredRoles);
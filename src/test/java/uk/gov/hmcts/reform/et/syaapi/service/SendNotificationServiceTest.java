@@ -21,7 +21,6 @@ import uk.gov.hmcts.reform.et.syaapi.model.TestData;
 import uk.gov.hmcts.reform.et.syaapi.models.SendNotificationAddResponseRequest;
 import uk.gov.hmcts.reform.et.syaapi.models.SendNotificationStateUpdateRequest;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ResourceLoader;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.time.LocalDateTime;
@@ -69,7 +68,7 @@ class SendNotificationServiceTest {
     @Mock
     private FeatureToggleService featureToggleService;
     @Mock
-    IdamClient idamClient;
+    UserInfoService userInfoService;
     @InjectMocks
     private SendNotificationService sendNotificationService;
 
@@ -227,7 +226,7 @@ class SendNotificationServiceTest {
 
     @Test
     void shouldUpdateAddResponseSendNotification() {
-        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(
+        when(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(
             UserInfo.builder()
                 .name(AUTHOR)
                 .build());
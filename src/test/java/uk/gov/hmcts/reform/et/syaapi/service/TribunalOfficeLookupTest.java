@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.dwp.regex.InvalidPostcodeException;
+import uk.gov.hmcts.ecm.common.configuration.PostcodeToOfficeMappings;
+import uk.gov.hmcts.ecm.common.model.helper.TribunalOffice;
+import uk.gov.hmcts.ecm.common.service.PostcodeToOfficeService;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+@EnableConfigurationProperties({PostcodeToOfficeMappings.class})
+class TribunalOfficeLookupTest {
+
+    @Autowired
+    private PostcodeToOfficeMappings postcodeToOfficeMappings;
+    private TribunalOfficeLookup tribunalOfficeLookup;
+
+    @BeforeEach
+    void beforeEach() {
+        PostcodeToOfficeMappings mappings = mock(PostcodeToOfficeMappings.class);
+        when(mappings.getPostcodes()).thenReturn(Map.of(
+            "EC1A", TribunalOffice.LEEDS.getOfficeName(),
+            "EC1", TribunalOffice.MANCHESTER.getOfficeName(),
+            "EC", TribunalOffice.BRISTOL.getOfficeName(),
+            "EH", TribunalOffice.EDINBURGH.getOfficeName(),
+            "EH10", TribunalOffice.DUNDEE.getOfficeName(),
+            "g", TribunalOffice.GLASGOW.getOfficeName().toUpperCase(),
+            "DD", "Unknown office"
+        ));
+        tribunalOfficeLookup = new TribunalOfficeLookup(mappings);
+    }
+
+    @ParameterizedTest
+    @MethodSource("postcodesWithOffice")
+    void shouldFindMostSpecificOfficeOfPostcode(String postcode, TribunalOffice office) {
+        TribunalOfficeLookup.Result result = tribunalOfficeLookup.lookup(postcode);
+
+        assertThat(result.status()).isEqualTo(TribunalOfficeLookup.Status.FOUND);
+        assertThat(result.tribunalOffice()).contains(office);
+    }
+
+    private static Stream<Arguments> postcodesWithOffice() {
+        return Stream.of(
+            Arguments.of("EC1A 1BB", TribunalOffice.LEEDS),
+            Arguments.of("ec1v 9hx", TribunalOffice.MANCHESTER),
+            Arguments.of("EC2A 4NE", TribunalOffice.BRISTOL),
+            Arguments.of("EH10 4AA", TribunalOffice.DUNDEE),
+            Arguments.of("EH1 1AA", TribunalOffice.EDINBURGH),
+            Arguments.of("EH11 1AA", TribunalOffice.EDINBURGH),
+            Arguments.of("G1 1AA", TribunalOffice.GLASGOW),
+            Arguments.of(" G11AA ", TribunalOffice.GLASGOW)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"DD1 1AA", "AB10 1AA"})
+    void shouldReturnNotFoundWhenNoOfficeIsMapped(String postcode) {
+        TribunalOfficeLookup.Result result = tribunalOfficeLookup.lookup(postcode);
+
+        assertThat(result).isEqualTo(TribunalOfficeLookup.Result.NOT_FOUND);
+        assertThat(result.tribunalOffice()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"not a postcode", "EC1A", "1EC 1AA", "EC1AA 1BB", "EC1-1BB", "G1 1A1", "G1A 1AA1",
+        "ÉC1A 1BB"})
+    void shouldReturnInvalidPostcodeWhenPostcodeIsInvalid(String postcode) {
+        TribunalOfficeLookup.Result result = tribunalOfficeLookup.lookup(postcode);
+
+        assertThat(result).isEqualTo(TribunalOfficeLookup.Result.INVALID_POSTCODE);
+        assertThat(result.tribunalOffice()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"EC1A 1BB", "W1A 0AX", "SW1A 1AA", "BD1 1AA", "M1 1AE", "LA1 1AA", "LA23 1AA", "LA9 9ZZ",
+        "EH10 4AA", "EH1 1AA", "G1 1AA", "AB10 1AA", "ZE1 0AA", "eh10 4aa", "Eh10 4aA", "EH104AA", " EH10  4AA ",
+        "g11aa", "XX1 1AA", "QQ1 1AA", "EC1A", "LA1", "G1", "", "not a postcode", "G1 1A1"})
+    void shouldFindSameOfficeAsPostcodeToOfficeServiceWithRealMappings(String postcode) {
+        Optional<TribunalOffice> expectedOffice;
+        TribunalOfficeLookup.Status expectedStatus;
+        try {
+            expectedOffice = new PostcodeToOfficeService(postcodeToOfficeMappings)
+                .getTribunalOfficeFromPostcode(postcode);
+            expectedStatus = expectedOffice.isPresent()
+                ? TribunalOfficeLookup.Status.FOUND
+                : TribunalOfficeLookup.Status.NOT_FOUND;
+        } catch (InvalidPostcodeException e) {
+            expectedOffice = Optional.empty();
+            expectedStatus = TribunalOfficeLookup.Status.INVALID_POSTCODE;
+        }
+
+        TribunalOfficeLookup.Result result = new TribunalOfficeLookup(postcodeToOfficeMappings).lookup(postcode);
+
+        assertThat(result.status()).isEqualTo(expectedStatus);
+        assertThat(result.tribunalOffice()).isEqualTo(expectedOffice);
+    }
+
+    @Test
+    void shouldReuseResultOfEachOffice() {
+        assertThat(tribunalOfficeLookup.lookup("G1 1AA")).isSameAs(tribunalOfficeLookup.lookup("G2 2BB"));
+    }
+}
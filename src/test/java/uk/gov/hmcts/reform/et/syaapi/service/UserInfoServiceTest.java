@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.TEST_SERVICE_AUTH_TOKEN;
+
+@ExtendWith(MockitoExtension.class)
+class UserInfoServiceTest {
+
+    private static final String OTHER_TOKEN = "Bearer other";
+
+    @Mock
+    private IdamClient idamClient;
+
+    private final UserInfo userInfo = UserInfo.builder().uid("user-123").build();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getUserInfoCachesResultForTtl() {
+        UserInfoService userInfoService = new UserInfoService(idamClient, new SimpleMeterRegistry(), 10, 60_000);
+        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(userInfo);
+
+        assertThat(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).isEqualTo(userInfo);
+        assertThat(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).isEqualTo(userInfo);
+        verify(idamClient, times(1)).getUserInfo(TEST_SERVICE_AUTH_TOKEN);
+    }
+
+    @Test
+    void getUserInfoKeepsTokensSeparate() {
+        UserInfoService userInfoService = new UserInfoService(idamClient, new SimpleMeterRegistry(), 10, 60_000);
+        UserInfo otherUserInfo = UserInfo.builder().uid("user-456").build();
+        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(userInfo);
+        when(idamClient.getUserInfo(OTHER_TOKEN)).thenReturn(otherUserInfo);
+
+        assertThat(userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).isEqualTo(userInfo);
+        assertThat(userInfoService.getUserInfo(OTHER_TOKEN)).isEqualTo(otherUserInfo);
+    }
+
+    @Test
+    void getUserInfoCallsIdamEachTimeWhenTtlIsZeroOutsideRequest() {
+        UserInfoService userInfoService = new UserInfoService(idamClient, new SimpleMeterRegistry(), 10, 0);
+        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(userInfo);
+
+        userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN);
+        userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN);
+        verify(idamClient, times(2)).getUserInfo(TEST_SERVICE_AUTH_TOKEN);
+    }
+
+    @Test
+    void getUserInfoMemoizesWithinRequestWhenTtlIsZero() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        UserInfoService userInfoService = new UserInfoService(idamClient, new SimpleMeterRegistry(), 10, 0);
+        when(idamClient.getUserInfo(TEST_SERVICE_AUTH_TOKEN)).thenReturn(userInfo);
+
+        userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN);
+        userInfoService.getUserInfo(TEST_SERVICE_AUTH_TOKEN);
+        verify(idamClient, times(1)).getUserInfo(TEST_SERVICE_AUTH_TOKEN);
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.et.syaapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(meterRegistry, 10, 60_000);
+    }
+
+    @Test
+    void isVerifiedReturnsTrueForCachedToken() {
+        verifiedTokenCache.putVerified(TOKEN, new Date(System.currentTimeMillis() + 60_000));
+
+        assertThat(verifiedTokenCache.isVerified(TOKEN)).isTrue();
+        assertThat(verifiedTokenCache.isVerified("other")).isFalse();
+    }
+
+    @Test
+    void isVerifiedReturnsFalseOnceTokenHasExpired() {
+        verifiedTokenCache.putVerified(TOKEN, new Date(System.currentTimeMillis() - 1));
+
+        assertThat(verifiedTokenCache.isVerified(TOKEN)).isFalse();
+    }
+
+    @Test
+    void isVerifiedReturnsFalseAfterTtl() {
+        verifiedTokenCache = new VerifiedTokenCache(meterRegistry, 10, 0);
+        verifiedTokenCache.putVerified(TOKEN, null);
+
+        assertThat(verifiedTokenCache.isVerified(TOKEN)).isFalse();
+    }
+
+    @Test
+    void hitsAndMissesArePublished() {
+        verifiedTokenCache.putVerified(TOKEN, null);
+        verifiedTokenCache.isVerified(TOKEN);
+        verifiedTokenCache.isVerified("other");
+
+        assertThat(meterRegistry.get("cache.gets")
+                       .tag("cache", VerifiedTokenCache.CACHE_NAME)
+                       .tag("result", "hit")
+                       .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets")
+                       .tag("cache", VerifiedTokenCache.CACHE_NAME)
+                       .tag("result", "miss")
+                       .functionCounter().count()).isEqualTo(1.0);
+    }
+}
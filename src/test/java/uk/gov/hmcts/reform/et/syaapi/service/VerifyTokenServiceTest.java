@@ -1,31 +1,50 @@
 package uk.gov.hmcts.reform.et.syaapi.service;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class VerifyTokenServiceTest {
 
+    private static final String KEY_ID = "23456789";
+
+    @Mock
+    private JwksKeyStore jwksKeyStore;
 
-    @InjectMocks
     private VerifyTokenService verifyTokenService;
 
     @BeforeEach
     public void setUp() {
-        verifyTokenService = new VerifyTokenService();
-        ReflectionTestUtils.setField(verifyTokenService, "idamJwkUrl", "http://localhost:5555/o/jwks");
+        verifyTokenService = new VerifyTokenService(
+            jwksKeyStore, new VerifiedTokenCache(new SimpleMeterRegistry(), 100, 60_000));
     }
 
     @Test
     @SneakyThrows
     void verifyTokenSignature() {
+        when(jwksKeyStore.getKey(any())).thenThrow(new InvalidTokenException("JWK does not exist in the key set"));
         assertFalse(verifyTokenService.verifyTokenSignature(
             "Bearer eyJraWQiOiIyMzQ1Njc4OSIsImFsZyI6IlJTMjU2In0."
                 + "eyJzdWIiOiJDQ0RfU3R1YiIsImlzcyI6Imh0dHA6XC9cL2ZyLWFtOjgwODBcL29wZW5hbVwvb2F1dGgyXC9obWN0cyIsIn"
@@ -35,4 +54,48 @@ class VerifyTokenServiceTest {
                 + "FK52R1CXVCHIa-aPmW7vCkucLxKMr8ktyd5NFnAgNo-XqXMmnAmYp-MYf_-6SHaPLsDsHqO18F68-VA2Rj2WG3S58u6XwvRYJ3"
                 + "28R9yqHZVo_fojRY9pRhFzlVr1Yy9FYOg"));
     }
+
+    @Test
+    @SneakyThrows
+    void verifyTokenSignatureWithKnownKey() {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        when(jwksKeyStore.getKey(KEY_ID)).thenReturn(rsaKey.toPublicKey());
+
+        assertTrue(verifyTokenService.verifyTokenSignature("Bearer " + signedToken(rsaKey)));
+    }
+
+    @Test
+    @SneakyThrows
+    void verifyTokenSignatureWithWrongKey() {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        RSAKey otherKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        when(jwksKeyStore.getKey(KEY_ID)).thenReturn(otherKey.toPublicKey());
+
+        assertFalse(verifyTokenService.verifyTokenSignature("Bearer " + signedToken(rsaKey)));
+    }
+
+    @Test
+    @SneakyThrows
+    void verifyTokenSignatureUsesCacheForRepeatedToken() {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        when(jwksKeyStore.getKey(KEY_ID)).thenReturn(rsaKey.toPublicKey());
+        String token = "Bearer " + signedToken(rsaKey);
+
+        assertTrue(verifyTokenService.verifyTokenSignature(token));
+        assertTrue(verifyTokenService.verifyTokenSignature(token));
+        verify(jwksKeyStore, times(1)).getKey(KEY_ID);
+    }
+
+    @SneakyThrows
+    private static String signedToken(RSAKey rsaKey) {
+        SignedJWT signedJwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build(),
+            new JWTClaimsSet.Builder()
+                .subject("CCD_Stub")
+                .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+                .build()
+        );
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        return signedJwt.serialize();
+    }
 }
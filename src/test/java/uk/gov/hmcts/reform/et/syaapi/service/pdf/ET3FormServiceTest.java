@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.service.pdf;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -18,7 +19,7 @@ import uk.gov.hmcts.et.common.model.ccd.CaseData;
 import uk.gov.hmcts.et.common.model.ccd.items.RespondentSumTypeItem;
 import uk.gov.hmcts.reform.et.syaapi.model.CaseTestData;
 import uk.gov.hmcts.reform.et.syaapi.service.CaseDocumentService;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.et.syaapi.service.UserInfoService;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
 import java.util.stream.Stream;
@@ -50,12 +51,13 @@ class ET3FormServiceTest {
     @Mock
     private CaseDocumentService caseDocumentService;
     @Mock
-    private IdamClient idamClient;
+    private UserInfoService userInfoService;
 
     @BeforeEach
     @SneakyThrows
     void beforeEach() {
-        et3FormService = new ET3FormService(pdfService, caseDocumentService, idamClient);
+        et3FormService = new ET3FormService(new PdfFormRenderer(pdfService, new SimpleMeterRegistry()),
+                                            caseDocumentService, userInfoService);
         caseTestData = new CaseTestData();
     }
 
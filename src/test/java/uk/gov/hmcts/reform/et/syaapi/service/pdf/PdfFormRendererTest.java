@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.et.syaapi.service.pdf;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.ecm.common.exceptions.PdfServiceException;
+import uk.gov.hmcts.ecm.common.service.pdf.PdfService;
+import uk.gov.hmcts.et.common.model.ccd.CaseData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.ecm.common.constants.PdfMapperConstants.PDF_TYPE_ET1;
+
+@ExtendWith(MockitoExtension.class)
+class PdfFormRendererTest {
+
+    private static final String TEMPLATE = "ET1_0224.pdf";
+    private static final String CLIENT_TYPE = "claimant";
+    private static final String SUBMIT_EVENT = "submitET1Citizen";
+
+    @Mock
+    private PdfService pdfService;
+    private MeterRegistry meterRegistry;
+    private PdfFormRenderer pdfFormRenderer;
+    private final CaseData caseData = new CaseData();
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        pdfFormRenderer = new PdfFormRenderer(pdfService, meterRegistry);
+    }
+
+    @Test
+    void shouldReturnRenderedFormAndRecordSuccess() throws PdfServiceException {
+        byte[] pdf = {1, 2, 3};
+        when(pdfService.convertCaseToPdf(caseData, TEMPLATE, PDF_TYPE_ET1, CLIENT_TYPE, SUBMIT_EVENT)).thenReturn(pdf);
+
+        assertThat(pdfFormRenderer.render(caseData, TEMPLATE, PDF_TYPE_ET1, CLIENT_TYPE, SUBMIT_EVENT)).isEqualTo(pdf);
+        assertThat(renderTimer("success").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordEmptyWhenNoFormRendered() throws PdfServiceException {
+        when(pdfService.convertCaseToPdf(caseData, TEMPLATE, PDF_TYPE_ET1, CLIENT_TYPE, SUBMIT_EVENT)).thenReturn(null);
+
+        assertThat(pdfFormRenderer.render(caseData, TEMPLATE, PDF_TYPE_ET1, CLIENT_TYPE, SUBMIT_EVENT)).isNull();
+        assertThat(renderTimer("empty").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordErrorWhenRenderFails() throws PdfServiceException {
+        when(pdfService.convertCaseToPdf(caseData, TEMPLATE, PDF_TYPE_ET1, CLIENT_TYPE, SUBMIT_EVENT))
+            .thenThrow(new PdfServiceException("Failed", new NullPointerException()));
+
+        assertThrows(PdfServiceException.class,
+                     () -> pdfFormRenderer.render(caseData, TEMPLATE, PDF_TYPE_ET1, CLIENT_TYPE, SUBMIT_EVENT));
+        assertThat(renderTimer("error").count()).isEqualTo(1);
+    }
+
+    private Timer renderTimer(String outcome) {
+        return meterRegistry.get(PdfFormRenderer.RENDER_TIMER)
+            .tag("template", TEMPLATE)
+            .tag("outcome", outcome)
+            .timer();
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.et.syaapi.service.pdf;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,15 +24,20 @@ import uk.gov.hmcts.reform.et.syaapi.service.DocumentGenerationService;
 import uk.gov.hmcts.reform.et.syaapi.service.utils.ResourceLoader;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.ecm.common.model.helper.Constants.CLAIMANT_TITLE;
+import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.ENGLISH_LANGUAGE;
 import static uk.gov.hmcts.reform.et.syaapi.constants.EtSyaConstants.WELSH_LANGUAGE;
 import static uk.gov.hmcts.reform.et.syaapi.service.utils.TestConstants.SAMPLE_BYTE_ARRAY;
 
@@ -53,12 +59,14 @@ class PdfUploadServiceTest {
     private static final String CLIENT_TYPE_CLAIMANT = "claimant";
     private static final String SUBMIT_ET1_CITIZEN = "submitET1Citizen";
     private static final String CUSTOM_DOC_NAME = "customDocName.pdf";
+    private static final String CONTACT_TRIBUNAL_TEMPLATE = "EM-TRB-EGW-ENG-00068.docx";
 
     @BeforeEach
     @SneakyThrows
     void beforeEach() {
         caseTestData = new CaseTestData();
-        pdfUploadService = new PdfUploadService(pdfService, documentGenerationService);
+        pdfUploadService = new PdfUploadService(new PdfFormRenderer(pdfService, new SimpleMeterRegistry()),
+                                                documentGenerationService, new SummaryPdfRenderer());
         pdfUploadService.englishPdfTemplateSource = "ET1_0224.pdf";
         pdfUploadService.welshPdfTemplateSource = "CY_ET1_0224.pdf";
         when(pdfService.convertCaseToPdf(any(),
@@ -109,6 +117,23 @@ class PdfUploadServiceTest {
         assertThat(pdfDecodedMultipartFileList).hasSize(2);
     }
 
+    @Test
+    void shouldCreateWelshPdfDecodedMultipartFileFromCaseDataWhenWelshIsRequested() {
+        Optional<PdfDecodedMultipartFile> welshPdf = pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(
+            caseTestData.getCaseData(), null, WELSH_LANGUAGE);
+        assertThat(welshPdf).isPresent();
+        assertThat(welshPdf.get().getOriginalFilename()).endsWith(WELSH_LANGUAGE + ".pdf");
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldNotCreatePdfDecodedMultipartFileWhenTemplateIsNotFound() {
+        when(pdfService.convertCaseToPdf(any(), anyString(), anyString(), eq(CLIENT_TYPE_CLAIMANT),
+                                         eq(SUBMIT_ET1_CITIZEN))).thenReturn(new byte[0]);
+        assertThat(pdfUploadService.convertCaseDataToPdfDecodedMultipartFile(
+            caseTestData.getCaseData(), null, ENGLISH_LANGUAGE)).isEmpty();
+    }
+
     @Test
     void shouldCreatePdfDecodedMultipartFileFromCaseDataAndAcasCertificate() {
         List<AcasCertificate> acasCertificates = new ArrayList<>();
@@ -143,6 +168,23 @@ class PdfUploadServiceTest {
         assertThat(pdfDecodedMultipartFile).isNotNull();
     }
 
+    @Test
+    void shouldRenderTseApplicationLocallyWhenTemplateIsConfigured() throws Exception {
+        pdfUploadService = new PdfUploadService(new PdfFormRenderer(pdfService, new SimpleMeterRegistry()),
+                                                documentGenerationService,
+                                                new SummaryPdfRenderer(CONTACT_TRIBUNAL_TEMPLATE));
+        pdfUploadService.contactTheTribunalPdfTemplate = CONTACT_TRIBUNAL_TEMPLATE;
+
+        PdfDecodedMultipartFile pdfDecodedMultipartFile =
+            pdfUploadService.convertClaimantTseIntoMultipartFile(
+                caseTestData.getClaimantTse(),
+                caseTestData.getCaseData().getEthosCaseReference(),
+                CUSTOM_DOC_NAME);
+
+        assertThat(new String(pdfDecodedMultipartFile.getBytes(), 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+        verify(documentGenerationService, never()).genPdfDocument(any(), any(), any());
+    }
+
     @Test
     void shouldCreatePdfDecodedMultipartFileFromClaimantResponse() throws DocumentGenerationException {
         RespondToApplicationRequest request = caseTestData.getRespondToApplicationRequest();
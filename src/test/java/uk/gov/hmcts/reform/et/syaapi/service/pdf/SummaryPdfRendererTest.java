@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.et.syaapi.service.pdf;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.et.syaapi.models.AppResponseCitizen;
+import uk.gov.hmcts.reform.et.syaapi.models.GenericTseApplication;
+import uk.gov.hmcts.reform.et.syaapi.models.TornadoDocument;
+import uk.gov.hmcts.reform.et.syaapi.service.DocumentGenerationException;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SummaryPdfRendererTest {
+
+    private static final String CONTACT_TRIBUNAL_TEMPLATE = "EM-TRB-EGW-ENG-00068.docx";
+    private static final String CLAIMANT_RESPONSE_TEMPLATE = "EM-TRB-EGW-ENG-00069.docx";
+
+    private final SummaryPdfRenderer summaryPdfRenderer = new SummaryPdfRenderer(CONTACT_TRIBUNAL_TEMPLATE);
+
+    @Test
+    void shouldOnlyRenderConfiguredTemplatesLocally() {
+        SummaryPdfRenderer renderer = new SummaryPdfRenderer(" " + CONTACT_TRIBUNAL_TEMPLATE, "");
+
+        assertThat(renderer.rendersLocally(CONTACT_TRIBUNAL_TEMPLATE)).isTrue();
+        assertThat(renderer.rendersLocally(CLAIMANT_RESPONSE_TEMPLATE)).isFalse();
+        assertThat(new SummaryPdfRenderer().rendersLocally(CONTACT_TRIBUNAL_TEMPLATE)).isFalse();
+    }
+
+    @Test
+    void shouldRenderTseApplicationAnswers() throws Exception {
+        GenericTseApplication application = GenericTseApplication.builder()
+            .caseNumber("6000001/2023")
+            .applicant("Claimant")
+            .applicationDate("1 January 2024")
+            .applicationType("Amend my claim")
+            .tellOrAskTribunal("Please amend my claim")
+            .copyToOtherPartyYesOrNo("Yes")
+            .build();
+
+        String text = text(summaryPdfRenderer.render(application));
+
+        assertThat(text)
+            .contains("Contact the tribunal", "6000001/2023", "Amend my claim", "Please amend my claim")
+            .doesNotContain("Supporting material", "Reason for not informing the other party");
+    }
+
+    @Test
+    void shouldWrapLongResponsesOntoNewPages() throws Exception {
+        AppResponseCitizen response = AppResponseCitizen.builder()
+            .caseNumber("6000001/2023")
+            .response("word ".repeat(2000))
+            .build();
+
+        try (PDDocument pdf = Loader.loadPDF(summaryPdfRenderer.render(response))) {
+            assertThat(pdf.getNumberOfPages()).isGreaterThan(1);
+            assertThat(new PDFTextStripper().getText(pdf)).contains("Respond to an application");
+        }
+    }
+
+    @Test
+    void shouldRenderWelshAndOtherNonLatinCharacters() throws Exception {
+        AppResponseCitizen response = AppResponseCitizen.builder()
+            .applicant("Siân Ŵyn")
+            .response("Dŵr, tŷ a Ŷ – café €10 Жук")
+            .build();
+
+        assertThat(text(summaryPdfRenderer.render(response)))
+            .contains("Siân Ŵyn", "Dŵr, tŷ a Ŷ – café €10 Жук");
+    }
+
+    @Test
+    void shouldReplaceCharactersTheFontCannotEncode() throws Exception {
+        AppResponseCitizen response = AppResponseCitizen.builder()
+            .response("Dŵr 中 café")
+            .build();
+
+        assertThat(text(summaryPdfRenderer.render(response))).contains("Dŵr ? café");
+    }
+
+    @Test
+    void shouldBreakWordsWiderThanTheLine() throws Exception {
+        String link = "https://example.com/" + "a".repeat(300);
+        AppResponseCitizen response = AppResponseCitizen.builder()
+            .response("See " + link + " for details")
+            .build();
+
+        String text = text(summaryPdfRenderer.render(response));
+
+        assertThat(text.lines()).noneMatch(line -> line.contains(link));
+        assertThat(text.replaceAll("\\R", "")).contains(link);
+    }
+
+    @Test
+    void shouldThrowWhenDocumentHasNoLocalLayout() {
+        TornadoDocument document = new TornadoDocument() {
+        };
+
+        assertThrows(DocumentGenerationException.class, () -> summaryPdfRenderer.render(document));
+    }
+
+    private static String text(byte[] pdf) throws IOException {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+}